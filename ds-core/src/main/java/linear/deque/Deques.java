@@ -1,7 +1,19 @@
 package linear.deque;
 
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+import linear.deque.internal.ArenaDequeEx;
 import linear.deque.internal.ArrayDequeEx;
+import linear.deque.internal.ChaseLevDequeEx;
+import linear.deque.internal.ConcurrentLinkedDequeEx;
+import linear.deque.internal.EvictingDequeEx;
+import linear.deque.internal.IndexedDequeEx;
+import linear.deque.internal.IntDequeEx;
 import linear.deque.internal.LinkedDequeEx;
+import linear.deque.internal.RingListDequeEx;
+import linear.deque.internal.SlidingAggregatorEx;
+import linear.deque.internal.SlidingMinMaxEx;
 
 public final class Deques {
 	private Deques() {}
@@ -12,4 +24,38 @@ public final class Deques {
 	}
 	public static <T> MyDeque<T> linked() {return new LinkedDequeEx<>();}
 
+	/** 노드 객체 없이 int 슬롯 배열로 연결하는 Deque (GC 추적 객체 수 상수) */
+	public static <T> MyDeque<T> arena() { return new ArenaDequeEx<>(); }
+
+	/** 고정 용량 원형 버퍼 Deque (가득 차면 addLast가 가장 오래된 원소를 덮어씀) */
+	public static <T> EvictingDeque<T> evicting(int capacity) { return new EvictingDequeEx<>(capacity); }
+
+	/** {@link #evicting(int)} + 덮어써진 원소를 받는 콜백 */
+	public static <T> EvictingDeque<T> evicting(int capacity, Consumer<? super T> onEvict) {
+		return new EvictingDequeEx<>(capacity, onEvict);
+	}
+
+	/** 인덱스 접근(MyList)까지 지원하는 원형 버퍼 Deque (get/set O(1)) */
+	public static <T> ListDeque<T> ringList() { return new RingListDequeEx<>(); }
+
+	/** 원소 → 노드 해시 색인을 둔 연결 Deque (contains/removeFirstOccurrence 평균 O(1)) */
+	public static <T> IndexedDeque<T> indexed() { return new IndexedDequeEx<>(); }
+
+	/** 박싱 없는 int Deque (2의 거듭제곱 원형 배열) */
+	public static IntDeque ofInt() { return new IntDequeEx(); }
+
+	/** 단조 Deque 기반 시간 창 최솟값/최댓값 집계기 (분할상환 O(1)) */
+	public static SlidingMinMax slidingMinMax() { return new SlidingMinMaxEx(); }
+
+	/** 두 스택 기반 시간 창 집계기 (결합 법칙 연산, 분할상환 O(1)) */
+	public static <T> SlidingAggregator<T> slidingAggregator(T identity, BinaryOperator<T> op) {
+		return new SlidingAggregatorEx<>(identity, op);
+	}
+
+	/** 여러 스레드가 공유하는 락-프리 연결 리스트 Deque (CAS 기반, 약한 일관성 이터레이터) */
+	public static <T> MyDeque<T> concurrentLinked() { return new ConcurrentLinkedDequeEx<>(); }
+
+	/** Chase-Lev 락-프리 작업 훔치기 Deque (소유자 1 + 도둑 N) */
+	public static <T> WorkStealingDeque<T> workStealing() { return new ChaseLevDequeEx<>(); }
+
 }
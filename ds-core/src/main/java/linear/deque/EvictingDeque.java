@@ -0,0 +1,25 @@
+package linear.deque;
+
+import java.util.function.Consumer;
+
+/**
+ * 용량이 고정된 Deque로, 가득 찬 상태에서 뒤쪽 삽입({@code addLast/offerLast})을 하면
+ * <b>가장 오래된 앞쪽 원소를 덮어씁니다</b>. "최근 N개" 이력 버퍼용입니다.
+ *
+ * <ul>
+ *   <li>뒤쪽 삽입은 항상 성공합니다. 밀려난 원소는 생성 시 지정한 콜백이 있으면 그쪽으로 전달됩니다.</li>
+ *   <li>앞쪽 삽입은 덮어쓸 대상이 모호하므로 가득 차 있으면 실패합니다
+ *       ({@code addFirst}는 {@link IllegalStateException}, {@code offerFirst}는 {@code false}).</li>
+ *   <li>{@link #forEach(Consumer)}는 오래된 것 → 최신 순서로 반복자 할당 없이 순회합니다.</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public interface EvictingDeque<T> extends MyDeque<T> {
+
+	/** 고정 용량 */
+	int capacity();
+
+	/** {@code size() == capacity()} 여부 */
+	boolean isFull();
+}
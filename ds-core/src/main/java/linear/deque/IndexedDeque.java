@@ -0,0 +1,30 @@
+package linear.deque;
+
+/**
+ * 원소 → 노드 해시 색인을 함께 유지하는 Deque입니다.
+ *
+ * <p>{@link #contains(Object)}, {@link #removeFirstOccurrence(Object)},
+ * {@link #addLastIfAbsent(Object)}가 평균 O(1)이며, 앞/뒤 연산은 일반 연결 Deque와 같이 O(1)입니다.
+ * 중복 제거가 필요한 작업 큐에서 "contains 후 addLast" 패턴을 O(n) 스캔 없이 처리할 수 있습니다.</p>
+ *
+ * <p>원소의 {@code equals/hashCode}는 Deque에 들어가 있는 동안 바뀌면 안 됩니다.</p>
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public interface IndexedDeque<T> extends MyDeque<T> {
+
+	/**
+	 * 앞에서부터 처음 만나는 value와 같은 원소를 제거합니다.
+	 *
+	 * @return 제거했으면 {@code true}, 없으면 {@code false}
+	 */
+	boolean removeFirstOccurrence(T value);
+
+	/**
+	 * value와 같은 원소가 없을 때만 뒤쪽에 삽입합니다.
+	 *
+	 * @return 삽입했으면 {@code true}, 이미 있으면 {@code false}
+	 * @throws NullPointerException 값이 {@code null}인 경우
+	 */
+	boolean addLastIfAbsent(T value);
+}
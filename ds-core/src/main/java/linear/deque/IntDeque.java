@@ -0,0 +1,36 @@
+package linear.deque;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 박싱 없이 {@code int}를 저장하는 Deque입니다.
+ *
+ * <p>{@code *Int} 메서드는 연산마다 객체를 할당하지 않습니다. 원시 타입에는 "없음"을 나타낼 값이 없으므로
+ * {@code poll/peek} 계열은 박싱 메서드만 제공하고, 원시 경로는 비어 있으면 예외를 던지는
+ * {@code remove/get} 계열만 둡니다. 박싱 삽입에 {@code null}을 넣으면 {@link NullPointerException}입니다.</p>
+ */
+public interface IntDeque extends MyDeque<Integer> {
+
+	/** 앞쪽 삽입 */
+	void addFirstInt(int value);
+	/** 뒤쪽 삽입 */
+	void addLastInt(int value);
+	/** 앞쪽 삭제 후 반환 (없으면 {@link java.util.NoSuchElementException}) */
+	int removeFirstInt();
+	/** 뒤쪽 삭제 후 반환 (없으면 {@link java.util.NoSuchElementException}) */
+	int removeLastInt();
+	/** 앞쪽 요소 조회 (없으면 {@link java.util.NoSuchElementException}) */
+	int getFirstInt();
+	/** 뒤쪽 요소 조회 (없으면 {@link java.util.NoSuchElementException}) */
+	int getLastInt();
+
+	/** {@link #addFirstInt(int)}와 동일 */
+	void pushInt(int value);
+	/** {@link #removeFirstInt()}와 동일 */
+	int popInt();
+
+	boolean containsInt(int value);
+
+	/** first→last 순서로 박싱 없이 순회 */
+	void forEachInt(IntConsumer action);
+}
@@ -0,0 +1,25 @@
+package linear.deque;
+
+import java.util.Iterator;
+
+import linear.list.MyList;
+
+/**
+ * 양 끝 연산({@link MyDeque})과 인덱스 접근({@link MyList})을 함께 제공하는 Deque입니다.
+ *
+ * <p>인덱스 0은 앞쪽(first), {@code size-1}은 뒤쪽(last)이며 {@link MyList#add(Object)}는
+ * {@link #addLast(Object)}와 같습니다. 롤링 버퍼를 임의 접근하기 위해 리스트로 복사할 필요가 없습니다.</p>
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public interface ListDeque<T> extends MyDeque<T>, MyList<T> {
+
+	/** 뒤(last) → 앞(first) 순서 반복자 */
+	Iterator<T> descendingIterator();
+
+	/** 앞 → 뒤 순서의 배열 사본 */
+	Object[] toArray();
+
+	/** 뒤 → 앞 순서의 배열 사본 */
+	Object[] toArrayReversed();
+}
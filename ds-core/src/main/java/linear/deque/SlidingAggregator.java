@@ -0,0 +1,34 @@
+package linear.deque;
+
+/**
+ * 임의의 결합 법칙(associative) 연산으로 창 안의 원소를 접는(fold) 슬라이딩 윈도 집계기입니다.
+ *
+ * <p>합, gcd, 행렬 곱, 사용자 정의 모노이드처럼 <b>역연산이 없는</b> 연산도 분할상환 O(1)로 갱신합니다.
+ * 연산은 교환 법칙을 만족하지 않아도 되며, 결과는 항상 오래된 것 → 최신 순서로 결합한 값입니다.</p>
+ *
+ * @param <T> 원소(및 집계) 타입
+ */
+public interface SlidingAggregator<T> {
+
+	/**
+	 * 최신 쪽에 원소를 추가합니다.
+	 *
+	 * @throws IllegalArgumentException timestamp가 직전 원소보다 작은 경우
+	 */
+	void push(T value, long timestamp);
+
+	/** 가장 오래된 원소를 제거+반환. 비어있으면 {@link java.util.NoSuchElementException} */
+	T evictOldest();
+
+	/** timestamp가 t보다 작은 원소를 모두 제거 */
+	void evictOlderThan(long t);
+
+	/** 창 안의 원소를 오래된 순서로 결합한 값. 비어있으면 항등원 */
+	T aggregate();
+
+	int size();
+
+	boolean isEmpty();
+
+	void clear();
+}
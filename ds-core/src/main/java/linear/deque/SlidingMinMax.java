@@ -0,0 +1,31 @@
+package linear.deque;
+
+/**
+ * 시간 창(sliding window) 안의 최솟값/최댓값을 분할상환 O(1)로 유지하는 집계기입니다.
+ *
+ * <p>샘플은 타임스탬프가 감소하지 않는 순서로 {@link #push(double, long)}하고,
+ * 창에서 벗어난 샘플은 {@link #evictOlderThan(long)}으로 내보냅니다.
+ * 매 틱마다 창 전체를 다시 훑을 필요가 없습니다.</p>
+ */
+public interface SlidingMinMax {
+
+	/**
+	 * 샘플을 추가합니다.
+	 *
+	 * @throws IllegalArgumentException value가 NaN이거나 timestamp가 직전 샘플보다 작은 경우
+	 */
+	void push(double value, long timestamp);
+
+	/** timestamp가 t보다 작은 샘플을 모두 창에서 제거 */
+	void evictOlderThan(long t);
+
+	/** 창 안의 최솟값. 비어있으면 {@link java.util.NoSuchElementException} */
+	double min();
+
+	/** 창 안의 최댓값. 비어있으면 {@link java.util.NoSuchElementException} */
+	double max();
+
+	boolean isEmpty();
+
+	void clear();
+}
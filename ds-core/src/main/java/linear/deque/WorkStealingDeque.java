@@ -0,0 +1,30 @@
+package linear.deque;
+
+/**
+ * 작업 훔치기(work-stealing)용 Deque 인터페이스입니다.
+ *
+ * <p>한 개의 <b>소유자(owner) 스레드</b>만 앞쪽(first)에서 {@code push/pop}(LIFO)하고,
+ * 다른 <b>도둑(thief) 스레드</b>들은 뒤쪽(last)에서 {@link #steal()}로 가장 오래된 원소를 가져갑니다.
+ * 소유자는 캐시에 남아 있는 최근 작업을, 도둑은 큰 단위의 오래된 작업을 가져가게 되어
+ * 경합이 거의 없습니다.</p>
+ *
+ * <h2>스레드 규약</h2>
+ * <ul>
+ *   <li>소유자 전용: {@code addFirst/offerFirst/push}, {@code pollFirst/removeFirst/pop},
+ *       {@code peekFirst/getFirst/peek}, {@code clear}</li>
+ *   <li>모든 스레드: {@link #steal()}, {@code pollLast/removeLast}, {@code size/isEmpty} (순간 스냅샷)</li>
+ *   <li>뒤쪽 삽입({@code addLast/offerLast})은 지원하지 않습니다.</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public interface WorkStealingDeque<T> extends MyDeque<T> {
+
+	/**
+	 * 뒤쪽(가장 오래된) 원소를 훔쳐 옵니다. 어느 스레드에서나 호출할 수 있습니다.
+	 * 다른 도둑/소유자와의 경합에서 지면 다시 시도합니다.
+	 *
+	 * @return 훔친 원소, 비어 있으면 {@code null}
+	 */
+	T steal();
+}
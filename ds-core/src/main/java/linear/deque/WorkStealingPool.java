@@ -0,0 +1,295 @@
+package linear.deque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <h1>작업 훔치기 기반의 작은 fork-join 스케줄러</h1>
+ *
+ * <p>워커 스레드마다 {@link Deques#workStealing()} Deque를 하나씩 두고,
+ * 재귀 작업이 {@link Task#fork()}한 하위 작업은 자기 Deque 앞쪽에 쌓습니다(LIFO).
+ * 할 일이 없는 워커는 다른 워커 Deque의 뒤쪽(가장 오래된, 보통 가장 큰 작업)을 훔칩니다.
+ * {@link Task#join()}은 결과를 기다리는 동안 놀지 않고 다른 작업을 대신 실행합니다(helping).</p>
+ *
+ * <h2>예시</h2>
+ * <pre>{@code
+ * final class Fib extends WorkStealingPool.Task<Long> {
+ *     final int n;
+ *     Fib(int n) { this.n = n; }
+ *     protected Long compute() {
+ *         if (n < 20) return seqFib(n);
+ *         Fib left = new Fib(n - 1);
+ *         left.fork();
+ *         long right = new Fib(n - 2).compute();
+ *         return left.join() + right;
+ *     }
+ * }
+ * try (WorkStealingPool pool = new WorkStealingPool()) {
+ *     long r = pool.invoke(new Fib(35));
+ * }
+ * }</pre>
+ *
+ * <h2>정책</h2>
+ * <ul>
+ *   <li>{@link Task#fork()}는 이 풀의 워커 스레드 안에서만 호출할 수 있습니다.
+ *       외부 스레드는 {@link #invoke(Task)}로 시작합니다.</li>
+ *   <li>작업이 던진 예외는 {@link Task#join()}/{@link #invoke(Task)}에서 다시 던져집니다.</li>
+ * </ul>
+ */
+public final class WorkStealingPool implements AutoCloseable {
+
+	private static final int SPINS_BEFORE_PARK = 64;
+	private static final long PARK_NANOS = 50_000L;
+
+	private final Worker[] workers;
+	private final ConcurrentLinkedQueue<Task<?>> submissions = new ConcurrentLinkedQueue<>();
+	private volatile boolean shutdown;
+
+	/** 가용 프로세서 수만큼 워커를 둡니다. */
+	public WorkStealingPool() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param parallelism 워커 스레드 수(1 이상)
+	 * @throws IllegalArgumentException 1 미만인 경우
+	 */
+	public WorkStealingPool(int parallelism) {
+		if (parallelism < 1) throw new IllegalArgumentException("parallelism < 1");
+		workers = new Worker[parallelism];
+		for (int i = 0; i < parallelism; i++) {
+			workers[i] = new Worker(this, i);
+		}
+		for (Worker w : workers) w.start();
+	}
+
+	/** @return 워커 스레드 수 */
+	public int parallelism() {
+		return workers.length;
+	}
+
+	/**
+	 * 작업을 실행하고 결과를 기다립니다.
+	 * 이 풀의 워커 안에서 호출하면 그 자리에서 직접 실행합니다.
+	 *
+	 * @throws IllegalStateException 풀이 종료된 경우
+	 */
+	public <R> R invoke(Task<R> task) {
+		if (shutdown) throw new IllegalStateException("pool is shut down");
+		if (Thread.currentThread() instanceof Worker w && w.pool == this) {
+			return task.invoke();
+		}
+		submissions.offer(task);
+		for (Worker w : workers) LockSupport.unpark(w);
+		if (shutdown) rejectPending(); // 넣는 사이에 종료됐으면 워커가 꺼내지 않을 수 있음
+		return task.join();
+	}
+
+	/**
+	 * 워커를 종료합니다. 실행 중인 작업은 끝까지 수행되고,
+	 * 아직 시작하지 않은 제출 작업은 {@link IllegalStateException}으로 완료됩니다.
+	 */
+	public void shutdown() {
+		shutdown = true;
+		for (Worker w : workers) LockSupport.unpark(w);
+		rejectPending();
+	}
+
+	/** 제출 큐에 남은 작업을 예외로 완료시켜 invoke() 호출자를 깨웁니다. */
+	private void rejectPending() {
+		Task<?> t;
+		while ((t = submissions.poll()) != null) t.reject(new IllegalStateException("pool is shut down"));
+	}
+
+	@Override
+	public void close() {
+		shutdown();
+		for (Worker w : workers) {
+			if (w == Thread.currentThread()) continue;
+			try {
+				w.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/** 다른 워커 또는 외부 제출 큐에서 작업 하나를 가져옵니다. */
+	private Task<?> scan(Worker self) {
+		Task<?> t = submissions.poll();
+		if (t != null) return t;
+		int n = workers.length;
+		int start = ThreadLocalRandom.current().nextInt(n);
+		for (int i = 0; i < n; i++) {
+			Worker victim = workers[(start + i) % n];
+			if (victim == self) continue;
+			t = victim.deque.steal();
+			if (t != null) return t;
+		}
+		return null;
+	}
+
+	// ============ 워커 ============
+
+	private static final class Worker extends Thread {
+		final WorkStealingPool pool;
+		final WorkStealingDeque<Task<?>> deque = Deques.workStealing();
+
+		Worker(WorkStealingPool pool, int index) {
+			super("ws-worker-" + index);
+			this.pool = pool;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			int idle = 0;
+			while (!pool.shutdown) {
+				Task<?> t = deque.pollFirst();
+				if (t == null) t = pool.scan(this);
+				if (t != null) {
+					idle = 0;
+					t.exec();
+				} else if (++idle < SPINS_BEFORE_PARK) {
+					Thread.onSpinWait();
+				} else {
+					LockSupport.parkNanos(this, PARK_NANOS);
+				}
+			}
+		}
+	}
+
+	// ============ 작업 ============
+
+	/**
+	 * 풀에서 실행되는 재귀 작업입니다. 한 인스턴스는 한 번만 실행됩니다.
+	 *
+	 * @param <R> 결과 타입 (결과가 없으면 {@code Void})
+	 */
+	public abstract static class Task<R> {
+
+		private static final int NEW = 0, RUNNING = 1, NORMAL = 2, EXCEPTIONAL = 3;
+		private static final VarHandle STATUS;
+
+		static {
+			try {
+				STATUS = MethodHandles.lookup().findVarHandle(Task.class, "status", int.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private volatile int status;
+		/** 외부 스레드가 이 작업의 모니터에서 기다리는 중인지 (완료 시 notifyAll 필요 여부) */
+		private volatile boolean signalNeeded;
+		private R result;
+		private Throwable error;
+
+		/** 실제 계산. 하위 작업은 {@link #fork()} 후 {@link #join()}합니다. */
+		protected abstract R compute();
+
+		/**
+		 * 현재 워커의 Deque에 작업을 넣어 비동기로 실행되게 합니다.
+		 *
+		 * @return this
+		 * @throws IllegalStateException 워커 스레드 밖에서 호출한 경우
+		 */
+		public final Task<R> fork() {
+			if (!(Thread.currentThread() instanceof Worker w))
+				throw new IllegalStateException("fork()는 WorkStealingPool 워커 안에서만 호출할 수 있습니다.");
+			w.deque.push(this);
+			return this;
+		}
+
+		/**
+		 * 결과를 기다립니다. 워커 스레드에서는 기다리는 동안 다른 작업을 대신 실행합니다.
+		 *
+		 * @return 계산 결과
+		 * @throws RuntimeException 작업이 던진 예외(검사 예외는 감싸서)
+		 */
+		public final R join() {
+			if (Thread.currentThread() instanceof Worker w) {
+				while (!isDone()) {
+					Task<?> t = w.deque.pollFirst();
+					if (t == null) t = w.pool.scan(w);
+					if (t != null) t.exec();
+					else Thread.onSpinWait();
+				}
+			} else if (!isDone()) {
+				awaitDone();
+			}
+			return report();
+		}
+
+		/**
+		 * 외부 스레드 대기: 작업 모니터에서 wait하고 완료 시 notifyAll로 모두 깨웁니다(대기자가 여럿이어도 안전).
+		 * signalNeeded를 쓴 뒤 status를 읽고, exec()는 status를 쓴 뒤 signalNeeded를 읽으므로 둘 중 하나는 반드시 상대를 봅니다.
+		 */
+		private void awaitDone() {
+			boolean interrupted = false;
+			synchronized (this) {
+				signalNeeded = true;
+				while (!isDone()) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			}
+			if (interrupted) Thread.currentThread().interrupt();
+		}
+
+		/** 현재 스레드에서 바로 실행하고 결과를 반환합니다. */
+		public final R invoke() {
+			exec();
+			return join();
+		}
+
+		/** @return 정상 또는 예외로 완료되었으면 {@code true} */
+		public final boolean isDone() {
+			return status >= NORMAL;
+		}
+
+		/** 아직 아무도 실행하지 않았을 때만 실행 (중복 실행 방지) */
+		final void exec() {
+			if (!STATUS.compareAndSet(this, NEW, RUNNING)) return;
+			try {
+				result = compute();
+				status = NORMAL;
+			} catch (Throwable ex) {
+				error = ex;
+				status = EXCEPTIONAL;
+			}
+			signalWaiters();
+		}
+
+		/** 아직 실행되지 않았다면 실행하지 않고 ex로 완료 */
+		final void reject(Throwable ex) {
+			if (!STATUS.compareAndSet(this, NEW, RUNNING)) return;
+			error = ex;
+			status = EXCEPTIONAL;
+			signalWaiters();
+		}
+
+		private void signalWaiters() {
+			if (signalNeeded) {
+				synchronized (this) {
+					notifyAll();
+				}
+			}
+		}
+
+		private R report() {
+			if (status == NORMAL) return result;
+			Throwable ex = error;
+			if (ex instanceof RuntimeException re) throw re;
+			if (ex instanceof Error err) throw err;
+			throw new RuntimeException(ex);
+		}
+	}
+}
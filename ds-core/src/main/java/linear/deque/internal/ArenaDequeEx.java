@@ -0,0 +1,278 @@
+package linear.deque.internal;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linear.deque.MyDeque;
+
+/**
+ * 노드 아레나(struct-of-arrays) 기반 연결 Deque
+ *
+ * <p>{@link LinkedDequeEx}와 같은 이중 연결 구조이지만, 노드 객체 대신 슬롯 번호(int)로 연결합니다.
+ * 슬롯 {@code i}의 값/이전/다음은 각각 {@code items[i]}, {@code prev[i]}, {@code next[i]}에 있고,
+ * 비어 있는 슬롯은 {@code next[]}를 재사용한 int free-list로 관리합니다.</p>
+ *
+ * <p>원소마다 객체 헤더와 참조 2~3개를 쓰는 대신 배열 3개만 있으므로,
+ * GC가 추적할 객체 수가 원소 수와 무관하게 상수입니다.</p>
+ *
+ * 특성:
+ * - null 불가 (NPE)
+ * - 앞/뒤 삽입/삭제 O(1) (슬롯 부족 시 배열 2배 확장, 분할상환)
+ * - 순회/contains O(n)
+ * - 삭제된 슬롯은 free-list로 돌아가 재사용 (배열은 줄이지 않음)
+ * - fail-fast iterator
+ */
+public final class ArenaDequeEx<T> implements MyDeque<T> {
+
+	private static final int NIL = -1;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] items;
+	private int[] prev;
+	private int[] next;   // 사용 중 슬롯: 다음 노드, 빈 슬롯: free-list 다음 칸
+
+	private int head = NIL; // 첫 노드 슬롯
+	private int tail = NIL; // 마지막 노드 슬롯
+	private int free = NIL; // free-list 머리
+	private int used;       // 한 번이라도 쓰인 슬롯 수 (그 이상은 미사용)
+	private int size;
+	private int modCount;
+
+	public ArenaDequeEx() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ArenaDequeEx(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		int cap = Math.max(initialCapacity, 1);
+		items = new Object[cap];
+		prev = new int[cap];
+		next = new int[cap];
+	}
+
+	// ============ 슬롯 관리 ============
+
+	private int allocate(T value) {
+		int i = free;
+		if (i != NIL) {
+			free = next[i];
+		} else {
+			if (used == items.length) grow();
+			i = used++;
+		}
+		items[i] = value;
+		return i;
+	}
+
+	private void release(int i) {
+		items[i] = null; // help GC
+		prev[i] = NIL;
+		next[i] = free;
+		free = i;
+	}
+
+	private void grow() {
+		int old = items.length;
+		if (old >= Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Required array size too large");
+		int cap = (int) Math.min((long) old * 2L, Integer.MAX_VALUE - 8);
+		items = Arrays.copyOf(items, cap);
+		prev = Arrays.copyOf(prev, cap);
+		next = Arrays.copyOf(next, cap);
+	}
+
+	// ============ MyDeque API ============
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void addFirst(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		int n = allocate(value);
+		int h = head;
+		prev[n] = NIL;
+		next[n] = h;
+		head = n;
+		if (h == NIL) {
+			tail = n;
+		} else {
+			prev[h] = n;
+		}
+		size++; modCount++;
+	}
+
+	@Override
+	public boolean offerFirst(T value) {
+		addFirst(value);
+		return true;
+	}
+
+	@Override
+	public void addLast(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		int n = allocate(value);
+		int t = tail;
+		prev[n] = t;
+		next[n] = NIL;
+		tail = n;
+		if (t == NIL) {
+			head = n;
+		} else {
+			next[t] = n;
+		}
+		size++; modCount++;
+	}
+
+	@Override
+	public boolean offerLast(T value) {
+		addLast(value);
+		return true;
+	}
+
+	@Override
+	public T removeFirst() {
+		T v = pollFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T pollFirst() {
+		return head == NIL ? null : unlink(head);
+	}
+
+	@Override
+	public T removeLast() {
+		T v = pollLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T pollLast() {
+		return tail == NIL ? null : unlink(tail);
+	}
+
+	/** 슬롯 i를 리스트에서 떼어 내고 free-list로 반환 */
+	@SuppressWarnings("unchecked")
+	private T unlink(int i) {
+		T v = (T) items[i];
+		int p = prev[i], x = next[i];
+		if (p == NIL) head = x; else next[p] = x;
+		if (x == NIL) tail = p; else prev[x] = p;
+		release(i);
+		size--; modCount++;
+		return v;
+	}
+
+	@Override
+	public T getFirst() {
+		T v = peekFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekFirst() {
+		return head == NIL ? null : (T) items[head];
+	}
+
+	@Override
+	public T getLast() {
+		T v = peekLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekLast() {
+		return tail == NIL ? null : (T) items[tail];
+	}
+
+	@Override
+	public void push(T value) { addFirst(value); }
+
+	@Override
+	public T pop() { return removeFirst(); }
+
+	@Override
+	public T peek() { return peekFirst(); }
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) return false;
+		for (int n = head; n != NIL; n = next[n]) {
+			if (value.equals(items[n])) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 앞에서부터 처음 만나는 value를 떼어 냅니다. (O(n) 탐색 + O(1) unlink)
+	 *
+	 * @return 제거했으면 {@code true}
+	 */
+	public boolean removeFirstOccurrence(T value) {
+		if (value == null) return false;
+		for (int n = head; n != NIL; n = next[n]) {
+			if (value.equals(items[n])) {
+				unlink(n);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(items, 0, used, null);
+		head = tail = free = NIL;
+		used = 0;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Itr();
+	}
+
+	// ============ Iterator (앞→뒤, fail-fast) ============
+	private final class Itr implements Iterator<T> {
+		private int cursor = head;
+		private final int expectedMod = modCount;
+
+		@Override
+		public boolean hasNext() {
+			checkForComod();
+			return cursor != NIL;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			checkForComod();
+			if (cursor == NIL) throw new NoSuchElementException();
+			T v = (T) items[cursor];
+			cursor = next[cursor];
+			return v;
+		}
+
+		private void checkForComod() {
+			if (expectedMod != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int n = head; n != NIL; n = next[n]) {
+			sb.append(items[n]);
+			if (next[n] != NIL) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,278 @@
+package linear.deque.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linear.deque.WorkStealingDeque;
+
+/**
+ * <h1>Chase-Lev 락-프리 작업 훔치기 Deque</h1>
+ *
+ * <p>{@link ArrayDequeEx}와 같은 원형 배열이지만 인덱스를 감싸지 않은 {@code long}으로 두고
+ * {@code index & mask}로 슬롯을 찾습니다. 소유자는 {@code bottom}을, 도둑은 {@code top}을 움직이며,
+ * 원소가 하나 남았을 때만 {@code top}에 대한 CAS로 소유자와 도둑이 경쟁합니다.
+ * (Chase &amp; Lev, 2005 / Lê et al., 2013의 약한 메모리 모델 버전)</p>
+ *
+ * <h2>특징</h2>
+ * <ul>
+ *   <li><b>null 금지</b>: {@code null}은 "비어 있음" 신호로 쓰이므로 {@link NullPointerException}</li>
+ *   <li><b>시간 복잡도</b>: push/pop 분할상환 O(1) (경합 없으면 CAS 없음), steal O(1) (CAS 1회)</li>
+ *   <li><b>자동 확장</b>: 가득 차면 소유자가 2배 배열로 복사 후 교체. 도둑은 이전 배열을 읽어도 안전</li>
+ *   <li><b>이터레이터</b>: 약한 일관성(weakly consistent) 스냅샷, {@code ConcurrentModificationException} 없음</li>
+ * </ul>
+ *
+ * <h2>방향</h2>
+ * 앞쪽(first) = 소유자 쪽(bottom), 뒤쪽(last) = 도둑 쪽(top).
+ * 따라서 {@code push/pop}은 {@link linear.deque.MyDeque} 규약 그대로 앞쪽 삽입/삭제입니다.
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public final class ChaseLevDequeEx<T> implements WorkStealingDeque<T> {
+
+	private static final int DEFAULT_CAP = 32;
+	private static final int MAX_CAP = 1 << 30;
+
+	private static final VarHandle TOP;
+	private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	static {
+		try {
+			TOP = MethodHandles.lookup().findVarHandle(ChaseLevDequeEx.class, "top", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/** 다음에 훔칠 위치 (도둑이 CAS로 증가) */
+	private volatile long top;
+	/** 다음에 push할 위치 (소유자만 기록) */
+	private volatile long bottom;
+	/** 슬롯 배열 (길이는 2의 거듭제곱, 소유자만 교체) */
+	private volatile Object[] array;
+
+	public ChaseLevDequeEx() {
+		this(DEFAULT_CAP);
+	}
+
+	/**
+	 * @param initialCapacity 초기 용량. 2의 거듭제곱으로 올림됩니다.
+	 * @throws IllegalArgumentException 1 미만인 경우
+	 */
+	public ChaseLevDequeEx(int initialCapacity) {
+		if (initialCapacity < 1) throw new IllegalArgumentException("capacity < 1");
+		int cap = initialCapacity >= MAX_CAP ? MAX_CAP : Integer.highestOneBit(Math.max(2, initialCapacity) - 1) << 1;
+		array = new Object[cap];
+	}
+
+	// ============ 소유자 API (앞쪽 = bottom) ============
+
+	@Override
+	public void addFirst(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		long b = bottom;
+		long t = (long) TOP.getAcquire(this);
+		Object[] a = array;
+		if (b - t > a.length - 1) a = grow(a, t, b);
+		SLOT.setRelease(a, (int) b & (a.length - 1), value);
+		bottom = b + 1;
+	}
+
+	@Override
+	public boolean offerFirst(T value) {
+		addFirst(value);
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pollFirst() {
+		long b = bottom - 1;
+		Object[] a = array;
+		bottom = b;                    // volatile 쓰기 → 아래 top 읽기와 StoreLoad 순서 보장
+		long t = top;
+		if (t > b) {                   // 비어 있음
+			bottom = b + 1;
+			return null;
+		}
+		int idx = (int) b & (a.length - 1);
+		T v = (T) SLOT.getAcquire(a, idx);
+		if (t == b) {
+			// 마지막 원소: 도둑과 top을 두고 경쟁
+			if (!TOP.compareAndSet(this, t, t + 1)) v = null;
+			bottom = b + 1;
+		} else {
+			// t < b 이면 도둑은 이 슬롯에 도달할 수 없음 → GC를 위해 비움
+			SLOT.setRelease(a, idx, null);
+		}
+		return v;
+	}
+
+	@Override
+	public T removeFirst() {
+		T v = pollFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekFirst() {
+		long b = bottom - 1;
+		long t = top;
+		if (t > b) return null;
+		Object[] a = array;
+		return (T) SLOT.getAcquire(a, (int) b & (a.length - 1));
+	}
+
+	@Override
+	public T getFirst() {
+		T v = peekFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override public void push(T value) { addFirst(value); }
+	@Override public T pop() { return removeFirst(); }
+	@Override public T peek() { return peekFirst(); }
+
+	/** 소유자 전용. 남은 원소를 모두 꺼내 버립니다. */
+	@Override
+	public void clear() {
+		while (!isEmpty()) pollFirst();
+	}
+
+	// ============ 도둑 API (뒤쪽 = top) ============
+
+	@Override
+	public T steal() {
+		for (;;) {
+			long t = top;
+			long b = bottom;
+			if (t >= b) return null;
+			Object[] a = array;
+			@SuppressWarnings("unchecked")
+			T v = (T) SLOT.getAcquire(a, (int) t & (a.length - 1));
+			if (v != null && TOP.compareAndSet(this, t, t + 1)) return v;
+			Thread.onSpinWait();
+		}
+	}
+
+	@Override
+	public T pollLast() {
+		return steal();
+	}
+
+	@Override
+	public T removeLast() {
+		T v = steal();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekLast() {
+		long t = top;
+		long b = bottom;
+		if (t >= b) return null;
+		Object[] a = array;
+		return (T) SLOT.getAcquire(a, (int) t & (a.length - 1));
+	}
+
+	@Override
+	public T getLast() {
+		T v = peekLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	/** 도둑 쪽으로는 삽입할 수 없습니다. */
+	@Override
+	public void addLast(T value) {
+		throw new UnsupportedOperationException("work-stealing deque: 뒤쪽 삽입 불가");
+	}
+
+	/** 도둑 쪽으로는 삽입할 수 없습니다. */
+	@Override
+	public boolean offerLast(T value) {
+		throw new UnsupportedOperationException("work-stealing deque: 뒤쪽 삽입 불가");
+	}
+
+	// ============ 공통 ============
+
+	/** @return 순간 스냅샷 기준 원소 수 */
+	@Override
+	public int size() {
+		long n = bottom - top;
+		return n <= 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return bottom - top <= 0;
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) return false;
+		for (T v : this) {
+			if (value.equals(v)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 앞(소유자 쪽)→뒤(도둑 쪽) 순서의 약한 일관성 이터레이터입니다.
+	 * 생성 시점의 범위를 기준으로 하며, 그 사이 꺼내진 슬롯은 건너뜁니다.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Itr();
+	}
+
+	// ============ 내부 유틸 ============
+
+	/** 소유자 전용: 2배 배열로 [t, b) 구간을 복사한 뒤 교체 */
+	private Object[] grow(Object[] old, long t, long b) {
+		if (old.length >= MAX_CAP) throw new IllegalStateException("Deque capacity exceeded");
+		Object[] a = new Object[old.length << 1];
+		int oldMask = old.length - 1, newMask = a.length - 1;
+		for (long i = t; i < b; i++) {
+			a[(int) i & newMask] = SLOT.getAcquire(old, (int) i & oldMask);
+		}
+		array = a;
+		return a;
+	}
+
+	private final class Itr implements Iterator<T> {
+		private long cursor = bottom - 1;
+		private T nextValue;
+
+		Itr() { advance(); }
+
+		@SuppressWarnings("unchecked")
+		private void advance() {
+			nextValue = null;
+			while (nextValue == null && cursor >= top) {
+				Object[] a = array;
+				nextValue = (T) SLOT.getAcquire(a, (int) cursor & (a.length - 1));
+				cursor--;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextValue != null;
+		}
+
+		@Override
+		public T next() {
+			if (nextValue == null) throw new NoSuchElementException();
+			T v = nextValue;
+			advance();
+			return v;
+		}
+	}
+}
@@ -0,0 +1,609 @@
+package linear.deque.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linear.deque.MyDeque;
+
+/**
+ * <h1>락-프리 연결 리스트 Deque</h1>
+ *
+ * <p>{@link LinkedDequeEx}와 같은 양방향 노드 구조를 여러 스레드가 락 없이 공유할 수 있도록 한 구현입니다.
+ * 모든 변경은 CAS로 이루어지며, 어느 한 스레드가 멈춰도 다른 스레드는 계속 진행합니다(non-blocking).
+ * 알고리즘은 {@code java.util.concurrent.ConcurrentLinkedDeque}와 같은 방식입니다.</p>
+ *
+ * <h2>동작 원리</h2>
+ * <ul>
+ *   <li><b>삽입</b>: 실제 첫(마지막) 노드를 찾아 그 {@code prev}({@code next})를 {@code null → 새 노드}로 CAS.
+ *       이 CAS가 선형화 지점입니다.</li>
+ *   <li><b>논리 삭제</b>: 살아 있는 노드의 {@code item}을 {@code 값 → null}로 CAS.
+ *       이 CAS에 성공한 스레드만 값을 가져갑니다.</li>
+ *   <li><b>물리 삭제</b>: 죽은 노드 주변 링크를 CAS로 건너뛰게 하고, 더 이상 도달할 수 없는 노드는
+ *       자기 자신(또는 종료 표식)을 가리키게 하여 GC와 순회가 알아볼 수 있게 합니다.</li>
+ *   <li>{@code head/tail}은 정확한 끝이 아니라 "끝 근처"를 가리키는 힌트이며, 두 칸씩 늦게 갱신합니다.</li>
+ * </ul>
+ *
+ * <h2>특징</h2>
+ * <ul>
+ *   <li><b>null 금지</b>: {@link LinkedDequeEx}와 동일하게 {@link NullPointerException}</li>
+ *   <li><b>시간 복잡도</b>: 앞/뒤 삽입/삭제 O(1) (경합이 없을 때), {@code size/contains} O(n)</li>
+ *   <li><b>이터레이터</b>: 약한 일관성(weakly consistent). 순회 중 변경되어도
+ *       {@code ConcurrentModificationException}이 없고, 생성 시점에 있던 원소 중 순회 전에
+ *       제거되지 않은 것은 반환합니다.</li>
+ *   <li><b>size()</b>: 순회해서 세므로 O(n)이며, 동시 변경 중에는 근사값입니다.</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public final class ConcurrentLinkedDequeEx<T> implements MyDeque<T> {
+
+	/** 몇 개 이상의 죽은 노드가 끝에 쌓였을 때 내부 노드 정리를 시도할지 */
+	private static final int HOPS = 2;
+
+	private static final VarHandle HEAD, TAIL, PREV, NEXT, ITEM;
+
+	static {
+		try {
+			MethodHandles.Lookup l = MethodHandles.lookup();
+			HEAD = l.findVarHandle(ConcurrentLinkedDequeEx.class, "head", Node.class);
+			TAIL = l.findVarHandle(ConcurrentLinkedDequeEx.class, "tail", Node.class);
+			PREV = l.findVarHandle(Node.class, "prev", Node.class);
+			NEXT = l.findVarHandle(Node.class, "next", Node.class);
+			ITEM = l.findVarHandle(Node.class, "item", Object.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	static final class Node<E> {
+		volatile Node<E> prev;
+		volatile E item;
+		volatile Node<E> next;
+
+		Node() {}
+		Node(E item) { ITEM.set(this, item); }
+	}
+
+	/** 앞쪽에서 끊겨 나간 노드의 prev 표식 (next가 자기 자신) */
+	private static final Node<Object> PREV_TERMINATOR = new Node<>();
+	/** 뒤쪽에서 끊겨 나간 노드의 next 표식 (prev가 자기 자신) */
+	private static final Node<Object> NEXT_TERMINATOR = new Node<>();
+
+	static {
+		PREV_TERMINATOR.next = PREV_TERMINATOR;
+		NEXT_TERMINATOR.prev = NEXT_TERMINATOR;
+	}
+
+	/** 첫 노드 근처를 가리키는 힌트 (null 아님) */
+	private volatile Node<T> head;
+	/** 마지막 노드 근처를 가리키는 힌트 (null 아님) */
+	private volatile Node<T> tail;
+
+	public ConcurrentLinkedDequeEx() {
+		head = tail = new Node<>();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Node<T> prevTerminator() { return (Node<T>) PREV_TERMINATOR; }
+
+	@SuppressWarnings("unchecked")
+	private Node<T> nextTerminator() { return (Node<T>) NEXT_TERMINATOR; }
+
+	// ============ MyDeque API ============
+
+	@Override
+	public void addFirst(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		linkFirst(value);
+	}
+
+	@Override
+	public boolean offerFirst(T value) {
+		addFirst(value);
+		return true;
+	}
+
+	@Override
+	public void addLast(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		linkLast(value);
+	}
+
+	@Override
+	public boolean offerLast(T value) {
+		addLast(value);
+		return true;
+	}
+
+	@Override
+	public T pollFirst() {
+		restart:
+		for (;;) {
+			for (Node<T> first = first(), p = first;;) {
+				T item = p.item;
+				if (item != null) {
+					// 선형화 가능성 재확인: 그 사이 앞에 새 노드가 붙었으면 다시
+					if (first.prev != null) continue restart;
+					if (ITEM.compareAndSet(p, item, null)) {
+						unlink(p);
+						return item;
+					}
+				}
+				if (p == (p = p.next)) continue restart;
+				if (p == null) {
+					if (first.prev != null) continue restart;
+					return null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public T pollLast() {
+		restart:
+		for (;;) {
+			for (Node<T> last = last(), p = last;;) {
+				T item = p.item;
+				if (item != null) {
+					if (last.next != null) continue restart;
+					if (ITEM.compareAndSet(p, item, null)) {
+						unlink(p);
+						return item;
+					}
+				}
+				if (p == (p = p.prev)) continue restart;
+				if (p == null) {
+					if (last.next != null) continue restart;
+					return null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public T removeFirst() {
+		T v = pollFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T removeLast() {
+		T v = pollLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T peekFirst() {
+		restart:
+		for (;;) {
+			for (Node<T> first = first(), p = first;;) {
+				T item = p.item;
+				if (item != null) {
+					if (first.prev != null) continue restart;
+					return item;
+				}
+				if (p == (p = p.next)) continue restart;
+				if (p == null) {
+					if (first.prev != null) continue restart;
+					return null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public T peekLast() {
+		restart:
+		for (;;) {
+			for (Node<T> last = last(), p = last;;) {
+				T item = p.item;
+				if (item != null) {
+					if (last.next != null) continue restart;
+					return item;
+				}
+				if (p == (p = p.prev)) continue restart;
+				if (p == null) {
+					if (last.next != null) continue restart;
+					return null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public T getFirst() {
+		T v = peekFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T getLast() {
+		T v = peekLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override public void push(T value) { addFirst(value); }
+	@Override public T pop() { return removeFirst(); }
+	@Override public T peek() { return peekFirst(); }
+
+	@Override
+	public boolean isEmpty() {
+		return peekFirst() == null;
+	}
+
+	/** 살아 있는 노드를 세어 반환합니다. O(n), 동시 변경 중에는 근사값입니다. */
+	@Override
+	public int size() {
+		restart:
+		for (;;) {
+			int count = 0;
+			for (Node<T> p = first(); p != null;) {
+				if (p.item != null) {
+					if (++count == Integer.MAX_VALUE) break;
+				}
+				if (p == (p = p.next)) continue restart;
+			}
+			return count;
+		}
+	}
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) return false;
+		for (Node<T> p = first(); p != null; p = succ(p)) {
+			T item = p.item;
+			if (item != null && value.equals(item)) return true;
+		}
+		return false;
+	}
+
+	/** 앞에서부터 하나씩 꺼내 비웁니다. 동시에 추가되는 원소는 남을 수 있습니다. */
+	@Override
+	public void clear() {
+		while (pollFirst() != null) { }
+	}
+
+	/**
+	 * 앞→뒤 순서의 약한 일관성 이터레이터를 반환합니다.
+	 * 생성 이후의 변경은 반영될 수도, 안 될 수도 있습니다.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Itr();
+	}
+
+	// ============ 삽입 ============
+
+	private void linkFirst(T value) {
+		final Node<T> newNode = new Node<>(value);
+		restartFromHead:
+		for (;;) {
+			for (Node<T> h = head, p = h, q;;) {
+				if ((q = p.prev) != null && (q = (p = q).prev) != null) {
+					// 두 칸마다 head가 바뀌었는지 확인. p == q이면 head부터 다시
+					p = (h != (h = head)) ? h : q;
+				} else if (p.next == p) { // PREV_TERMINATOR
+					continue restartFromHead;
+				} else {
+					// p는 첫 노드
+					NEXT.set(newNode, p);
+					if (PREV.compareAndSet(p, null, newNode)) {
+						if (p != h) HEAD.weakCompareAndSet(this, h, newNode);
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	private void linkLast(T value) {
+		final Node<T> newNode = new Node<>(value);
+		restartFromTail:
+		for (;;) {
+			for (Node<T> t = tail, p = t, q;;) {
+				if ((q = p.next) != null && (q = (p = q).next) != null) {
+					p = (t != (t = tail)) ? t : q;
+				} else if (p.prev == p) { // NEXT_TERMINATOR
+					continue restartFromTail;
+				} else {
+					// p는 마지막 노드
+					PREV.set(newNode, p);
+					if (NEXT.compareAndSet(p, null, newNode)) {
+						if (p != t) TAIL.weakCompareAndSet(this, t, newNode);
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	// ============ 물리 삭제 ============
+
+	/** 논리 삭제(item == null)된 노드 x를 리스트에서 떼어냅니다. */
+	private void unlink(Node<T> x) {
+		final Node<T> prev = x.prev;
+		final Node<T> next = x.next;
+		if (prev == null) {
+			unlinkFirst(x, next);
+		} else if (next == null) {
+			unlinkLast(x, prev);
+		} else {
+			// 내부 노드: 양쪽으로 살아 있는 이웃을 찾아 그 사이의 죽은 노드들을 건너뛴다
+			Node<T> activePred, activeSucc;
+			boolean isFirst, isLast;
+			int hops = 1;
+
+			for (Node<T> p = prev;; ++hops) {
+				if (p.item != null) {
+					activePred = p;
+					isFirst = false;
+					break;
+				}
+				Node<T> q = p.prev;
+				if (q == null) {
+					if (p.next == p) return;
+					activePred = p;
+					isFirst = true;
+					break;
+				} else if (p == q) {
+					return;
+				} else {
+					p = q;
+				}
+			}
+
+			for (Node<T> p = next;; ++hops) {
+				if (p.item != null) {
+					activeSucc = p;
+					isLast = false;
+					break;
+				}
+				Node<T> q = p.next;
+				if (q == null) {
+					if (p.prev == p) return;
+					activeSucc = p;
+					isLast = true;
+					break;
+				} else if (p == q) {
+					return;
+				} else {
+					p = q;
+				}
+			}
+
+			// 끝 쪽 죽은 노드가 적으면 다음 poll이 정리하도록 미룸
+			if (hops < HOPS && (isFirst | isLast)) return;
+
+			skipDeletedSuccessors(activePred);
+			skipDeletedPredecessors(activeSucc);
+
+			// 가능하면 x를 완전히 분리(gc-unlink)
+			if ((isFirst | isLast)
+				&& (activePred.next == activeSucc)
+				&& (activeSucc.prev == activePred)
+				&& (isFirst ? activePred.prev == null : activePred.item != null)
+				&& (isLast ? activeSucc.next == null : activeSucc.item != null)) {
+				updateHead();
+				updateTail();
+				PREV.setRelease(x, isFirst ? prevTerminator() : x);
+				NEXT.setRelease(x, isLast ? nextTerminator() : x);
+			}
+		}
+	}
+
+	/** 첫 노드 first 뒤에 이어진 죽은 노드들을 건너뜁니다. */
+	private void unlinkFirst(Node<T> first, Node<T> next) {
+		for (Node<T> o = null, p = next, q;;) {
+			if (p.item != null || (q = p.next) == null) {
+				if (o != null && p.prev != p && NEXT.compareAndSet(first, next, p)) {
+					skipDeletedPredecessors(p);
+					if (first.prev == null
+						&& (p.next == null || p.item != null)
+						&& p.prev == first) {
+						updateHead();
+						updateTail();
+						NEXT.setRelease(o, o);
+						PREV.setRelease(o, prevTerminator());
+					}
+				}
+				return;
+			} else if (p == q) {
+				return;
+			} else {
+				o = p;
+				p = q;
+			}
+		}
+	}
+
+	/** 마지막 노드 last 앞에 이어진 죽은 노드들을 건너뜁니다. */
+	private void unlinkLast(Node<T> last, Node<T> prev) {
+		for (Node<T> o = null, p = prev, q;;) {
+			if (p.item != null || (q = p.prev) == null) {
+				if (o != null && p.next != p && PREV.compareAndSet(last, prev, p)) {
+					skipDeletedSuccessors(p);
+					if (last.next == null
+						&& (p.prev == null || p.item != null)
+						&& p.next == last) {
+						updateHead();
+						updateTail();
+						PREV.setRelease(o, o);
+						NEXT.setRelease(o, nextTerminator());
+					}
+				}
+				return;
+			} else if (p == q) {
+				return;
+			} else {
+				o = p;
+				p = q;
+			}
+		}
+	}
+
+	/** head가 살아 있는 노드 또는 실제 첫 노드를 가리키도록 보정합니다. */
+	private void updateHead() {
+		Node<T> h, p, q;
+		restartFromHead:
+		while ((h = head).item == null && (p = h.prev) != null) {
+			for (;;) {
+				if ((q = p.prev) == null || (q = (p = q).prev) == null) {
+					// p가 PREV_TERMINATOR일 수도 있지만 그 경우 CAS는 반드시 실패
+					if (HEAD.compareAndSet(this, h, p)) return;
+					continue restartFromHead;
+				} else if (h != head) {
+					continue restartFromHead;
+				} else {
+					p = q;
+				}
+			}
+		}
+	}
+
+	/** tail이 살아 있는 노드 또는 실제 마지막 노드를 가리키도록 보정합니다. */
+	private void updateTail() {
+		Node<T> t, p, q;
+		restartFromTail:
+		while ((t = tail).item == null && (p = t.next) != null) {
+			for (;;) {
+				if ((q = p.next) == null || (q = (p = q).next) == null) {
+					if (TAIL.compareAndSet(this, t, p)) return;
+					continue restartFromTail;
+				} else if (t != tail) {
+					continue restartFromTail;
+				} else {
+					p = q;
+				}
+			}
+		}
+	}
+
+	private void skipDeletedPredecessors(Node<T> x) {
+		whileActive:
+		do {
+			Node<T> prev = x.prev;
+			Node<T> p = prev;
+			findActive:
+			for (;;) {
+				if (p.item != null) break findActive;
+				Node<T> q = p.prev;
+				if (q == null) {
+					if (p.next == p) continue whileActive;
+					break findActive;
+				} else if (p == q) {
+					continue whileActive;
+				} else {
+					p = q;
+				}
+			}
+			if (prev == p || PREV.compareAndSet(x, prev, p)) return;
+		} while (x.item != null || x.next == null);
+	}
+
+	private void skipDeletedSuccessors(Node<T> x) {
+		whileActive:
+		do {
+			Node<T> next = x.next;
+			Node<T> p = next;
+			findActive:
+			for (;;) {
+				if (p.item != null) break findActive;
+				Node<T> q = p.next;
+				if (q == null) {
+					if (p.prev == p) continue whileActive;
+					break findActive;
+				} else if (p == q) {
+					continue whileActive;
+				} else {
+					p = q;
+				}
+			}
+			if (next == p || NEXT.compareAndSet(x, next, p)) return;
+		} while (x.item != null || x.prev == null);
+	}
+
+	// ============ 탐색 유틸 ============
+
+	/** p의 다음 노드. p가 이미 분리되었으면(self-link) 첫 노드부터 다시 */
+	private Node<T> succ(Node<T> p) {
+		if (p == (p = p.next)) p = first();
+		return p;
+	}
+
+	/** 실제 첫 노드(prev == null)를 찾고, 겸사겸사 head 힌트를 갱신합니다. */
+	private Node<T> first() {
+		restartFromHead:
+		for (;;) {
+			for (Node<T> h = head, p = h, q;;) {
+				if ((q = p.prev) != null && (q = (p = q).prev) != null) {
+					p = (h != (h = head)) ? h : q;
+				} else if (p == h || HEAD.compareAndSet(this, h, p)) {
+					return p;
+				} else {
+					continue restartFromHead;
+				}
+			}
+		}
+	}
+
+	/** 실제 마지막 노드(next == null)를 찾고, 겸사겸사 tail 힌트를 갱신합니다. */
+	private Node<T> last() {
+		restartFromTail:
+		for (;;) {
+			for (Node<T> t = tail, p = t, q;;) {
+				if ((q = p.next) != null && (q = (p = q).next) != null) {
+					p = (t != (t = tail)) ? t : q;
+				} else if (p == t || TAIL.compareAndSet(this, t, p)) {
+					return p;
+				} else {
+					continue restartFromTail;
+				}
+			}
+		}
+	}
+
+	// ============ Iterator (앞→뒤, weakly consistent) ============
+
+	private final class Itr implements Iterator<T> {
+		private Node<T> nextNode;
+		private T nextItem;
+
+		Itr() { advance(); }
+
+		private void advance() {
+			Node<T> p = (nextNode == null) ? first() : succ(nextNode);
+			for (;; p = succ(p)) {
+				if (p == null) {
+					nextNode = null;
+					nextItem = null;
+					return;
+				}
+				T item = p.item;
+				if (item != null) {
+					nextNode = p;
+					nextItem = item;
+					return;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextItem != null;
+		}
+
+		@Override
+		public T next() {
+			T item = nextItem;
+			if (item == null) throw new NoSuchElementException();
+			advance();
+			return item;
+		}
+	}
+}
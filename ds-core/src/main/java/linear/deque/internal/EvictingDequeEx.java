@@ -0,0 +1,253 @@
+package linear.deque.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import linear.deque.EvictingDeque;
+
+/**
+ * <h1>덮어쓰기 고정 용량 원형 버퍼 Deque</h1>
+ *
+ * <p>배열 길이가 정확히 {@code capacity}이며 확장하지 않습니다. 가득 찬 상태의 {@code addLast}는
+ * 가장 오래된 칸을 새 값으로 덮어쓰고 head를 한 칸 전진시킬 뿐이므로, 호출 측에서
+ * {@code size()} 확인 후 {@code pollFirst}를 할 필요가 없습니다.</p>
+ *
+ * <h2>특징</h2>
+ * <ul>
+ *   <li><b>정확한 크기</b>: 2의 거듭제곱으로 올리지 않음. 인덱스 래핑은 나머지 연산 대신 비교로 처리</li>
+ *   <li><b>축출 콜백</b>: 덮어써진 원소만 전달 ({@code poll/remove/clear}로 꺼낸 원소는 전달하지 않음)</li>
+ *   <li><b>forEach</b>: 반복자 객체 없이 오래된 것 → 최신 순서로 순회, 구조 변경 시 fail-fast</li>
+ *   <li><b>null 금지</b>, 스레드-세이프 아님</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public final class EvictingDequeEx<T> implements EvictingDeque<T> {
+
+	private final Object[] elements;
+	private final Consumer<? super T> onEvict; // null 가능
+	private int head;   // 가장 오래된 원소 위치
+	private int size;
+	private int modCount;
+
+	public EvictingDequeEx(int capacity) {
+		this(capacity, null);
+	}
+
+	/**
+	 * @param capacity 고정 용량 (1 이상)
+	 * @param onEvict  덮어써진 원소를 받을 콜백 ({@code null}이면 무시)
+	 */
+	public EvictingDequeEx(int capacity, Consumer<? super T> onEvict) {
+		if (capacity < 1) throw new IllegalArgumentException("capacity < 1");
+		this.elements = new Object[capacity];
+		this.onEvict = onEvict;
+	}
+
+	private int inc(int i) { return ++i == elements.length ? 0 : i; }
+	private int dec(int i) { return (i == 0 ? elements.length : i) - 1; }
+
+	private int phys(int index) {
+		int i = head + index;
+		return i >= elements.length ? i - elements.length : i;
+	}
+
+	@Override public int capacity() { return elements.length; }
+	@Override public boolean isFull() { return size == elements.length; }
+
+	// ============ MyDeque API ============
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	/**
+	 * @throws IllegalStateException 가득 찬 경우
+	 */
+	@Override
+	public void addFirst(T value) {
+		if (!offerFirst(value)) throw new IllegalStateException("deque full");
+	}
+
+	@Override
+	public boolean offerFirst(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		if (size == elements.length) return false;
+		head = dec(head);
+		elements[head] = value;
+		size++; modCount++;
+		return true;
+	}
+
+	/** 가득 차 있으면 가장 오래된 원소를 덮어씀 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addLast(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		modCount++;
+		if (size == elements.length) {
+			T evicted = (T) elements[head];
+			elements[head] = value;
+			head = inc(head);
+			if (onEvict != null) onEvict.accept(evicted);
+			return;
+		}
+		elements[phys(size)] = value;
+		size++;
+	}
+
+	/** 항상 {@code true} (가득 차 있으면 덮어씀) */
+	@Override
+	public boolean offerLast(T value) {
+		addLast(value);
+		return true;
+	}
+
+	@Override
+	public T removeFirst() {
+		T v = pollFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pollFirst() {
+		if (size == 0) return null;
+		T v = (T) elements[head];
+		elements[head] = null;
+		head = inc(head);
+		size--; modCount++;
+		return v;
+	}
+
+	@Override
+	public T removeLast() {
+		T v = pollLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pollLast() {
+		if (size == 0) return null;
+		int i = phys(size - 1);
+		T v = (T) elements[i];
+		elements[i] = null;
+		size--; modCount++;
+		return v;
+	}
+
+	@Override
+	public T getFirst() {
+		T v = peekFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekFirst() {
+		return size == 0 ? null : (T) elements[head];
+	}
+
+	@Override
+	public T getLast() {
+		T v = peekLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekLast() {
+		return size == 0 ? null : (T) elements[phys(size - 1)];
+	}
+
+	/** {@link #addFirst(Object)}와 동일 (가득 차면 {@link IllegalStateException}) */
+	@Override public void push(T value) { addFirst(value); }
+	@Override public T pop() { return removeFirst(); }
+	@Override public T peek() { return peekFirst(); }
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) return false;
+		for (int i = 0, idx = head; i < size; i++, idx = inc(idx)) {
+			if (value.equals(elements[idx])) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0, idx = head; i < size; i++, idx = inc(idx)) elements[idx] = null;
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/** 오래된 것 → 최신 순서, 반복자 할당 없음 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super T> action) {
+		if (action == null) throw new NullPointerException("action");
+		final int expected = modCount;
+		final Object[] a = elements;
+		final int n = size;
+		// 원형 경계에서 두 구간으로 나눠 순회
+		int firstEnd = Math.min(a.length, head + n);
+		for (int i = head; i < firstEnd; i++) {
+			action.accept((T) a[i]);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+		for (int i = 0, rest = n - (firstEnd - head); i < rest; i++) {
+			action.accept((T) a[i]);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Itr();
+	}
+
+	// ============ Iterator (오래된 것 → 최신, fail-fast) ============
+	private final class Itr implements Iterator<T> {
+		private final int expectedMod = modCount;
+		private int seen;
+		private int idx = head;
+
+		@Override
+		public boolean hasNext() {
+			checkForComod();
+			return seen < size;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			checkForComod();
+			if (seen >= size) throw new NoSuchElementException();
+			T v = (T) elements[idx];
+			idx = inc(idx);
+			seen++;
+			return v;
+		}
+
+		private void checkForComod() {
+			if (expectedMod != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0, idx = head; i < size; i++, idx = inc(idx)) {
+			sb.append(elements[idx]);
+			if (i + 1 < size) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
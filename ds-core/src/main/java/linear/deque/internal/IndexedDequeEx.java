@@ -0,0 +1,385 @@
+package linear.deque.internal;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linear.deque.IndexedDeque;
+
+/**
+ * <h1>해시 색인 연결 Deque</h1>
+ *
+ * <p>{@link LinkedDequeEx}와 같은 양방향 노드 리스트에, 원소 → 노드를 찾는
+ * <b>개방 주소(open addressing) + 선형 탐사</b> 해시 테이블을 덧붙인 구현입니다.</p>
+ *
+ * <h2>색인 구조</h2>
+ * <ul>
+ *   <li>테이블 슬롯에는 서로 다른 키마다 <b>Deque 순서상 첫 노드</b> 하나만 들어갑니다.</li>
+ *   <li>같은 키의 중복 노드들은 {@code prevSame/nextSame}으로 이어진 <b>원형 체인</b>을 이룹니다.
+ *       삽입이 양 끝에서만 일어나므로 체인 순서는 Deque 순서와 같고,
+ *       {@code first.prevSame}이 같은 키의 마지막 노드입니다.</li>
+ *   <li>삭제는 툼스톤 없이 <b>backward-shift</b>로 처리해 탐사 길이가 늘어나지 않습니다.</li>
+ *   <li>서로 다른 키 수가 테이블의 절반을 넘으면 2배로 재해시합니다.</li>
+ * </ul>
+ *
+ * <h2>시간 복잡도</h2>
+ * <ul>
+ *   <li>앞/뒤 삽입/삭제/조회: O(1) (색인 갱신 포함, 평균)</li>
+ *   <li>{@code contains}, {@code removeFirstOccurrence}, {@code addLastIfAbsent}: 평균 O(1)</li>
+ *   <li>{@code clear}: O(n + 테이블 크기)</li>
+ * </ul>
+ *
+ * <h2>특성</h2>
+ * - null 불가 (NPE)<br>
+ * - fail-fast iterator<br>
+ * - 스레드-세이프 아님
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public final class IndexedDequeEx<T> implements IndexedDeque<T> {
+
+	private static final class Node<E> {
+		E item;
+		final int hash;
+		Node<E> prev, next;          // Deque 순서
+		Node<E> prevSame, nextSame;  // 같은 키끼리의 원형 체인
+		Node(E item, int hash) {
+			this.item = item;
+			this.hash = hash;
+			this.prevSame = this.nextSame = this;
+		}
+	}
+
+	private static final int DEFAULT_TABLE_SIZE = 16;
+	private static final int MAX_TABLE_SIZE = 1 << 30;
+
+	private Node<T> head; // 첫 노드
+	private Node<T> tail; // 마지막 노드
+	private int size;
+	private int modCount;
+
+	private Node<T>[] table;
+	private int distinct;  // 테이블에 들어 있는 서로 다른 키 수
+
+	public IndexedDequeEx() {
+		@SuppressWarnings("unchecked") Node<T>[] t = (Node<T>[]) new Node<?>[DEFAULT_TABLE_SIZE];
+		table = t;
+	}
+
+	// ============ MyDeque API ============
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void addFirst(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		Node<T> n = new Node<>(value, spread(value.hashCode()));
+		indexFirst(n);
+		Node<T> h = head;
+		n.next = h;
+		head = n;
+		if (h == null) {
+			tail = n;
+		} else {
+			h.prev = n;
+		}
+		size++; modCount++;
+	}
+
+	@Override
+	public boolean offerFirst(T value) {
+		addFirst(value);
+		return true;
+	}
+
+	@Override
+	public void addLast(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		linkLast(new Node<>(value, spread(value.hashCode())), -1);
+	}
+
+	@Override
+	public boolean offerLast(T value) {
+		addLast(value);
+		return true;
+	}
+
+	@Override
+	public boolean addLastIfAbsent(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		int h = spread(value.hashCode());
+		int slot = findSlot(value, h);
+		if (table[slot] != null) return false;
+		linkLast(new Node<>(value, h), slot);
+		return true;
+	}
+
+	@Override
+	public T removeFirst() {
+		T v = pollFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T pollFirst() {
+		Node<T> h = head;
+		if (h == null) return null;
+		T v = h.item;
+		unlink(h);
+		return v;
+	}
+
+	@Override
+	public T removeLast() {
+		T v = pollLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T pollLast() {
+		Node<T> t = tail;
+		if (t == null) return null;
+		T v = t.item;
+		unlink(t);
+		return v;
+	}
+
+	@Override
+	public T getFirst() {
+		T v = peekFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T peekFirst() {
+		return head == null ? null : head.item;
+	}
+
+	@Override
+	public T getLast() {
+		T v = peekLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	public T peekLast() {
+		return tail == null ? null : tail.item;
+	}
+
+	@Override
+	public void push(T value) { addFirst(value); }
+
+	@Override
+	public T pop() { return removeFirst(); }
+
+	@Override
+	public T peek() { return peekFirst(); }
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) return false;
+		return table[findSlot(value, spread(value.hashCode()))] != null;
+	}
+
+	@Override
+	public boolean removeFirstOccurrence(T value) {
+		if (value == null) return false;
+		Node<T> first = table[findSlot(value, spread(value.hashCode()))];
+		if (first == null) return false;
+		unlink(first);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		// GC friendly unlink
+		for (Node<T> n = head; n != null; ) {
+			Node<T> next = n.next;
+			n.item = null; n.prev = null; n.next = null;
+			n.prevSame = n.nextSame = null;
+			n = next;
+		}
+		head = tail = null;
+		Arrays.fill(table, null);
+		distinct = 0;
+		size = 0;
+		modCount++;
+	}
+
+	// ============ 리스트 연결 ============
+
+	/** n을 뒤에 연결. slot이 -1이 아니면 "키 없음"이 이미 확인된 빈 슬롯 */
+	private void linkLast(Node<T> n, int slot) {
+		if (slot < 0) indexLast(n);
+		else insertNewKey(n, slot);
+		Node<T> t = tail;
+		n.prev = t;
+		tail = n;
+		if (t == null) {
+			head = n;
+		} else {
+			t.next = n;
+		}
+		size++; modCount++;
+	}
+
+	/** 리스트와 색인 양쪽에서 n을 제거 */
+	private void unlink(Node<T> n) {
+		unindex(n);
+		Node<T> p = n.prev, x = n.next;
+		if (p == null) head = x; else p.next = x;
+		if (x == null) tail = p; else x.prev = p;
+		// help GC
+		n.item = null; n.prev = null; n.next = null;
+		size--; modCount++;
+	}
+
+	// ============ 해시 색인 ============
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	/** value의 노드가 있는 슬롯, 없으면 탐사가 멈춘 빈 슬롯 */
+	private int findSlot(Object value, int h) {
+		Node<T>[] tab = table;
+		int mask = tab.length - 1;
+		int i = h & mask;
+		Node<T> e;
+		while ((e = tab[i]) != null) {
+			if (e.hash == h && (e.item == value || value.equals(e.item))) return i;
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	/** 앞쪽 삽입: 같은 키가 있으면 체인의 새 첫 노드가 됨 */
+	private void indexFirst(Node<T> n) {
+		int slot = findSlot(n.item, n.hash);
+		Node<T> first = table[slot];
+		if (first == null) {
+			insertNewKey(n, slot);
+			return;
+		}
+		linkSameBefore(n, first);
+		table[slot] = n;
+	}
+
+	/** 뒤쪽 삽입: 같은 키가 있으면 체인의 마지막 노드가 됨 */
+	private void indexLast(Node<T> n) {
+		int slot = findSlot(n.item, n.hash);
+		Node<T> first = table[slot];
+		if (first == null) {
+			insertNewKey(n, slot);
+			return;
+		}
+		linkSameBefore(n, first); // 원형이므로 first 앞 = 마지막
+	}
+
+	private static <E> void linkSameBefore(Node<E> n, Node<E> at) {
+		Node<E> last = at.prevSame;
+		n.nextSame = at;
+		n.prevSame = last;
+		last.nextSame = n;
+		at.prevSame = n;
+	}
+
+	private void insertNewKey(Node<T> n, int slot) {
+		table[slot] = n;
+		if (++distinct > (table.length >>> 1)) resize();
+	}
+
+	private void unindex(Node<T> n) {
+		int slot = findSlot(n.item, n.hash);
+		Node<T> first = table[slot];
+		if (n.nextSame == n) {
+			deleteSlot(slot);
+			distinct--;
+		} else {
+			Node<T> p = n.prevSame, x = n.nextSame;
+			p.nextSame = x;
+			x.prevSame = p;
+			if (first == n) table[slot] = x;
+		}
+		n.prevSame = n.nextSame = null;
+	}
+
+	/** 선형 탐사 backward-shift 삭제 (툼스톤 없음) */
+	private void deleteSlot(int i) {
+		Node<T>[] tab = table;
+		int mask = tab.length - 1;
+		int j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			Node<T> e = tab[j];
+			if (e == null) break;
+			int k = e.hash & mask; // e의 원래 자리
+			// k가 (i, j] 구간 밖(원형)이면 i로 당겨도 탐사 경로가 유지됨
+			boolean movable = (i <= j) ? (k <= i || k > j) : (k <= i && k > j);
+			if (movable) {
+				tab[i] = e;
+				i = j;
+			}
+		}
+		tab[i] = null;
+	}
+
+	private void resize() {
+		Node<T>[] old = table;
+		if (old.length >= MAX_TABLE_SIZE) return;
+		@SuppressWarnings("unchecked") Node<T>[] tab = (Node<T>[]) new Node<?>[old.length << 1];
+		int mask = tab.length - 1;
+		for (Node<T> e : old) {
+			if (e == null) continue;
+			int i = e.hash & mask;
+			while (tab[i] != null) i = (i + 1) & mask;
+			tab[i] = e;
+		}
+		table = tab;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Itr();
+	}
+
+	// ============ Iterator (앞→뒤, fail-fast) ============
+	private final class Itr implements Iterator<T> {
+		private Node<T> cursor = head;
+		private final int expectedMod = modCount;
+
+		@Override
+		public boolean hasNext() {
+			checkForComod();
+			return cursor != null;
+		}
+
+		@Override
+		public T next() {
+			checkForComod();
+			if (cursor == null) throw new NoSuchElementException();
+			T v = cursor.item;
+			cursor = cursor.next;
+			return v;
+		}
+
+		private void checkForComod() {
+			if (expectedMod != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (Node<T> n = head; n != null; n = n.next) {
+			sb.append(n.item);
+			if (n.next != null) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
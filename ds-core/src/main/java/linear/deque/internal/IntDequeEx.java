@@ -0,0 +1,192 @@
+package linear.deque.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+import linear.deque.IntDeque;
+
+/**
+ * <h1>int[] 원형 버퍼 Deque (박싱 없음)</h1>
+ *
+ * <p>{@link ArrayDequeEx}와 같은 원형 버퍼지만 저장소가 {@code int[]}이고 용량을 2의 거듭제곱으로
+ * 유지해 {@code & mask}로 인덱싱합니다. {@code *Int} 메서드는 확장 시점을 제외하면 할당이 없습니다.</p>
+ *
+ * <h2>특징</h2>
+ * <ul>
+ *   <li><b>시간 복잡도</b>: 앞/뒤 삽입/삭제 분할상환 <b>O(1)</b>, {@code clear} O(1)</li>
+ *   <li><b>poll/peek</b>: 박싱 메서드로만 제공 (비어 있으면 {@code null})</li>
+ *   <li><b>Fail-fast Iterator</b>: 순회 시 박싱 발생. 박싱 없는 순회는 {@link #forEachInt(IntConsumer)}</li>
+ *   <li>스레드-안전성: <b>비동기 안전 아님</b></li>
+ * </ul>
+ */
+public final class IntDequeEx implements IntDeque {
+
+	private static final int DEFAULT_CAP = 16;
+	private static final int MAX_CAP = 1 << 30;
+
+	private int[] elements;
+	private int mask;
+	private int head;   // 첫 원소 위치
+	private int size;
+	private int modCount;
+
+	public IntDequeEx() {
+		this(DEFAULT_CAP);
+	}
+
+	/**
+	 * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림)
+	 * @throws IllegalArgumentException 음수인 경우
+	 */
+	public IntDequeEx(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		int cap = DEFAULT_CAP;
+		while (cap < initialCapacity && cap < MAX_CAP) cap <<= 1;
+		elements = new int[cap];
+		mask = cap - 1;
+	}
+
+	// ============ IntDeque API ============
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void addFirstInt(int value) {
+		if (size == elements.length) grow();
+		head = (head - 1) & mask;
+		elements[head] = value;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public void addLastInt(int value) {
+		if (size == elements.length) grow();
+		elements[(head + size) & mask] = value;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public int removeFirstInt() {
+		if (size == 0) throw new NoSuchElementException();
+		int v = elements[head];
+		head = (head + 1) & mask;
+		size--;
+		modCount++;
+		return v;
+	}
+
+	@Override
+	public int removeLastInt() {
+		if (size == 0) throw new NoSuchElementException();
+		int v = elements[(head + size - 1) & mask];
+		size--;
+		modCount++;
+		return v;
+	}
+
+	@Override
+	public int getFirstInt() {
+		if (size == 0) throw new NoSuchElementException();
+		return elements[head];
+	}
+
+	@Override
+	public int getLastInt() {
+		if (size == 0) throw new NoSuchElementException();
+		return elements[(head + size - 1) & mask];
+	}
+
+	@Override public void pushInt(int value) { addFirstInt(value); }
+	@Override public int popInt() { return removeFirstInt(); }
+
+	@Override
+	public boolean containsInt(int value) {
+		for (int i = 0; i < size; i++) {
+			if (elements[(head + i) & mask] == value) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void forEachInt(IntConsumer action) {
+		final int expected = modCount;
+		final int[] a = elements;
+		for (int i = 0, n = size; i < n; i++) {
+			action.accept(a[(head + i) & mask]);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	// ============ MyDeque API (박싱) ============
+
+	@Override public void addFirst(Integer value) { addFirstInt(requireNonNull(value)); }
+	@Override public boolean offerFirst(Integer value) { addFirst(value); return true; }
+	@Override public void addLast(Integer value) { addLastInt(requireNonNull(value)); }
+	@Override public boolean offerLast(Integer value) { addLast(value); return true; }
+	@Override public Integer removeFirst() { return removeFirstInt(); }
+	@Override public Integer pollFirst() { return size == 0 ? null : removeFirstInt(); }
+	@Override public Integer removeLast() { return removeLastInt(); }
+	@Override public Integer pollLast() { return size == 0 ? null : removeLastInt(); }
+	@Override public Integer getFirst() { return getFirstInt(); }
+	@Override public Integer peekFirst() { return size == 0 ? null : getFirstInt(); }
+	@Override public Integer getLast() { return getLastInt(); }
+	@Override public Integer peekLast() { return size == 0 ? null : getLastInt(); }
+	@Override public void push(Integer value) { addFirst(value); }
+	@Override public Integer pop() { return removeFirstInt(); }
+	@Override public Integer peek() { return peekFirst(); }
+	@Override public boolean contains(Integer value) { return value != null && containsInt(value); }
+
+	@Override
+	public void clear() {
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	private static int requireNonNull(Integer value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		return value;
+	}
+
+	/** 2배 확장: head부터 size개를 0..size-1로 펼쳐 복사 */
+	private void grow() {
+		int old = elements.length;
+		if (old >= MAX_CAP) throw new OutOfMemoryError("Required array size too large");
+		int[] newArr = new int[old << 1];
+		int firstPart = Math.min(size, old - head);
+		System.arraycopy(elements, head, newArr, 0, firstPart);
+		System.arraycopy(elements, 0, newArr, firstPart, size - firstPart);
+		elements = newArr;
+		mask = newArr.length - 1;
+		head = 0;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		final int expected = modCount;
+		return new Iterator<Integer>() {
+			int i = 0;
+			@Override public boolean hasNext() { return i < size; }
+			@Override public Integer next() {
+				if (expected != modCount) throw new ConcurrentModificationException();
+				if (i >= size) throw new NoSuchElementException();
+				return elements[(head + i++) & mask];
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			sb.append(elements[(head + i) & mask]);
+			if (i + 1 < size) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
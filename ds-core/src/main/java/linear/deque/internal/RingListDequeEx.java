@@ -0,0 +1,353 @@
+package linear.deque.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linear.deque.ListDeque;
+
+/**
+ * <h1>인덱스 접근 가능한 원형 버퍼 Deque</h1>
+ *
+ * <p>{@link ArrayDequeEx}와 같은 원형 버퍼에 {@link linear.list.MyList} 연산을 더한 구현입니다.
+ * 논리 인덱스 {@code i}의 물리 위치는 {@code (head + i) & mask}이므로 {@code get/set}이 O(1)입니다.</p>
+ *
+ * <h2>중간 삽입/삭제</h2>
+ * <p>{@code add(i)/remove(i)}는 앞쪽({@code i}개)과 뒤쪽({@code size-i}개) 중 <b>짧은 쪽</b>만 한 칸
+ * 밀거나 당깁니다. 한쪽 끝만 움직이는 {@code ArrayListEx}에 비해 이동량이 최대 절반입니다.
+ * 이동은 원형 경계에서 끊어 {@link System#arraycopy} 몇 번으로 처리합니다.</p>
+ *
+ * <h2>특징</h2>
+ * <ul>
+ *   <li><b>null 금지</b>: Deque 규약({@code pollFirst}가 null로 "없음" 표현)을 따름</li>
+ *   <li>용량은 2의 거듭제곱, 가득 차면 2배 확장</li>
+ *   <li>앞/뒤 삽입/삭제 분할상환 O(1), {@code get/set} O(1), 중간 삽입/삭제 O(min(i, n-i))</li>
+ *   <li>정/역방향 fail-fast iterator</li>
+ *   <li>스레드-세이프 아님</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public final class RingListDequeEx<T> implements ListDeque<T> {
+
+	private static final int DEFAULT_CAP = 16;
+	private static final int MAX_CAP = 1 << 30;
+
+	private Object[] elements;
+	private int head;   // 논리 인덱스 0의 물리 위치
+	private int size;
+	private int modCount;
+
+	public RingListDequeEx() {
+		this(DEFAULT_CAP);
+	}
+
+	/**
+	 * @param initialCapacity 초기 용량 (2의 거듭제곱으로 올림)
+	 */
+	public RingListDequeEx(int initialCapacity) {
+		int cap = DEFAULT_CAP;
+		while (cap < initialCapacity && cap < MAX_CAP) cap <<= 1;
+		elements = new Object[cap];
+	}
+
+	private int phys(int index) {
+		return (head + index) & (elements.length - 1);
+	}
+
+	// ============ MyDeque API ============
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void addFirst(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		if (size == elements.length) grow();
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = value;
+		size++; modCount++;
+	}
+
+	@Override
+	public boolean offerFirst(T value) {
+		addFirst(value);
+		return true;
+	}
+
+	@Override
+	public void addLast(T value) {
+		if (value == null) throw new NullPointerException("null not allowed");
+		if (size == elements.length) grow();
+		elements[phys(size)] = value;
+		size++; modCount++;
+	}
+
+	@Override
+	public boolean offerLast(T value) {
+		addLast(value);
+		return true;
+	}
+
+	@Override
+	public T removeFirst() {
+		T v = pollFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pollFirst() {
+		if (size == 0) return null;
+		T v = (T) elements[head];
+		elements[head] = null;
+		head = (head + 1) & (elements.length - 1);
+		size--; modCount++;
+		return v;
+	}
+
+	@Override
+	public T removeLast() {
+		T v = pollLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pollLast() {
+		if (size == 0) return null;
+		int i = phys(size - 1);
+		T v = (T) elements[i];
+		elements[i] = null;
+		size--; modCount++;
+		return v;
+	}
+
+	@Override
+	public T getFirst() {
+		T v = peekFirst();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekFirst() {
+		return size == 0 ? null : (T) elements[head];
+	}
+
+	@Override
+	public T getLast() {
+		T v = peekLast();
+		if (v == null) throw new NoSuchElementException();
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peekLast() {
+		return size == 0 ? null : (T) elements[phys(size - 1)];
+	}
+
+	@Override public void push(T value) { addFirst(value); }
+	@Override public T pop() { return removeFirst(); }
+	@Override public T peek() { return peekFirst(); }
+
+	@Override
+	public boolean contains(T value) {
+		if (value == null) return false;
+		for (int i = 0; i < size; i++) {
+			if (value.equals(elements[phys(i)])) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < size; i++) elements[phys(i)] = null;
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	// ============ MyList API ============
+
+	/** {@link #addLast(Object)}와 동일 */
+	@Override
+	public void add(T value) { addLast(value); }
+
+	@Override
+	public void add(int index, T value) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+		if (value == null) throw new NullPointerException("null not allowed");
+		if (size == elements.length) grow();
+		int mask = elements.length - 1;
+		if (index < size - index) {
+			// 앞쪽 index개를 한 칸 앞으로 당김
+			int newHead = (head - 1) & mask;
+			moveDown(head, newHead, index);
+			head = newHead;
+		} else {
+			// 뒤쪽 size-index개를 한 칸 뒤로 밈
+			int p = phys(index);
+			moveUp(p, (p + 1) & mask, size - index);
+		}
+		elements[phys(index)] = value;
+		size++; modCount++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		checkIndex(index);
+		return (T) elements[phys(index)];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T set(int index, T value) {
+		checkIndex(index);
+		if (value == null) throw new NullPointerException("null not allowed");
+		int p = phys(index);
+		T old = (T) elements[p];
+		elements[p] = value;
+		return old;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T remove(int index) {
+		checkIndex(index);
+		int mask = elements.length - 1;
+		int p = phys(index);
+		T v = (T) elements[p];
+		int after = size - 1 - index;
+		if (index < after) {
+			// 앞쪽 index개를 한 칸 뒤로 밀고 head 전진
+			moveUp(head, (head + 1) & mask, index);
+			elements[head] = null;
+			head = (head + 1) & mask;
+		} else {
+			// 뒤쪽 after개를 한 칸 앞으로 당김
+			moveDown((p + 1) & mask, p, after);
+			elements[phys(size - 1)] = null;
+		}
+		size--; modCount++;
+		return v;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+	}
+
+	// ============ 원형 구간 이동 ============
+
+	/** 물리 위치 src부터 len개를 dst(= src-1)로 이동. 앞에서부터 복사 */
+	private void moveDown(int src, int dst, int len) {
+		Object[] a = elements;
+		int cap = a.length, mask = cap - 1;
+		while (len > 0) {
+			int n = Math.min(len, Math.min(cap - src, cap - dst));
+			System.arraycopy(a, src, a, dst, n);
+			src = (src + n) & mask;
+			dst = (dst + n) & mask;
+			len -= n;
+		}
+	}
+
+	/** 물리 위치 src부터 len개를 dst(= src+1)로 이동. 뒤에서부터 복사 */
+	private void moveUp(int src, int dst, int len) {
+		Object[] a = elements;
+		int mask = a.length - 1;
+		while (len > 0) {
+			int srcLast = (src + len - 1) & mask;
+			int dstLast = (dst + len - 1) & mask;
+			int n = Math.min(len, Math.min(srcLast + 1, dstLast + 1));
+			System.arraycopy(a, srcLast - n + 1, a, dstLast - n + 1, n);
+			len -= n;
+		}
+	}
+
+	/** 2배 확장: head부터 size개를 0..size-1로 펼쳐 복사 */
+	private void grow() {
+		int old = elements.length;
+		if (old >= MAX_CAP) throw new OutOfMemoryError("Required array size too large");
+		Object[] newArr = new Object[old << 1];
+		int firstPart = Math.min(size, old - head);
+		System.arraycopy(elements, head, newArr, 0, firstPart);
+		System.arraycopy(elements, 0, newArr, firstPart, size - firstPart);
+		elements = newArr;
+		head = 0;
+	}
+
+	// ============ 벌크/역방향 ============
+
+	@Override
+	public Object[] toArray() {
+		Object[] out = new Object[size];
+		int firstPart = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, out, 0, firstPart);
+		System.arraycopy(elements, 0, out, firstPart, size - firstPart);
+		return out;
+	}
+
+	@Override
+	public Object[] toArrayReversed() {
+		Object[] out = new Object[size];
+		for (int i = 0, j = size - 1; i < size; i++, j--) out[j] = elements[phys(i)];
+		return out;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Itr(false);
+	}
+
+	@Override
+	public Iterator<T> descendingIterator() {
+		return new Itr(true);
+	}
+
+	// ============ Iterator (정/역방향, fail-fast) ============
+	private final class Itr implements Iterator<T> {
+		private final boolean descending;
+		private final int expectedMod = modCount;
+		private int seen;
+
+		Itr(boolean descending) { this.descending = descending; }
+
+		@Override
+		public boolean hasNext() {
+			checkForComod();
+			return seen < size;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			checkForComod();
+			if (seen >= size) throw new NoSuchElementException();
+			int index = descending ? size - 1 - seen : seen;
+			seen++;
+			return (T) elements[phys(index)];
+		}
+
+		private void checkForComod() {
+			if (expectedMod != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			sb.append(elements[phys(i)]);
+			if (i + 1 < size) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,139 @@
+package linear.deque.internal;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.BinaryOperator;
+
+import linear.deque.SlidingAggregator;
+
+/**
+ * <h1>두 스택(two-stack) 슬라이딩 윈도 집계기</h1>
+ *
+ * <p>큐를 두 스택으로 구현하는 방식 그대로, 새 원소는 <b>back</b> 스택에 쌓으며 전체 누적값
+ * {@code backAgg}를 갱신하고, 오래된 원소는 <b>front</b> 스택에서 꺼냅니다. front가 비면 back을
+ * 뒤집어 옮기면서 각 칸에 "그 원소부터 front 끝까지"의 접미(suffix) 누적값을 저장합니다.
+ * 질의는 {@code op(front 꼭대기 누적값, backAgg)} 한 번이면 됩니다.</p>
+ *
+ * <ul>
+ *   <li>push/evict: 분할상환 O(1) (각 원소는 한 번만 옮겨짐), 연산자 호출도 분할상환 O(1)회</li>
+ *   <li>aggregate: O(1) (연산자 1회)</li>
+ *   <li>역연산 불필요, 교환 법칙 불필요 (결합 법칙만 필요)</li>
+ *   <li>스레드-세이프 아님</li>
+ * </ul>
+ *
+ * @param <T> 원소(및 집계) 타입
+ */
+public final class SlidingAggregatorEx<T> implements SlidingAggregator<T> {
+
+	private static final int DEFAULT_CAP = 16;
+
+	private final T identity;
+	private final BinaryOperator<T> op;
+
+	// back 스택: 원소와 타임스탬프 (bottom = 가장 오래된 것)
+	private Object[] backValues = new Object[DEFAULT_CAP];
+	private long[] backStamps = new long[DEFAULT_CAP];
+	private int backSize;
+	private T backAgg;
+
+	// front 스택: 원소, 타임스탬프, 접미 누적값 (top = 가장 오래된 것)
+	private Object[] frontValues = new Object[DEFAULT_CAP];
+	private Object[] frontAggs = new Object[DEFAULT_CAP];
+	private long[] frontStamps = new long[DEFAULT_CAP];
+	private int frontSize;
+
+	private long lastTimestamp = Long.MIN_VALUE;
+
+	public SlidingAggregatorEx(T identity, BinaryOperator<T> op) {
+		if (op == null) throw new NullPointerException("op");
+		this.identity = identity;
+		this.op = op;
+		this.backAgg = identity;
+	}
+
+	@Override
+	public void push(T value, long timestamp) {
+		if (timestamp < lastTimestamp) throw new IllegalArgumentException("timestamp went backwards");
+		lastTimestamp = timestamp;
+		if (backSize == backValues.length) {
+			int cap = backSize << 1;
+			backValues = Arrays.copyOf(backValues, cap);
+			backStamps = Arrays.copyOf(backStamps, cap);
+		}
+		backValues[backSize] = value;
+		backStamps[backSize] = timestamp;
+		backSize++;
+		backAgg = op.apply(backAgg, value);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T evictOldest() {
+		if (frontSize == 0) {
+			if (backSize == 0) throw new NoSuchElementException("window is empty");
+			flip();
+		}
+		int top = --frontSize;
+		T v = (T) frontValues[top];
+		frontValues[top] = null; // GC 도움
+		frontAggs[top] = null;
+		return v;
+	}
+
+	@Override
+	public void evictOlderThan(long t) {
+		while (true) {
+			if (frontSize == 0) {
+				if (backSize == 0 || backStamps[0] >= t) return;
+				flip();
+			}
+			if (frontStamps[frontSize - 1] >= t) return;
+			evictOldest();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T aggregate() {
+		if (frontSize == 0) return backAgg;
+		return op.apply((T) frontAggs[frontSize - 1], backAgg);
+	}
+
+	@Override public int size() { return frontSize + backSize; }
+	@Override public boolean isEmpty() { return frontSize + backSize == 0; }
+
+	@Override
+	public void clear() {
+		Arrays.fill(backValues, 0, backSize, null);
+		Arrays.fill(frontValues, 0, frontSize, null);
+		Arrays.fill(frontAggs, 0, frontSize, null);
+		backSize = frontSize = 0;
+		backAgg = identity;
+		lastTimestamp = Long.MIN_VALUE;
+	}
+
+	/** back 전체를 front로 옮기며 접미 누적값을 계산 (front가 비어 있을 때만 호출) */
+	@SuppressWarnings("unchecked")
+	private void flip() {
+		int n = backSize;
+		if (frontValues.length < n) {
+			int cap = Math.max(n, frontValues.length << 1);
+			frontValues = new Object[cap];
+			frontAggs = new Object[cap];
+			frontStamps = new long[cap];
+		}
+		T agg = identity;
+		// back의 top(최신)부터 내려가며 front의 bottom부터 채움 → front top = 가장 오래된 것
+		for (int i = n - 1, j = 0; i >= 0; i--, j++) {
+			T v = (T) backValues[i];
+			agg = op.apply(v, agg);
+			frontValues[j] = v;
+			frontAggs[j] = agg;
+			frontStamps[j] = backStamps[i];
+			backValues[i] = null;
+		}
+		frontSize = n;
+		backSize = 0;
+		backAgg = identity;
+	}
+}
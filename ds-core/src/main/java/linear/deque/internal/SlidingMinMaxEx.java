@@ -0,0 +1,114 @@
+package linear.deque.internal;
+
+import java.util.NoSuchElementException;
+
+import linear.deque.SlidingMinMax;
+
+/**
+ * <h1>단조(monotonic) Deque 기반 슬라이딩 최솟값/최댓값</h1>
+ *
+ * <p>최솟값용 Deque에는 값이 앞→뒤로 <b>증가</b>하는 후보만, 최댓값용 Deque에는 <b>감소</b>하는 후보만
+ * 남깁니다. 새 샘플보다 나쁜 후보는 앞으로도 답이 될 수 없으므로 뒤에서 버립니다.
+ * 각 샘플은 두 Deque에 최대 한 번씩 들어가고 나오므로 push/evict는 분할상환 O(1),
+ * {@code min()/max()}는 앞 원소 조회라 O(1)입니다.</p>
+ *
+ * <h2>저장소</h2>
+ * <p>{@link ArrayDequeEx}와 같은 원형 버퍼를 쓰되, 샘플마다 박싱하지 않도록 값은 {@code double[]},
+ * 타임스탬프는 {@code long[]} 병렬 배열에 둡니다. 용량은 2의 거듭제곱으로 유지해 {@code & mask}로 인덱싱합니다.</p>
+ *
+ * <h2>기타</h2>
+ * - 창에 남은 샘플 수는 보관하지 않음 (후보만 보관하므로 메모리는 후보 수에 비례)<br>
+ * - 스레드-세이프 아님
+ */
+public final class SlidingMinMaxEx implements SlidingMinMax {
+
+	/** (값, 타임스탬프) 원형 버퍼 */
+	private static final class Ring {
+		double[] values;
+		long[] stamps;
+		int head;
+		int size;
+
+		Ring(int capacity) {
+			values = new double[capacity];
+			stamps = new long[capacity];
+		}
+
+		int last() { return (head + size - 1) & (values.length - 1); }
+
+		void addLast(double v, long ts) {
+			if (size == values.length) grow();
+			int i = (head + size) & (values.length - 1);
+			values[i] = v;
+			stamps[i] = ts;
+			size++;
+		}
+
+		void removeFirst() {
+			head = (head + 1) & (values.length - 1);
+			size--;
+		}
+
+		private void grow() {
+			int old = values.length;
+			double[] nv = new double[old << 1];
+			long[] ns = new long[old << 1];
+			int firstPart = Math.min(size, old - head);
+			System.arraycopy(values, head, nv, 0, firstPart);
+			System.arraycopy(values, 0, nv, firstPart, size - firstPart);
+			System.arraycopy(stamps, head, ns, 0, firstPart);
+			System.arraycopy(stamps, 0, ns, firstPart, size - firstPart);
+			values = nv;
+			stamps = ns;
+			head = 0;
+		}
+	}
+
+	private static final int DEFAULT_CAP = 16;
+
+	private final Ring minQ = new Ring(DEFAULT_CAP); // 값 증가 순
+	private final Ring maxQ = new Ring(DEFAULT_CAP); // 값 감소 순
+	private long lastTimestamp = Long.MIN_VALUE;
+
+	@Override
+	public void push(double value, long timestamp) {
+		if (Double.isNaN(value)) throw new IllegalArgumentException("NaN not allowed");
+		if (timestamp < lastTimestamp) throw new IllegalArgumentException("timestamp went backwards");
+		lastTimestamp = timestamp;
+
+		// 같은 값이면 최신 샘플이 더 오래 살아남으므로 기존 후보를 버림
+		while (minQ.size > 0 && minQ.values[minQ.last()] >= value) minQ.size--;
+		minQ.addLast(value, timestamp);
+		while (maxQ.size > 0 && maxQ.values[maxQ.last()] <= value) maxQ.size--;
+		maxQ.addLast(value, timestamp);
+	}
+
+	@Override
+	public void evictOlderThan(long t) {
+		while (minQ.size > 0 && minQ.stamps[minQ.head] < t) minQ.removeFirst();
+		while (maxQ.size > 0 && maxQ.stamps[maxQ.head] < t) maxQ.removeFirst();
+	}
+
+	@Override
+	public double min() {
+		if (minQ.size == 0) throw new NoSuchElementException("window is empty");
+		return minQ.values[minQ.head];
+	}
+
+	@Override
+	public double max() {
+		if (maxQ.size == 0) throw new NoSuchElementException("window is empty");
+		return maxQ.values[maxQ.head];
+	}
+
+	/** 마지막 샘플은 항상 두 Deque 모두에 남으므로, 후보가 없으면 창도 비어 있음 */
+	@Override
+	public boolean isEmpty() { return minQ.size == 0; }
+
+	@Override
+	public void clear() {
+		minQ.head = minQ.size = 0;
+		maxQ.head = maxQ.size = 0;
+		lastTimestamp = Long.MIN_VALUE;
+	}
+}
@@ -0,0 +1,24 @@
+package linear.queue;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 박싱 없이 {@code int}를 저장하는 큐입니다.
+ *
+ * <p>{@code enqueueInt/dequeueInt/peekInt}는 연산마다 객체를 할당하지 않습니다.
+ * 박싱 {@code enqueue(null)}은 {@link NullPointerException}을 던집니다.</p>
+ */
+public interface IntQueue extends MyQueue<Integer> {
+
+	/** 뒤에 삽입 */
+	void enqueueInt(int value);
+
+	/** 앞에서 제거+반환. 비어있으면 {@link java.util.NoSuchElementException} */
+	int dequeueInt();
+
+	/** 앞(헤드) 조회(제거X). 비어있으면 {@link java.util.NoSuchElementException} */
+	int peekInt();
+
+	/** head→tail 순서로 박싱 없이 순회 */
+	void forEachInt(IntConsumer action);
+}
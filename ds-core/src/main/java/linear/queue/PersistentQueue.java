@@ -0,0 +1,24 @@
+package linear.queue;
+
+/**
+ * 불변(persistent) 큐입니다.
+ *
+ * <p>{@link #enqueue(Object)}/{@link #dequeue()}는 자신을 바꾸지 않고 <b>새 버전</b>을 반환하며,
+ * 버전 간에 구조를 공유합니다. 모든 연산은 (분할상환이 아닌) <b>최악 O(1)</b>이므로,
+ * 같은 버전에서 여러 번 분기해도 비용이 한 번에 몰리지 않습니다.</p>
+ *
+ * @param <T> 원소 타입 (null 허용)
+ */
+public interface PersistentQueue<T> extends Iterable<T> {
+	int size();
+	boolean isEmpty();
+
+	/** value를 뒤에 추가한 새 큐 */
+	PersistentQueue<T> enqueue(T value);
+
+	/** 앞 원소를 제거한 새 큐. 비어있으면 {@link java.util.NoSuchElementException} */
+	PersistentQueue<T> dequeue();
+
+	/** 앞(헤드) 조회. 비어있으면 {@link java.util.NoSuchElementException} */
+	T peek();
+}
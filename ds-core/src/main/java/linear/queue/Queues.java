@@ -1,6 +1,9 @@
 package linear.queue;
 
+import linear.queue.internal.ArenaQueueEx;
+import linear.queue.internal.IntQueueEx;
 import linear.queue.internal.LinkedQueueEx;
+import linear.queue.internal.PersistentQueueEx;
 import linear.queue.internal.ArrayQueueEx;
 
 public final class Queues {
@@ -20,4 +23,19 @@ public final class Queues {
 	public static <T> MyQueue<T> linked() {
 		return new LinkedQueueEx<>();
 	}
+
+	/** 노드 객체 없이 int 슬롯 배열로 연결하는 Queue (GC 추적 객체 수 상수) */
+	public static <T> MyQueue<T> arena() {
+		return new ArenaQueueEx<>();
+	}
+
+	/** 박싱 없는 int 큐 (2의 거듭제곱 원형 배열) */
+	public static IntQueue ofInt() {
+		return new IntQueueEx();
+	}
+
+	/** 불변 실시간 큐 (Okasaki, 모든 연산 최악 O(1), 버전 간 구조 공유) */
+	public static <T> PersistentQueue<T> persistent() {
+		return PersistentQueueEx.empty();
+	}
 }
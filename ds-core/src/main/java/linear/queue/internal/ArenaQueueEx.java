@@ -0,0 +1,149 @@
+package linear.queue.internal;
+
+import linear.queue.MyQueue;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 노드 아레나(struct-of-arrays) 기반 연결 Queue (FIFO)
+ * - {@link LinkedQueueEx}의 Node 객체 대신 슬롯 번호로 연결
+ * - 값은 {@code items[]}, 다음 슬롯은 {@code next[]}, 빈 슬롯은 int free-list
+ *
+ * <h2>시간 복잡도</h2>
+ * enqueue: O(1) (슬롯 부족 시 배열 2배 확장, 분할상환)
+ * dequeue: O(1)
+ * peek: O(1)
+ * clear: O(사용된 슬롯 수)
+ *
+ * <h2>특징</h2>
+ * - 원소 수와 무관하게 GC가 추적할 객체는 배열 2개뿐
+ * - null 값 허용
+ * - fail-fast iterator 지원
+ */
+public final class ArenaQueueEx<T> implements MyQueue<T> {
+
+	private static final int NIL = -1;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] items;
+	private int[] next;     // 사용 중 슬롯: 다음 노드, 빈 슬롯: free-list 다음 칸
+
+	private int head = NIL;
+	private int tail = NIL;
+	private int free = NIL; // free-list 머리
+	private int used;       // 한 번이라도 쓰인 슬롯 수
+	private int size;
+	private int modCount;
+
+	public ArenaQueueEx() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ArenaQueueEx(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		int cap = Math.max(initialCapacity, 1);
+		items = new Object[cap];
+		next = new int[cap];
+	}
+
+	@Override
+	public int size() { return size; }
+
+	@Override
+	public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void enqueue(T value) {
+		int n = free;
+		if (n != NIL) {
+			free = next[n];
+		} else {
+			if (used == items.length) grow();
+			n = used++;
+		}
+		items[n] = value;
+		next[n] = NIL;
+		if (tail == NIL) { // 비어있을 때
+			head = tail = n;
+		} else {
+			next[tail] = n;
+			tail = n;
+		}
+		size++;
+		modCount++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T dequeue() {
+		if (isEmpty()) throw new NoSuchElementException("queue is empty");
+		int n = head;
+		T v = (T) items[n];
+		head = next[n];
+		if (head == NIL) tail = NIL; // 마지막 요소 제거 시 tail도 비움
+		items[n] = null; // help GC
+		next[n] = free;
+		free = n;
+		size--;
+		modCount++;
+		return v;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peek() {
+		if (isEmpty()) throw new NoSuchElementException("queue is empty");
+		return (T) items[head];
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(items, 0, used, null);
+		head = tail = free = NIL;
+		used = 0;
+		size = 0;
+		modCount++;
+	}
+
+	private void grow() {
+		int old = items.length;
+		if (old >= Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Required array size too large");
+		int cap = (int) Math.min((long) old * 2L, Integer.MAX_VALUE - 8);
+		items = Arrays.copyOf(items, cap);
+		next = Arrays.copyOf(next, cap);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final int expected = modCount;
+		return new Iterator<T>() {
+			int cur = head;
+
+			@Override
+			public boolean hasNext() { return cur != NIL; }
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (expected != modCount) throw new ConcurrentModificationException();
+				if (cur == NIL) throw new NoSuchElementException();
+				T v = (T) items[cur];
+				cur = next[cur];
+				return v;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int n = head; n != NIL; n = next[n]) {
+			sb.append(items[n]);
+			if (next[n] != NIL) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,131 @@
+package linear.queue.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+import linear.queue.IntQueue;
+
+/**
+ * <h1>int[] 원형 버퍼 큐 (FIFO, 박싱 없음)</h1>
+ * <p>용량을 2의 거듭제곱으로 유지해 인덱스 계산을 {@code & mask}로 처리합니다.
+ * {@code enqueueInt/dequeueInt/peekInt}는 확장 시점을 제외하면 할당이 없습니다.</p>
+ *
+ * <h2>시간 복잡도</h2>
+ * enqueueInt: amortized O(1) / dequeueInt: O(1) / peekInt: O(1) / clear: O(1)
+ *
+ * <h2>기타</h2>
+ * - fail-fast iterator (박싱 발생, 박싱 없는 순회는 {@link #forEachInt(IntConsumer)})
+ * - 스레드-세이프 아님
+ */
+public final class IntQueueEx implements IntQueue {
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private int[] elements;
+	private int mask;
+	private int head;      // 다음에 꺼낼 위치
+	private int size;
+	private int modCount;
+
+	public IntQueueEx() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntQueueEx(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		int cap = DEFAULT_CAPACITY;
+		while (cap < initialCapacity && cap < MAX_CAPACITY) cap <<= 1;
+		this.elements = new int[cap];
+		this.mask = cap - 1;
+	}
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void enqueueInt(int value) {
+		if (size == elements.length) grow();
+		elements[(head + size) & mask] = value;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public int dequeueInt() {
+		if (size == 0) throw new NoSuchElementException("queue is empty");
+		int v = elements[head];
+		head = (head + 1) & mask;
+		size--;
+		modCount++;
+		return v;
+	}
+
+	@Override
+	public int peekInt() {
+		if (size == 0) throw new NoSuchElementException("queue is empty");
+		return elements[head];
+	}
+
+	@Override
+	public void forEachInt(IntConsumer action) {
+		final int expected = modCount;
+		final int[] a = elements;
+		for (int i = 0, n = size; i < n; i++) {
+			action.accept(a[(head + i) & mask]);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	// ============ MyQueue API (박싱) ============
+
+	@Override public void enqueue(Integer value) { enqueueInt(value); }
+	@Override public Integer dequeue() { return dequeueInt(); }
+	@Override public Integer peek() { return peekInt(); }
+
+	@Override
+	public void clear() {
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/** 2배 확장: head부터 size개를 0..size-1로 펼쳐 복사 */
+	private void grow() {
+		int old = elements.length;
+		if (old >= MAX_CAPACITY) throw new OutOfMemoryError("Required array size too large");
+		int[] newArr = new int[old << 1];
+		int firstPart = Math.min(size, old - head);
+		System.arraycopy(elements, head, newArr, 0, firstPart);
+		System.arraycopy(elements, 0, newArr, firstPart, size - firstPart);
+		elements = newArr;
+		mask = newArr.length - 1;
+		head = 0;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		final int expected = modCount;
+		return new Iterator<Integer>() {
+			int i = 0;
+			@Override public boolean hasNext() { return i < size; }
+			@Override public Integer next() {
+				if (expected != modCount) throw new ConcurrentModificationException();
+				if (i >= size) throw new NoSuchElementException();
+				return elements[(head + i++) & mask];
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			sb.append(elements[(head + i) & mask]);
+			if (i + 1 < size) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,180 @@
+package linear.queue.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import linear.queue.PersistentQueue;
+
+/**
+ * <h1>Okasaki 실시간(real-time) 불변 큐</h1>
+ *
+ * <p>앞쪽은 <b>지연 스트림</b>(front), 뒤쪽은 역순 cons 리스트(rear)로 보관합니다.
+ * {@code |rear|}가 {@code |front|}를 넘는 순간 {@code front ++ reverse(rear)}를 만드는
+ * 회전(rotate)을 <b>지연 스트림으로</b> 시작하고, 매 연산마다 스케줄(schedule) 스트림의 셀을
+ * 하나씩 강제(force)해 회전 비용을 나눠 냅니다. 그래서 어떤 버전에서 몇 번을 분기하더라도
+ * 각 연산이 최악 O(1)입니다. (Okasaki, <i>Purely Functional Data Structures</i>, 7.2절)</p>
+ *
+ * <h2>불변식</h2>
+ * <ul>
+ *   <li>{@code |schedule| = |front| - |rear|} (따라서 {@code |rear| <= |front|})</li>
+ *   <li>schedule은 front의 접미부이므로, front의 셀은 도달하기 전에 이미 강제되어 있음</li>
+ * </ul>
+ *
+ * <h2>기타</h2>
+ * - 스트림 셀의 메모이제이션은 CAS로 한 번만 기록되므로 여러 스레드가 같은 버전을 공유해도 안전<br>
+ * - iterator: head→tail 순서, 불변이므로 fail-fast 검사 불필요
+ *
+ * @param <T> 원소 타입 (null 허용)
+ */
+public final class PersistentQueueEx<T> implements PersistentQueue<T> {
+
+	/** 평가된 스트림 셀. NIL이면 빈 스트림 */
+	private static final class Cell<T> {
+		final T head;
+		final Stream<T> tail;
+		Cell(T head, Stream<T> tail) { this.head = head; this.tail = tail; }
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final Cell NIL = new Cell<>(null, null);
+
+	/** 메모이제이션되는 지연 스트림: state는 Supplier(미평가) 또는 Cell(평가됨) */
+	private static final class Stream<T> {
+		private static final VarHandle STATE;
+		static {
+			try {
+				STATE = MethodHandles.lookup().findVarHandle(Stream.class, "state", Object.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private volatile Object state;
+
+		Stream(Supplier<Cell<T>> thunk) { this.state = thunk; }
+		Stream(Cell<T> cell) { this.state = cell; }
+
+		@SuppressWarnings("unchecked")
+		Cell<T> force() {
+			Object s = state;
+			if (s instanceof Cell) return (Cell<T>) s;
+			Cell<T> c = ((Supplier<Cell<T>>) s).get();
+			// 먼저 기록한 쪽을 채택해 모든 버전이 같은 꼬리 스트림을 공유하도록 함
+			Object witness = STATE.compareAndExchange(this, s, c);
+			return witness == s ? c : (Cell<T>) witness;
+		}
+	}
+
+	/** 뒤쪽(역순) 엄격 리스트 */
+	private static final class Cons<T> {
+		final T head;
+		final Cons<T> tail;
+		Cons(T head, Cons<T> tail) { this.head = head; this.tail = tail; }
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static final Stream EMPTY_STREAM = new Stream<>(NIL);
+
+	@SuppressWarnings("unchecked")
+	private static final PersistentQueueEx<?> EMPTY = new PersistentQueueEx<>(EMPTY_STREAM, null, EMPTY_STREAM, 0);
+
+	private final Stream<T> front;
+	private final Cons<T> rear;
+	private final Stream<T> schedule;
+	private final int size;
+
+	private PersistentQueueEx(Stream<T> front, Cons<T> rear, Stream<T> schedule, int size) {
+		this.front = front;
+		this.rear = rear;
+		this.schedule = schedule;
+		this.size = size;
+	}
+
+	/** 빈 큐 (공유 싱글턴) */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentQueueEx<T> empty() {
+		return (PersistentQueueEx<T>) EMPTY;
+	}
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public PersistentQueueEx<T> enqueue(T value) {
+		return exec(front, new Cons<>(value, rear), schedule, size + 1);
+	}
+
+	@Override
+	public PersistentQueueEx<T> dequeue() {
+		if (size == 0) throw new NoSuchElementException("queue is empty");
+		return exec(front.force().tail, rear, schedule, size - 1);
+	}
+
+	@Override
+	public T peek() {
+		if (size == 0) throw new NoSuchElementException("queue is empty");
+		return front.force().head;
+	}
+
+	/** 스케줄 셀을 하나 강제하거나, 스케줄이 바닥났으면 회전을 시작 */
+	@SuppressWarnings("unchecked")
+	private static <T> PersistentQueueEx<T> exec(Stream<T> f, Cons<T> r, Stream<T> s, int size) {
+		Cell<T> sc = s.force();
+		if (sc != NIL) return new PersistentQueueEx<>(f, r, sc.tail, size);
+		// 여기서 |r| = |f| + 1 이므로 r은 null이 아님
+		Stream<T> rotated = rotate(f, r, (Stream<T>) EMPTY_STREAM);
+		return new PersistentQueueEx<>(rotated, null, rotated, size);
+	}
+
+	/** f ++ reverse(r) ++ acc 를 셀 하나씩 지연 생성 (전제: |r| = |f| + 1) */
+	private static <T> Stream<T> rotate(Stream<T> f, Cons<T> r, Stream<T> acc) {
+		return new Stream<>(() -> {
+			Cell<T> fc = f.force();
+			if (fc == NIL) return new Cell<>(r.head, acc);
+			return new Cell<>(fc.head, rotate(fc.tail, r.tail, new Stream<>(new Cell<>(r.head, acc))));
+		});
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			Stream<T> cur = front;
+			Object[] rearItems;   // front를 다 돈 뒤 rear를 순서대로 펼친 배열
+			int rearIndex;
+			int remaining = size;
+
+			@Override public boolean hasNext() { return remaining > 0; }
+
+			@SuppressWarnings("unchecked")
+			@Override public T next() {
+				if (remaining <= 0) throw new NoSuchElementException();
+				remaining--;
+				if (rearItems == null) {
+					Cell<T> c = cur.force();
+					if (c != NIL) {
+						cur = c.tail;
+						return c.head;
+					}
+					rearItems = new Object[remaining + 1];
+					int i = rearItems.length;
+					for (Cons<T> n = rear; n != null; n = n.tail) rearItems[--i] = n.head;
+				}
+				return (T) rearItems[rearIndex++];
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		Iterator<T> it = iterator();
+		while (it.hasNext()) {
+			sb.append(it.next());
+			if (it.hasNext()) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,18 @@
+package linear.ring;
+
+/**
+ * {@link SequenceBarrier}에 경보(alert)가 걸렸을 때 대기 중인 소비자에게 던져지는 예외입니다.
+ * 주로 {@link BatchEventProcessor#halt()}로 처리 루프를 멈출 때 사용됩니다.
+ * 제어 흐름 용도이므로 스택 트레이스를 채우지 않습니다.
+ */
+public final class AlertException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	/** 공유 인스턴스 (스택 트레이스 없음) */
+	public static final AlertException INSTANCE = new AlertException();
+
+	private AlertException() {
+		super("barrier alerted", null, false, false);
+	}
+}
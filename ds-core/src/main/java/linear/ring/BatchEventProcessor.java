@@ -0,0 +1,83 @@
+package linear.ring;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 배리어가 열어 준 구간을 한 번에(배치로) 처리하는 소비자 루프입니다.
+ *
+ * <p>처리한 위치는 {@link #sequence()}로 공개되며, 다음 단계의 배리어나
+ * 생산자의 gating 시퀀스로 연결합니다.</p>
+ *
+ * <pre>{@code
+ * RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 1024, WaitStrategies.yielding());
+ * BatchEventProcessor<LongEvent> journal = new BatchEventProcessor<>(rb, rb.newBarrier(), journalHandler);
+ * BatchEventProcessor<LongEvent> logic   = new BatchEventProcessor<>(rb, rb.newBarrier(journal.sequence()), logicHandler);
+ * rb.addGatingSequences(logic.sequence());
+ * }</pre>
+ *
+ * @param <E> 이벤트 타입
+ */
+public final class BatchEventProcessor<E> implements Runnable {
+
+	private final RingBuffer<E> ringBuffer;
+	private final SequenceBarrier barrier;
+	private final EventHandler<? super E> handler;
+	private final Sequence sequence = new Sequence();
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public BatchEventProcessor(RingBuffer<E> ringBuffer, SequenceBarrier barrier, EventHandler<? super E> handler) {
+		if (ringBuffer == null || barrier == null || handler == null) throw new NullPointerException();
+		this.ringBuffer = ringBuffer;
+		this.barrier = barrier;
+		this.handler = handler;
+	}
+
+	/** @return 이 프로세서가 처리를 마친 마지막 시퀀스 */
+	public Sequence sequence() {
+		return sequence;
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	/** 처리 루프를 멈춥니다. 현재 배치를 마친 뒤 {@link #run()}이 반환됩니다. */
+	public void halt() {
+		running.set(false);
+		barrier.alert();
+	}
+
+	/**
+	 * {@link #halt()}가 호출될 때까지 이벤트를 처리합니다.
+	 *
+	 * @throws IllegalStateException 이미 실행 중이거나, 핸들러가 예외를 던진 경우
+	 */
+	@Override
+	public void run() {
+		if (!running.compareAndSet(false, true)) throw new IllegalStateException("이미 실행 중입니다.");
+		barrier.clearAlert();
+		long next = sequence.get() + 1L;
+		try {
+			while (true) {
+				try {
+					long available = barrier.waitFor(next);
+					while (next <= available) {
+						handler.onEvent(ringBuffer.get(next), next, next == available);
+						next++;
+					}
+					sequence.set(next - 1L);
+				} catch (AlertException e) {
+					if (!running.get()) break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			// 실패한 이벤트 직전까지는 처리 완료로 공개해 생산자가 멈추지 않게 함
+			sequence.set(next - 1L);
+			throw new IllegalStateException("이벤트 처리 실패: sequence=" + next, e);
+		} finally {
+			running.set(false);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package linear.ring;
+
+/**
+ * {@link BatchEventProcessor}가 이벤트마다 호출하는 콜백입니다.
+ *
+ * @param <E> 이벤트 타입
+ */
+@FunctionalInterface
+public interface EventHandler<E> {
+
+	/**
+	 * @param event      링 버퍼 슬롯의 (재사용되는) 이벤트 객체. 콜백 밖으로 참조를 보관하면 안 됩니다.
+	 * @param sequence   이벤트의 시퀀스
+	 * @param endOfBatch 현재 읽을 수 있는 구간의 마지막 이벤트이면 {@code true} (배치 flush 시점)
+	 * @throws Exception 처리 실패 시. 프로세서가 중단됩니다.
+	 */
+	void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+}
@@ -0,0 +1,191 @@
+package linear.ring;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import linear.ring.internal.MultiProducerSequencer;
+import linear.ring.internal.SingleProducerSequencer;
+import linear.ring.internal.Sequencer;
+
+/**
+ * <h1>사전 할당 이벤트 링 (Disruptor 스타일)</h1>
+ *
+ * <p>{@code ArrayQueueEx}처럼 원소 객체를 넣고 빼는 대신, 생성 시점에 모든 슬롯의 이벤트 객체를
+ * 미리 만들어 두고 생산자가 슬롯을 <b>선점 → 제자리 수정 → 발행</b>하는 방식의 원형 버퍼입니다.
+ * 정상 경로에서 객체 할당이 전혀 없고, 슬롯 위치는 {@code sequence & mask} 한 번으로 계산됩니다.</p>
+ *
+ * <h2>구성 요소</h2>
+ * <ul>
+ *   <li><b>시퀀서</b>: 생산자 선점/발행 조율. 단일 생산자(CAS 없음) / 다중 생산자(CAS) 중 선택</li>
+ *   <li><b>{@link SequenceBarrier}</b>: 소비자가 읽을 수 있는 위치. 선행 단계 시퀀스에 의존 가능</li>
+ *   <li><b>{@link WaitStrategy}</b>: busy-spin / yield / park / blocking</li>
+ *   <li><b>gating 시퀀스</b>: 마지막 단계 소비자 위치. 생산자는 이를 한 바퀴 이상 앞지르지 않음</li>
+ * </ul>
+ *
+ * <h2>시간 복잡도</h2>
+ * next/publish/get: O(1), 할당 없음.
+ *
+ * <h2>예시</h2>
+ * <pre>{@code
+ * RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 1024, WaitStrategies.busySpin());
+ * long seq = rb.next();
+ * try {
+ *     rb.get(seq).value = 42;
+ * } finally {
+ *     rb.publish(seq);
+ * }
+ * }</pre>
+ *
+ * @param <E> 재사용되는 가변 이벤트 타입
+ * @since 1.0
+ */
+public final class RingBuffer<E> {
+
+	private final Object[] entries;
+	private final int mask;
+	private final Sequencer sequencer;
+
+	private RingBuffer(Supplier<? extends E> factory, Sequencer sequencer) {
+		if (factory == null) throw new NullPointerException("factory");
+		this.sequencer = sequencer;
+		int size = sequencer.bufferSize();
+		this.mask = size - 1;
+		this.entries = new Object[size];
+		for (int i = 0; i < size; i++) {
+			E e = factory.get();
+			if (e == null) throw new NullPointerException("factory returned null");
+			entries[i] = e;
+		}
+	}
+
+	/**
+	 * 단일 생산자용 링 버퍼를 생성합니다.
+	 *
+	 * @param factory    슬롯 이벤트 생성기 (생성 시점에 bufferSize번 호출)
+	 * @param bufferSize 슬롯 수 (2의 거듭제곱)
+	 * @param waitStrategy 소비자 대기 전략
+	 * @throws IllegalArgumentException bufferSize가 2의 거듭제곱이 아닌 경우
+	 */
+	public static <E> RingBuffer<E> singleProducer(Supplier<? extends E> factory, int bufferSize, WaitStrategy waitStrategy) {
+		return new RingBuffer<>(factory, new SingleProducerSequencer(bufferSize, waitStrategy));
+	}
+
+	/**
+	 * 다중 생산자용 링 버퍼를 생성합니다.
+	 *
+	 * @param factory    슬롯 이벤트 생성기 (생성 시점에 bufferSize번 호출)
+	 * @param bufferSize 슬롯 수 (2의 거듭제곱)
+	 * @param waitStrategy 소비자 대기 전략
+	 * @throws IllegalArgumentException bufferSize가 2의 거듭제곱이 아닌 경우
+	 */
+	public static <E> RingBuffer<E> multiProducer(Supplier<? extends E> factory, int bufferSize, WaitStrategy waitStrategy) {
+		return new RingBuffer<>(factory, new MultiProducerSequencer(bufferSize, waitStrategy));
+	}
+
+	// ============ 생산자 API ============
+
+	/** 슬롯 하나를 선점합니다. 공간이 없으면 가장 느린 소비자가 따라올 때까지 대기합니다. */
+	public long next() {
+		return sequencer.next(1);
+	}
+
+	/** 슬롯 {@code n}개를 한 번에 선점하고 마지막 시퀀스를 반환합니다. ({@code hi - n + 1}부터 사용) */
+	public long next(int n) {
+		return sequencer.next(n);
+	}
+
+	/** 슬롯 하나의 선점을 시도합니다. 공간이 없으면 {@code -1} */
+	public long tryNext() {
+		return sequencer.tryNext(1);
+	}
+
+	/** 슬롯 {@code n}개의 선점을 시도합니다. 공간이 없으면 {@code -1} */
+	public long tryNext(int n) {
+		return sequencer.tryNext(n);
+	}
+
+	/** 선점한 시퀀스를 발행합니다. 선점한 시퀀스는 예외가 나더라도 반드시 발행해야 합니다. */
+	public void publish(long sequence) {
+		sequencer.publish(sequence);
+	}
+
+	/** 선점한 구간 {@code [lo, hi]}를 발행합니다. */
+	public void publish(long lo, long hi) {
+		sequencer.publish(lo, hi);
+	}
+
+	/**
+	 * 선점 → 수정 → 발행을 한 번에 수행합니다.
+	 *
+	 * @param translator 슬롯 이벤트를 제자리에서 채우는 함수
+	 */
+	public void publishEvent(Consumer<? super E> translator) {
+		long seq = sequencer.next(1);
+		try {
+			translator.accept(get(seq));
+		} finally {
+			sequencer.publish(seq);
+		}
+	}
+
+	/**
+	 * 공간이 있을 때만 선점 → 수정 → 발행합니다.
+	 *
+	 * @return 발행했으면 {@code true}, 공간이 없었으면 {@code false}
+	 */
+	public boolean tryPublishEvent(Consumer<? super E> translator) {
+		long seq = sequencer.tryNext(1);
+		if (seq < 0) return false;
+		try {
+			translator.accept(get(seq));
+		} finally {
+			sequencer.publish(seq);
+		}
+		return true;
+	}
+
+	// ============ 공통 API ============
+
+	/** 시퀀스에 해당하는 슬롯의 이벤트 객체를 반환합니다. (O(1), 할당 없음) */
+	@SuppressWarnings("unchecked")
+	public E get(long sequence) {
+		return (E) entries[(int) sequence & mask];
+	}
+
+	/**
+	 * 소비자용 배리어를 생성합니다.
+	 *
+	 * @param dependents 선행 단계 시퀀스들. 비어 있으면 생산자 커서만 따릅니다.
+	 */
+	public SequenceBarrier newBarrier(Sequence... dependents) {
+		return new SequenceBarrier(sequencer, dependents);
+	}
+
+	/** 생산자가 앞지르면 안 되는 (마지막 단계) 소비자 시퀀스를 등록합니다. */
+	public void addGatingSequences(Sequence... sequences) {
+		sequencer.addGatingSequences(sequences);
+	}
+
+	/** @return 등록되어 있어 제거했으면 {@code true} */
+	public boolean removeGatingSequence(Sequence sequence) {
+		return sequencer.removeGatingSequence(sequence);
+	}
+
+	/** @return 마지막으로 선점된 시퀀스 (다중 생산자에서는 아직 발행 전일 수 있음) */
+	public long cursor() {
+		return sequencer.cursor().get();
+	}
+
+	public boolean isAvailable(long sequence) {
+		return sequencer.isAvailable(sequence);
+	}
+
+	public int bufferSize() {
+		return sequencer.bufferSize();
+	}
+
+	/** @return 대기 없이 선점 가능한 슬롯 수 */
+	public long remainingCapacity() {
+		return sequencer.remainingCapacity();
+	}
+}
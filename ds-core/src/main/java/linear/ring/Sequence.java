@@ -0,0 +1,85 @@
+package linear.ring;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * <h1>시퀀스 카운터 (캐시 라인 패딩)</h1>
+ *
+ * <p>생산자 커서, 소비자 진행 위치를 나타내는 단조 증가 {@code long} 값입니다.
+ * 앞/뒤를 7개의 {@code long}으로 채워 한 캐시 라인을 독점하도록 하여,
+ * 서로 다른 스레드가 갱신하는 시퀀스끼리 false sharing이 일어나지 않게 합니다.</p>
+ *
+ * <h2>메모리 의미</h2>
+ * <ul>
+ *   <li>{@link #get()}: acquire 읽기</li>
+ *   <li>{@link #set(long)}: release 쓰기 (StoreStore만 보장, 가장 저렴)</li>
+ *   <li>{@link #setVolatile(long)}: volatile 쓰기 (StoreLoad 포함)</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+public class Sequence extends SequencePadding {
+
+	/** 아직 아무것도 발행/처리되지 않은 상태의 초기 값 */
+	public static final long INITIAL_VALUE = -1L;
+
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private volatile long value;
+	protected long p9, p10, p11, p12, p13, p14, p15;
+
+	public Sequence() {
+		this(INITIAL_VALUE);
+	}
+
+	public Sequence(long initialValue) {
+		VALUE.setRelease(this, initialValue);
+	}
+
+	/** @return 현재 값 (acquire) */
+	public long get() {
+		return (long) VALUE.getAcquire(this);
+	}
+
+	/**
+	 * release 의미로 값을 기록합니다.
+	 * 이전의 모든 쓰기가 이 값보다 먼저 보이도록 보장합니다.
+	 */
+	public void set(long newValue) {
+		VALUE.setRelease(this, newValue);
+	}
+
+	/** volatile 의미(StoreLoad 포함)로 값을 기록합니다. */
+	public void setVolatile(long newValue) {
+		value = newValue;
+	}
+
+	/** @return 기대 값과 같을 때만 교체했으면 {@code true} */
+	public boolean compareAndSet(long expected, long newValue) {
+		return VALUE.compareAndSet(this, expected, newValue);
+	}
+
+	/** @return 1 증가시킨 뒤의 값 */
+	public long incrementAndGet() {
+		return addAndGet(1L);
+	}
+
+	/** @return {@code increment}만큼 증가시킨 뒤의 값 */
+	public long addAndGet(long increment) {
+		return (long) VALUE.getAndAdd(this, increment) + increment;
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString(get());
+	}
+}
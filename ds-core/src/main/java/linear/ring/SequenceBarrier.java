@@ -0,0 +1,69 @@
+package linear.ring;
+
+import linear.ring.internal.FixedSequenceGroup;
+import linear.ring.internal.Sequencer;
+
+/**
+ * 소비자가 읽어도 되는 위치를 알려주는 배리어입니다.
+ *
+ * <p>배리어는 생산자 커서와 (있다면) 선행 소비자 단계들의 시퀀스를 함께 봅니다.
+ * 예를 들어 "저널링 → 복제 → 비즈니스 로직" 파이프라인에서 비즈니스 로직 단계의 배리어는
+ * 저널링/복제 두 단계가 모두 처리한 위치까지만 열어 줍니다.</p>
+ *
+ * <p>인스턴스는 {@link RingBuffer#newBarrier(Sequence...)}로 생성합니다.</p>
+ */
+public final class SequenceBarrier {
+
+	private final Sequencer sequencer;
+	private final WaitStrategy waitStrategy;
+	private final Sequence cursor;
+	private final Sequence dependent;
+	private volatile boolean alerted;
+
+	SequenceBarrier(Sequencer sequencer, Sequence[] dependents) {
+		this.sequencer = sequencer;
+		this.waitStrategy = sequencer.waitStrategy();
+		this.cursor = sequencer.cursor();
+		this.dependent = dependents.length == 0 ? cursor : new FixedSequenceGroup(dependents);
+	}
+
+	/**
+	 * {@code sequence}를 읽을 수 있을 때까지 대기합니다.
+	 *
+	 * @param sequence 기다릴 시퀀스
+	 * @return 읽을 수 있는 가장 큰 시퀀스. 다중 생산자에서 중간 슬롯이 아직 발행되지 않았다면
+	 *         {@code sequence}보다 작을 수 있습니다(이 경우 다시 호출).
+	 * @throws AlertException 경보가 걸린 경우
+	 * @throws InterruptedException 대기 중 인터럽트된 경우
+	 */
+	public long waitFor(long sequence) throws AlertException, InterruptedException {
+		checkAlert();
+		long available = waitStrategy.waitFor(sequence, cursor, dependent, this);
+		if (available < sequence) return available;
+		return sequencer.highestPublished(sequence, available);
+	}
+
+	/** @return 선행 단계까지 반영한 현재 진행 위치 */
+	public long cursor() {
+		return dependent.get();
+	}
+
+	/** 경보를 걸고 블로킹 중인 대기자를 깨웁니다. */
+	public void alert() {
+		alerted = true;
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	public void clearAlert() {
+		alerted = false;
+	}
+
+	public boolean isAlerted() {
+		return alerted;
+	}
+
+	/** @throws AlertException 경보가 걸려 있으면 */
+	public void checkAlert() throws AlertException {
+		if (alerted) throw AlertException.INSTANCE;
+	}
+}
@@ -0,0 +1,9 @@
+package linear.ring;
+
+/**
+ * {@link Sequence} 값 앞쪽의 캐시 라인 패딩입니다.
+ * 상속 계층으로 필드 배치 순서를 고정해, 인접 객체와의 false sharing을 막습니다.
+ */
+abstract class SequencePadding {
+	protected long p1, p2, p3, p4, p5, p6, p7;
+}
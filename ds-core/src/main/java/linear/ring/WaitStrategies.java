@@ -0,0 +1,30 @@
+package linear.ring;
+
+import linear.ring.internal.BlockingWaitStrategy;
+import linear.ring.internal.BusySpinWaitStrategy;
+import linear.ring.internal.ParkingWaitStrategy;
+import linear.ring.internal.YieldingWaitStrategy;
+
+/**
+ * {@link WaitStrategy} 정적 팩토리입니다.
+ * 지연 시간이 낮은 순서: busySpin &lt; yielding &lt; parking &lt; blocking
+ * (CPU 사용량은 그 반대 순서).
+ */
+public final class WaitStrategies {
+	private WaitStrategies() {}
+
+	/** 코어 하나를 계속 점유하며 회전. 소비자 수 ≤ 물리 코어 수일 때만 권장 */
+	public static WaitStrategy busySpin() { return new BusySpinWaitStrategy(); }
+
+	/** 잠시 회전한 뒤 {@link Thread#yield()}로 양보 */
+	public static WaitStrategy yielding() { return new YieldingWaitStrategy(); }
+
+	/** 회전 → 양보 → {@code parkNanos} 순으로 단계적 후퇴 (기본 100µs) */
+	public static WaitStrategy parking() { return new ParkingWaitStrategy(); }
+
+	/** 회전 → 양보 → 지정한 나노초만큼 {@code parkNanos} */
+	public static WaitStrategy parking(long parkNanos) { return new ParkingWaitStrategy(parkNanos); }
+
+	/** 락 + 조건 변수로 대기. CPU를 가장 적게 쓰지만 지연 시간이 가장 김 */
+	public static WaitStrategy blocking() { return new BlockingWaitStrategy(); }
+}
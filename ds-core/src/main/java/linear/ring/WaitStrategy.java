@@ -0,0 +1,27 @@
+package linear.ring;
+
+/**
+ * 소비자가 원하는 시퀀스가 발행될 때까지 기다리는 방식입니다.
+ *
+ * <p>지연 시간과 CPU 사용량 사이의 트레이드오프를 선택하는 지점이며,
+ * 구현체는 {@link WaitStrategies}의 정적 팩토리로 얻습니다.</p>
+ */
+public interface WaitStrategy {
+
+	/**
+	 * {@code sequence}가 사용 가능해질 때까지 대기합니다.
+	 *
+	 * @param sequence  기다릴 시퀀스
+	 * @param cursor    링 버퍼의 생산자 커서
+	 * @param dependent 선행 단계의 진행 위치 (선행 단계가 없으면 {@code cursor})
+	 * @param barrier   경보 확인용 배리어
+	 * @return 사용 가능한 가장 큰 시퀀스 ({@code sequence}보다 클 수 있음)
+	 * @throws AlertException 배리어에 경보가 걸린 경우
+	 * @throws InterruptedException 대기 중 인터럽트된 경우
+	 */
+	long waitFor(long sequence, Sequence cursor, Sequence dependent, SequenceBarrier barrier)
+		throws AlertException, InterruptedException;
+
+	/** 블로킹 방식의 대기자를 깨웁니다. (블로킹하지 않는 전략은 아무 일도 하지 않음) */
+	void signalAllWhenBlocking();
+}
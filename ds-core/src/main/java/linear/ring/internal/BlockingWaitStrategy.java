@@ -0,0 +1,55 @@
+package linear.ring.internal;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import linear.ring.AlertException;
+import linear.ring.Sequence;
+import linear.ring.SequenceBarrier;
+import linear.ring.WaitStrategy;
+
+/**
+ * 락과 조건 변수로 생산자의 발행 신호를 기다리는 전략입니다.
+ * 발행할 때마다 생산자가 락을 잡으므로 처리량과 지연 시간은 가장 불리하지만,
+ * 대기 중 CPU를 전혀 쓰지 않습니다.
+ *
+ * <p>생산자 커서만 조건 변수로 기다리고, 선행 소비자 단계는 짧게 회전하며 기다립니다.
+ * (선행 단계는 신호를 보내지 않기 때문)</p>
+ */
+public final class BlockingWaitStrategy implements WaitStrategy {
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition published = lock.newCondition();
+
+	@Override
+	public long waitFor(long sequence, Sequence cursor, Sequence dependent, SequenceBarrier barrier)
+		throws AlertException, InterruptedException {
+		if (cursor.get() < sequence) {
+			lock.lock();
+			try {
+				while (cursor.get() < sequence) {
+					barrier.checkAlert();
+					published.await();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+		long available;
+		while ((available = dependent.get()) < sequence) {
+			barrier.checkAlert();
+			Thread.onSpinWait();
+		}
+		return available;
+	}
+
+	@Override
+	public void signalAllWhenBlocking() {
+		lock.lock();
+		try {
+			published.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
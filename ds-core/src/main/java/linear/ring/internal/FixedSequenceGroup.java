@@ -0,0 +1,26 @@
+package linear.ring.internal;
+
+import linear.ring.Sequence;
+
+/**
+ * 여러 선행 단계 시퀀스의 최소값을 하나의 {@link Sequence}처럼 보여주는 읽기 전용 뷰입니다.
+ * 다단계 파이프라인에서 "모든 선행 단계가 처리한 위치"를 표현합니다.
+ */
+public final class FixedSequenceGroup extends Sequence {
+
+	private final Sequence[] sequences;
+
+	public FixedSequenceGroup(Sequence[] sequences) {
+		this.sequences = sequences.clone();
+	}
+
+	@Override
+	public long get() {
+		return Sequencer.minimumSequence(sequences, Long.MAX_VALUE);
+	}
+
+	@Override public void set(long value) { throw new UnsupportedOperationException(); }
+	@Override public void setVolatile(long value) { throw new UnsupportedOperationException(); }
+	@Override public boolean compareAndSet(long expected, long value) { throw new UnsupportedOperationException(); }
+	@Override public long addAndGet(long increment) { throw new UnsupportedOperationException(); }
+}
@@ -0,0 +1,111 @@
+package linear.ring.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+import linear.ring.Sequence;
+import linear.ring.WaitStrategy;
+
+/**
+ * 여러 생산자 스레드가 동시에 선점할 수 있는 시퀀서입니다.
+ *
+ * <p>선점은 커서에 대한 CAS로 이루어지며, 발행 순서가 선점 순서와 다를 수 있으므로
+ * 슬롯별 "몇 바퀴째 발행되었는지"를 {@code available} 배열에 기록합니다.
+ * 소비자는 {@link #highestPublished(long, long)}로 연속 발행 구간만 읽습니다.</p>
+ */
+public final class MultiProducerSequencer extends Sequencer {
+
+	private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+	/** 가장 느린 소비자 위치 캐시 (여러 생산자가 공유) */
+	private final Sequence gatingCache = new Sequence();
+	/** 슬롯별 발행 바퀴 수 ({@code sequence >>> indexShift}) */
+	private final int[] available;
+	private final int indexMask;
+	private final int indexShift;
+
+	public MultiProducerSequencer(int bufferSize, WaitStrategy waitStrategy) {
+		super(bufferSize, waitStrategy);
+		this.available = new int[bufferSize];
+		this.indexMask = bufferSize - 1;
+		this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+		Arrays.fill(available, -1);
+	}
+
+	@Override
+	public long next(int n) {
+		checkBatch(n);
+		for (;;) {
+			long current = cursor.get();
+			long next = current + n;
+			long wrapPoint = next - bufferSize;
+			long cached = gatingCache.get();
+
+			if (wrapPoint > cached || cached > current) {
+				long min = minimumSequence(gatingSequences, current);
+				if (wrapPoint > min) {
+					LockSupport.parkNanos(1L);
+					continue;
+				}
+				gatingCache.set(min);
+			} else if (cursor.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+
+	@Override
+	public long tryNext(int n) {
+		checkBatch(n);
+		for (;;) {
+			long current = cursor.get();
+			long next = current + n;
+			long wrapPoint = next - bufferSize;
+			long cached = gatingCache.get();
+			if (wrapPoint > cached || cached > current) {
+				long min = minimumSequence(gatingSequences, current);
+				gatingCache.set(min);
+				if (wrapPoint > min) return -1L;
+			}
+			if (cursor.compareAndSet(current, next)) return next;
+		}
+	}
+
+	@Override
+	public void publish(long sequence) {
+		setAvailable(sequence);
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	@Override
+	public void publish(long lo, long hi) {
+		for (long s = lo; s <= hi; s++) setAvailable(s);
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	@Override
+	public boolean isAvailable(long sequence) {
+		int index = (int) sequence & indexMask;
+		int flag = (int) (sequence >>> indexShift);
+		return (int) AVAILABLE.getAcquire(available, index) == flag;
+	}
+
+	@Override
+	public long highestPublished(long lo, long available) {
+		for (long s = lo; s <= available; s++) {
+			if (!isAvailable(s)) return s - 1;
+		}
+		return available;
+	}
+
+	private void setAvailable(long sequence) {
+		int index = (int) sequence & indexMask;
+		AVAILABLE.setRelease(available, index, (int) (sequence >>> indexShift));
+	}
+
+	private void checkBatch(int n) {
+		if (n < 1 || n > bufferSize) throw new IllegalArgumentException("n must be in [1, bufferSize]");
+	}
+}
@@ -0,0 +1,54 @@
+package linear.ring.internal;
+
+import java.util.concurrent.locks.LockSupport;
+
+import linear.ring.AlertException;
+import linear.ring.Sequence;
+import linear.ring.SequenceBarrier;
+import linear.ring.WaitStrategy;
+
+/**
+ * 회전 → 양보 → {@link LockSupport#parkNanos(long)} 순으로 단계적으로 물러나는 전략입니다.
+ * 한가할 때 CPU를 거의 쓰지 않으면서, 부하가 있을 때는 회전 구간에서 바로 응답합니다.
+ */
+public final class ParkingWaitStrategy implements WaitStrategy {
+
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 100;
+	private static final long DEFAULT_PARK_NANOS = 100_000L;
+
+	private final long parkNanos;
+
+	public ParkingWaitStrategy() {
+		this(DEFAULT_PARK_NANOS);
+	}
+
+	public ParkingWaitStrategy(long parkNanos) {
+		if (parkNanos < 1) throw new IllegalArgumentException("parkNanos < 1");
+		this.parkNanos = parkNanos;
+	}
+
+	@Override
+	public long waitFor(long sequence, Sequence cursor, Sequence dependent, SequenceBarrier barrier)
+		throws AlertException, InterruptedException {
+		long available;
+		int counter = SPIN_TRIES + YIELD_TRIES;
+		while ((available = dependent.get()) < sequence) {
+			barrier.checkAlert();
+			if (counter > YIELD_TRIES) {
+				counter--;
+				Thread.onSpinWait();
+			} else if (counter > 0) {
+				counter--;
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(parkNanos);
+				if (Thread.interrupted()) throw new InterruptedException();
+			}
+		}
+		return available;
+	}
+
+	@Override
+	public void signalAllWhenBlocking() {}
+}
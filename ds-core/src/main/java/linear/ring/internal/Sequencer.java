@@ -0,0 +1,117 @@
+package linear.ring.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+import linear.ring.Sequence;
+import linear.ring.WaitStrategy;
+
+/**
+ * 링 버퍼 슬롯의 선점(claim)과 발행(publish)을 조율하는 시퀀서의 공통 골격입니다.
+ *
+ * <ul>
+ *   <li>{@code cursor}: 생산자 쪽 진행 위치</li>
+ *   <li>{@code gatingSequences}: 생산자가 앞지르면 안 되는 마지막 단계 소비자들의 진행 위치.
+ *       생산자는 {@code 가장 느린 소비자 + bufferSize}를 넘어 선점할 수 없습니다.</li>
+ * </ul>
+ */
+public abstract class Sequencer {
+
+	private static final VarHandle GATING;
+
+	static {
+		try {
+			GATING = MethodHandles.lookup().findVarHandle(Sequencer.class, "gatingSequences", Sequence[].class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	protected final int bufferSize;
+	protected final WaitStrategy waitStrategy;
+	protected final Sequence cursor = new Sequence();
+	/** copy-on-write 배열. 추가/삭제는 CAS로 통째로 교체 */
+	protected volatile Sequence[] gatingSequences = new Sequence[0];
+
+	protected Sequencer(int bufferSize, WaitStrategy waitStrategy) {
+		if (bufferSize < 1) throw new IllegalArgumentException("bufferSize < 1");
+		if (Integer.bitCount(bufferSize) != 1) throw new IllegalArgumentException("bufferSize must be a power of 2");
+		if (waitStrategy == null) throw new NullPointerException("waitStrategy");
+		this.bufferSize = bufferSize;
+		this.waitStrategy = waitStrategy;
+	}
+
+	public final Sequence cursor() { return cursor; }
+	public final int bufferSize() { return bufferSize; }
+	public final WaitStrategy waitStrategy() { return waitStrategy; }
+
+	/** {@code n}개의 슬롯을 선점하고 마지막 시퀀스를 반환. 공간이 없으면 대기 */
+	public abstract long next(int n);
+
+	/** {@code n}개의 슬롯 선점을 시도. 공간이 없으면 {@code -1} */
+	public abstract long tryNext(int n);
+
+	/** 선점한 시퀀스를 소비자에게 공개 */
+	public abstract void publish(long sequence);
+
+	/** 선점한 구간 {@code [lo, hi]}를 소비자에게 공개 */
+	public abstract void publish(long lo, long hi);
+
+	/** 해당 시퀀스가 발행되어 읽을 수 있는지 여부 */
+	public abstract boolean isAvailable(long sequence);
+
+	/**
+	 * {@code [lo, available]} 구간 중 연속으로 발행된 가장 큰 시퀀스를 반환합니다.
+	 * 다중 생산자에서는 커서가 앞서 있어도 중간 슬롯이 아직 발행되지 않았을 수 있습니다.
+	 */
+	public abstract long highestPublished(long lo, long available);
+
+	/** @return 생산자가 대기 없이 선점할 수 있는 슬롯 수 */
+	public final long remainingCapacity() {
+		long consumed = minimumSequence(gatingSequences, cursor.get());
+		long produced = cursor.get();
+		return bufferSize - (produced - consumed);
+	}
+
+	public final void addGatingSequences(Sequence... toAdd) {
+		for (Sequence s : toAdd) if (s == null) throw new NullPointerException("gating sequence");
+		Sequence[] current, updated;
+		do {
+			current = gatingSequences;
+			updated = Arrays.copyOf(current, current.length + toAdd.length);
+			// 합류 시점 이전 슬롯을 덮어쓰지 않도록 현재 커서에서 시작
+			long cursorValue = cursor.get();
+			for (int i = 0; i < toAdd.length; i++) {
+				toAdd[i].set(cursorValue);
+				updated[current.length + i] = toAdd[i];
+			}
+		} while (!GATING.compareAndSet(this, current, updated));
+	}
+
+	public final boolean removeGatingSequence(Sequence toRemove) {
+		Sequence[] current, updated;
+		do {
+			current = gatingSequences;
+			int idx = -1;
+			for (int i = 0; i < current.length; i++) {
+				if (current[i] == toRemove) { idx = i; break; }
+			}
+			if (idx < 0) return false;
+			updated = new Sequence[current.length - 1];
+			System.arraycopy(current, 0, updated, 0, idx);
+			System.arraycopy(current, idx + 1, updated, idx, current.length - idx - 1);
+		} while (!GATING.compareAndSet(this, current, updated));
+		return true;
+	}
+
+	/** 시퀀스 배열의 최소값. 비어 있으면 {@code fallback} */
+	public static long minimumSequence(Sequence[] sequences, long fallback) {
+		long min = fallback;
+		for (Sequence s : sequences) {
+			long v = s.get();
+			if (v < min) min = v;
+		}
+		return min;
+	}
+}
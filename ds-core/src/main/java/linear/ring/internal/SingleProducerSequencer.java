@@ -0,0 +1,86 @@
+package linear.ring.internal;
+
+import java.util.concurrent.locks.LockSupport;
+
+import linear.ring.WaitStrategy;
+
+/**
+ * 생산자 스레드가 하나뿐일 때의 시퀀서입니다.
+ * 선점 위치({@code nextValue})를 평범한 필드로 관리하므로 CAS가 전혀 없습니다.
+ * 두 개 이상의 스레드가 {@code next()}를 호출하면 동작이 정의되지 않습니다.
+ */
+public final class SingleProducerSequencer extends Sequencer {
+
+	/** 마지막으로 선점한 시퀀스 (생산자 스레드 전용) */
+	private long nextValue = -1L;
+	/** 마지막으로 관찰한 가장 느린 소비자 위치 (생산자 스레드 전용) */
+	private long cachedGating = -1L;
+
+	public SingleProducerSequencer(int bufferSize, WaitStrategy waitStrategy) {
+		super(bufferSize, waitStrategy);
+	}
+
+	@Override
+	public long next(int n) {
+		checkBatch(n);
+		long current = nextValue;
+		long next = current + n;
+		long wrapPoint = next - bufferSize;
+		long cached = cachedGating;
+
+		if (wrapPoint > cached || cached > current) {
+			// 소비자가 최신 커서를 보도록 StoreLoad 펜스
+			cursor.setVolatile(current);
+			long min;
+			while (wrapPoint > (min = minimumSequence(gatingSequences, current))) {
+				LockSupport.parkNanos(1L);
+			}
+			cachedGating = min;
+		}
+		nextValue = next;
+		return next;
+	}
+
+	@Override
+	public long tryNext(int n) {
+		checkBatch(n);
+		long current = nextValue;
+		long next = current + n;
+		long wrapPoint = next - bufferSize;
+		long cached = cachedGating;
+		if (wrapPoint > cached || cached > current) {
+			cursor.setVolatile(current);
+			long min = minimumSequence(gatingSequences, current);
+			cachedGating = min;
+			if (wrapPoint > min) return -1L;
+		}
+		nextValue = next;
+		return next;
+	}
+
+	@Override
+	public void publish(long sequence) {
+		cursor.set(sequence);
+		waitStrategy.signalAllWhenBlocking();
+	}
+
+	@Override
+	public void publish(long lo, long hi) {
+		publish(hi);
+	}
+
+	@Override
+	public boolean isAvailable(long sequence) {
+		long c = cursor.get();
+		return sequence <= c && sequence > c - bufferSize;
+	}
+
+	@Override
+	public long highestPublished(long lo, long available) {
+		return available;
+	}
+
+	private void checkBatch(int n) {
+		if (n < 1 || n > bufferSize) throw new IllegalArgumentException("n must be in [1, bufferSize]");
+	}
+}
@@ -0,0 +1,34 @@
+package linear.ring.internal;
+
+import linear.ring.AlertException;
+import linear.ring.Sequence;
+import linear.ring.SequenceBarrier;
+import linear.ring.WaitStrategy;
+
+/**
+ * 일정 횟수 회전한 뒤부터는 {@link Thread#yield()}로 다른 스레드에 양보하는 전략입니다.
+ */
+public final class YieldingWaitStrategy implements WaitStrategy {
+
+	private static final int SPIN_TRIES = 100;
+
+	@Override
+	public long waitFor(long sequence, Sequence cursor, Sequence dependent, SequenceBarrier barrier)
+		throws AlertException {
+		long available;
+		int counter = SPIN_TRIES;
+		while ((available = dependent.get()) < sequence) {
+			barrier.checkAlert();
+			if (counter > 0) {
+				counter--;
+				Thread.onSpinWait();
+			} else {
+				Thread.yield();
+			}
+		}
+		return available;
+	}
+
+	@Override
+	public void signalAllWhenBlocking() {}
+}
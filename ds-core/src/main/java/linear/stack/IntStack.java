@@ -0,0 +1,25 @@
+package linear.stack;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 박싱 없이 {@code int}를 저장하는 스택입니다.
+ *
+ * <p>{@code pushInt/popInt/peekInt}는 원시 타입 경로로 동작해 연산마다 객체를 할당하지 않습니다.
+ * {@link MyStack}의 박싱 메서드도 함께 제공하지만, 핫 패스에서는 {@code *Int} 메서드를 사용하세요.
+ * 박싱 {@code push(null)}은 {@link NullPointerException}을 던집니다.</p>
+ */
+public interface IntStack extends MyStack<Integer> {
+
+	/** 상단에 삽입 */
+	void pushInt(int value);
+
+	/** 상단 제거+반환. 비어있으면 {@link java.util.EmptyStackException} */
+	int popInt();
+
+	/** 상단 조회(제거X). 비어있으면 {@link java.util.EmptyStackException} */
+	int peekInt();
+
+	/** bottom→top 순서로 박싱 없이 순회 */
+	void forEachInt(IntConsumer action);
+}
@@ -0,0 +1,21 @@
+package linear.stack;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 박싱 없이 {@code long}을 저장하는 스택입니다. ({@link IntStack}의 {@code long} 버전)
+ */
+public interface LongStack extends MyStack<Long> {
+
+	/** 상단에 삽입 */
+	void pushLong(long value);
+
+	/** 상단 제거+반환. 비어있으면 {@link java.util.EmptyStackException} */
+	long popLong();
+
+	/** 상단 조회(제거X). 비어있으면 {@link java.util.EmptyStackException} */
+	long peekLong();
+
+	/** bottom→top 순서로 박싱 없이 순회 */
+	void forEachLong(LongConsumer action);
+}
@@ -0,0 +1,31 @@
+package linear.stack;
+
+/**
+ * 불변(persistent) 스택입니다.
+ *
+ * <p>{@link #push(Object)}/{@link #pop()}는 자신을 바꾸지 않고 <b>새 버전</b>을 반환하며,
+ * 새 버전은 이전 버전과 나머지 구조를 공유합니다. 따라서 어떤 시점의 스택을 보관해 두는 것만으로
+ * O(1) 스냅샷/분기(fork)가 됩니다. 모든 연산은 최악 O(1)이고 여러 스레드가 동시에 읽어도 안전합니다.</p>
+ *
+ * <pre>{@code
+ * PersistentStack<Integer> base = Stacks.<Integer>persistent().push(1).push(2);
+ * PersistentStack<Integer> a = base.push(3);   // [3, 2, 1]
+ * PersistentStack<Integer> b = base.pop();     // [1]
+ * // base는 여전히 [2, 1]
+ * }</pre>
+ *
+ * @param <T> 원소 타입 (null 허용)
+ */
+public interface PersistentStack<T> extends Iterable<T> {
+	int size();
+	boolean isEmpty();
+
+	/** value를 상단에 올린 새 스택 */
+	PersistentStack<T> push(T value);
+
+	/** 상단을 제거한 새 스택. 비어있으면 {@link java.util.EmptyStackException} */
+	PersistentStack<T> pop();
+
+	/** 상단 조회. 비어있으면 {@link java.util.EmptyStackException} */
+	T peek();
+}
@@ -1,6 +1,11 @@
 package linear.stack;
 
+import linear.stack.internal.IntStackEx;
+import linear.stack.internal.LongStackEx;
+import linear.stack.internal.PersistentStackEx;
+import linear.stack.internal.SegmentedStackEx;
 import linear.stack.internal.StackEx;
+import linear.stack.internal.TreiberStackEx;
 
 public final class Stacks {
 	private Stacks() {} // 유틸 클래스
@@ -9,4 +14,29 @@ public final class Stacks {
 	public static <T> MyStack<T> vector() {
 		return new StackEx<>();    // ← StackEx<T> 가 MyStack<T>를 구현하므로 OK
 	}
+
+	/** 고정 크기 세그먼트를 연결해 확장하는 스택 생성 (확장 시 복사 없음) */
+	public static <T> MyStack<T> segmented() {
+		return new SegmentedStackEx<>();
+	}
+
+	/** 락-프리 Treiber 스택 (경합 시 소거 배열로 push/pop 직접 교환) */
+	public static <T> MyStack<T> concurrent() {
+		return new TreiberStackEx<>();
+	}
+
+	/** 박싱 없는 int 스택 생성 */
+	public static IntStack ofInt() {
+		return new IntStackEx();
+	}
+
+	/** 박싱 없는 long 스택 생성 */
+	public static LongStack ofLong() {
+		return new LongStackEx();
+	}
+
+	/** 불변 cons 리스트 스택 (push/pop이 새 버전을 반환, 버전 간 구조 공유) */
+	public static <T> PersistentStack<T> persistent() {
+		return PersistentStackEx.empty();
+	}
 }
\ No newline at end of file
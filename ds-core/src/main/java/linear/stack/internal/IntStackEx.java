@@ -0,0 +1,117 @@
+package linear.stack.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+import linear.stack.IntStack;
+
+/**
+ * <h1>int[] 기반 스택 (LIFO, 박싱 없음)</h1>
+ * <p>{@link StackEx}와 같은 2배 확장 정책이지만 저장소가 {@code int[]}입니다.
+ * {@code pushInt/popInt/peekInt}는 확장 시점을 제외하면 할당이 전혀 없습니다.</p>
+ *
+ * <ul>
+ *   <li>박싱 {@link #iterator()}는 fail-fast이며, 순회 시 {@link Integer#valueOf(int)} 박싱이 일어납니다.
+ *       박싱 없는 순회는 {@link #forEachInt(IntConsumer)}를 사용하세요.</li>
+ *   <li>스레드-세이프 아님</li>
+ * </ul>
+ */
+public final class IntStackEx implements IntStack {
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private int[] elementData;
+	private int size;
+	private int modCount;
+
+	public IntStackEx() {
+		this.elementData = new int[DEFAULT_CAPACITY];
+	}
+
+	public IntStackEx(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		this.elementData = new int[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+	}
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void pushInt(int value) {
+		if (size == elementData.length) grow();
+		elementData[size++] = value;
+		modCount++;
+	}
+
+	@Override
+	public int popInt() {
+		if (size == 0) throw new EmptyStackException();
+		modCount++;
+		return elementData[--size];
+	}
+
+	@Override
+	public int peekInt() {
+		if (size == 0) throw new EmptyStackException();
+		return elementData[size - 1];
+	}
+
+	@Override
+	public void forEachInt(IntConsumer action) {
+		final int expected = modCount;
+		final int[] a = elementData;
+		for (int i = 0, n = size; i < n; i++) {
+			action.accept(a[i]);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	// ============ MyStack API (박싱) ============
+
+	@Override public void push(Integer value) { pushInt(value); }
+	@Override public Integer pop() { return popInt(); }
+	@Override public Integer peek() { return peekInt(); }
+
+	@Override
+	public void clear() {
+		size = 0;   // 원시 배열이라 참조 해제 불필요
+		modCount++;
+	}
+
+	private void grow() {
+		int old = elementData.length;
+		if (old >= MAX_ARRAY_SIZE) throw new OutOfMemoryError("Required array size too large");
+		int newCap = (int) Math.min((long) old * 2L, (long) MAX_ARRAY_SIZE);
+		int[] newArr = new int[newCap];
+		System.arraycopy(elementData, 0, newArr, 0, size);
+		elementData = newArr;
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		final int expected = modCount;
+		return new Iterator<Integer>() {
+			int cursor = 0;
+			@Override public boolean hasNext() { return cursor < size; }
+			@Override public Integer next() {
+				if (expected != modCount) throw new ConcurrentModificationException();
+				if (cursor >= size) throw new NoSuchElementException();
+				return elementData[cursor++];
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			sb.append(elementData[i]);
+			if (i + 1 < size) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
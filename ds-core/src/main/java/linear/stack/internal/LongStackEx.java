@@ -0,0 +1,117 @@
+package linear.stack.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+import linear.stack.LongStack;
+
+/**
+ * <h1>long[] 기반 스택 (LIFO, 박싱 없음)</h1>
+ * <p>{@link StackEx}와 같은 2배 확장 정책이지만 저장소가 {@code long[]}입니다.
+ * {@code pushLong/popLong/peekLong}는 확장 시점을 제외하면 할당이 전혀 없습니다.</p>
+ *
+ * <ul>
+ *   <li>박싱 {@link #iterator()}는 fail-fast이며, 순회 시 {@link Long#valueOf(long)} 박싱이 일어납니다.
+ *       박싱 없는 순회는 {@link #forEachLong(LongConsumer)}를 사용하세요.</li>
+ *   <li>스레드-세이프 아님</li>
+ * </ul>
+ */
+public final class LongStackEx implements LongStack {
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private long[] elementData;
+	private int size;
+	private int modCount;
+
+	public LongStackEx() {
+		this.elementData = new long[DEFAULT_CAPACITY];
+	}
+
+	public LongStackEx(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		this.elementData = new long[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+	}
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void pushLong(long value) {
+		if (size == elementData.length) grow();
+		elementData[size++] = value;
+		modCount++;
+	}
+
+	@Override
+	public long popLong() {
+		if (size == 0) throw new EmptyStackException();
+		modCount++;
+		return elementData[--size];
+	}
+
+	@Override
+	public long peekLong() {
+		if (size == 0) throw new EmptyStackException();
+		return elementData[size - 1];
+	}
+
+	@Override
+	public void forEachLong(LongConsumer action) {
+		final int expected = modCount;
+		final long[] a = elementData;
+		for (int i = 0, n = size; i < n; i++) {
+			action.accept(a[i]);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	// ============ MyStack API (박싱) ============
+
+	@Override public void push(Long value) { pushLong(value); }
+	@Override public Long pop() { return popLong(); }
+	@Override public Long peek() { return peekLong(); }
+
+	@Override
+	public void clear() {
+		size = 0;   // 원시 배열이라 참조 해제 불필요
+		modCount++;
+	}
+
+	private void grow() {
+		int old = elementData.length;
+		if (old >= MAX_ARRAY_SIZE) throw new OutOfMemoryError("Required array size too large");
+		int newCap = (int) Math.min((long) old * 2L, (long) MAX_ARRAY_SIZE);
+		long[] newArr = new long[newCap];
+		System.arraycopy(elementData, 0, newArr, 0, size);
+		elementData = newArr;
+	}
+
+	@Override
+	public Iterator<Long> iterator() {
+		final int expected = modCount;
+		return new Iterator<Long>() {
+			int cursor = 0;
+			@Override public boolean hasNext() { return cursor < size; }
+			@Override public Long next() {
+				if (expected != modCount) throw new ConcurrentModificationException();
+				if (cursor >= size) throw new NoSuchElementException();
+				return elementData[cursor++];
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < size; i++) {
+			sb.append(elementData[i]);
+			if (i + 1 < size) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,85 @@
+package linear.stack.internal;
+
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linear.stack.PersistentStack;
+
+/**
+ * <h1>cons 리스트 기반 불변 스택</h1>
+ * <p>각 버전은 (상단 값, 나머지 스택, 크기) 한 노드이며 {@code push}는 노드 하나를 만들고
+ * {@code pop}은 {@code next}를 그대로 반환합니다. 모든 필드가 {@code final}이라
+ * 별도 동기화 없이 스레드 간에 공유할 수 있습니다.</p>
+ *
+ * <ul>
+ *   <li>push/pop/peek/size: 최악 O(1)</li>
+ *   <li>iterator: top→bottom, 불변이므로 fail-fast 검사 불필요</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입 (null 허용)
+ */
+public final class PersistentStackEx<T> implements PersistentStack<T> {
+
+	private static final PersistentStackEx<?> EMPTY = new PersistentStackEx<>(null, null, 0);
+
+	private final T head;
+	private final PersistentStackEx<T> next;
+	private final int size;
+
+	private PersistentStackEx(T head, PersistentStackEx<T> next, int size) {
+		this.head = head;
+		this.next = next;
+		this.size = size;
+	}
+
+	/** 빈 스택 (공유 싱글턴) */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentStackEx<T> empty() {
+		return (PersistentStackEx<T>) EMPTY;
+	}
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public PersistentStackEx<T> push(T value) {
+		return new PersistentStackEx<>(value, this, size + 1);
+	}
+
+	@Override
+	public PersistentStackEx<T> pop() {
+		if (size == 0) throw new EmptyStackException();
+		return next;
+	}
+
+	@Override
+	public T peek() {
+		if (size == 0) throw new EmptyStackException();
+		return head;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			PersistentStackEx<T> cur = PersistentStackEx.this;
+			@Override public boolean hasNext() { return cur.size > 0; }
+			@Override public T next() {
+				if (cur.size == 0) throw new NoSuchElementException();
+				T v = cur.head;
+				cur = cur.next;
+				return v;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (PersistentStackEx<T> s = this; s.size > 0; s = s.next) {
+			sb.append(s.head);
+			if (s.size > 1) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
@@ -0,0 +1,165 @@
+package linear.stack.internal;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import linear.stack.MyStack;
+
+/**
+ * <h1>세그먼트 기반 스택 (LIFO)</h1>
+ * <p>
+ * 고정 크기 배열(세그먼트)을 양방향으로 연결해 원소를 저장합니다. 상단 세그먼트가 가득 차면
+ * 새 세그먼트를 <b>연결만</b> 하고 기존 원소는 복사하지 않으므로, {@link StackEx}처럼
+ * 확장 시점에 O(n) 복사나 일시적인 메모리 피크(구 배열 + 신 배열)가 생기지 않습니다.
+ * </p>
+ *
+ * <h2>시간 복잡도</h2>
+ * <table border="1" cellpadding="4" cellspacing="0">
+ *   <thead>
+ *     <tr><th>연산</th><th>시간 복잡도</th><th>비고</th></tr>
+ *   </thead>
+ *   <tbody>
+ *     <tr><td>{@link #push(Object)}</td><td>O(1) (최악도 O(1))</td><td>경계에서 세그먼트 1개 할당 또는 예비 세그먼트 재사용</td></tr>
+ *     <tr><td>{@link #pop()}</td><td>O(1)</td><td>상단 원소 제거</td></tr>
+ *     <tr><td>{@link #peek()}</td><td>O(1)</td><td>상단 원소 조회(제거 없음)</td></tr>
+ *     <tr><td>{@link #size()}</td><td>O(1)</td><td>-</td></tr>
+ *     <tr><td>{@link #clear()}</td><td>O(n)</td><td>참조 해제, 바닥 세그먼트만 유지</td></tr>
+ *     <tr><td>{@link #iterator()}</td><td>O(1) 생성, O(1)/원소당 진행</td><td>bottom→top 순회, fail-fast</td></tr>
+ *   </tbody>
+ * </table>
+ *
+ * <h2>설계 노트</h2>
+ * <ul>
+ *   <li><b>예비 세그먼트</b>: pop으로 세그먼트를 비우고 아래로 내려갈 때, 비워진 세그먼트를
+ *       {@code top.next}에 하나만 남겨 둡니다. 경계에서 push/pop이 반복돼도 할당이 일어나지 않으며,
+ *       그보다 위의 세그먼트는 연결을 끊어 GC에 넘깁니다.</li>
+ *   <li><b>지연 하강</b>: 상단 세그먼트가 비어도 다음 pop 때까지는 그대로 둡니다.
+ *       따라서 상단 세그먼트의 원소 수({@code topCount})는 0 ~ segmentSize 범위입니다.</li>
+ *   <li><b>fail-fast iterator</b>, <b>null 허용</b>, <b>스레드-세이프 아님</b>: {@link StackEx}와 동일.</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입
+ * @see StackEx
+ */
+public class SegmentedStackEx<T> implements MyStack<T> {
+
+	private static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+	private static final class Segment {
+		final Object[] items;
+		Segment prev, next;
+		Segment(int length) { this.items = new Object[length]; }
+	}
+
+	private final int segmentSize;
+	private final Segment bottom;
+	private Segment top;
+	private int topCount;  // top 세그먼트에 들어 있는 원소 수 (0..segmentSize)
+	private int size;
+	private int modCount;
+
+	public SegmentedStackEx() {
+		this(DEFAULT_SEGMENT_SIZE);
+	}
+
+	public SegmentedStackEx(int segmentSize) {
+		if (segmentSize <= 0) throw new IllegalArgumentException("segmentSize <= 0");
+		this.segmentSize = segmentSize;
+		this.bottom = this.top = new Segment(segmentSize);
+	}
+
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public void push(T value) {
+		if (topCount == segmentSize) {
+			Segment next = top.next;
+			if (next == null) {
+				next = new Segment(segmentSize);
+				next.prev = top;
+				top.next = next;
+			}
+			top = next;
+			topCount = 0;
+		}
+		top.items[topCount++] = value;
+		size++;
+		modCount++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T pop() {
+		if (isEmpty()) throw new EmptyStackException();
+		if (topCount == 0) {
+			// 빈 상단 세그먼트는 예비로 남기고, 그 위의 예비분은 해제
+			top.next = null;
+			top = top.prev;
+			topCount = segmentSize;
+		}
+		Object[] items = top.items;
+		T val = (T) items[--topCount];
+		items[topCount] = null;
+		size--;
+		modCount++;
+		return val;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T peek() {
+		if (isEmpty()) throw new EmptyStackException();
+		if (topCount == 0) return (T) top.prev.items[segmentSize - 1];
+		return (T) top.items[topCount - 1];
+	}
+
+	@Override
+	public void clear() {
+		for (Segment s = bottom; s != null; s = s.next) {
+			int n = (s == top) ? topCount : segmentSize;
+			for (int i = 0; i < n; i++) s.items[i] = null;
+			if (s == top) break;
+		}
+		bottom.next = null;
+		top = bottom;
+		topCount = 0;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final int expected = modCount;
+		return new Iterator<T>() {
+			Segment seg = bottom;
+			int index = 0;
+			int remaining = size;
+			@Override public boolean hasNext() { return remaining > 0; }
+			@SuppressWarnings("unchecked")
+			@Override public T next() {
+				if (expected != modCount) throw new ConcurrentModificationException();
+				if (remaining <= 0) throw new NoSuchElementException();
+				if (index == segmentSize) {
+					seg = seg.next;
+					index = 0;
+				}
+				remaining--;
+				return (T) seg.items[index++];
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		Iterator<T> it = iterator();
+		while (it.hasNext()) {
+			sb.append(it.next());
+			if (it.hasNext()) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+}
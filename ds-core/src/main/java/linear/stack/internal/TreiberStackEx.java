@@ -0,0 +1,172 @@
+package linear.stack.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import linear.stack.MyStack;
+
+/**
+ * <h1>Treiber 락-프리 스택 + 소거(elimination) 배열</h1>
+ *
+ * <p>단일 연결 리스트의 {@code top} 포인터를 CAS로 교체하는 Treiber 스택입니다.
+ * CAS에 실패했다는 것은 {@code top}에 경합이 있다는 뜻이므로, 바로 재시도하는 대신
+ * <b>소거 배열</b>로 물러나 반대 연산과 짝을 찾습니다.
+ * 동시에 들어온 {@code push}와 {@code pop}은 "push 직후 pop"과 같은 결과이므로,
+ * {@code top}을 건드리지 않고 배열 슬롯에서 값을 직접 주고받아도 선형화 가능합니다.</p>
+ *
+ * <h2>소거 규약</h2>
+ * <ul>
+ *   <li>push: 빈 슬롯에 자기 노드를 CAS로 올려두고 잠시 기다립니다. 누군가 가져가면 완료,
+ *       아니면 CAS로 회수한 뒤 {@code top}으로 돌아갑니다.</li>
+ *   <li>pop: 임의의 슬롯에 노드가 있으면 CAS로 가져갑니다. (pop은 슬롯에서 기다리지 않음)</li>
+ * </ul>
+ *
+ * <h2>특징</h2>
+ * <ul>
+ *   <li><b>null 허용</b>: {@link StackEx}와 동일 (값은 노드에 담기므로 가능)</li>
+ *   <li><b>시간 복잡도</b>: push/pop/peek O(1) (경합이 없을 때 CAS 1회), {@code size()} O(n)</li>
+ *   <li><b>이터레이터</b>: top→bottom 순서의 약한 일관성 스냅샷 ({@link StackEx}와 달리 위에서부터)</li>
+ *   <li><b>스레드-세이프</b>: 모든 연산을 여러 스레드에서 동시에 호출할 수 있음</li>
+ * </ul>
+ *
+ * @param <T> 원소 타입
+ */
+public final class TreiberStackEx<T> implements MyStack<T> {
+
+	/** 소거 슬롯에서 짝을 기다리는 회전 수 */
+	private static final int ELIMINATION_SPINS = 64;
+	private static final int MAX_SLOTS = 32;
+
+	private static final VarHandle TOP;
+
+	static {
+		try {
+			TOP = MethodHandles.lookup().findVarHandle(TreiberStackEx.class, "top", Node.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private static final class Node<E> {
+		final E item;
+		Node<E> next;
+		Node(E item) { this.item = item; }
+	}
+
+	private volatile Node<T> top;
+	private final AtomicReferenceArray<Node<T>> slots;
+
+	public TreiberStackEx() {
+		this(Math.min(MAX_SLOTS, Math.max(1, Runtime.getRuntime().availableProcessors() / 2)));
+	}
+
+	/**
+	 * @param eliminationSlots 소거 배열 크기(1 이상). 경합하는 스레드 수의 절반 정도가 적당합니다.
+	 * @throws IllegalArgumentException 1 미만인 경우
+	 */
+	public TreiberStackEx(int eliminationSlots) {
+		if (eliminationSlots < 1) throw new IllegalArgumentException("eliminationSlots < 1");
+		this.slots = new AtomicReferenceArray<>(eliminationSlots);
+	}
+
+	@Override
+	public boolean isEmpty() { return top == null; }
+
+	/** 노드를 세어 반환합니다. O(n), 동시 변경 중에는 근사값입니다. */
+	@Override
+	public int size() {
+		int n = 0;
+		for (Node<T> p = top; p != null && n < Integer.MAX_VALUE; p = p.next) n++;
+		return n;
+	}
+
+	@Override
+	public void push(T value) {
+		Node<T> node = new Node<>(value);
+		for (;;) {
+			Node<T> h = top;
+			node.next = h;
+			if (TOP.compareAndSet(this, h, node)) return;
+			if (offerToPopper(node)) return;
+		}
+	}
+
+	@Override
+	public T pop() {
+		for (;;) {
+			Node<T> h = top;
+			if (h == null) throw new EmptyStackException();
+			if (TOP.compareAndSet(this, h, h.next)) {
+				return h.item;
+			}
+			Node<T> n = takeFromPusher();
+			if (n != null) return n.item;
+		}
+	}
+
+	@Override
+	public T peek() {
+		Node<T> h = top;
+		if (h == null) throw new EmptyStackException();
+		return h.item;
+	}
+
+	@Override
+	public void clear() {
+		top = null;
+	}
+
+	/** top→bottom 순서의 약한 일관성 이터레이터 (생성 시점의 top부터) */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			Node<T> cur = top;
+
+			@Override public boolean hasNext() { return cur != null; }
+
+			@Override public T next() {
+				if (cur == null) throw new NoSuchElementException();
+				T v = cur.item;
+				cur = cur.next;
+				return v;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (Node<T> p = top; p != null; p = p.next) {
+			sb.append(p.item);
+			if (p.next != null) sb.append(", ");
+		}
+		return sb.append("]").toString();
+	}
+
+	// ============ 소거 배열 ============
+
+	/** push 쪽: 빈 슬롯에 노드를 올려두고 pop이 가져가기를 잠시 기다림 */
+	private boolean offerToPopper(Node<T> node) {
+		int i = ThreadLocalRandom.current().nextInt(slots.length());
+		if (!slots.compareAndSet(i, null, node)) return false;
+		for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+			if (slots.get(i) != node) return true;    // pop이 가져감
+			Thread.onSpinWait();
+		}
+		// 시간 초과: 회수에 실패했다면 그 사이 pop이 가져간 것
+		return !slots.compareAndSet(i, node, null);
+	}
+
+	/** pop 쪽: 임의의 슬롯에 대기 중인 push 노드가 있으면 가져감 */
+	private Node<T> takeFromPusher() {
+		int i = ThreadLocalRandom.current().nextInt(slots.length());
+		Node<T> n = slots.get(i);
+		if (n != null && slots.compareAndSet(i, n, null)) return n;
+		return null;
+	}
+}
@@ -0,0 +1,20 @@
+package nonLinear.tree;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 트리 직렬화에서 원소 하나를 바이트로 쓰고 읽는 코덱입니다.
+ * 기본 구현은 {@link ElementCodecs}에 있습니다.
+ *
+ * @param <T> 원소 타입
+ */
+public interface ElementCodec<T> {
+
+	/** value를 out에 씀 */
+	void write(DataOutput out, T value) throws IOException;
+
+	/** in에서 원소 하나를 읽음 ({@link #write}의 역) */
+	T read(DataInput in) throws IOException;
+}
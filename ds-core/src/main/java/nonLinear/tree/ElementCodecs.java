@@ -0,0 +1,147 @@
+package nonLinear.tree;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/** 자주 쓰는 {@link ElementCodec} 정적 팩토리와 가변 길이 정수(varint) 도우미 */
+public final class ElementCodecs {
+	private ElementCodecs() {}
+
+	/** Integer: zigzag varint (작은 절댓값일수록 짧게, 1~5바이트) */
+	public static ElementCodec<Integer> integers() {
+		return INTEGERS;
+	}
+
+	/** Long: zigzag varint (1~10바이트) */
+	public static ElementCodec<Long> longs() {
+		return LONGS;
+	}
+
+	/** Double: 고정 8바이트 */
+	public static ElementCodec<Double> doubles() {
+		return DOUBLES;
+	}
+
+	/** String: varint 길이 + UTF-8 바이트 (DataOutput.writeUTF의 64KB 제한 없음) */
+	public static ElementCodec<String> strings() {
+		return STRINGS;
+	}
+
+	/** null 표시 바이트 1개를 앞에 붙여 null 원소를 허용하는 코덱 */
+	public static <T> ElementCodec<T> nullable(ElementCodec<T> codec) {
+		Objects.requireNonNull(codec);
+		return new ElementCodec<>() {
+			@Override
+			public void write(DataOutput out, T value) throws IOException {
+				out.writeBoolean(value != null);
+				if (value != null) codec.write(out, value);
+			}
+
+			@Override
+			public T read(DataInput in) throws IOException {
+				return in.readBoolean() ? codec.read(in) : null;
+			}
+		};
+	}
+
+	// ===== varint =====
+
+	/** 부호 없는 varint (7비트씩, 상위 비트 = 계속) */
+	public static void writeVarInt(DataOutput out, int v) throws IOException {
+		while ((v & ~0x7F) != 0) {
+			out.writeByte((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		out.writeByte(v);
+	}
+
+	public static int readVarInt(DataInput in) throws IOException {
+		int v = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.readUnsignedByte();
+			v |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return v;
+		}
+		throw new StreamCorruptedException("varint가 너무 깁니다.");
+	}
+
+	public static void writeVarLong(DataOutput out, long v) throws IOException {
+		while ((v & ~0x7FL) != 0) {
+			out.writeByte((int) (v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		out.writeByte((int) v);
+	}
+
+	public static long readVarLong(DataInput in) throws IOException {
+		long v = 0;
+		for (int shift = 0; shift < 70; shift += 7) {
+			int b = in.readUnsignedByte();
+			v |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return v;
+		}
+		throw new StreamCorruptedException("varint가 너무 깁니다.");
+	}
+
+	private static final ElementCodec<Integer> INTEGERS = new ElementCodec<>() {
+		@Override
+		public void write(DataOutput out, Integer value) throws IOException {
+			int v = value;
+			writeVarInt(out, (v << 1) ^ (v >> 31));
+		}
+
+		@Override
+		public Integer read(DataInput in) throws IOException {
+			int z = readVarInt(in);
+			return (z >>> 1) ^ -(z & 1);
+		}
+	};
+
+	private static final ElementCodec<Long> LONGS = new ElementCodec<>() {
+		@Override
+		public void write(DataOutput out, Long value) throws IOException {
+			long v = value;
+			writeVarLong(out, (v << 1) ^ (v >> 63));
+		}
+
+		@Override
+		public Long read(DataInput in) throws IOException {
+			long z = readVarLong(in);
+			return (z >>> 1) ^ -(z & 1);
+		}
+	};
+
+	private static final ElementCodec<Double> DOUBLES = new ElementCodec<>() {
+		@Override
+		public void write(DataOutput out, Double value) throws IOException {
+			out.writeDouble(value);
+		}
+
+		@Override
+		public Double read(DataInput in) throws IOException {
+			return in.readDouble();
+		}
+	};
+
+	private static final ElementCodec<String> STRINGS = new ElementCodec<>() {
+		@Override
+		public void write(DataOutput out, String value) throws IOException {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(out, bytes.length);
+			out.write(bytes);
+		}
+
+		@Override
+		public String read(DataInput in) throws IOException {
+			int len = readVarInt(in);
+			if (len < 0) throw new StreamCorruptedException("문자열 길이가 음수입니다.");
+			byte[] bytes = new byte[len];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+}
@@ -0,0 +1,29 @@
+package nonLinear.tree;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * 모노이드: 결합법칙을 만족하는 이항 연산 {@link #combine}과 그 항등원 {@link #identity}.
+ * 트리 서브트리 집계(합, 최솟값, 개수 등)를 부분 결과로부터 O(1)에 갱신할 때 사용합니다.
+ * 교환법칙은 요구하지 않으며, 결합 순서는 사용하는 쪽이 정합니다(예: 중위 순서).
+ *
+ * @param <A> 집계 값 타입
+ */
+public interface Monoid<A> {
+
+	/** 항등원: combine(identity(), a) == combine(a, identity()) == a */
+	A identity();
+
+	/** 결합법칙을 만족하는 결합 연산 */
+	A combine(A left, A right);
+
+	/** 항등원과 연산으로 모노이드 생성 */
+	static <A> Monoid<A> of(A identity, BinaryOperator<A> combine) {
+		Objects.requireNonNull(combine);
+		return new Monoid<>() {
+			@Override public A identity() { return identity; }
+			@Override public A combine(A left, A right) { return combine.apply(left, right); }
+		};
+	}
+}
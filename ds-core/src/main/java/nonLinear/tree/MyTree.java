@@ -1,5 +1,10 @@
 package nonLinear.tree;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * 트리 자료구조를 위한 최상위 인터페이스입니다.
  * 공통적으로 가져야 할 기능으로, 최소한 이 기능들을 제공해야 한다는 계약입니다.
@@ -15,4 +20,20 @@ public interface MyTree<T> extends Iterable<T> {
 	boolean contains(T value);
 	/** 트리 초기화 (모든 원소 삭제) */
 	void clear();
+
+	/** 기본 순회 순서의 Spliterator. 기본 구현은 이터레이터 기반(크기 정확, 분할은 묶음 단위)이며 구현체가 서브트리 분할로 재정의 */
+	@Override
+	default Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+	}
+
+	/** 기본 순회 순서의 순차 스트림 */
+	default Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/** 병렬 스트림 (분할 품질은 {@link #spliterator()}에 따름) */
+	default Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
 }
\ No newline at end of file
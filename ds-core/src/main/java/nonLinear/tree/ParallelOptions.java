@@ -0,0 +1,63 @@
+package nonLinear.tree;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 트리 병렬 순회({@code parallelForEach}/{@code parallelReduce}) 옵션입니다. 불변 객체이며 {@code withXxx}로 바꾼 사본을 만듭니다.
+ *
+ * <ul>
+ *   <li><b>pool</b>: 실행할 {@link ForkJoinPool} (기본: 공용 풀)</li>
+ *   <li><b>threshold</b>: 추정 서브트리 크기가 이 값 이하이면 더 나누지 않고 순차 처리 (기본 4096)</li>
+ *   <li><b>ordered</b>: 순서 보존 모드 (기본 false). 트리의 기본 순회 순서(encounter order: 이진 트리 중위, 일반 트리 전위)를 따름
+ *     <ul>
+ *       <li>forEach: 그 순서대로 하나씩 방문 ({@link java.util.stream.Stream#forEachOrdered}처럼 방문 자체는 병렬이 아님)</li>
+ *       <li>reduce: 그 순서대로 결합 → 결합 함수가 결합법칙만 만족하면 됨</li>
+ *     </ul>
+ *     false이면 방문/결합 순서를 보장하지 않으므로 reduce의 결합 함수는 교환법칙도 만족해야 합니다.</li>
+ * </ul>
+ */
+public final class ParallelOptions {
+
+	/** 기본 순차 처리 임계값 */
+	public static final int DEFAULT_THRESHOLD = 4096;
+
+	private static final ParallelOptions DEFAULTS = new ParallelOptions(null, DEFAULT_THRESHOLD, false);
+
+	private final ForkJoinPool pool; // null이면 공용 풀
+	private final int threshold;
+	private final boolean ordered;
+
+	private ParallelOptions(ForkJoinPool pool, int threshold, boolean ordered) {
+		this.pool = pool;
+		this.threshold = threshold;
+		this.ordered = ordered;
+	}
+
+	/** 공용 풀, 임계값 4096, 순서 무관 */
+	public static ParallelOptions defaults() { return DEFAULTS; }
+
+	public ParallelOptions withPool(ForkJoinPool pool) {
+		return new ParallelOptions(Objects.requireNonNull(pool), threshold, ordered);
+	}
+
+	public ParallelOptions withThreshold(int threshold) {
+		if (threshold < 1) throw new IllegalArgumentException("threshold < 1");
+		return new ParallelOptions(pool, threshold, ordered);
+	}
+
+	public ParallelOptions ordered() { return new ParallelOptions(pool, threshold, true); }
+
+	public ParallelOptions unordered() { return new ParallelOptions(pool, threshold, false); }
+
+	public ForkJoinPool pool() { return pool != null ? pool : ForkJoinPool.commonPool(); }
+
+	public int threshold() { return threshold; }
+
+	public boolean isOrdered() { return ordered; }
+
+	@Override
+	public String toString() {
+		return "ParallelOptions[pool=" + pool() + ", threshold=" + threshold + ", ordered=" + ordered + "]";
+	}
+}
@@ -0,0 +1,441 @@
+package nonLinear.tree.binary;
+
+import linear.list.Lists;
+import linear.list.MyList;
+import linear.queue.IntQueue;
+import linear.queue.Queues;
+import nonLinear.tree.ParallelOptions;
+import nonLinear.tree.Position;
+import nonLinear.tree.internal.ParallelTraversal;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <h1>배열 아레나 기반 이진 트리 (Struct-of-Arrays)</h1>
+ *
+ * <h2>설계 개요</h2>
+ * - 노드 객체 없이 슬롯 번호로 노드를 나타내고, 필드를 <b>필드별 배열</b>에 나눠 저장합니다.
+ *   <pre>
+ *   Object[] elements   원소
+ *   int[]    parent     부모 슬롯 (루트는 -1, 빈 슬롯은 -2)
+ *   int[]    left       왼쪽 자식 슬롯 (빈 슬롯에서는 free-list의 다음 슬롯)
+ *   int[]    right      오른쪽 자식 슬롯
+ *   int[]    stamp      슬롯 재사용 세대 (해제할 때마다 증가)
+ *   </pre>
+ *   노드당 참조 1개 + int 4개(압축 참조 기준 약 20바이트)로, {@link BinaryTrees}의 노드 객체
+ *   (헤더 + 참조 5개, 약 40바이트)보다 작고 GC가 추적할 객체는 배열 5개뿐입니다.
+ * - {@link #removeSubtree}로 해제된 슬롯은 <b>free-list</b>(left 배열로 연결)에 들어가 다음 추가 때 재사용됩니다.
+ *   해제는 parent 링크로 잎부터 거슬러 올라가므로 보조 메모리가 O(1)입니다.
+ * - {@link Position}은 (슬롯, 세대) <b>경량 핸들</b>이며 root/left/right/parent 등 요청이 있을 때만 만듭니다.
+ *   슬롯이 해제되면 세대가 바뀌므로, 재사용된 슬롯을 가리키는 예전 핸들도 거부됩니다.
+ * - 순회 이터레이터는 parent 링크로 다음 슬롯을 찾아 스택 없이 O(1) 메모리, 핸들 생성 없이 진행합니다.
+ *
+ * <h2>정책</h2>
+ * - <b>null 요소</b> 허용, <b>중복 값</b> 허용.
+ * - 구조 변경(add/remove/clear)마다 modCount 증가, 이터레이터는 fail-fast.
+ * - 배열은 1.5배씩 자라며 줄어들지 않습니다. {@link #clear()}도 용량을 유지합니다.
+ *
+ * <h2>복잡도</h2>
+ * - addRoot/addLeft/addRight: 분할 상환 O(1)
+ * - parent/left/right/set: O(1)
+ * - removeSubtree: O(서브트리 크기)
+ * - contains: O(용량) (원소 배열 순차 스캔)
+ *
+ * @param <T> 원소 타입
+ */
+public class ArenaBinaryTrees<T> implements MyBinaryTree<T> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int NIL = -1;
+	private static final int FREE = -2;
+
+	private Object[] elements;
+	private int[] parent, left, right, stamp;
+	private int root = NIL;
+	private int freeHead = NIL; // 해제된 슬롯 목록의 머리
+	private int highWater;      // 한 번도 쓰지 않은 첫 슬롯
+	private int size;
+	private int modCount;
+
+	public ArenaBinaryTrees() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ArenaBinaryTrees(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		int cap = Math.max(1, initialCapacity);
+		elements = new Object[cap];
+		parent = new int[cap];
+		left = new int[cap];
+		right = new int[cap];
+		stamp = new int[cap];
+	}
+
+	// ===== MyTree 공통 =====
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public boolean contains(T value) {
+		Object[] es = elements;
+		int[] ps = parent;
+		for (int i = 0; i < highWater; i++) {
+			if (ps[i] != FREE && Objects.equals(es[i], value)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(elements, 0, highWater, null);
+		for (int i = 0; i < highWater; i++) stamp[i]++; // 남은 핸들 무효화
+		root = NIL;
+		freeHead = NIL;
+		highWater = 0;
+		size = 0;
+		modCount++;
+	}
+
+	// ===== MyBinaryTree 전용 =====
+	@Override
+	public Position<T> root() {
+		return handle(root);
+	}
+
+	@Override
+	public Position<T> addRoot(T value) {
+		if (root != NIL) throw new IllegalStateException("루트가 이미 존재합니다.");
+		root = allocate(value, NIL);
+		return handle(root);
+	}
+
+	@Override
+	public Position<T> addLeft(Position<T> p, T value) {
+		int i = cast(p);
+		if (left[i] != NIL) throw new IllegalStateException("왼쪽 자식이 이미 있습니다.");
+		int c = allocate(value, i);
+		left[i] = c;
+		return handle(c);
+	}
+
+	@Override
+	public Position<T> addRight(Position<T> p, T value) {
+		int i = cast(p);
+		if (right[i] != NIL) throw new IllegalStateException("오른쪽 자식이 이미 있습니다.");
+		int c = allocate(value, i);
+		right[i] = c;
+		return handle(c);
+	}
+
+	@Override
+	public Position<T> parent(Position<T> p) {
+		return handle(parent[cast(p)]);
+	}
+
+	@Override
+	public Position<T> left(Position<T> p) {
+		return handle(left[cast(p)]);
+	}
+
+	@Override
+	public Position<T> right(Position<T> p) {
+		return handle(right[cast(p)]);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T set(Position<T> p, T newValue) {
+		int i = cast(p);
+		T old = (T) elements[i];
+		elements[i] = newValue;
+		return old;
+	}
+
+	/**
+	 * p의 서브트리를 떼어 내고 슬롯을 free-list로 돌려보냅니다.
+	 * 잎까지 내려가 해제하고 parent 링크로 올라오기를 반복하므로 스택을 쓰지 않습니다.
+	 *
+	 * @return 제거된 노드 수
+	 */
+	@Override
+	public int removeSubtree(Position<T> p) {
+		int top = cast(p);
+		int up = parent[top];
+		if (up == NIL) root = NIL;
+		else if (left[up] == top) left[up] = NIL;
+		else right[up] = NIL;
+
+		int removed = 0;
+		for (int cur = top; ; ) {
+			if (left[cur] != NIL) cur = left[cur];
+			else if (right[cur] != NIL) cur = right[cur];
+			else {
+				int pa = parent[cur];
+				release(cur);
+				removed++;
+				if (cur == top) break;
+				if (left[pa] == cur) left[pa] = NIL;
+				else right[pa] = NIL;
+				cur = pa;
+			}
+		}
+		size -= removed;
+		modCount++;
+		return removed;
+	}
+
+	/** 현재 배열 용량(슬롯 수) */
+	public int capacity() {
+		return elements.length;
+	}
+
+	// ----- 슬롯 관리 -----
+	private int allocate(T value, int parentSlot) {
+		int i;
+		if (freeHead != NIL) {
+			i = freeHead;
+			freeHead = left[i];
+		} else {
+			if (highWater == elements.length) grow();
+			i = highWater++;
+		}
+		elements[i] = value;
+		parent[i] = parentSlot;
+		left[i] = NIL;
+		right[i] = NIL;
+		size++;
+		modCount++;
+		return i;
+	}
+
+	private void release(int i) {
+		elements[i] = null;
+		parent[i] = FREE;
+		right[i] = NIL;
+		left[i] = freeHead;
+		freeHead = i;
+		stamp[i]++;
+	}
+
+	private void grow() {
+		int cap = elements.length + (elements.length >> 1) + 1;
+		elements = Arrays.copyOf(elements, cap);
+		parent = Arrays.copyOf(parent, cap);
+		left = Arrays.copyOf(left, cap);
+		right = Arrays.copyOf(right, cap);
+		stamp = Arrays.copyOf(stamp, cap);
+	}
+
+	private Position<T> handle(int i) {
+		return i < 0 ? null : new Slot(i, stamp[i]);
+	}
+
+	private int cast(Position<T> p) {
+		if (!(p instanceof ArenaBinaryTrees<?>.Slot s))
+			throw new IllegalArgumentException("이 구현의 Position이 아닙니다.");
+		if (s.owner() != this)
+			throw new IllegalArgumentException("다른 트리에서 생성된 Position입니다.");
+		if (stamp[s.index] != s.stamp)
+			throw new IllegalArgumentException("삭제된 Position입니다.");
+		return s.index;
+	}
+
+	/** (슬롯, 세대) Position 핸들 */
+	private final class Slot implements Position<T> {
+		final int index;
+		final int stamp;
+
+		Slot(int index, int stamp) {
+			this.index = index;
+			this.stamp = stamp;
+		}
+
+		ArenaBinaryTrees<T> owner() { return ArenaBinaryTrees.this; }
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T element() {
+			if (ArenaBinaryTrees.this.stamp[index] != stamp) throw new IllegalStateException("삭제된 Position입니다.");
+			return (T) elements[index];
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ArenaBinaryTrees<?>.Slot s && s.owner() == owner() && s.index == index && s.stamp == stamp;
+		}
+
+		@Override
+		public int hashCode() { return 31 * index + stamp; }
+
+		@Override
+		public String toString() { return "Slot[" + index + "#" + stamp + "]"; }
+	}
+
+
+	// ===== 병렬 방문/결합 (ForkJoinPool) =====
+
+	@Override
+	public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+		ParallelTraversal.forEach(root(), size, this::expandChildren, action, options, () -> modCount);
+	}
+
+	@Override
+	public <R> R parallelReduce(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner,
+								ParallelOptions options) {
+		return ParallelTraversal.reduce(root(), size, this::expandChildren, identity, mapper, combiner, options, () -> modCount);
+	}
+
+	private int expandChildren(Position<T> p, List<Position<T>> out) {
+		int i = cast(p);
+		if (left[i] != NIL) out.add(handle(left[i]));
+		int slot = out.size();
+		if (right[i] != NIL) out.add(handle(right[i]));
+		return slot;
+	}
+
+	// ===== 순회 (Iterable) =====
+	/** 기본 이터레이터는 '중위(Inorder)' */
+	@Override
+	public Iterator<T> iterator() {
+		return new LinkIterator(Order.IN);
+	}
+
+	@Override
+	public Iterable<T> preorderIterable() {
+		return () -> new LinkIterator(Order.PRE);
+	}
+
+	@Override
+	public Iterable<T> inorderIterable() {
+		return this;
+	}
+
+	@Override
+	public Iterable<T> postorderIterable() {
+		return () -> new LinkIterator(Order.POST);
+	}
+
+	/** 레벨 순서(BFS): 핸들 대신 슬롯 번호를 int 큐에 담음 (fail-fast) */
+	@Override
+	public Iterable<T> levelOrderIterable() {
+		return () -> new Iterator<>() {
+			private final int expected = modCount;
+			private final IntQueue queue = Queues.ofInt();
+			{ if (root != NIL) queue.enqueueInt(root); }
+
+			@Override public boolean hasNext() { return !queue.isEmpty(); }
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (expected != modCount) throw new ConcurrentModificationException();
+				if (queue.isEmpty()) throw new NoSuchElementException();
+				int i = queue.dequeueInt();
+				if (left[i] != NIL) queue.enqueueInt(left[i]);
+				if (right[i] != NIL) queue.enqueueInt(right[i]);
+				return (T) elements[i];
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc} 레벨 구분은 큐 길이로 하며 버퍼는 재사용되므로 콜백 안에서만 유효합니다.
+	 * 콜백 사이에 구조 변경이 감지되면 {@link ConcurrentModificationException}.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEachLevel(BiConsumer<Integer, MyList<T>> action) {
+		Objects.requireNonNull(action);
+		final int expected = modCount;
+		IntQueue queue = Queues.ofInt();
+		MyList<T> level = Lists.array();
+		if (root != NIL) queue.enqueueInt(root);
+		for (int depth = 0; !queue.isEmpty(); depth++) {
+			level.clear();
+			for (int k = queue.size(); k > 0; k--) {
+				int i = queue.dequeueInt();
+				level.add((T) elements[i]);
+				if (left[i] != NIL) queue.enqueueInt(left[i]);
+				if (right[i] != NIL) queue.enqueueInt(right[i]);
+			}
+			action.accept(depth, level);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	private int firstInorder(int i) {
+		while (left[i] != NIL) i = left[i];
+		return i;
+	}
+
+	private int nextInorder(int i) {
+		if (right[i] != NIL) return firstInorder(right[i]);
+		int p = parent[i];
+		while (p != NIL && right[p] == i) { // 오른쪽 자식이면 계속 위로
+			i = p;
+			p = parent[i];
+		}
+		return p;
+	}
+
+	private int nextPreorder(int i) {
+		if (left[i] != NIL) return left[i];
+		if (right[i] != NIL) return right[i];
+		for (int p = parent[i]; p != NIL; i = p, p = parent[i]) {
+			if (right[p] != NIL && right[p] != i) return right[p]; // 왼쪽 자식이었고 형제가 있으면 형제로
+		}
+		return NIL;
+	}
+
+	private int firstPostorder(int i) {
+		while (true) {
+			if (left[i] != NIL) i = left[i];
+			else if (right[i] != NIL) i = right[i];
+			else return i;
+		}
+	}
+
+	private int nextPostorder(int i) {
+		int p = parent[i];
+		if (p == NIL) return NIL;
+		return right[p] != NIL && right[p] != i ? firstPostorder(right[p]) : p;
+	}
+
+	private enum Order { PRE, IN, POST }
+
+	// ----- parent 링크 순회 (스택 없음, 핸들 없음, fail-fast) -----
+	private final class LinkIterator implements Iterator<T> {
+		private final int expected = modCount;
+		private final Order order;
+		private int next;
+
+		LinkIterator(Order order) {
+			this.order = order;
+			next = root == NIL ? NIL : switch (order) {
+				case PRE -> root;
+				case IN -> firstInorder(root);
+				case POST -> firstPostorder(root);
+			};
+		}
+
+		@Override public boolean hasNext() { return next != NIL; }
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if (expected != modCount) throw new ConcurrentModificationException();
+			if (next == NIL) throw new NoSuchElementException();
+			int i = next;
+			next = switch (order) {
+				case PRE -> nextPreorder(i);
+				case IN -> nextInorder(i);
+				case POST -> nextPostorder(i);
+			};
+			return (T) elements[i];
+		}
+	}
+}
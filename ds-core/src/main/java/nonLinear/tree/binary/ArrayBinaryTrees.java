@@ -0,0 +1,422 @@
+package nonLinear.tree.binary;
+
+import linear.list.Lists;
+import linear.list.MyList;
+import nonLinear.tree.ParallelOptions;
+import nonLinear.tree.Position;
+import nonLinear.tree.internal.ParallelTraversal;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <h1>암묵적 배열 기반 완전 이진 트리 (Eytzinger / BFS 레이아웃)</h1>
+ *
+ * <h2>설계 개요</h2>
+ * - 원소를 <b>하나의 배열</b>에 BFS 순서로 저장합니다. 인덱스 i의 자식은 {@code 2i+1}/{@code 2i+2},
+ *   부모는 {@code (i-1)/2}. 노드 객체가 없으므로 노드당 메모리는 <b>참조 1개</b>입니다.
+ *   ({@link BinaryTrees}는 노드마다 element/parent/left/right/ownerToken 5개 참조 + 객체 헤더)
+ * - 항상 <b>완전 이진 트리</b> 모양을 유지합니다. 즉 점유된 인덱스는 언제나 {@code [0, size)}입니다.
+ *   <ul>
+ *     <li>{@link #addLeft}/{@link #addRight}는 그 자리가 BFS 순서상 다음 칸({@code size})일 때만 허용</li>
+ *     <li>{@link #removeSubtree}는 루트(전체 삭제) 또는 BFS 순서의 마지막 노드에만 허용
+ *         (다른 서브트리는 빠지면 배열 중간에 구멍이 생김)</li>
+ *   </ul>
+ *   위반 시 {@link IllegalStateException}.
+ * - {@link Position}은 <b>int 인덱스 핸들</b>입니다. 조회 때마다 가벼운 핸들을 만들며,
+ *   같은 트리·같은 인덱스의 핸들은 {@code equals}로 같습니다. 삭제된 칸의 핸들은 거부됩니다.
+ * - 순회(전위/중위/후위)는 인덱스 산술만으로 <b>스택 없이</b> 진행합니다.
+ *
+ * <h2>정적 정렬 데이터 탐색</h2>
+ * {@link #fromSorted}로 정렬된 입력을 중위 순서가 정렬 순서가 되도록 배치하면(Eytzinger 배치),
+ * {@link #lowerBound}는 분기 없이 {@code k = 2k + (a[k] < key)}만 반복합니다.
+ * 상위 레벨이 배열 앞쪽에 모여 캐시에 상주하고, 탐색 경로가 예측 불가 분기 없이 진행되어
+ * 일반 이진 탐색보다 큰 배열에서 유리합니다.
+ *
+ * <h2>복잡도</h2>
+ * - addRoot/addLeft/addRight/add: 분할 상환 O(1)
+ * - parent/left/right/set: O(1)
+ * - removeSubtree: 마지막 노드 O(1), 루트 O(n)
+ * - contains: O(n) (배열 순차 스캔)
+ * - lowerBound(Eytzinger): O(log n)
+ *
+ * @param <T> 원소 타입
+ */
+public class ArrayBinaryTrees<T> implements MyBinaryTree<T> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] elements;
+	private int size;
+	private int modCount;
+
+	public ArrayBinaryTrees() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public ArrayBinaryTrees(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("capacity < 0");
+		elements = new Object[Math.max(1, initialCapacity)];
+	}
+
+	/**
+	 * 정렬된 입력을 Eytzinger 배치로 적재한 트리를 만듭니다.
+	 * 결과 트리의 중위 순회는 입력 순서와 같고, {@link #lowerBound}로 탐색할 수 있습니다.
+	 */
+	public static <T> ArrayBinaryTrees<T> fromSorted(List<? extends T> sorted) {
+		int n = sorted.size();
+		ArrayBinaryTrees<T> t = new ArrayBinaryTrees<>(n);
+		// 중위 순서로 인덱스를 방문하며 입력을 차례로 채움 (스택 없음)
+		Iterator<? extends T> src = sorted.iterator();
+		for (int i = firstInorder(0, n); i >= 0; i = nextInorder(i, n)) t.elements[i] = src.next();
+		t.size = n;
+		t.modCount++;
+		return t;
+	}
+
+	// ===== MyTree 공통 =====
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public boolean contains(T value) {
+		Object[] es = elements;
+		for (int i = 0; i < size; i++) {
+			if (Objects.equals(es[i], value)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(elements, 0, size, null);
+		size = 0;
+		modCount++;
+	}
+
+	// ===== MyBinaryTree 전용 =====
+	@Override
+	public Position<T> root() {
+		return size == 0 ? null : new Slot(0);
+	}
+
+	@Override
+	public Position<T> addRoot(T value) {
+		if (size != 0) throw new IllegalStateException("루트가 이미 존재합니다.");
+		return append(value);
+	}
+
+	@Override
+	public Position<T> addLeft(Position<T> parent, T value) {
+		int p = cast(parent);
+		int c = 2 * p + 1;
+		if (c < size) throw new IllegalStateException("왼쪽 자식이 이미 있습니다.");
+		if (c != size) throw new IllegalStateException("완전 이진 트리에서는 BFS 순서의 다음 칸에만 추가할 수 있습니다.");
+		return append(value);
+	}
+
+	@Override
+	public Position<T> addRight(Position<T> parent, T value) {
+		int p = cast(parent);
+		int c = 2 * p + 2;
+		if (c < size) throw new IllegalStateException("오른쪽 자식이 이미 있습니다.");
+		if (c != size) throw new IllegalStateException("완전 이진 트리에서는 BFS 순서의 다음 칸에만 추가할 수 있습니다.");
+		return append(value);
+	}
+
+	/** BFS 순서의 다음 칸에 추가 (빈 트리면 루트) */
+	public Position<T> add(T value) {
+		return append(value);
+	}
+
+	@Override
+	public Position<T> parent(Position<T> p) {
+		int i = cast(p);
+		return i == 0 ? null : new Slot((i - 1) >>> 1);
+	}
+
+	@Override
+	public Position<T> left(Position<T> p) {
+		int c = 2 * cast(p) + 1;
+		return c < size ? new Slot(c) : null;
+	}
+
+	@Override
+	public Position<T> right(Position<T> p) {
+		int c = 2 * cast(p) + 2;
+		return c < size ? new Slot(c) : null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T set(Position<T> p, T newValue) {
+		int i = cast(p);
+		T old = (T) elements[i];
+		elements[i] = newValue;
+		// 값 교체는 구조 변경 아님 → modCount 증가 없음
+		return old;
+	}
+
+	/**
+	 * 서브트리 삭제. 완전 모양을 유지하려면 삭제 후 점유 칸이 {@code [0, i)}여야 하므로,
+	 * 서브트리가 {@code [i, size)}를 정확히 차지하는 경우(루트 또는 마지막 노드)만 허용합니다.
+	 */
+	@Override
+	public int removeSubtree(Position<T> p) {
+		int i = cast(p);
+		if (i == 0) {
+			int removed = size;
+			clear();            // modCount++ 포함
+			return removed;
+		}
+		if (i != size - 1)
+			throw new IllegalStateException("완전 이진 트리 모양을 깨는 삭제입니다. (루트 또는 마지막 노드만 삭제 가능)");
+		elements[i] = null;
+		size = i;
+		modCount++;
+		return 1;
+	}
+
+	// ===== 인덱스 접근 =====
+
+	/** 인덱스(BFS 순번)의 Position */
+	public Position<T> positionAt(int index) {
+		checkIndex(index);
+		return new Slot(index);
+	}
+
+	/** Position의 인덱스(BFS 순번) */
+	public int indexOf(Position<T> p) {
+		return cast(p);
+	}
+
+	/** 인덱스(BFS 순번)의 원소 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		checkIndex(index);
+		return (T) elements[index];
+	}
+
+	/**
+	 * Eytzinger 배치({@link #fromSorted})에서 key 이상인 첫 원소의 Position (없으면 null).
+	 * 루프 본문에 분기가 없어 JIT가 조건부 이동으로 컴파일할 수 있습니다.
+	 * 트리의 중위 순서가 comparator 기준으로 정렬되어 있어야 결과가 의미 있습니다.
+	 */
+	@SuppressWarnings("unchecked")
+	public Position<T> lowerBound(T key, Comparator<? super T> comparator) {
+		Object[] es = elements;
+		int n = size;
+		int k = 1;                   // 1-기반 인덱스
+		while (k <= n) k = 2 * k + (comparator.compare((T) es[k - 1], key) < 0 ? 1 : 0);
+		// 마지막으로 왼쪽으로 꺾은 지점까지 되돌아감: 끝의 연속된 1비트 + 그 앞 0비트 하나 제거
+		k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+		return k == 0 ? null : new Slot(k - 1);
+	}
+
+	// ===== 내부 =====
+
+	private Position<T> append(T value) {
+		if (size == elements.length) grow();
+		elements[size] = value;
+		Slot s = new Slot(size);
+		size++; modCount++;
+		return s;
+	}
+
+	private void grow() {
+		int old = elements.length;
+		int cap = old + (old >> 1) + 1;
+		if (cap < 0 || cap > Integer.MAX_VALUE - 8) cap = Integer.MAX_VALUE - 8;
+		if (cap <= old) throw new OutOfMemoryError("capacity overflow");
+		elements = Arrays.copyOf(elements, cap);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+	}
+
+	private int cast(Position<T> p) {
+		if (!(p instanceof ArrayBinaryTrees<?>.Slot s))
+			throw new IllegalArgumentException("이 구현의 Position이 아닙니다.");
+		if (s.owner() != this)
+			throw new IllegalArgumentException("다른 트리에서 생성된 Position입니다.");
+		if (s.index >= size)
+			throw new IllegalArgumentException("삭제된 Position입니다.");
+		return s.index;
+	}
+
+	/** i 서브트리에서 중위 순서 첫 인덱스 (n 이상이면 -1) */
+	private static int firstInorder(int i, int n) {
+		if (i >= n) return -1;
+		while (2 * i + 1 < n) i = 2 * i + 1;
+		return i;
+	}
+
+	/** 중위 순서 다음 인덱스 (없으면 -1) */
+	private static int nextInorder(int i, int n) {
+		if (2 * i + 2 < n) return firstInorder(2 * i + 2, n);
+		while (i > 0 && (i & 1) == 0) i = (i - 1) >>> 1; // 오른쪽 자식이면 계속 위로
+		return i == 0 ? -1 : (i - 1) >>> 1;              // 왼쪽 자식이었으면 부모가 다음
+	}
+
+	/** 전위 순서 다음 인덱스 (없으면 -1) */
+	private static int nextPreorder(int i, int n) {
+		if (2 * i + 1 < n) return 2 * i + 1;
+		while (i > 0) {
+			if ((i & 1) == 1 && i + 1 < n) return i + 1;  // 왼쪽 자식이고 형제가 있으면 형제로
+			i = (i - 1) >>> 1;
+		}
+		return -1;
+	}
+
+	/** i 서브트리에서 후위 순서 첫 인덱스 (가장 왼쪽 아래 리프) */
+	private static int firstPostorder(int i, int n) {
+		if (i >= n) return -1;
+		while (2 * i + 1 < n) i = 2 * i + 1; // 완전 트리에선 자식이 있으면 왼쪽 자식이 있음
+		return i;
+	}
+
+	/** 후위 순서 다음 인덱스 (없으면 -1) */
+	private static int nextPostorder(int i, int n) {
+		if (i == 0) return -1;
+		if ((i & 1) == 1 && i + 1 < n) return firstPostorder(i + 1, n);
+		return (i - 1) >>> 1;
+	}
+
+	/** int 인덱스 기반 Position 핸들 */
+	private final class Slot implements Position<T> {
+		final int index;
+
+		Slot(int index) { this.index = index; }
+
+		ArrayBinaryTrees<T> owner() { return ArrayBinaryTrees.this; }
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T element() {
+			if (index >= size) throw new IllegalStateException("삭제된 Position입니다.");
+			return (T) elements[index];
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ArrayBinaryTrees<?>.Slot s && s.owner() == owner() && s.index == index;
+		}
+
+		@Override
+		public int hashCode() { return index; }
+
+		@Override
+		public String toString() { return "Slot[" + index + "]"; }
+	}
+
+
+	// ===== 병렬 방문/결합 (ForkJoinPool) =====
+
+	@Override
+	public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+		ParallelTraversal.forEach(root(), size, this::expandChildren, action, options, () -> modCount);
+	}
+
+	@Override
+	public <R> R parallelReduce(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner,
+								ParallelOptions options) {
+		return ParallelTraversal.reduce(root(), size, this::expandChildren, identity, mapper, combiner, options, () -> modCount);
+	}
+
+	private int expandChildren(Position<T> p, List<Position<T>> out) {
+		int i = cast(p);
+		if (2 * i + 1 < size) out.add(new Slot(2 * i + 1));
+		int slot = out.size();
+		if (2 * i + 2 < size) out.add(new Slot(2 * i + 2));
+		return slot;
+	}
+
+	// ===== 순회 (Iterable) =====
+	/** 기본 이터레이터는 '중위(Inorder)' */
+	@Override
+	public Iterator<T> iterator() {
+		return new IndexIterator(Order.IN);
+	}
+
+	@Override
+	public Iterable<T> preorderIterable() {
+		return () -> new IndexIterator(Order.PRE);
+	}
+
+	@Override
+	public Iterable<T> inorderIterable() {
+		return this;
+	}
+
+	@Override
+	public Iterable<T> postorderIterable() {
+		return () -> new IndexIterator(Order.POST);
+	}
+
+	/** 레벨 순서(BFS) = 배열 순서 (큐 없음) */
+	@Override
+	public Iterable<T> levelOrderIterable() {
+		return () -> new IndexIterator(Order.LEVEL);
+	}
+
+	/**
+	 * 레벨 d는 배열 구간 {@code [2^d - 1, min(2^(d+1) - 1, size))}이므로 큐 없이 구간을 버퍼에 옮겨 넘깁니다.
+	 * 버퍼는 재사용되므로 콜백 안에서만 유효합니다. 콜백 사이에 구조 변경이 감지되면 {@link ConcurrentModificationException}.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEachLevel(BiConsumer<Integer, MyList<T>> action) {
+		Objects.requireNonNull(action);
+		final int expected = modCount;
+		MyList<T> level = Lists.array();
+		for (int depth = 0, from = 0; from < size; depth++, from = 2 * from + 1) {
+			level.clear();
+			int to = Math.min(2 * from + 1, size);
+			for (int i = from; i < to; i++) level.add((T) elements[i]);
+			action.accept(depth, level);
+			if (expected != modCount) throw new ConcurrentModificationException();
+		}
+	}
+
+	private enum Order { PRE, IN, POST, LEVEL }
+
+	// ----- 인덱스 산술 순회 (스택 없음, fail-fast) -----
+	private final class IndexIterator implements Iterator<T> {
+		private final int expected = modCount;
+		private final Order order;
+		private int next;
+
+		IndexIterator(Order order) {
+			this.order = order;
+			int n = size;
+			next = switch (order) {
+				case PRE, LEVEL -> n > 0 ? 0 : -1;
+				case IN -> firstInorder(0, n);
+				case POST -> firstPostorder(0, n);
+			};
+		}
+
+		private void check() { if (expected != modCount) throw new ConcurrentModificationException(); }
+
+		@Override public boolean hasNext() { return next >= 0; }
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+			check();
+			if (next < 0) throw new NoSuchElementException();
+			int i = next, n = size;
+			next = switch (order) {
+				case PRE -> nextPreorder(i, n);
+				case IN -> nextInorder(i, n);
+				case POST -> nextPostorder(i, n);
+				case LEVEL -> i + 1 < n ? i + 1 : -1;
+			};
+			return (T) elements[i];
+		}
+	}
+}
@@ -0,0 +1,394 @@
+package nonLinear.tree.binary;
+
+import linear.list.MyList;
+import nonLinear.tree.Monoid;
+import nonLinear.tree.ParallelOptions;
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.internal.AugmentedNode;
+import nonLinear.tree.internal.LevelOrder;
+import nonLinear.tree.internal.TreeSpliterators;
+import nonLinear.tree.internal.ParallelTraversal;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * <h1>서브트리 크기·모노이드 집계를 유지하는 이진 트리</h1>
+ *
+ * <h2>설계 개요</h2>
+ * - 각 노드가 <b>서브트리 크기</b>와 <b>서브트리 집계</b>를 캐시합니다.
+ *   집계는 사용자가 준 {@link Monoid}와 원소→집계값 함수(measure)로, 중위 순서대로
+ *   {@code combine(combine(왼쪽 집계, measure(원소)), 오른쪽 집계)}입니다. (교환법칙 불필요)
+ * - addLeft/addRight/set/removeSubtree 때 변경 지점에서 루트까지 부모 사슬을 따라 O(h)로 갱신합니다.
+ * - 그 결과 {@link #subtreeSize}/{@link #aggregate(Position)}는 O(1),
+ *   removeSubtree의 삭제 노드 수 계산도 전체 DFS 없이 O(1)입니다.
+ * - 노드마다 트리 세대(epoch)를 기록해 삭제된 Position을 O(1)에 거부합니다.
+ *   clear()는 트리 세대를 올려 모든 노드를 한 번에 무효화하고, removeSubtree는 떼어 낸 노드만 표시합니다.
+ * - 서브트리 크기로 중위 순서 기준 순위 통계 {@link #select}/{@link #rank}를 O(h)에 제공합니다.
+ *
+ * <h2>정책</h2>
+ * - measure는 원소가 바뀌지 않는 한 같은 값을 내야 합니다. 원소 객체를 외부에서 바꿨다면 {@link #set}으로 다시 넣으세요.
+ * - 기본 iterator()는 BinaryTrees와 같이 중위(inorder), fail-fast.
+ *
+ * <h2>복잡도</h2>
+ * - addLeft/addRight/set: O(h)
+ * - removeSubtree: O(h + k) (삭제 노드 수는 캐시된 크기, k개 핸들 무효화)
+ * - subtreeSize/aggregate: O(1)
+ * - select/rank: O(h)
+ *
+ * @param <T> 원소 타입
+ * @param <A> 집계 값 타입
+ */
+public class AugmentedBinaryTrees<T, A> implements MyBinaryTree<T> {
+
+	private final Monoid<A> monoid;
+	private final Function<? super T, ? extends A> measure;
+
+	private AugmentedNode<T, A> root;
+	private int size;
+	private int modCount;
+	private final Object ownerToken = new Object();
+	/** 현재 트리 세대 (0 이상). 노드의 epoch가 이와 다르면 삭제된 노드 */
+	private int epoch;
+
+	/** removeSubtree로 떼어 낸 노드의 epoch (트리 세대는 음수가 되지 않음) */
+	private static final int DEAD = -1;
+
+	/**
+	 * @param monoid  서브트리 집계 모노이드
+	 * @param measure 원소 하나의 집계값
+	 */
+	public AugmentedBinaryTrees(Monoid<A> monoid, Function<? super T, ? extends A> measure) {
+		this.monoid = Objects.requireNonNull(monoid);
+		this.measure = Objects.requireNonNull(measure);
+	}
+
+	// ===== MyTree 공통 =====
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public boolean contains(T value) {
+		for (T v : this) {
+			if (Objects.equals(v, value)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		root = null;
+		size = 0;
+		epoch = (epoch + 1) & Integer.MAX_VALUE; // 기존 노드 전부 무효화
+		modCount++;
+	}
+
+	// ===== MyBinaryTree 전용 =====
+	@Override public Position<T> root() { return root; }
+
+	@Override
+	public Position<T> addRoot(T value) {
+		if (root != null) throw new IllegalStateException("루트가 이미 존재합니다.");
+		root = new AugmentedNode<>(value, null, ownerToken, epoch);
+		pull(root);
+		size = 1;
+		modCount++;
+		return root;
+	}
+
+	@Override
+	public Position<T> addLeft(Position<T> parent, T value) {
+		AugmentedNode<T, A> p = cast(parent);
+		if (p.left != null) throw new IllegalStateException("왼쪽 자식이 이미 있습니다.");
+		AugmentedNode<T, A> n = new AugmentedNode<>(value, p, ownerToken, epoch);
+		p.left = n;
+		pullUp(n);
+		size++; modCount++;
+		return n;
+	}
+
+	@Override
+	public Position<T> addRight(Position<T> parent, T value) {
+		AugmentedNode<T, A> p = cast(parent);
+		if (p.right != null) throw new IllegalStateException("오른쪽 자식이 이미 있습니다.");
+		AugmentedNode<T, A> n = new AugmentedNode<>(value, p, ownerToken, epoch);
+		p.right = n;
+		pullUp(n);
+		size++; modCount++;
+		return n;
+	}
+
+	@Override public Position<T> parent(Position<T> p) { return cast(p).parent; }
+	@Override public Position<T> left(Position<T> p) { return cast(p).left; }
+	@Override public Position<T> right(Position<T> p) { return cast(p).right; }
+
+	/** 값 교체 후 조상들의 집계를 O(h)로 갱신 (구조 변경 아님 → modCount 증가 없음) */
+	@Override
+	public T set(Position<T> p, T newValue) {
+		AugmentedNode<T, A> n = cast(p);
+		T old = n.element;
+		n.element = newValue;
+		pullUp(n);
+		return old;
+	}
+
+	/** 서브트리 삭제. 삭제 노드 수는 캐시된 크기로 O(1), 조상 갱신 O(h), 떼어 낸 노드 무효화 O(k) */
+	@Override
+	public int removeSubtree(Position<T> p) {
+		AugmentedNode<T, A> n = cast(p);
+		if (n == root) { // 루트 제거
+			int removed = size;
+			clear();            // modCount++ 포함
+			return removed;
+		}
+		AugmentedNode<T, A> parent = n.parent;
+		if (parent.left == n) parent.left = null;
+		else parent.right = null;
+		n.parent = null;
+		pullUp(parent);
+		int removed = n.size;
+		markDead(n);
+		size -= removed;
+		modCount++;
+		return removed;
+	}
+
+	// ===== 집계/순위 통계 =====
+
+	/** p를 루트로 하는 서브트리의 노드 수 (O(1)) */
+	public int subtreeSize(Position<T> p) {
+		return cast(p).size;
+	}
+
+	/** p를 루트로 하는 서브트리의 중위 순서 집계 (O(1)) */
+	public A aggregate(Position<T> p) {
+		return cast(p).agg;
+	}
+
+	/** 트리 전체 집계 (비어 있으면 항등원) */
+	public A aggregate() {
+		return root == null ? monoid.identity() : root.agg;
+	}
+
+	/** 중위 순서로 k번째(0-기반) 노드 (O(h)) */
+	public Position<T> select(int k) {
+		if (k < 0 || k >= size) throw new IndexOutOfBoundsException("index=" + k + ", size=" + size);
+		AugmentedNode<T, A> x = root;
+		while (true) {
+			int ls = sizeOf(x.left);
+			if (k < ls) x = x.left;
+			else if (k == ls) return x;
+			else {
+				k -= ls + 1;
+				x = x.right;
+			}
+		}
+	}
+
+	/** p의 중위 순서 순위(0-기반) (O(h)) */
+	public int rank(Position<T> p) {
+		AugmentedNode<T, A> x = cast(p);
+		int r = sizeOf(x.left);
+		for (; x.parent != null; x = x.parent) {
+			if (x == x.parent.right) r += sizeOf(x.parent.left) + 1;
+		}
+		return r;
+	}
+
+	// ===== 내부 =====
+
+	private static int sizeOf(AugmentedNode<?, ?> n) { return n == null ? 0 : n.size; }
+
+	/** 자식들의 캐시로부터 n의 크기·집계를 다시 계산 */
+	private void pull(AugmentedNode<T, A> n) {
+		A a = measure.apply(n.element);
+		int s = 1;
+		if (n.left != null) {
+			a = monoid.combine(n.left.agg, a);
+			s += n.left.size;
+		}
+		if (n.right != null) {
+			a = monoid.combine(a, n.right.agg);
+			s += n.right.size;
+		}
+		n.agg = a;
+		n.size = s;
+	}
+
+	/** 떼어 낸 서브트리의 노드를 모두 삭제 표시 (명시적 스택, 깊은 사슬도 안전) */
+	private static void markDead(AugmentedNode<?, ?> n) {
+		Deque<AugmentedNode<?, ?>> st = new ArrayDeque<>();
+		st.push(n);
+		while (!st.isEmpty()) {
+			AugmentedNode<?, ?> x = st.pop();
+			x.epoch = DEAD;
+			if (x.left != null) st.push(x.left);
+			if (x.right != null) st.push(x.right);
+		}
+	}
+
+	/** n부터 루트까지 갱신 */
+	private void pullUp(AugmentedNode<T, A> n) {
+		for (AugmentedNode<T, A> x = n; x != null; x = x.parent) pull(x);
+	}
+
+	@SuppressWarnings("unchecked")
+	private AugmentedNode<T, A> cast(Position<T> p) {
+		if (!(p instanceof AugmentedNode<?, ?> node))
+			throw new IllegalArgumentException("이 구현의 Position이 아닙니다.");
+		if (node.ownerToken != this.ownerToken)
+			throw new IllegalArgumentException("다른 트리에서 생성된 Position입니다.");
+		if (node.epoch != epoch) // clear 이전 노드 또는 removeSubtree가 떼어 낸 노드
+			throw new IllegalArgumentException("삭제된 Position입니다.");
+		return (AugmentedNode<T, A>) node;
+	}
+
+	// ===== 병렬 방문/결합 (ForkJoinPool) =====
+
+	@Override
+	public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+		ParallelTraversal.forEach(root, size, this::expandChildren, action, options, () -> modCount);
+	}
+
+	@Override
+	public <R> R parallelReduce(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner,
+								ParallelOptions options) {
+		return ParallelTraversal.reduce(root, size, this::expandChildren, identity, mapper, combiner, options, () -> modCount);
+	}
+
+	// ===== 순회 (Iterable) =====
+	/** 기본 이터레이터는 '중위(Inorder)' */
+	@Override
+	public Iterator<T> iterator() {
+		return new InorderIterator();
+	}
+
+	@Override
+	public Iterable<T> preorderIterable() {
+		return PreorderIterator::new;
+	}
+
+	@Override
+	public Iterable<T> inorderIterable() {
+		return this;
+	}
+
+	@Override
+	public Iterable<T> postorderIterable() {
+		return PostorderIterator::new;
+	}
+
+	/** 중위 순서 Spliterator. 서브트리 크기를 알므로 분할 후에도 크기가 정확합니다(SUBSIZED). */
+	@Override
+	public Spliterator<T> spliterator() {
+		return TreeSpliterators.inorder(root, size, new TreeSpliterators.BinaryNav<AugmentedNode<T, A>, T>() {
+			@Override public AugmentedNode<T, A> left(AugmentedNode<T, A> n) { return n.left; }
+			@Override public AugmentedNode<T, A> right(AugmentedNode<T, A> n) { return n.right; }
+			@Override public T element(AugmentedNode<T, A> n) { return n.element; }
+			@Override public long subtreeSize(AugmentedNode<T, A> n) { return n.size; }
+		}, () -> modCount);
+	}
+
+	/** 레벨 순서(BFS) Iterable (fail-fast) */
+	@Override
+	public Iterable<T> levelOrderIterable() {
+		return () -> LevelOrder.iterator(root, this::expandChildren, () -> modCount);
+	}
+
+	/** {@inheritDoc} 콜백 사이에 구조 변경이 감지되면 {@link ConcurrentModificationException}. */
+	@Override
+	public void forEachLevel(BiConsumer<Integer, MyList<T>> action) {
+		LevelOrder.forEachLevel(root, this::expandChildren, action, () -> modCount);
+	}
+
+	private int expandChildren(Position<T> p, List<Position<T>> out) {
+		AugmentedNode<T, A> n = cast(p);
+		if (n.left != null) out.add(n.left);
+		int slot = out.size();
+		if (n.right != null) out.add(n.right);
+		return slot;
+	}
+
+	// ----- Inorder (반복 + 스택, fail-fast) -----
+	private final class InorderIterator implements Iterator<T> {
+		private final int expected = modCount;
+		private final Deque<AugmentedNode<T, A>> st = new ArrayDeque<>();
+		private AugmentedNode<T, A> cur = root;
+
+		private void check() { if (expected != modCount) throw new ConcurrentModificationException(); }
+
+		@Override public boolean hasNext() {
+			return cur != null || !st.isEmpty();
+		}
+
+		@Override public T next() {
+			check();
+			while (cur != null) {
+				st.push(cur);
+				cur = cur.left;
+			}
+			if (st.isEmpty()) throw new NoSuchElementException();
+			AugmentedNode<T, A> n = st.pop();
+			cur = n.right;
+			return n.element;
+		}
+	}
+
+	// ----- Preorder (반복 + 스택, fail-fast) -----
+	private final class PreorderIterator implements Iterator<T> {
+		private final int expected = modCount;
+		private final Deque<AugmentedNode<T, A>> st = new ArrayDeque<>();
+
+		PreorderIterator() { if (root != null) st.push(root); }
+		private void check() { if (expected != modCount) throw new ConcurrentModificationException(); }
+
+		@Override public boolean hasNext() { return !st.isEmpty(); }
+
+		@Override public T next() {
+			check();
+			if (st.isEmpty()) throw new NoSuchElementException();
+			AugmentedNode<T, A> n = st.pop();
+			if (n.right != null) st.push(n.right);
+			if (n.left  != null) st.push(n.left);
+			return n.element;
+		}
+	}
+
+	// ----- Postorder (부모 포인터, 지연 계산, O(1) 추가 메모리, fail-fast) -----
+	/**
+	 * 다음 노드를 부모 포인터로 그때그때 찾습니다. 생성은 O(h)(첫 리프까지 하강), 추가 메모리는 O(1).
+	 * 다음 = 부모의 왼쪽 자식이었고 오른쪽 형제가 있으면 그 서브트리의 후위 첫 노드, 아니면 부모.
+	 */
+	private final class PostorderIterator implements Iterator<T> {
+		private final int expected = modCount;
+		private AugmentedNode<T, A> next;
+
+		PostorderIterator() { next = root == null ? null : firstPostorder(root); }
+		private void check() { if (expected != modCount) throw new ConcurrentModificationException(); }
+
+		@Override public boolean hasNext() { return next != null; }
+
+		@Override public T next() {
+			check();
+			if (next == null) throw new NoSuchElementException();
+			AugmentedNode<T, A> n = next;
+			AugmentedNode<T, A> p = n.parent;
+			if (p == null) next = null;
+			else if (n == p.left && p.right != null) next = firstPostorder(p.right);
+			else next = p;
+			return n.element;
+		}
+	}
+
+	/** n 서브트리에서 후위 순서로 처음 방문할 노드: 왼쪽 우선, 없으면 오른쪽으로 리프까지 하강 */
+	private static <T, A> AugmentedNode<T, A> firstPostorder(AugmentedNode<T, A> n) {
+		while (true) {
+			if (n.left != null) n = n.left;
+			else if (n.right != null) n = n.right;
+			else return n;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package nonLinear.tree.binary;
+
+import nonLinear.tree.ElementCodec;
+import nonLinear.tree.ElementCodecs;
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.internal.BinaryNode;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * <h1>이진 트리 바이너리 직렬화 (전위 + 모양 비트)</h1>
+ *
+ * <h2>형식</h2>
+ * <pre>
+ * int    magic = 'B','T','R','E'
+ * byte   version = 1
+ * varint n (노드 수)
+ * byte[ceil(2n/8)] 모양 비트: 전위 순서로 노드마다 2비트 (bit0 = 왼쪽 자식 있음, bit1 = 오른쪽 자식 있음)
+ * 원소 n개: 전위 순서, {@link ElementCodec}으로 인코딩
+ * </pre>
+ * 링크 정보는 노드당 2비트뿐이고, 모양 비트를 먼저 두어 읽는 쪽이 원소를 읽으며 곧바로 노드를 연결할 수 있습니다.
+ *
+ * <h2>읽기(벌크 로드)</h2>
+ * 노드를 직접 만들어 연결하며 addLeft/addRight의 Position 검증을 건너뛰고, 끝에 modCount를 한 번만 올립니다.
+ * 보조 메모리는 오른쪽 자식을 기다리는 노드 스택(O(h))뿐입니다.
+ *
+ * <h2>주의</h2>
+ * - 채널은 닫지 않습니다. 쓰기는 끝에 flush합니다.
+ * - 읽기는 버퍼링 때문에 트리 뒤의 바이트를 미리 읽을 수 있으므로, 트리 하나를 채널 끝까지 쓰는 용도를 가정합니다.
+ */
+public final class BinaryTreeCodec {
+	private BinaryTreeCodec() {}
+
+	static final int MAGIC = 0x42545245; // "BTRE"
+	static final int VERSION = 1;
+	private static final int LEFT = 1, RIGHT = 2;
+	private static final int BUFFER = 1 << 16;
+
+	/** 트리를 전위 순서로 채널에 씀 (Position API만 사용하므로 모든 MyBinaryTree 구현에 사용 가능) */
+	public static <T> void write(MyBinaryTree<T> tree, ElementCodec<? super T> codec, WritableByteChannel channel) throws IOException {
+		Objects.requireNonNull(codec);
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER));
+		int n = tree.size();
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		ElementCodecs.writeVarInt(out, n);
+
+		// 1패스: 모양 비트
+		byte[] shapes = new byte[(2 * n + 7) / 8];
+		int i = 0;
+		Deque<Position<T>> st = new ArrayDeque<>();
+		if (tree.root() != null) st.push(tree.root());
+		while (!st.isEmpty()) {
+			Position<T> p = st.pop();
+			Position<T> l = tree.left(p), r = tree.right(p);
+			int shape = (l != null ? LEFT : 0) | (r != null ? RIGHT : 0);
+			shapes[i >>> 2] |= (byte) (shape << ((i & 3) * 2));
+			i++;
+			if (r != null) st.push(r);
+			if (l != null) st.push(l);
+		}
+		if (i != n) throw new IllegalStateException("size()와 실제 노드 수가 다릅니다: " + n + " != " + i);
+		out.write(shapes);
+
+		// 2패스: 원소
+		if (tree.root() != null) st.push(tree.root());
+		while (!st.isEmpty()) {
+			Position<T> p = st.pop();
+			codec.write(out, p.element());
+			Position<T> l = tree.left(p), r = tree.right(p);
+			if (r != null) st.push(r);
+			if (l != null) st.push(l);
+		}
+		out.flush();
+	}
+
+	/** 채널에서 새 {@link BinaryTrees}로 읽어 들임 */
+	public static <T> BinaryTrees<T> read(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+		BinaryTrees<T> tree = new BinaryTrees<>();
+		readInto(tree, channel, codec);
+		return tree;
+	}
+
+	/**
+	 * 채널에서 읽어 <b>비어 있는</b> 트리에 벌크 로드합니다.
+	 *
+	 * @throws IllegalStateException     트리가 비어 있지 않은 경우
+	 * @throws StreamCorruptedException 형식이 맞지 않는 경우
+	 */
+	public static <T> void readInto(BinaryTrees<T> tree, ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+		Objects.requireNonNull(codec);
+		if (!tree.isEmpty()) throw new IllegalStateException("트리가 비어 있지 않습니다.");
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), BUFFER));
+		if (in.readInt() != MAGIC) throw new StreamCorruptedException("이진 트리 데이터가 아닙니다.");
+		int version = in.readUnsignedByte();
+		if (version != VERSION) throw new StreamCorruptedException("지원하지 않는 버전: " + version);
+		int n = ElementCodecs.readVarInt(in);
+		if (n < 0) throw new StreamCorruptedException("노드 수가 음수입니다.");
+		byte[] shapes = readShapes(in, (int) ((2L * n + 7) / 8));
+
+		BinaryNode<T> root = null, prev = null;
+		int prevShape = 0;
+		Deque<BinaryNode<T>> awaitingRight = new ArrayDeque<>();
+		for (int i = 0; i < n; i++) {
+			int shape = (shapes[i >>> 2] >>> ((i & 3) * 2)) & 3;
+			T value = codec.read(in);
+			if (i == 0) {
+				root = prev = tree.newNode(value, null);
+			} else if ((prevShape & LEFT) != 0) {
+				// 직전 노드의 왼쪽 자식 (오른쪽도 있으면 나중을 위해 보관)
+				if ((prevShape & RIGHT) != 0) awaitingRight.push(prev);
+				prev = prev.left = tree.newNode(value, prev);
+			} else if ((prevShape & RIGHT) != 0) {
+				prev = prev.right = tree.newNode(value, prev);
+			} else {
+				// 직전 노드가 리프 → 오른쪽 자식을 기다리던 가장 가까운 조상
+				if (awaitingRight.isEmpty()) throw new StreamCorruptedException("모양 비트가 노드 수와 맞지 않습니다.");
+				BinaryNode<T> parent = awaitingRight.pop();
+				prev = parent.right = tree.newNode(value, parent);
+			}
+			prevShape = shape;
+		}
+		if (prevShape != 0 || !awaitingRight.isEmpty())
+			throw new StreamCorruptedException("모양 비트가 노드 수와 맞지 않습니다.");
+		tree.adopt(root, n);
+	}
+
+	/** 모양 비트 조각 크기: 헤더의 n을 믿고 한 번에 할당하지 않도록, 실제로 읽은 만큼만 배열을 키움 */
+	private static final int SHAPE_CHUNK = 1 << 16;
+
+	/**
+	 * 모양 비트 len바이트를 읽습니다. 손상된 헤더가 큰 n을 주장해도 데이터가 없으면 할당이 커지지 않습니다.
+	 *
+	 * @throws StreamCorruptedException 데이터가 len바이트보다 짧은 경우
+	 */
+	private static byte[] readShapes(DataInputStream in, int len) throws IOException {
+		byte[] buf = new byte[Math.min(len, SHAPE_CHUNK)];
+		int filled = 0;
+		while (filled < len) {
+			if (filled == buf.length) buf = Arrays.copyOf(buf, (int) Math.min(len, 2L * buf.length));
+			int r = in.read(buf, filled, buf.length - filled);
+			if (r < 0) throw new StreamCorruptedException("모양 비트가 노드 수보다 짧습니다.");
+			filled += r;
+		}
+		return buf;
+	}
+}
@@ -1,10 +1,19 @@
 package nonLinear.tree.binary;
 
+import linear.deque.WorkStealingPool;
+import linear.list.MyList;
+import nonLinear.tree.ParallelOptions;
 import nonLinear.tree.Position;
 import nonLinear.tree.binary.internal.BinaryNode;
+import nonLinear.tree.internal.LevelOrder;
+import nonLinear.tree.internal.ParallelTraversal;
+import nonLinear.tree.internal.TreeSpliterators;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * 이진 트리 구현 (fail-fast 이터레이터, 표준 중위 순회 제공)
@@ -109,6 +118,21 @@ public class BinaryTrees<T> implements MyBinaryTree<T> {
 		return removed;
 	}
 
+	// ===== 벌크 로드 (같은 패키지의 코덱 전용) =====
+
+	/** 이 트리 소유 노드를 만들기만 함 (연결/검증/size·modCount 갱신 없음) */
+	BinaryNode<T> newNode(T value, BinaryNode<T> parent) {
+		return new BinaryNode<>(value, parent, ownerToken);
+	}
+
+	/** 빈 트리에 {@link #newNode}로 만들어 연결을 마친 구조를 붙이고 modCount를 한 번만 올림 */
+	void adopt(BinaryNode<T> newRoot, int count) {
+		if (root != null) throw new IllegalStateException("트리가 비어 있지 않습니다.");
+		root = newRoot;
+		size = newRoot == null ? 0 : count;
+		modCount++;
+	}
+
 	private int countNodes(BinaryNode<T> subRoot) {
 		int cnt = 0;
 		Deque<BinaryNode<T>> st = new ArrayDeque<>();
@@ -152,6 +176,39 @@ public class BinaryTrees<T> implements MyBinaryTree<T> {
 		return PostorderIterator::new;
 	}
 
+	/**
+	 * 중위 순서 Spliterator. trySplit()은 왼쪽 서브트리를 앞부분으로 떼어 주고 "노드 + 오른쪽 서브트리"를 남깁니다.
+	 * 서브트리 크기를 저장하지 않으므로 분할 전에만 크기가 정확합니다.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return TreeSpliterators.inorder(root, size, new TreeSpliterators.BinaryNav<BinaryNode<T>, T>() {
+			@Override public BinaryNode<T> left(BinaryNode<T> n) { return n.left; }
+			@Override public BinaryNode<T> right(BinaryNode<T> n) { return n.right; }
+			@Override public T element(BinaryNode<T> n) { return n.element; }
+		}, () -> modCount);
+	}
+
+	/** 레벨 순서(BFS) Iterable (fail-fast) */
+	@Override
+	public Iterable<T> levelOrderIterable() {
+		return () -> LevelOrder.iterator(root, this::expandChildren, () -> modCount);
+	}
+
+	/** {@inheritDoc} 콜백 사이에 구조 변경이 감지되면 {@link ConcurrentModificationException}. */
+	@Override
+	public void forEachLevel(BiConsumer<Integer, MyList<T>> action) {
+		LevelOrder.forEachLevel(root, this::expandChildren, action, () -> modCount);
+	}
+
+	private int expandChildren(Position<T> p, List<Position<T>> out) {
+		BinaryNode<T> n = (BinaryNode<T>) p;
+		if (n.left != null) out.add(n.left);
+		int slot = out.size();
+		if (n.right != null) out.add(n.right);
+		return slot;
+	}
+
 	// ----- Inorder (반복 + 스택, fail-fast) -----
 	private final class InorderIterator implements Iterator<T> {
 		private final int expected = modCount;
@@ -198,29 +255,127 @@ public class BinaryTrees<T> implements MyBinaryTree<T> {
 		}
 	}
 
-	// ----- Postorder (반복 + 스택 2개, fail-fast) -----
+	// ----- Postorder (부모 포인터, 지연 계산, O(1) 추가 메모리, fail-fast) -----
+	/**
+	 * 다음 노드를 부모 포인터로 그때그때 찾습니다. 생성은 O(h)(첫 리프까지 하강), 추가 메모리는 O(1).
+	 * 다음 = 부모의 왼쪽 자식이었고 오른쪽 형제가 있으면 그 서브트리의 후위 첫 노드, 아니면 부모.
+	 */
 	private final class PostorderIterator implements Iterator<T> {
 		private final int expected = modCount;
-		private final Deque<BinaryNode<T>> s1 = new ArrayDeque<>();
-		private final Deque<BinaryNode<T>> s2 = new ArrayDeque<>();
-
-		PostorderIterator() {
-			if (root != null) s1.push(root);
-			while (!s1.isEmpty()) {
-				BinaryNode<T> n = s1.pop();
-				s2.push(n);
-				if (n.left  != null) s1.push(n.left);
-				if (n.right != null) s1.push(n.right);
-			}
-		}
+		private BinaryNode<T> next;
+
+		PostorderIterator() { next = root == null ? null : firstPostorder(root); }
 		private void check() { if (expected != modCount) throw new ConcurrentModificationException(); }
 
-		@Override public boolean hasNext() { return !s2.isEmpty(); }
+		@Override public boolean hasNext() { return next != null; }
 
 		@Override public T next() {
 			check();
-			if (s2.isEmpty()) throw new NoSuchElementException();
-			return s2.pop().element;
+			if (next == null) throw new NoSuchElementException();
+			BinaryNode<T> n = next;
+			BinaryNode<T> p = n.parent;
+			if (p == null) next = null;
+			else if (n == p.left && p.right != null) next = firstPostorder(p.right);
+			else next = p;
+			return n.element;
+		}
+	}
+
+	/** n 서브트리에서 후위 순서로 처음 방문할 노드: 왼쪽 우선, 없으면 오른쪽으로 리프까지 하강 */
+	private static <T> BinaryNode<T> firstPostorder(BinaryNode<T> n) {
+		while (true) {
+			if (n.left != null) n = n.left;
+			else if (n.right != null) n = n.right;
+			else return n;
+		}
+	}
+
+	// ===== 병렬 방문/결합 =====
+
+	/**
+	 * 모든 노드의 값을 {@link WorkStealingPool}에서 병렬로 방문합니다.
+	 * 분할 규칙은 ForkJoinPool 경로와 같고, 워커당 약 8개의 작업이 생기도록 임계값을 잡습니다.
+	 * <ul>
+	 *   <li>방문 순서는 정해지지 않습니다. {@code visit}은 스레드-안전해야 합니다.</li>
+	 *   <li>방문 중 트리를 변경하면 안 됩니다. 끝난 뒤 변경이 감지되면 {@link ConcurrentModificationException}.</li>
+	 * </ul>
+	 *
+	 * @param pool  실행할 풀
+	 * @param visit 방문 함수
+	 */
+	public void parallelForEach(WorkStealingPool pool, Consumer<? super T> visit) {
+		ParallelTraversal.forEach(root, size, this::expandChildren, visit, pool, () -> modCount);
+	}
+
+	@Override
+	public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+		ParallelTraversal.forEach(root, size, this::expandChildren, action, options, () -> modCount);
+	}
+
+	@Override
+	public <R> R parallelReduce(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner,
+								ParallelOptions options) {
+		return ParallelTraversal.reduce(root, size, this::expandChildren, identity, mapper, combiner, options, () -> modCount);
+	}
+
+	// ===== Morris 순회 (보조 스택 없음) =====
+
+	/**
+	 * 중위 순서로 방문하되 스택 없이 O(1) 추가 메모리로 순회합니다(Morris threading).
+	 * 왼쪽 서브트리의 가장 오른쪽 노드(중위 선행자)의 빈 right 포인터를 현재 노드로 임시 연결했다가,
+	 * 두 번째로 도착할 때 끊어 원래대로 되돌립니다. 각 간선을 최대 세 번 지나므로 O(n).
+	 * <ul>
+	 *   <li>순회 중 트리 링크가 일시적으로 바뀌므로, visit 안에서 트리 구조를 읽거나 바꾸면 안 되며
+	 *       다른 스레드가 동시에 읽어도 안 됩니다.</li>
+	 *   <li>visit이 예외를 던져도 나머지 순회를 방문 없이 끝까지 진행해 모든 임시 연결을 복구한 뒤 예외를 다시 던집니다.</li>
+	 *   <li>끝난 뒤 구조 변경이 감지되면 {@link ConcurrentModificationException}.</li>
+	 * </ul>
+	 */
+	public void inorderMorris(Consumer<? super T> visit) {
+		morris(false, visit);
+	}
+
+	/** 전위 순서 Morris 순회. 조건은 {@link #inorderMorris(Consumer)}와 같습니다. */
+	public void preorderMorris(Consumer<? super T> visit) {
+		morris(true, visit);
+	}
+
+	private void morris(boolean preorder, Consumer<? super T> visit) {
+		Objects.requireNonNull(visit);
+		final int expected = modCount;
+		Throwable failure = null; // 방문 중 예외: 복구를 마친 뒤 다시 던짐
+		BinaryNode<T> cur = root;
+		while (cur != null) {
+			if (cur.left == null) {
+				if (failure == null) failure = visitSafely(visit, cur.element);
+				cur = cur.right;
+				continue;
+			}
+			BinaryNode<T> pred = cur.left;
+			while (pred.right != null && pred.right != cur) pred = pred.right;
+			if (pred.right == null) {
+				// 첫 도착: 선행자 → cur 임시 연결 후 왼쪽으로
+				if (preorder && failure == null) failure = visitSafely(visit, cur.element);
+				pred.right = cur;
+				cur = cur.left;
+			} else {
+				// 두 번째 도착(왼쪽 서브트리 완료): 연결 복구 후 오른쪽으로
+				pred.right = null;
+				if (!preorder && failure == null) failure = visitSafely(visit, cur.element);
+				cur = cur.right;
+			}
+		}
+		if (failure instanceof RuntimeException re) throw re;
+		if (failure instanceof Error err) throw err;
+		if (expected != modCount) throw new ConcurrentModificationException();
+	}
+
+	private static <T> Throwable visitSafely(Consumer<? super T> visit, T element) {
+		try {
+			visit.accept(element);
+			return null;
+		} catch (RuntimeException | Error e) {
+			return e;
 		}
 	}
 
@@ -0,0 +1,308 @@
+package nonLinear.tree.binary;
+
+import linear.queue.IntQueue;
+import linear.queue.MyQueue;
+import linear.queue.Queues;
+import nonLinear.tree.ElementCodec;
+import nonLinear.tree.Position;
+import nonLinear.tree.internal.MappedRegion;
+import nonLinear.tree.internal.MappedRegionWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * <h1>메모리 매핑 파일 위의 읽기 전용 이진 트리 (지연 디코딩)</h1>
+ *
+ * <h2>설계 개요</h2>
+ * - {@link #write}가 트리를 <b>레벨 순서</b>로 번호 매겨 노드마다 32바이트 고정 레코드를 씁니다.
+ *   <pre>
+ *   long parent   부모 레코드 오프셋 (루트는 -1)
+ *   long left     왼쪽 자식 레코드 오프셋 (없으면 -1)
+ *   long right    오른쪽 자식 레코드 오프셋 (없으면 -1)
+ *   long element  원소 힙에서 인코딩된 원소의 오프셋
+ *   </pre>
+ *   레코드/힙 배치는 {@link MappedRegion} 참고.
+ * - {@link #open}은 헤더만 검증하고 파일을 매핑합니다. 노드 수와 무관하게 O(1)이며, 페이지는 접근할 때 올라옵니다.
+ * - {@link Position}은 <b>레코드 오프셋 핸들</b>입니다. 링크 조회는 long 하나 읽기이고,
+ *   원소는 {@link Position#element()}를 부를 때마다 {@link ElementCodec}으로 디코딩합니다(캐시 없음).
+ * - 순회 이터레이터는 parent 링크로 다음 노드를 찾으므로 스택 없이 O(1) 메모리입니다.
+ *   레벨 순서는 레코드 순서와 같아 파일을 앞에서부터 순차로 읽습니다.
+ *
+ * <h2>정책</h2>
+ * - <b>읽기 전용</b>: addRoot/addLeft/addRight/set/removeSubtree/clear는 {@link UnsupportedOperationException}.
+ * - 구조가 바뀌지 않으므로 fail-fast 검사가 없고, 여러 스레드가 동시에 읽어도 안전합니다.
+ * - 디코딩 중 {@link IOException}은 {@link UncheckedIOException}으로 감쌉니다.
+ *
+ * <h2>복잡도</h2>
+ * - open: O(1) (파일 크기 / 1GiB 개의 매핑)
+ * - root/parent/left/right: O(1)
+ * - element(): 원소 디코딩 비용
+ * - contains: O(n) (레코드 순서로 순차 디코딩)
+ *
+ * @param <T> 원소 타입
+ */
+public final class MappedBinaryTrees<T> implements MyBinaryTree<T> {
+
+	static final int MAGIC = 0x4D425452; // "MBTR"
+	static final int RECORD = 32;
+	private static final int PARENT = 0, LEFT = 8, RIGHT = 16, ELEMENT = 24;
+	private static final long NONE = -1L;
+
+	private final MappedRegion region;
+	private final ElementCodec<? extends T> codec;
+	private final int size;
+
+	private MappedBinaryTrees(MappedRegion region, ElementCodec<? extends T> codec) {
+		this.region = region;
+		this.codec = codec;
+		this.size = (int) region.nodeCount();
+	}
+
+	/**
+	 * 파일을 매핑해 트리를 엽니다. 원소는 읽지 않습니다.
+	 *
+	 * @throws java.io.StreamCorruptedException 이 형식의 파일이 아닐 때
+	 */
+	public static <T> MappedBinaryTrees<T> open(Path file, ElementCodec<? extends T> codec) throws IOException {
+		Objects.requireNonNull(codec);
+		return new MappedBinaryTrees<>(MappedRegion.open(file, MAGIC, RECORD), codec);
+	}
+
+	/**
+	 * 트리를 {@link #open}이 읽는 형식으로 씁니다 (Position API만 사용하므로 모든 MyBinaryTree 구현에 사용 가능).
+	 * 레벨 순서로 한 번 순회하며, 보조 메모리는 BFS 큐(최대 폭)입니다.
+	 */
+	public static <T> void write(MyBinaryTree<T> tree, ElementCodec<? super T> codec, Path file) throws IOException {
+		Objects.requireNonNull(codec);
+		int n = tree.size();
+		try (MappedRegionWriter w = new MappedRegionWriter(file, MAGIC, RECORD, n)) {
+			MyQueue<Position<T>> queue = Queues.array();
+			IntQueue parents = Queues.ofInt();
+			if (tree.root() != null) {
+				queue.enqueue(tree.root());
+				parents.enqueueInt(-1);
+			}
+			int next = 1; // 다음에 번호를 받을 노드 (번호 = 레벨 순서 = 레코드 순서)
+			for (int self = 0; !queue.isEmpty(); self++) {
+				Position<T> p = queue.dequeue();
+				int parent = parents.dequeueInt();
+				Position<T> l = tree.left(p), r = tree.right(p);
+				w.records().writeLong(parent < 0 ? NONE : recordOffset(parent));
+				w.records().writeLong(l == null ? NONE : recordOffset(next));
+				if (l != null) { queue.enqueue(l); parents.enqueueInt(self); next++; }
+				w.records().writeLong(r == null ? NONE : recordOffset(next));
+				if (r != null) { queue.enqueue(r); parents.enqueueInt(self); next++; }
+				w.records().writeLong(w.elementPosition());
+				codec.write(w.elements(), p.element());
+			}
+		}
+	}
+
+	private static long recordOffset(int index) {
+		return MappedRegion.HEADER + (long) index * RECORD;
+	}
+
+	// ===== MyTree 공통 =====
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public boolean contains(T value) {
+		for (T v : levelOrderIterable()) {
+			if (Objects.equals(v, value)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() { throw readOnly(); }
+
+	// ===== MyBinaryTree 전용 =====
+	@Override
+	public Position<T> root() {
+		return size == 0 ? null : new Node(recordOffset(0));
+	}
+
+	@Override public Position<T> addRoot(T value) { throw readOnly(); }
+	@Override public Position<T> addLeft(Position<T> parent, T value) { throw readOnly(); }
+	@Override public Position<T> addRight(Position<T> parent, T value) { throw readOnly(); }
+	@Override public T set(Position<T> p, T newValue) { throw readOnly(); }
+	@Override public int removeSubtree(Position<T> p) { throw readOnly(); }
+
+	@Override
+	public Position<T> parent(Position<T> p) {
+		return handle(region.getLong(cast(p) + PARENT));
+	}
+
+	@Override
+	public Position<T> left(Position<T> p) {
+		return handle(region.getLong(cast(p) + LEFT));
+	}
+
+	@Override
+	public Position<T> right(Position<T> p) {
+		return handle(region.getLong(cast(p) + RIGHT));
+	}
+
+	/** p의 레코드 오프셋 (파일 내 절대 위치) */
+	public long offsetOf(Position<T> p) {
+		return cast(p);
+	}
+
+	private Position<T> handle(long offset) {
+		return offset == NONE ? null : new Node(offset);
+	}
+
+	private long cast(Position<T> p) {
+		if (!(p instanceof MappedBinaryTrees<?>.Node n))
+			throw new IllegalArgumentException("이 구현의 Position이 아닙니다.");
+		if (n.owner() != this)
+			throw new IllegalArgumentException("다른 트리에서 생성된 Position입니다.");
+		return n.offset;
+	}
+
+	private T decode(long offset) {
+		try {
+			return codec.read(region.input(region.getLong(offset + ELEMENT)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("읽기 전용 트리입니다.");
+	}
+
+	/** 레코드 오프셋 Position 핸들 (원소는 element() 호출 때 디코딩) */
+	private final class Node implements Position<T> {
+		final long offset;
+
+		Node(long offset) { this.offset = offset; }
+
+		MappedBinaryTrees<T> owner() { return MappedBinaryTrees.this; }
+
+		@Override
+		public T element() { return decode(offset); }
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof MappedBinaryTrees<?>.Node n && n.owner() == owner() && n.offset == offset;
+		}
+
+		@Override
+		public int hashCode() { return Long.hashCode(offset); }
+
+		@Override
+		public String toString() { return "Node@" + offset; }
+	}
+
+	// ===== 순회 (Iterable) =====
+	/** 기본 이터레이터는 '중위(Inorder)' */
+	@Override
+	public Iterator<T> iterator() {
+		return new LinkIterator(Order.IN);
+	}
+
+	@Override
+	public Iterable<T> preorderIterable() {
+		return () -> new LinkIterator(Order.PRE);
+	}
+
+	@Override
+	public Iterable<T> inorderIterable() {
+		return this;
+	}
+
+	@Override
+	public Iterable<T> postorderIterable() {
+		return () -> new LinkIterator(Order.POST);
+	}
+
+	/** 레벨 순서 = 레코드 순서 (큐 없이 파일을 순차로 읽음) */
+	@Override
+	public Iterable<T> levelOrderIterable() {
+		return () -> new LinkIterator(Order.LEVEL);
+	}
+
+	private long link(long offset, int field) {
+		return region.getLong(offset + field);
+	}
+
+	private long firstInorder(long o) {
+		for (long l; (l = link(o, LEFT)) != NONE; ) o = l;
+		return o;
+	}
+
+	private long nextInorder(long o) {
+		long r = link(o, RIGHT);
+		if (r != NONE) return firstInorder(r);
+		long p = link(o, PARENT);
+		while (p != NONE && link(p, RIGHT) == o) { // 오른쪽 자식이면 계속 위로
+			o = p;
+			p = link(o, PARENT);
+		}
+		return p;
+	}
+
+	private long nextPreorder(long o) {
+		long c = link(o, LEFT);
+		if (c != NONE || (c = link(o, RIGHT)) != NONE) return c;
+		for (long p = link(o, PARENT); p != NONE; o = p, p = link(o, PARENT)) {
+			long r = link(p, RIGHT);
+			if (r != NONE && r != o) return r; // 왼쪽 자식이었고 형제가 있으면 형제로
+		}
+		return NONE;
+	}
+
+	private long firstPostorder(long o) {
+		while (true) {
+			long c = link(o, LEFT);
+			if (c == NONE) c = link(o, RIGHT);
+			if (c == NONE) return o;
+			o = c;
+		}
+	}
+
+	private long nextPostorder(long o) {
+		long p = link(o, PARENT);
+		if (p == NONE) return NONE;
+		long r = link(p, RIGHT);
+		return r != NONE && r != o ? firstPostorder(r) : p;
+	}
+
+	private enum Order { PRE, IN, POST, LEVEL }
+
+	// ----- parent 링크 순회 (스택 없음) -----
+	private final class LinkIterator implements Iterator<T> {
+		private final Order order;
+		private long next;
+
+		LinkIterator(Order order) {
+			this.order = order;
+			long root = size == 0 ? NONE : recordOffset(0);
+			next = root == NONE ? NONE : switch (order) {
+				case PRE, LEVEL -> root;
+				case IN -> firstInorder(root);
+				case POST -> firstPostorder(root);
+			};
+		}
+
+		@Override public boolean hasNext() { return next != NONE; }
+
+		@Override
+		public T next() {
+			if (next == NONE) throw new NoSuchElementException();
+			long o = next;
+			next = switch (order) {
+				case PRE -> nextPreorder(o);
+				case IN -> nextInorder(o);
+				case POST -> nextPostorder(o);
+				case LEVEL -> o + RECORD < recordOffset(size) ? o + RECORD : NONE;
+			};
+			return decode(o);
+		}
+	}
+}
@@ -1,7 +1,17 @@
 package nonLinear.tree.binary;
 
+import linear.list.MyList;
 import nonLinear.tree.MyTree;
+import nonLinear.tree.ParallelOptions;
 import nonLinear.tree.Position;
+import nonLinear.tree.internal.LevelOrder;
+import nonLinear.tree.internal.ParallelTraversal;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public interface MyBinaryTree<T> extends MyTree<T> {
 
@@ -32,4 +42,56 @@ public interface MyBinaryTree<T> extends MyTree<T> {
 	Iterable<T> preorderIterable();
 	Iterable<T> inorderIterable();   // 이진 트리 표준 중위
 	Iterable<T> postorderIterable();
+
+	/** 모든 노드 값을 공용 ForkJoinPool에서 병렬 방문 (순서 무관, {@link ParallelOptions#defaults()}) */
+	default void parallelForEach(Consumer<? super T> action) {
+		parallelForEach(action, ParallelOptions.defaults());
+	}
+
+	/**
+	 * 모든 노드 값을 병렬 방문합니다. 서브트리 루트 단위로 fork하고, 추정 크기가 임계값 이하면 순차 처리합니다.
+	 * 순서 무관 모드에서 action은 스레드-안전해야 하며, 방문 중 트리를 변경하면 안 됩니다.
+	 * 순서 보존 모드에서는 중위 순서대로 하나씩 방문합니다.
+	 * fail-fast 구현은 끝난 뒤 구조 변경이 감지되면 {@link java.util.ConcurrentModificationException}을 던집니다.
+	 */
+	default void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+		ParallelTraversal.forEach(root(), size(), this::expandInorder, action, options, null);
+	}
+
+	/** 모든 노드 값을 mapper로 바꿔 combiner로 병렬 결합 (순서 무관, {@link ParallelOptions#defaults()}) */
+	default <R> R parallelReduce(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner) {
+		return parallelReduce(identity, mapper, combiner, ParallelOptions.defaults());
+	}
+
+	/**
+	 * 모든 노드 값을 mapper로 바꿔 combiner로 병렬 결합합니다. identity는 combiner의 항등원이어야 합니다.
+	 * 순서 보존 모드에서는 중위 순서대로 결합합니다.
+	 * fail-fast 구현은 끝난 뒤 구조 변경이 감지되면 {@link java.util.ConcurrentModificationException}을 던집니다.
+	 */
+	default <R> R parallelReduce(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner,
+								 ParallelOptions options) {
+		return ParallelTraversal.reduce(root(), size(), this::expandInorder, identity, mapper, combiner, options, null);
+	}
+
+	/** 레벨 순서(BFS) Iterable. 같은 레벨 안에서는 왼쪽 → 오른쪽 */
+	default Iterable<T> levelOrderIterable() {
+		return () -> LevelOrder.iterator(root(), this::expandInorder, null);
+	}
+
+	/**
+	 * 레벨마다 (레벨 번호(루트 = 0), 그 레벨의 원소들)을 넘깁니다.
+	 * 내부 배열 큐 하나와 레벨 버퍼 하나를 재사용하므로, 버퍼는 콜백 안에서만 유효합니다(보관하려면 복사).
+	 */
+	default void forEachLevel(BiConsumer<Integer, MyList<T>> action) {
+		LevelOrder.forEachLevel(root(), this::expandInorder, action, null);
+	}
+
+	/** 병렬 순회용: 자식을 왼→오 순서로 담고 중위 순서상 자신의 위치를 반환 */
+	private int expandInorder(Position<T> p, List<Position<T>> out) {
+		Position<T> l = left(p), r = right(p);
+		if (l != null) out.add(l);
+		int slot = out.size();
+		if (r != null) out.add(r);
+		return slot;
+	}
 }
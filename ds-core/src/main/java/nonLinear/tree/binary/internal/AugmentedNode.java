@@ -0,0 +1,41 @@
+package nonLinear.tree.binary.internal;
+
+import nonLinear.tree.Position;
+
+/**
+ * 서브트리 크기와 모노이드 집계를 캐시하는 이진 트리 내부 노드입니다.
+ * 외부에는 Position<T> 핸들로만 노출됩니다.
+ *
+ * @param <T> 원소 타입
+ * @param <A> 집계 값 타입
+ */
+public final class AugmentedNode<T, A> implements Position<T> {
+	/** 이 노드가 담고 있는 값 */
+	public T element;
+	/** 부모노드 */
+	public AugmentedNode<T, A> parent;
+	/** 왼쪽 자식 */
+	public AugmentedNode<T, A> left;
+	/** 오른쪽 자식 */
+	public AugmentedNode<T, A> right;
+	/** 이 노드를 루트로 하는 서브트리의 노드 수 */
+	public int size;
+	/** 서브트리 집계 = combine(combine(left.agg, measure(element)), right.agg) (중위 순서) */
+	public A agg;
+	/** 이 노드를 소유한 트리를 식별하는 토큰 (동일 트리인지 검증용) */
+	public final Object ownerToken;
+	/** 생성 시점의 트리 세대. 트리의 현재 세대와 다르면 삭제된 노드 (clear/removeSubtree가 무효화) */
+	public int epoch;
+
+	public AugmentedNode(T element, AugmentedNode<T, A> parent, Object ownerToken, int epoch) {
+		this.element = element;
+		this.parent = parent;
+		this.ownerToken = ownerToken;
+		this.epoch = epoch;
+	}
+
+	@Override
+	public T element() {
+		return element;
+	}
+}
@@ -0,0 +1,123 @@
+package nonLinear.tree.general;
+
+import linear.stack.IntStack;
+import linear.stack.Stacks;
+import nonLinear.tree.ElementCodec;
+import nonLinear.tree.ElementCodecs;
+import nonLinear.tree.Position;
+import nonLinear.tree.general.internal.GeneralNode;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h1>일반 트리 바이너리 직렬화 (전위 + 자식 수)</h1>
+ *
+ * <h2>형식</h2>
+ * <pre>
+ * int    magic = 'G','T','R','E'
+ * byte   version = 1
+ * varint n (노드 수)
+ * 노드 n개: 전위 순서로 [varint 자식 수][원소({@link ElementCodec})]
+ * </pre>
+ *
+ * <h2>읽기(벌크 로드)</h2>
+ * 노드를 직접 만들어 부모의 자식 목록에 붙이며 addChild의 Position 검증을 건너뛰고, 끝에 modCount를 한 번만 올립니다.
+ * 보조 메모리는 "아직 자식을 더 받아야 하는 노드" 스택(O(h))뿐입니다.
+ *
+ * <h2>주의</h2>
+ * - 채널은 닫지 않습니다. 쓰기는 끝에 flush합니다.
+ * - 읽기는 버퍼링 때문에 트리 뒤의 바이트를 미리 읽을 수 있으므로, 트리 하나를 채널 끝까지 쓰는 용도를 가정합니다.
+ */
+public final class GeneralTreeCodec {
+	private GeneralTreeCodec() {}
+
+	static final int MAGIC = 0x47545245; // "GTRE"
+	static final int VERSION = 1;
+	private static final int BUFFER = 1 << 16;
+
+	/** 트리를 전위 순서로 채널에 씀 (Position API만 사용하므로 모든 MyGeneralTree 구현에 사용 가능) */
+	public static <T> void write(MyGeneralTree<T> tree, ElementCodec<? super T> codec, WritableByteChannel channel) throws IOException {
+		Objects.requireNonNull(codec);
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER));
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		ElementCodecs.writeVarInt(out, tree.size());
+		int written = 0;
+		Deque<Position<T>> st = new ArrayDeque<>();
+		List<Position<T>> kids = new ArrayList<>();
+		if (tree.root() != null) st.push(tree.root());
+		while (!st.isEmpty()) {
+			Position<T> p = st.pop();
+			kids.clear();
+			for (Position<T> c : tree.children(p)) kids.add(c);
+			ElementCodecs.writeVarInt(out, kids.size());
+			codec.write(out, p.element());
+			written++;
+			for (int i = kids.size() - 1; i >= 0; i--) st.push(kids.get(i));
+		}
+		if (written != tree.size())
+			throw new IllegalStateException("size()와 실제 노드 수가 다릅니다: " + tree.size() + " != " + written);
+		out.flush();
+	}
+
+	/** 채널에서 새 {@link GeneralTrees}로 읽어 들임 */
+	public static <T> GeneralTrees<T> read(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+		GeneralTrees<T> tree = new GeneralTrees<>();
+		readInto(tree, channel, codec);
+		return tree;
+	}
+
+	/**
+	 * 채널에서 읽어 <b>비어 있는</b> 트리에 벌크 로드합니다.
+	 *
+	 * @throws IllegalStateException     트리가 비어 있지 않은 경우
+	 * @throws StreamCorruptedException 형식이 맞지 않는 경우
+	 */
+	public static <T> void readInto(GeneralTrees<T> tree, ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+		Objects.requireNonNull(codec);
+		if (!tree.isEmpty()) throw new IllegalStateException("트리가 비어 있지 않습니다.");
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), BUFFER));
+		if (in.readInt() != MAGIC) throw new StreamCorruptedException("일반 트리 데이터가 아닙니다.");
+		int version = in.readUnsignedByte();
+		if (version != VERSION) throw new StreamCorruptedException("지원하지 않는 버전: " + version);
+		int n = ElementCodecs.readVarInt(in);
+		if (n < 0) throw new StreamCorruptedException("노드 수가 음수입니다.");
+
+		GeneralNode<T> root = null;
+		Deque<GeneralNode<T>> open = new ArrayDeque<>(); // 자식을 더 받아야 하는 노드
+		IntStack remaining = Stacks.ofInt();               // open과 짝을 이루는 남은 자식 수
+		for (int i = 0; i < n; i++) {
+			int childCount = ElementCodecs.readVarInt(in);
+			if (childCount < 0) throw new StreamCorruptedException("자식 수가 음수입니다.");
+			if (childCount > n - 1 - i) throw new StreamCorruptedException("자식 수가 남은 노드 수보다 큽니다.");
+			T value = codec.read(in);
+			GeneralNode<T> node;
+			if (i == 0) {
+				node = root = tree.newNode(value, null);
+			} else {
+				if (open.isEmpty()) throw new StreamCorruptedException("자식 수가 노드 수와 맞지 않습니다.");
+				GeneralNode<T> parent = open.peek();
+				node = tree.newNode(value, parent);
+				parent.addChild(node);
+				int left = remaining.popInt() - 1;
+				if (left == 0) open.pop();
+				else remaining.pushInt(left);
+			}
+			if (childCount > 0) {
+				node.reserveChildren(childCount); // 자식 수를 알므로 배열을 정확한 크기로
+				open.push(node);
+				remaining.pushInt(childCount);
+			}
+		}
+		if (!open.isEmpty()) throw new StreamCorruptedException("자식 수가 노드 수와 맞지 않습니다.");
+		tree.adopt(root, n);
+	}
+}
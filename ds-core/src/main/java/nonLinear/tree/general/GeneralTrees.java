@@ -1,9 +1,19 @@
 package nonLinear.tree.general;
 
+import linear.deque.WorkStealingPool;
+import linear.list.MyList;
+import nonLinear.tree.ParallelOptions;
 import nonLinear.tree.Position;
 import nonLinear.tree.general.internal.GeneralNode;
+import nonLinear.tree.internal.LevelOrder;
+import nonLinear.tree.internal.ParallelTraversal;
+import nonLinear.tree.internal.TreeSpliterators;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * <h1>N-ary 일반 트리 구현체 (자식 수 제한 없음)</h1>
@@ -117,7 +127,7 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 	public Position<T> addChild(Position<T> parent, T value) {
 		GeneralNode<T> p = cast(parent); // 여기서 owner 검증 수행
 		GeneralNode<T> child = new GeneralNode<>(value, p, ownerToken);
-		p.children.add(child);
+		p.addChild(child);
 		size++;
 		modCount++;
 		return child;
@@ -132,12 +142,12 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 
 	/**
 	 * p의 자식들 (읽기 전용 뷰) 반환 (O(1))
-	 * - 외부에서 children 목록을 변경할 수 없게 하기 위해 unmodifiableList 사용
-	 * - 순서는 삽입 순서를 보장(ArrayList)
+	 * - 외부에서 children 목록을 변경할 수 없게 하기 위해 읽기 전용 뷰 사용
+	 * - 순서는 삽입 순서를 보장
 	 */
 	@Override
 	public Iterable<Position<T>> children(Position<T> p) {
-		return java.util.Collections.unmodifiableList(cast(p).children);
+		return java.util.Collections.unmodifiableList(cast(p).children());
 	}
 
 	/**
@@ -158,7 +168,7 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 			return removed;
 		}
 		// 부모-자식 링크를 먼저 끊어 외부 경로에서 접근할 수 없게 함
-		node.parent.children.remove(node);
+		node.parent.removeChild(node);
 
 		// 서브트리 노드 수 계산: 큐(BFS)로 node 이하를 모두 세기
 		int removed = countNodes(node);
@@ -168,6 +178,21 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 		return removed;
 	}
 
+	// ====== 벌크 로드 (같은 패키지의 코덱 전용) ======
+
+	/** 이 트리 소유 노드를 만들기만 함 (부모 자식 목록 연결/검증/size·modCount 갱신 없음) */
+	GeneralNode<T> newNode(T value, GeneralNode<T> parent) {
+		return new GeneralNode<>(value, parent, ownerToken);
+	}
+
+	/** 빈 트리에 {@link #newNode}로 만들어 연결을 마친 구조를 붙이고 modCount를 한 번만 올림 */
+	void adopt(GeneralNode<T> newRoot, int count) {
+		if (root != null) throw new IllegalStateException("트리가 비어 있지 않습니다.");
+		root = newRoot;
+		size = newRoot == null ? 0 : count;
+		modCount++;
+	}
+
 	/**
 	 * 서브트리 노드 수 세기 (BFS) (O(k))
 	 * - 전달받은 n을 루트로 하는 영역만 순회합니다.
@@ -179,7 +204,7 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 		while (!q.isEmpty()) {
 			GeneralNode<T> cur = q.poll();
 			cnt++;
-			q.addAll(cur.children);    // 현재 노드의 모든 자식을 큐에 추가
+			for (int i = 0; i < cur.childCount(); i++) q.offer(cur.child(i)); // 현재 노드의 모든 자식을 큐에 추가
 		}
 		return cnt;
 	}
@@ -199,6 +224,32 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 		return node;
 	}
 
+	// ====== 병렬 방문/결합 ======
+
+	/**
+	 * 모든 노드의 값을 {@link WorkStealingPool}에서 병렬로 방문합니다.
+	 * - 분할 규칙은 ForkJoinPool 경로와 같고, 워커당 약 8개의 작업이 생기도록 임계값을 잡습니다.
+	 * - 방문 순서는 정해지지 않습니다. visit은 스레드-안전해야 합니다.
+	 * - 방문 중 트리를 변경하면 안 됩니다. 끝난 뒤 변경이 감지되면 ConcurrentModificationException
+	 *
+	 * @param pool  실행할 풀
+	 * @param visit 방문 함수
+	 */
+	public void parallelForEach(WorkStealingPool pool, Consumer<? super T> visit) {
+		ParallelTraversal.forEach(root, size, this::expandChildren, visit, pool, () -> modCount);
+	}
+
+	@Override
+	public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+		ParallelTraversal.forEach(root, size, this::expandChildren, action, options, () -> modCount);
+	}
+
+	@Override
+	public <R> R parallelReduce(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner,
+								ParallelOptions options) {
+		return ParallelTraversal.reduce(root, size, this::expandChildren, identity, mapper, combiner, options, () -> modCount);
+	}
+
 	// ====== 순회(Iterable) ======
 
 	/**
@@ -211,6 +262,37 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 		return new PreorderIterator();
 	}
 
+	/** 레벨 순서(BFS) Iterable (fail-fast) */
+	@Override
+	public Iterable<T> levelOrderIterable() {
+		return () -> LevelOrder.iterator(root, this::expandChildren, () -> modCount);
+	}
+
+	/** {@inheritDoc} 콜백 사이에 구조 변경이 감지되면 {@link ConcurrentModificationException}. */
+	@Override
+	public void forEachLevel(BiConsumer<Integer, MyList<T>> action) {
+		LevelOrder.forEachLevel(root, this::expandChildren, action, () -> modCount);
+	}
+
+	private int expandChildren(Position<T> p, List<Position<T>> out) {
+		GeneralNode<T> n = (GeneralNode<T>) p;
+		out.addAll(n.children());
+		return 0;
+	}
+
+	/**
+	 * 전위 순서 Spliterator. trySplit()은 가장 바깥 노드의 남은 자식들을 반으로 나눠 앞쪽 절반을 떼어 줍니다.
+	 * 서브트리 크기를 저장하지 않으므로 분할 전에만 크기가 정확합니다.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return TreeSpliterators.preorder(root, size, new TreeSpliterators.GeneralNav<GeneralNode<T>, T>() {
+			@Override public int childCount(GeneralNode<T> n) { return n.childCount(); }
+			@Override public GeneralNode<T> child(GeneralNode<T> n, int i) { return n.child(i); }
+			@Override public T element(GeneralNode<T> n) { return n.element; }
+		}, () -> modCount);
+	}
+
 	/**
 	 * Preorder 이터레이터 (fail-fast)
 	 * - 스택을 사용해 루트부터 내려가며 방문
@@ -239,8 +321,8 @@ public class GeneralTrees<T> implements MyGeneralTree<T> {
 			GeneralNode<T> n = stack.pop();
 
 			// children을 역순으로 push → pop 순서는 원래 삽입 순서가 되도록
-			for (int i = n.children.size() - 1; i >= 0; i--) {
-				stack.push(n.children.get(i));
+			for (int i = n.childCount() - 1; i >= 0; i--) {
+				stack.push(n.child(i));
 			}
 			return n.element;
 		}
@@ -0,0 +1,256 @@
+package nonLinear.tree.general;
+
+import linear.queue.IntQueue;
+import linear.queue.MyQueue;
+import linear.queue.Queues;
+import nonLinear.tree.ElementCodec;
+import nonLinear.tree.Position;
+import nonLinear.tree.internal.MappedRegion;
+import nonLinear.tree.internal.MappedRegionWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * <h1>메모리 매핑 파일 위의 읽기 전용 일반 트리 (지연 디코딩)</h1>
+ *
+ * <h2>설계 개요</h2>
+ * - {@link #write}가 트리를 <b>레벨 순서</b>로 번호 매겨 노드마다 32바이트 고정 레코드를 씁니다.
+ *   레벨 순서에서는 한 노드의 자식들이 연속된 번호를 받으므로, 자식 목록은 (첫 자식, 개수) 두 값이면 충분합니다.
+ *   <pre>
+ *   long parent      부모 레코드 오프셋 (루트는 -1)
+ *   long firstChild  첫 자식 레코드 오프셋 (자식이 없으면 -1)
+ *   long element     원소 힙에서 인코딩된 원소의 오프셋
+ *   int  childCount  자식 수 (자식 레코드는 firstChild부터 연속)
+ *   int  0
+ *   </pre>
+ *   레코드/힙 배치는 {@link MappedRegion} 참고.
+ * - {@link #open}은 헤더만 검증하고 파일을 매핑합니다. 노드 수와 무관하게 O(1)이며, 페이지는 접근할 때 올라옵니다.
+ * - {@link Position}은 <b>레코드 오프셋 핸들</b>이고, 원소는 {@link Position#element()}를 부를 때마다 디코딩합니다.
+ * - 기본 이터레이터(전위)는 parent 링크와 형제 연속성으로 다음 노드를 찾아 O(1) 메모리입니다.
+ *
+ * <h2>정책</h2>
+ * - <b>읽기 전용</b>: addRoot/addChild/removeSubtree/clear는 {@link UnsupportedOperationException}.
+ * - 구조가 바뀌지 않으므로 fail-fast 검사가 없고, 여러 스레드가 동시에 읽어도 안전합니다.
+ * - 디코딩 중 {@link IOException}은 {@link UncheckedIOException}으로 감쌉니다.
+ *
+ * <h2>복잡도</h2>
+ * - open: O(1)
+ * - root/parent/childCount: O(1), children: O(자식 수)
+ * - contains: O(n) (레코드 순서로 순차 디코딩)
+ *
+ * @param <T> 원소 타입
+ */
+public final class MappedGeneralTrees<T> implements MyGeneralTree<T> {
+
+	static final int MAGIC = 0x4D475452; // "MGTR"
+	static final int RECORD = 32;
+	private static final int PARENT = 0, FIRST_CHILD = 8, ELEMENT = 16, CHILD_COUNT = 24;
+	private static final long NONE = -1L;
+
+	private final MappedRegion region;
+	private final ElementCodec<? extends T> codec;
+	private final int size;
+
+	private MappedGeneralTrees(MappedRegion region, ElementCodec<? extends T> codec) {
+		this.region = region;
+		this.codec = codec;
+		this.size = (int) region.nodeCount();
+	}
+
+	/**
+	 * 파일을 매핑해 트리를 엽니다. 원소는 읽지 않습니다.
+	 *
+	 * @throws java.io.StreamCorruptedException 이 형식의 파일이 아닐 때
+	 */
+	public static <T> MappedGeneralTrees<T> open(Path file, ElementCodec<? extends T> codec) throws IOException {
+		Objects.requireNonNull(codec);
+		return new MappedGeneralTrees<>(MappedRegion.open(file, MAGIC, RECORD), codec);
+	}
+
+	/**
+	 * 트리를 {@link #open}이 읽는 형식으로 씁니다 (Position API만 사용하므로 모든 MyGeneralTree 구현에 사용 가능).
+	 * 레벨 순서로 한 번 순회하며, 보조 메모리는 BFS 큐(최대 폭)입니다.
+	 */
+	public static <T> void write(MyGeneralTree<T> tree, ElementCodec<? super T> codec, Path file) throws IOException {
+		Objects.requireNonNull(codec);
+		try (MappedRegionWriter w = new MappedRegionWriter(file, MAGIC, RECORD, tree.size())) {
+			MyQueue<Position<T>> queue = Queues.array();
+			IntQueue parents = Queues.ofInt();
+			if (tree.root() != null) {
+				queue.enqueue(tree.root());
+				parents.enqueueInt(-1);
+			}
+			int next = 1; // 다음에 번호를 받을 노드 (번호 = 레벨 순서 = 레코드 순서)
+			for (int self = 0; !queue.isEmpty(); self++) {
+				Position<T> p = queue.dequeue();
+				int parent = parents.dequeueInt();
+				int first = next;
+				for (Position<T> c : tree.children(p)) {
+					queue.enqueue(c);
+					parents.enqueueInt(self);
+					next++;
+				}
+				w.records().writeLong(parent < 0 ? NONE : recordOffset(parent));
+				w.records().writeLong(next == first ? NONE : recordOffset(first));
+				w.records().writeLong(w.elementPosition());
+				w.records().writeInt(next - first);
+				w.records().writeInt(0);
+				codec.write(w.elements(), p.element());
+			}
+		}
+	}
+
+	private static long recordOffset(int index) {
+		return MappedRegion.HEADER + (long) index * RECORD;
+	}
+
+	// ====== MyTree 공통 ======
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	@Override
+	public boolean contains(T value) {
+		for (T v : levelOrderIterable()) {
+			if (Objects.equals(v, value)) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() { throw readOnly(); }
+
+	// ====== MyGeneralTree 전용 ======
+	@Override
+	public Position<T> root() {
+		return size == 0 ? null : new Node(recordOffset(0));
+	}
+
+	@Override public Position<T> addRoot(T value) { throw readOnly(); }
+	@Override public Position<T> addChild(Position<T> parent, T value) { throw readOnly(); }
+	@Override public int removeSubtree(Position<T> p) { throw readOnly(); }
+
+	@Override
+	public Position<T> parent(Position<T> p) {
+		long o = region.getLong(cast(p) + PARENT);
+		return o == NONE ? null : new Node(o);
+	}
+
+	/** 자식 레코드가 연속이므로 뷰는 (첫 자식, 개수)만 들고 순회 때 핸들을 만듭니다. */
+	@Override
+	public Iterable<Position<T>> children(Position<T> p) {
+		long o = cast(p);
+		long first = region.getLong(o + FIRST_CHILD);
+		int count = region.getInt(o + CHILD_COUNT);
+		return () -> new Iterator<>() {
+			private int i;
+
+			@Override public boolean hasNext() { return i < count; }
+
+			@Override
+			public Position<T> next() {
+				if (i >= count) throw new NoSuchElementException();
+				return new Node(first + (long) i++ * RECORD);
+			}
+		};
+	}
+
+	/** p의 자식 수 O(1) */
+	public int childCount(Position<T> p) {
+		return region.getInt(cast(p) + CHILD_COUNT);
+	}
+
+	/** p의 레코드 오프셋 (파일 내 절대 위치) */
+	public long offsetOf(Position<T> p) {
+		return cast(p);
+	}
+
+	private long cast(Position<T> p) {
+		if (!(p instanceof MappedGeneralTrees<?>.Node n))
+			throw new IllegalArgumentException("이 구현의 Position이 아닙니다.");
+		if (n.owner() != this)
+			throw new IllegalArgumentException("다른 트리에서 생성된 Position입니다.");
+		return n.offset;
+	}
+
+	private T decode(long offset) {
+		try {
+			return codec.read(region.input(region.getLong(offset + ELEMENT)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static UnsupportedOperationException readOnly() {
+		return new UnsupportedOperationException("읽기 전용 트리입니다.");
+	}
+
+	/** 레코드 오프셋 Position 핸들 (원소는 element() 호출 때 디코딩) */
+	private final class Node implements Position<T> {
+		final long offset;
+
+		Node(long offset) { this.offset = offset; }
+
+		MappedGeneralTrees<T> owner() { return MappedGeneralTrees.this; }
+
+		@Override
+		public T element() { return decode(offset); }
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof MappedGeneralTrees<?>.Node n && n.owner() == owner() && n.offset == offset;
+		}
+
+		@Override
+		public int hashCode() { return Long.hashCode(offset); }
+
+		@Override
+		public String toString() { return "Node@" + offset; }
+	}
+
+	// ====== 순회(Iterable) ======
+	/** 기본 이터레이터는 '전위(Preorder)' (스택 없음) */
+	@Override
+	public Iterator<T> iterator() {
+		return new RecordIterator(false);
+	}
+
+	/** 레벨 순서 = 레코드 순서 (큐 없이 파일을 순차로 읽음) */
+	@Override
+	public Iterable<T> levelOrderIterable() {
+		return () -> new RecordIterator(true);
+	}
+
+	/** 전위 다음 레코드: 첫 자식, 없으면 위로 올라가며 처음 만나는 다음 형제 */
+	private long nextPreorder(long o) {
+		if (region.getInt(o + CHILD_COUNT) > 0) return region.getLong(o + FIRST_CHILD);
+		for (long p = region.getLong(o + PARENT); p != NONE; o = p, p = region.getLong(o + PARENT)) {
+			long end = region.getLong(p + FIRST_CHILD) + (long) region.getInt(p + CHILD_COUNT) * RECORD;
+			if (o + RECORD < end) return o + RECORD;
+		}
+		return NONE;
+	}
+
+	private final class RecordIterator implements Iterator<T> {
+		private final boolean levelOrder;
+		private long next;
+
+		RecordIterator(boolean levelOrder) {
+			this.levelOrder = levelOrder;
+			next = size == 0 ? NONE : recordOffset(0);
+		}
+
+		@Override public boolean hasNext() { return next != NONE; }
+
+		@Override
+		public T next() {
+			if (next == NONE) throw new NoSuchElementException();
+			long o = next;
+			if (levelOrder) next = o + RECORD < recordOffset(size) ? o + RECORD : NONE;
+			else next = nextPreorder(o);
+			return decode(o);
+		}
+	}
+}
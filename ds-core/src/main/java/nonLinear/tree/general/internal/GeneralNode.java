@@ -2,23 +2,39 @@ package nonLinear.tree.general.internal;
 
 import nonLinear.tree.Position;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * 일반 트리의 내부 노드 구현체입니다.
+ *
+ * <h2>자식 저장소 (지연 할당)</h2>
+ * 자식 목록을 필드 하나({@code kids})에 자식 수에 따라 다른 모양으로 둡니다.
+ * <pre>
+ * 자식 0개   kids == null                  (추가 할당 없음)
+ * 자식 1개   kids == 그 자식 노드            (인라인, 추가 할당 없음)
+ * 자식 2개+  kids == Object[] 배열           (처음엔 딱 2칸, 이후 1.5배씩)
+ * </pre>
+ * 예외로 {@link #reserveChildren}은 벌크 로드 중 자식 수만큼의 배열을 미리 잡으므로, 그동안은 자식이 0~1개여도 배열입니다.
+ * 잎/외자식 노드는 노드 객체 하나(압축 참조 기준 32바이트)뿐입니다.
+ * 예전처럼 노드마다 {@code ArrayList}(24바이트, 첫 추가 후 10칸 배열 56바이트)를 두지 않습니다.
+ * 외부에는 변경 가능한 List를 노출하지 않고, {@link #children()}은 읽기 전용 뷰입니다.
  */
 public final class GeneralNode<T> implements Position<T> {
 	/** 이 노드가 담고 있는 값 */
 	public T element;
 	/** 부모 노드 */
 	public GeneralNode<T> parent;
-	/** 자식들 목록 */
-	public final List<GeneralNode<T>> children = new ArrayList<>();
 
 	/** 이 노드를 소유한 트리를 식별하는 토큰 (동일 트리인지 검증용) */
 	public final Object ownerToken;
 
+	/** null / 자식 노드 하나 / Object[] (위 표 참고) */
+	private Object kids;
+	/** 자식 수 */
+	private int childCount;
+
 	public GeneralNode(T element, GeneralNode<T> parent, Object ownerToken) {
 		this.element = element;
 		this.parent = parent;
@@ -29,4 +45,66 @@ public final class GeneralNode<T> implements Position<T> {
 	public T element() {
 		return element;
 	}
+
+	/** 자식 수 O(1) */
+	public int childCount() {
+		return childCount;
+	}
+
+	/** i번째 자식 (삽입 순서) O(1) */
+	@SuppressWarnings("unchecked")
+	public GeneralNode<T> child(int i) {
+		if (i < 0 || i >= childCount) throw new IndexOutOfBoundsException("index=" + i + ", size=" + childCount);
+		return (GeneralNode<T>) (kids instanceof Object[] a ? a[i] : kids);
+	}
+
+	/** 자식을 맨 뒤에 추가 (분할 상환 O(1)) */
+	public void addChild(GeneralNode<T> c) {
+		if (kids instanceof Object[] a) {
+			if (childCount == a.length) kids = a = Arrays.copyOf(a, a.length + (a.length >> 1));
+			a[childCount] = c;
+		} else if (childCount == 0) {
+			kids = c;
+		} else {
+			kids = new Object[] {kids, c};
+		}
+		childCount++;
+	}
+
+	/**
+	 * 자식 수를 미리 알 때 배열을 정확한 크기로 잡아 둠 (벌크 로드용, 이후 n개를 채울 것).
+	 * 자식이 없는 노드에서만 의미가 있고, 2개 미만이면 아무것도 하지 않습니다.
+	 */
+	public void reserveChildren(int n) {
+		if (childCount == 0 && n >= 2) kids = new Object[n];
+	}
+
+	/**
+	 * 자식 c를 제거 (동일성 비교) O(k). 자식이 1개로 줄면 다시 인라인으로 되돌립니다.
+	 *
+	 * @return 제거했으면 true
+	 */
+	public boolean removeChild(GeneralNode<T> c) {
+		if (!(kids instanceof Object[] a)) {
+			if (childCount == 0 || kids != c) return false;
+			kids = null;
+			childCount = 0;
+			return true;
+		}
+		int i = 0;
+		while (i < childCount && a[i] != c) i++;
+		if (i == childCount) return false;
+		System.arraycopy(a, i + 1, a, i, childCount - i - 1);
+		a[--childCount] = null;
+		if (childCount <= 1) kids = childCount == 0 ? null : a[0];
+		return true;
+	}
+
+	/** 자식 목록의 읽기 전용 뷰 (변경 시도는 {@link UnsupportedOperationException}) */
+	public List<GeneralNode<T>> children() {
+		return new AbstractList<>() {
+			@Override public GeneralNode<T> get(int i) { return child(i); }
+			@Override public int size() { return childCount; }
+		};
+	}
 }
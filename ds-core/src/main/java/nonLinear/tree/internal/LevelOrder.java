@@ -0,0 +1,88 @@
+package nonLinear.tree.internal;
+
+import linear.list.Lists;
+import linear.list.MyList;
+import linear.queue.MyQueue;
+import linear.queue.Queues;
+import nonLinear.tree.Position;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Position API만으로 동작하는 레벨 순서(BFS) 순회 도우미입니다.
+ * 배열 기반 큐 하나와 자식 수집용 리스트 하나를 재사용하며, 레벨마다 리스트를 새로 만들지 않습니다.
+ * 자식 열거는 {@link ParallelTraversal.Expander}를 공유합니다(반환하는 위치 값은 쓰지 않음).
+ */
+public final class LevelOrder {
+
+	private LevelOrder() {}
+
+	/**
+	 * 레벨 순서 이터레이터. modCount가 주어지면(null 아님) 생성 시점 값과 비교해 fail-fast로 동작합니다.
+	 */
+	public static <T> Iterator<T> iterator(Position<T> root, ParallelTraversal.Expander<T> expander, IntSupplier modCount) {
+		return new LevelIterator<>(root, expander, modCount);
+	}
+
+	/**
+	 * 레벨마다 (레벨 번호, 그 레벨의 원소들)을 넘깁니다. 레벨 버퍼는 <b>재사용</b>되므로
+	 * 콜백 안에서만 유효하며, 보관하려면 복사해야 합니다.
+	 * 콜백이 끝날 때마다 modCount(null 아님)를 확인해 구조 변경 시 {@link ConcurrentModificationException}.
+	 */
+	public static <T> void forEachLevel(Position<T> root, ParallelTraversal.Expander<T> expander,
+										BiConsumer<Integer, MyList<T>> action, IntSupplier modCount) {
+		Objects.requireNonNull(action);
+		if (root == null) return;
+		final int expected = modCount == null ? 0 : modCount.getAsInt();
+		MyQueue<Position<T>> queue = Queues.array();
+		MyList<T> level = Lists.array();
+		List<Position<T>> kids = new ArrayList<>();
+		queue.enqueue(root);
+		for (int depth = 0; !queue.isEmpty(); depth++) {
+			level.clear();
+			for (int k = queue.size(); k > 0; k--) {
+				Position<T> p = queue.dequeue();
+				level.add(p.element());
+				kids.clear();
+				expander.expand(p, kids);
+				for (int i = 0; i < kids.size(); i++) queue.enqueue(kids.get(i));
+			}
+			action.accept(depth, level);
+			if (modCount != null && modCount.getAsInt() != expected) throw new ConcurrentModificationException();
+		}
+	}
+
+	private static final class LevelIterator<T> implements Iterator<T> {
+		private final ParallelTraversal.Expander<T> expander;
+		private final IntSupplier modCount;
+		private final int expected;
+		private final MyQueue<Position<T>> queue = Queues.array();
+		private final List<Position<T>> kids = new ArrayList<>();
+
+		LevelIterator(Position<T> root, ParallelTraversal.Expander<T> expander, IntSupplier modCount) {
+			this.expander = expander;
+			this.modCount = modCount;
+			this.expected = modCount == null ? 0 : modCount.getAsInt();
+			if (root != null) queue.enqueue(root);
+		}
+
+		private void check() {
+			if (modCount != null && modCount.getAsInt() != expected) throw new ConcurrentModificationException();
+		}
+
+		@Override public boolean hasNext() { return !queue.isEmpty(); }
+
+		@Override
+		public T next() {
+			check();
+			if (queue.isEmpty()) throw new NoSuchElementException();
+			Position<T> p = queue.dequeue();
+			kids.clear();
+			expander.expand(p, kids);
+			for (int i = 0; i < kids.size(); i++) queue.enqueue(kids.get(i));
+			return p.element();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package nonLinear.tree.internal;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <h1>고정 크기 레코드 파일의 읽기 전용 메모리 매핑</h1>
+ *
+ * <h2>파일 형식</h2>
+ * <pre>
+ * [0, 32)            헤더: int magic, int version, long nodeCount, int recordSize, int 0, long 0
+ * [32, 32 + n*rec)   노드 레코드 (고정 크기, 레벨 순서)
+ * [.., EOF)          원소 힙 (가변 길이, 레코드가 절대 오프셋으로 가리킴)
+ * </pre>
+ *
+ * <h2>매핑</h2>
+ * - {@link MappedByteBuffer}는 int 인덱스라 파일을 {@code 2^chunkShift} 바이트 청크로 나눠 매핑합니다.
+ *   청크 크기가 레코드 크기의 배수이므로 레코드 필드는 청크 경계를 넘지 않아 {@link #getLong}은 청크 하나만 봅니다.
+ *   원소 바이트는 경계를 넘을 수 있어 {@link #input}이 청크를 이어 읽습니다.
+ * - 열기는 청크 수만큼 {@code map}을 호출할 뿐 파일 내용을 읽지 않습니다. 페이지는 처음 접근할 때 OS가 올립니다.
+ * - 채널은 매핑 직후 닫습니다. 매핑은 버퍼가 GC될 때까지 유효합니다.
+ * - 읽기는 모두 절대 위치 get이므로 여러 스레드가 동시에 읽어도 안전합니다.
+ */
+public final class MappedRegion {
+
+	public static final int HEADER = 32;
+	public static final int VERSION = 1;
+	public static final int DEFAULT_CHUNK_SHIFT = 30; // 1 GiB
+
+	private final ByteBuffer[] chunks;
+	private final int chunkShift;
+	private final long chunkMask;
+	private final long length;
+	private final long nodeCount;
+
+	private MappedRegion(ByteBuffer[] chunks, int chunkShift, long length, long nodeCount) {
+		this.chunks = chunks;
+		this.chunkShift = chunkShift;
+		this.chunkMask = (1L << chunkShift) - 1;
+		this.length = length;
+		this.nodeCount = nodeCount;
+	}
+
+	public static MappedRegion open(Path file, int magic, int recordSize) throws IOException {
+		return open(file, magic, recordSize, DEFAULT_CHUNK_SHIFT);
+	}
+
+	/**
+	 * 파일을 매핑하고 헤더를 검증합니다.
+	 *
+	 * @param chunkShift 청크 크기의 log2 (레코드 크기 이상, 30 이하)
+	 * @throws StreamCorruptedException magic/version/recordSize가 맞지 않거나 파일이 레코드 영역보다 짧을 때
+	 */
+	public static MappedRegion open(Path file, int magic, int recordSize, int chunkShift) throws IOException {
+		if (Integer.bitCount(recordSize) != 1 || recordSize < 8)
+			throw new IllegalArgumentException("recordSize는 8 이상의 2의 거듭제곱이어야 합니다: " + recordSize);
+		if (chunkShift > 30 || (1 << chunkShift) < Math.max(recordSize, HEADER))
+			throw new IllegalArgumentException("chunkShift 범위 밖: " + chunkShift);
+
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+			long length = ch.size();
+			if (length < HEADER) throw new StreamCorruptedException("헤더보다 짧은 파일입니다.");
+			long chunk = 1L << chunkShift;
+			ByteBuffer[] chunks = new ByteBuffer[(int) ((length + chunk - 1) >>> chunkShift)];
+			for (int i = 0; i < chunks.length; i++) {
+				long start = (long) i << chunkShift;
+				chunks[i] = ch.map(FileChannel.MapMode.READ_ONLY, start, Math.min(chunk, length - start));
+			}
+
+			ByteBuffer h = chunks[0];
+			if (h.getInt(0) != magic) throw new StreamCorruptedException("magic 불일치");
+			if (h.getInt(4) != VERSION) throw new StreamCorruptedException("지원하지 않는 version: " + h.getInt(4));
+			long n = h.getLong(8);
+			if (h.getInt(16) != recordSize) throw new StreamCorruptedException("레코드 크기 불일치: " + h.getInt(16));
+			if (n < 0 || n > Integer.MAX_VALUE) throw new StreamCorruptedException("노드 수 범위 밖: " + n);
+			if (HEADER + n * recordSize > length) throw new StreamCorruptedException("레코드 영역이 잘렸습니다.");
+			return new MappedRegion(chunks, chunkShift, length, n);
+		}
+	}
+
+	/** 헤더에 기록된 노드 수 */
+	public long nodeCount() { return nodeCount; }
+
+	/** 파일 전체 길이(바이트) */
+	public long length() { return length; }
+
+	/** pos의 long (청크 경계를 넘지 않는 위치여야 함: 레코드 필드 전용) */
+	public long getLong(long pos) {
+		return chunks[(int) (pos >>> chunkShift)].getLong((int) (pos & chunkMask));
+	}
+
+	/** pos의 int (청크 경계를 넘지 않는 위치여야 함: 레코드 필드 전용) */
+	public int getInt(long pos) {
+		return chunks[(int) (pos >>> chunkShift)].getInt((int) (pos & chunkMask));
+	}
+
+	/** pos부터 읽는 새 DataInput (청크 경계를 넘어 이어 읽음, 호출마다 독립 커서) */
+	public DataInput input(long pos) {
+		if (pos < HEADER || pos > length) throw new IllegalArgumentException("pos 범위 밖: " + pos);
+		return new DataInputStream(new ChunkInputStream(pos));
+	}
+
+	/** 청크 배열 위를 절대 위치 get으로 읽는 스트림 (버퍼 상태를 바꾸지 않음) */
+	private final class ChunkInputStream extends InputStream {
+		private long pos;
+
+		ChunkInputStream(long pos) { this.pos = pos; }
+
+		@Override
+		public int read() {
+			if (pos >= length) return -1;
+			int b = chunks[(int) (pos >>> chunkShift)].get((int) (pos & chunkMask)) & 0xFF;
+			pos++;
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) return 0;
+			if (pos >= length) return -1;
+			ByteBuffer c = chunks[(int) (pos >>> chunkShift)];
+			int at = (int) (pos & chunkMask);
+			int n = Math.min(len, c.limit() - at); // 이번 청크에서 읽을 수 있는 만큼만 (DataInputStream이 반복 호출)
+			c.get(at, b, off, n);
+			pos += n;
+			return n;
+		}
+	}
+}
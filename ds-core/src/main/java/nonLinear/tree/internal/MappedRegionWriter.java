@@ -0,0 +1,84 @@
+package nonLinear.tree.internal;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link MappedRegion} 형식 파일을 순차로 쓰는 도우미입니다.
+ * 레코드 영역과 원소 힙을 각자의 채널 위치에서 동시에 이어 쓰므로, 트리를 한 번 순회하며 둘 다 채울 수 있습니다.
+ * 레코드는 정확히 nodeCount개를 써야 하며 {@link #close()}에서 검증합니다.
+ */
+public final class MappedRegionWriter implements Closeable {
+
+	private static final int BUFFER = 1 << 16;
+
+	private final FileChannel recordChannel, elementChannel;
+	private final CountingOutputStream recordBytes, elementBytes;
+	private final DataOutputStream records;
+	private final DataOutputStream elements;
+	private final long elementBase;
+	private final long expectedRecordBytes;
+
+	public MappedRegionWriter(Path file, int magic, int recordSize, long nodeCount) throws IOException {
+		expectedRecordBytes = nodeCount * recordSize;
+		elementBase = MappedRegion.HEADER + expectedRecordBytes;
+		recordChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		elementChannel = FileChannel.open(file, StandardOpenOption.WRITE);
+		elementChannel.position(elementBase);
+		recordBytes = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(recordChannel), BUFFER));
+		records = new DataOutputStream(recordBytes);
+		elementBytes = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(elementChannel), BUFFER));
+		elements = new DataOutputStream(elementBytes);
+
+		records.writeInt(magic);
+		records.writeInt(MappedRegion.VERSION);
+		records.writeLong(nodeCount);
+		records.writeInt(recordSize);
+		records.writeInt(0);
+		records.writeLong(0);
+	}
+
+	/** 레코드 영역 출력 (헤더 다음부터) */
+	public DataOutput records() { return records; }
+
+	/** 원소 힙 출력 */
+	public DataOutput elements() { return elements; }
+
+	/** 다음 원소가 쓰일 파일 내 절대 오프셋 */
+	public long elementPosition() { return elementBase + elementBytes.count; }
+
+	@Override
+	public void close() throws IOException {
+		try (recordChannel; elementChannel) {
+			records.flush();
+			elements.flush();
+			if (recordBytes.count != MappedRegion.HEADER + expectedRecordBytes)
+				throw new IllegalStateException("레코드 수가 헤더와 다릅니다.");
+			recordChannel.force(false);
+			elementChannel.force(false);
+		}
+	}
+
+	/** 쓴 바이트 수를 long으로 셈 ({@link DataOutputStream#size()}는 int에서 포화) */
+	private static final class CountingOutputStream extends FilterOutputStream {
+		long count;
+
+		CountingOutputStream(OutputStream out) { super(out); }
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,292 @@
+package nonLinear.tree.internal;
+
+import linear.deque.WorkStealingPool;
+import nonLinear.tree.ParallelOptions;
+import nonLinear.tree.Position;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Position API만으로 동작하는 fork-join 트리 순회 도우미입니다.
+ * MyBinaryTree/MyGeneralTree의 기본 메서드와 각 구현체의 병렬 순회가 모두 이 엔진을 사용합니다.
+ *
+ * <h2>분할 규칙</h2>
+ * - 서브트리 크기를 미리 알 수 없으므로, 부모의 추정 크기를 자식 수로 나눠 자식의 추정 크기로 씁니다.
+ *   (루트의 추정 크기 = 트리 size)
+ * - 추정 크기가 임계값 이하이거나 분할 깊이가 {@link #MAX_FORK_DEPTH}에 닿으면 명시적 스택으로 순차 처리합니다.
+ *   깊이 상한은 한쪽으로 치우친 트리에서 재귀가 스택을 넘치지 않게 합니다.
+ * - 마지막 자식 서브트리는 현재 워커가 직접 처리하고 나머지는 fork합니다.
+ *
+ * <h2>실행기</h2>
+ * 분할 로직은 {@link ForkJoinPool}({@link ParallelOptions#pool()})과 {@link WorkStealingPool}에 공통이며,
+ * 둘의 차이(fork/join/invoke)는 내부 {@link Scheduler}로 감춥니다.
+ *
+ * <h2>fail-fast</h2>
+ * modCount 공급자를 넘기면 끝난 뒤 구조 변경을 검사해 {@link ConcurrentModificationException}을 던집니다(null이면 생략).
+ */
+public final class ParallelTraversal {
+
+	/** fork 재귀 깊이 상한 */
+	static final int MAX_FORK_DEPTH = 64;
+	/** WorkStealingPool 실행 시 워커당 목표 작업 수 */
+	static final int TASKS_PER_WORKER = 8;
+
+	private ParallelTraversal() {}
+
+	/**
+	 * 노드의 자식을 순회 순서(encounter order)대로 out에 담고(null 제외),
+	 * 노드 자신의 값이 그 순서에서 놓이는 위치를 반환합니다.
+	 * (일반 트리 전위: 0, 이진 트리 중위: 왼쪽 자식이 있으면 1 아니면 0)
+	 */
+	@FunctionalInterface
+	public interface Expander<T> {
+		int expand(Position<T> p, List<Position<T>> out);
+	}
+
+	/**
+	 * 모든 노드 값을 방문합니다. 순서 무관 모드는 서브트리 단위로 병렬 방문하고,
+	 * 순서 보존 모드는 encounter order대로 하나씩 방문합니다({@link java.util.stream.Stream#forEachOrdered}와 같음).
+	 */
+	public static <T> void forEach(Position<T> root, int size, Expander<T> expander, Consumer<? super T> action,
+								   ParallelOptions options, IntSupplier modCount) {
+		Objects.requireNonNull(action);
+		Objects.requireNonNull(options);
+		int expected = modCount == null ? 0 : modCount.getAsInt();
+		if (root != null) {
+			Engine<T> e = new Engine<>(expander, forkJoin(options.pool()), options.threshold());
+			if (options.isOrdered()) e.scheduler.invoke(() -> { encounterOrder(root, expander, action); return null; });
+			else e.scheduler.invoke(() -> { e.visit(root, size, 0, action); return null; });
+		}
+		checkUnchanged(expected, modCount);
+	}
+
+	/** {@link WorkStealingPool}에서 순서 무관 병렬 방문 (워커당 약 {@value #TASKS_PER_WORKER}개 작업이 생기도록 임계값 결정) */
+	public static <T> void forEach(Position<T> root, int size, Expander<T> expander, Consumer<? super T> action,
+								   WorkStealingPool pool, IntSupplier modCount) {
+		Objects.requireNonNull(action);
+		Objects.requireNonNull(pool);
+		int expected = modCount == null ? 0 : modCount.getAsInt();
+		if (root != null) {
+			int threshold = Math.max(1, size / (TASKS_PER_WORKER * pool.parallelism()));
+			Engine<T> e = new Engine<>(expander, workStealing(pool), threshold);
+			e.scheduler.invoke(() -> { e.visit(root, size, 0, action); return null; });
+		}
+		checkUnchanged(expected, modCount);
+	}
+
+	/** 모든 노드 값을 mapper로 바꿔 combiner로 병렬 결합 (빈 트리면 identity) */
+	public static <T, R> R reduce(Position<T> root, int size, Expander<T> expander, R identity,
+								  Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner,
+								  ParallelOptions options, IntSupplier modCount) {
+		Objects.requireNonNull(mapper);
+		Objects.requireNonNull(combiner);
+		Objects.requireNonNull(options);
+		int expected = modCount == null ? 0 : modCount.getAsInt();
+		R result = identity;
+		if (root != null) {
+			Engine<T> e = new Engine<>(expander, forkJoin(options.pool()), options.threshold());
+			result = e.scheduler.invoke(() -> e.reduce(root, size, 0, identity, mapper, combiner, options.isOrdered()));
+		}
+		checkUnchanged(expected, modCount);
+		return result;
+	}
+
+	private static void checkUnchanged(int expected, IntSupplier modCount) {
+		if (modCount != null && modCount.getAsInt() != expected) throw new ConcurrentModificationException();
+	}
+
+	// ===== 실행기 추상화 =====
+
+	/** fork/join 실행기. fork는 워커 스레드 안에서만 호출하며, 반환된 Supplier가 join입니다. */
+	private interface Scheduler {
+		<R> R invoke(Supplier<R> work);
+
+		<R> Supplier<R> fork(Supplier<R> work);
+	}
+
+	private static Scheduler forkJoin(ForkJoinPool pool) {
+		return new Scheduler() {
+			@Override
+			public <R> R invoke(Supplier<R> work) {
+				return pool.invoke(new FjTask<>(work));
+			}
+
+			@Override
+			public <R> Supplier<R> fork(Supplier<R> work) {
+				FjTask<R> t = new FjTask<>(work);
+				t.fork();
+				return t::join;
+			}
+		};
+	}
+
+	private static Scheduler workStealing(WorkStealingPool pool) {
+		return new Scheduler() {
+			@Override
+			public <R> R invoke(Supplier<R> work) {
+				return pool.invoke(new WsTask<>(work));
+			}
+
+			@Override
+			public <R> Supplier<R> fork(Supplier<R> work) {
+				WsTask<R> t = new WsTask<>(work);
+				t.fork();
+				return t::join;
+			}
+		};
+	}
+
+	private static final class FjTask<R> extends RecursiveTask<R> {
+		private static final long serialVersionUID = 1L;
+		private final transient Supplier<R> work;
+
+		FjTask(Supplier<R> work) { this.work = work; }
+
+		@Override
+		protected R compute() { return work.get(); }
+	}
+
+	private static final class WsTask<R> extends WorkStealingPool.Task<R> {
+		private final Supplier<R> work;
+
+		WsTask(Supplier<R> work) { this.work = work; }
+
+		@Override
+		protected R compute() { return work.get(); }
+	}
+
+	// ===== 분할 로직 (실행기 공통) =====
+
+	private static final class Engine<T> {
+		final Expander<T> expander;
+		final Scheduler scheduler;
+		final int threshold;
+
+		Engine(Expander<T> expander, Scheduler scheduler, int threshold) {
+			this.expander = expander;
+			this.scheduler = scheduler;
+			this.threshold = threshold;
+		}
+
+		private boolean sequential(long estimate, int depth) {
+			return estimate <= threshold || depth >= MAX_FORK_DEPTH;
+		}
+
+		/** 순서 무관 방문: 자식 작업을 먼저 풀어 놓고 자신을 방문 */
+		void visit(Position<T> node, long estimate, int depth, Consumer<? super T> action) {
+			if (sequential(estimate, depth)) {
+				preorder(node, expander, action);
+				return;
+			}
+			List<Position<T>> kids = new ArrayList<>(2);
+			expander.expand(node, kids);
+			int k = kids.size();
+			long childEstimate = Math.max(1, (estimate - 1) / Math.max(1, k));
+			List<Supplier<Object>> forked = new ArrayList<>(Math.max(0, k - 1));
+			for (int i = 0; i < k - 1; i++) {
+				Position<T> c = kids.get(i);
+				forked.add(scheduler.fork(() -> { visit(c, childEstimate, depth + 1, action); return null; }));
+			}
+			action.accept(node.element());
+			if (k > 0) visit(kids.get(k - 1), childEstimate, depth + 1, action);
+			for (int i = forked.size() - 1; i >= 0; i--) forked.get(i).get();
+		}
+
+		<R> R reduce(Position<T> node, long estimate, int depth, R identity,
+					 Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner, boolean ordered) {
+			if (sequential(estimate, depth)) {
+				Accumulator<T, R> acc = new Accumulator<>(identity, mapper, combiner);
+				if (ordered) encounterOrder(node, expander, acc);
+				else preorder(node, expander, acc);
+				return acc.value;
+			}
+			List<Position<T>> kids = new ArrayList<>(2);
+			int slot = expander.expand(node, kids);
+			int k = kids.size();
+			long childEstimate = Math.max(1, (estimate - 1) / Math.max(1, k));
+			List<Supplier<R>> parts = new ArrayList<>(k);
+			for (int i = 0; i < k - 1; i++) {
+				Position<T> c = kids.get(i);
+				parts.add(scheduler.fork(() -> reduce(c, childEstimate, depth + 1, identity, mapper, combiner, ordered)));
+			}
+			R self = mapper.apply(node.element());
+			if (k > 0) {
+				R last = reduce(kids.get(k - 1), childEstimate, depth + 1, identity, mapper, combiner, ordered);
+				parts.add(() -> last);
+			}
+			// 순회 순서대로 결합: 자식[0..slot) , 자신, 자식[slot..k)
+			R acc = identity;
+			for (int i = 0; i < k; i++) {
+				if (i == slot) acc = combiner.apply(acc, self);
+				acc = combiner.apply(acc, parts.get(i).get());
+			}
+			if (slot == k) acc = combiner.apply(acc, self);
+			return acc;
+		}
+	}
+
+	/** mapper 결과를 combiner로 누적하는 방문자 */
+	private static final class Accumulator<T, R> implements Consumer<T> {
+		private final Function<? super T, ? extends R> mapper;
+		private final BinaryOperator<R> combiner;
+		R value;
+
+		Accumulator(R identity, Function<? super T, ? extends R> mapper, BinaryOperator<R> combiner) {
+			this.value = identity;
+			this.mapper = mapper;
+			this.combiner = combiner;
+		}
+
+		@Override
+		public void accept(T t) { value = combiner.apply(value, mapper.apply(t)); }
+	}
+
+	// ===== 순차 방문 (명시적 스택) =====
+
+	/** 전위 순차 방문 (순서 무관 경로용: 자식 펼치기가 가장 단순한 순서) */
+	private static <T> void preorder(Position<T> subRoot, Expander<T> expander, Consumer<? super T> action) {
+		Deque<Position<T>> stack = new ArrayDeque<>();
+		List<Position<T>> kids = new ArrayList<>();
+		stack.push(subRoot);
+		while (!stack.isEmpty()) {
+			Position<T> p = stack.pop();
+			action.accept(p.element());
+			kids.clear();
+			expander.expand(p, kids);
+			for (int i = kids.size() - 1; i >= 0; i--) stack.push(kids.get(i));
+		}
+	}
+
+	/**
+	 * 순회 순서(encounter order)대로 순차 방문. 스택 원소는 "펼칠 노드" 또는 "값을 낼 노드"이며,
+	 * 두 경우를 병렬 스택(emit 플래그)으로 구분합니다.
+	 */
+	private static <T> void encounterOrder(Position<T> subRoot, Expander<T> expander, Consumer<? super T> action) {
+		Deque<Position<T>> stack = new ArrayDeque<>();
+		Deque<Boolean> emit = new ArrayDeque<>();
+		List<Position<T>> kids = new ArrayList<>();
+		stack.push(subRoot);
+		emit.push(Boolean.FALSE);
+		while (!stack.isEmpty()) {
+			Position<T> p = stack.pop();
+			if (emit.pop()) {
+				action.accept(p.element());
+				continue;
+			}
+			kids.clear();
+			int slot = expander.expand(p, kids);
+			// 역순으로 push: 자식[k-1..slot], 자신(emit), 자식[slot-1..0]
+			for (int i = kids.size() - 1; i >= slot; i--) { stack.push(kids.get(i)); emit.push(Boolean.FALSE); }
+			stack.push(p);
+			emit.push(Boolean.TRUE);
+			for (int i = slot - 1; i >= 0; i--) { stack.push(kids.get(i)); emit.push(Boolean.FALSE); }
+		}
+	}
+}
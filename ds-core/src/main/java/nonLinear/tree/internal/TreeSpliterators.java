@@ -0,0 +1,375 @@
+package nonLinear.tree.internal;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * 서브트리 단위로 분할되는 트리 Spliterator 모음입니다. 노드 타입에 의존하지 않도록 탐색 함수(Nav)를 받습니다.
+ *
+ * <h2>분할 규칙</h2>
+ * - <b>이진(중위)</b>: 남은 구간이 서브트리 하나뿐이면 왼쪽 서브트리를 앞부분으로 떼어 주고,
+ *   자신은 "노드 + 오른쪽 서브트리"를 계속 맡습니다. 구간이 여러 조각이면 앞쪽 절반 조각을 넘깁니다.
+ * - <b>일반(전위)</b>: 가장 바깥(스택 바닥) 노드의 남은 자식들을 반으로 나눠 앞쪽 절반을 넘기고,
+ *   자신은 뒤쪽 절반 자식들을 계속 맡습니다.
+ * - ORDERED 계약에 따라 trySplit()이 돌려주는 쪽은 항상 <b>앞부분(prefix)</b>입니다.
+ *
+ * <h2>크기</h2>
+ * - Nav가 서브트리 크기를 알려 주면(≥0) 분할 후에도 정확한 크기를 유지합니다 (SIZED | SUBSIZED).
+ * - 모르면 최상위만 트리 size로 정확하고, 분할된 쪽은 절반씩 추정합니다.
+ *
+ * <h2>fail-fast</h2>
+ * 생성 시점의 modCount를 기억하고, 원소를 낼 때와 forEachRemaining 끝에서 비교합니다.
+ */
+public final class TreeSpliterators {
+
+	private TreeSpliterators() {}
+
+	/** 이진 트리 노드 탐색 함수 */
+	public interface BinaryNav<N, T> {
+		N left(N n);
+		N right(N n);
+		T element(N n);
+		/** n을 루트로 하는 서브트리 크기 (모르면 -1) */
+		default long subtreeSize(N n) { return -1; }
+	}
+
+	/** 일반 트리 노드 탐색 함수 */
+	public interface GeneralNav<N, T> {
+		int childCount(N n);
+		N child(N n, int i);
+		T element(N n);
+		/** n을 루트로 하는 서브트리 크기 (모르면 -1) */
+		default long subtreeSize(N n) { return -1; }
+	}
+
+	/** 중위 순서 Spliterator (root가 null이면 빈 Spliterator) */
+	public static <N, T> Spliterator<T> inorder(N root, long size, BinaryNav<N, T> nav, IntSupplier modCount) {
+		return new InorderSpliterator<>(root, size, nav, modCount);
+	}
+
+	/** 전위 순서 Spliterator (root가 null이면 빈 Spliterator) */
+	public static <N, T> Spliterator<T> preorder(N root, long size, GeneralNav<N, T> nav, IntSupplier modCount) {
+		return new PreorderSpliterator<>(root, size, nav, modCount);
+	}
+
+	// ===== 이진 트리: 중위 =====
+
+	/**
+	 * 남은 순서를 조각(segment)의 나열로 표현합니다. 앞쪽 조각이 deque의 앞.
+	 * FULL(n) = n 서브트리 전체 중위, HEAD(n) = n 다음 n.right 서브트리, SINGLE(n) = n 하나.
+	 */
+	private static final class InorderSpliterator<N, T> implements Spliterator<T> {
+		/** 조각 종류 */
+		private enum Kind { FULL, HEAD, SINGLE }
+
+		private final BinaryNav<N, T> nav;
+		private final IntSupplier modCount;
+		private final int expected;
+		private final ArrayDeque<N> nodes = new ArrayDeque<>();
+		private final ArrayDeque<Kind> kinds = new ArrayDeque<>();
+		private long est;
+		private boolean exact;
+		/** 서브트리 크기를 알아서 분할 후에도 크기가 정확한지 */
+		private final boolean subsized;
+
+		InorderSpliterator(N root, long size, BinaryNav<N, T> nav, IntSupplier modCount) {
+			this.nav = nav;
+			this.modCount = modCount;
+			this.expected = modCount.getAsInt();
+			this.est = root == null ? 0 : size;
+			this.exact = true;
+			this.subsized = root == null || nav.subtreeSize(root) >= 0;
+			if (root != null) addLast(root, Kind.FULL);
+		}
+
+		private InorderSpliterator(InorderSpliterator<N, T> from) {
+			this.nav = from.nav;
+			this.modCount = from.modCount;
+			this.expected = from.expected;
+			this.subsized = from.subsized;
+		}
+
+		private void addLast(N n, Kind kind) { nodes.addLast(n); kinds.addLast(kind); }
+		private void addFirst(N n, Kind kind) { nodes.addFirst(n); kinds.addFirst(kind); }
+
+		/** 조각의 정확한 크기 (서브트리 크기를 모르면 -1) */
+		private long sizeOf(N n, Kind kind) {
+			if (kind == Kind.SINGLE) return 1;
+			if (kind == Kind.FULL) return nav.subtreeSize(n);
+			N r = nav.right(n);
+			if (r == null) return 1;
+			long s = nav.subtreeSize(r);
+			return s < 0 ? -1 : s + 1;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			while (!nodes.isEmpty()) {
+				N n = nodes.pollFirst();
+				Kind kind = kinds.pollFirst();
+				if (kind == Kind.FULL) {
+					// 왼쪽 등뼈를 따라 HEAD 조각으로 펼침
+					for (; n != null; n = nav.left(n)) addFirst(n, Kind.HEAD);
+					continue;
+				}
+				if (kind == Kind.HEAD) {
+					N r = nav.right(n);
+					if (r != null) addFirst(r, Kind.FULL);
+				}
+				T v = nav.element(n);
+				if (modCount.getAsInt() != expected) throw new ConcurrentModificationException();
+				if (est > 0) est--;
+				action.accept(v);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			while (!nodes.isEmpty()) {
+				N n = nodes.pollFirst();
+				Kind kind = kinds.pollFirst();
+				if (kind == Kind.SINGLE) { action.accept(nav.element(n)); continue; }
+				if (kind == Kind.HEAD) {
+					action.accept(nav.element(n));
+					n = nav.right(n);
+				}
+				// n 서브트리 전체 중위 (로컬 스택)
+				ArrayDeque<N> st = new ArrayDeque<>();
+				while (n != null || !st.isEmpty()) {
+					while (n != null) { st.push(n); n = nav.left(n); }
+					N x = st.pop();
+					action.accept(nav.element(x));
+					n = nav.right(x);
+				}
+			}
+			est = 0;
+			if (modCount.getAsInt() != expected) throw new ConcurrentModificationException();
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			if (nodes.isEmpty()) return null;
+			if (nodes.size() == 1) {
+				N n = nodes.peekFirst();
+				Kind kind = kinds.peekFirst();
+				if (kind == Kind.SINGLE) return null;
+				if (kind == Kind.FULL) {
+					// FULL(n) → [FULL(n.left)] | [HEAD(n)]
+					N l = nav.left(n);
+					kinds.pollFirst();
+					kinds.addFirst(Kind.HEAD);
+					if (l == null) return trySplit();
+					InorderSpliterator<N, T> prefix = new InorderSpliterator<>(this);
+					prefix.addLast(l, Kind.FULL);
+					return balance(prefix);
+				}
+				// HEAD(n) → [SINGLE(n)] | [FULL(n.right)]
+				N r = nav.right(n);
+				if (r == null) return null;
+				nodes.pollFirst();
+				kinds.pollFirst();
+				addFirst(r, Kind.FULL);
+				InorderSpliterator<N, T> prefix = new InorderSpliterator<>(this);
+				prefix.addLast(n, Kind.SINGLE);
+				return balance(prefix);
+			}
+			// 조각이 여럿이면 앞쪽 절반을 넘김
+			InorderSpliterator<N, T> prefix = new InorderSpliterator<>(this);
+			for (int k = nodes.size() / 2; k > 0; k--) prefix.addLast(nodes.pollFirst(), kinds.pollFirst());
+			return balance(prefix);
+		}
+
+		/** 분할 후 양쪽 크기 정리: 서브트리 크기를 알면 정확히, 모르면 절반씩 */
+		private Spliterator<T> balance(InorderSpliterator<N, T> prefix) {
+			long p = prefix.exactSize();
+			long s = exactSize();
+			if (p >= 0 && s >= 0) {
+				prefix.est = p; prefix.exact = true;
+				est = s; exact = true;
+			} else {
+				prefix.est = est >>> 1; prefix.exact = false;
+				est -= prefix.est; exact = false;
+			}
+			return prefix;
+		}
+
+		private long exactSize() {
+			long total = 0;
+			Iterator<Kind> ki = kinds.iterator();
+			for (N n : nodes) {
+				long s = sizeOf(n, ki.next());
+				if (s < 0) return -1;
+				total += s;
+			}
+			return total;
+		}
+
+		@Override public long estimateSize() { return est; }
+
+		@Override
+		public int characteristics() {
+			return ORDERED | (exact ? SIZED : 0) | (subsized ? SUBSIZED : 0);
+		}
+	}
+
+	// ===== 일반 트리: 전위 =====
+
+	/** 스택 프레임: node의 자식 [next, end)가 남음. next == -1이면 node 자신도 아직 내지 않음 */
+	private static final class Frame<N> {
+		final N node;
+		int next;
+		final int end;
+		Frame(N node, int next, int end) { this.node = node; this.next = next; this.end = end; }
+	}
+
+	private static final class PreorderSpliterator<N, T> implements Spliterator<T> {
+		private final GeneralNav<N, T> nav;
+		private final IntSupplier modCount;
+		private final int expected;
+		/** 앞(first)이 스택 top = 다음에 진행할 프레임, 뒤(last)가 가장 바깥 프레임 */
+		private final ArrayDeque<Frame<N>> frames = new ArrayDeque<>();
+		private long est;
+		private boolean exact;
+		/** 서브트리 크기를 알아서 분할 후에도 크기가 정확한지 */
+		private final boolean subsized;
+
+		PreorderSpliterator(N root, long size, GeneralNav<N, T> nav, IntSupplier modCount) {
+			this.nav = nav;
+			this.modCount = modCount;
+			this.expected = modCount.getAsInt();
+			this.est = root == null ? 0 : size;
+			this.exact = true;
+			this.subsized = root == null || nav.subtreeSize(root) >= 0;
+			if (root != null) frames.addLast(new Frame<>(root, -1, nav.childCount(root)));
+		}
+
+		private PreorderSpliterator(PreorderSpliterator<N, T> from) {
+			this.nav = from.nav;
+			this.modCount = from.modCount;
+			this.expected = from.expected;
+			this.subsized = from.subsized;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			while (!frames.isEmpty()) {
+				Frame<N> f = frames.peekFirst();
+				if (f.next < 0) {
+					f.next = 0;
+					if (f.next >= f.end) frames.pollFirst();
+					T v = nav.element(f.node);
+					if (modCount.getAsInt() != expected) throw new ConcurrentModificationException();
+					if (est > 0) est--;
+					action.accept(v);
+					return true;
+				}
+				if (f.next >= f.end) { frames.pollFirst(); continue; }
+				N c = nav.child(f.node, f.next++);
+				if (f.next >= f.end) frames.pollFirst();
+				frames.addFirst(new Frame<>(c, -1, nav.childCount(c)));
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			Objects.requireNonNull(action);
+			while (tryAdvanceUnchecked(action)) { }
+			est = 0;
+			if (modCount.getAsInt() != expected) throw new ConcurrentModificationException();
+		}
+
+		/** forEachRemaining용: 원소마다 modCount를 읽지 않는 tryAdvance */
+		private boolean tryAdvanceUnchecked(Consumer<? super T> action) {
+			while (!frames.isEmpty()) {
+				Frame<N> f = frames.peekFirst();
+				if (f.next < 0) {
+					f.next = 0;
+					if (f.next >= f.end) frames.pollFirst();
+					action.accept(nav.element(f.node));
+					return true;
+				}
+				if (f.next >= f.end) { frames.pollFirst(); continue; }
+				N c = nav.child(f.node, f.next++);
+				if (f.next >= f.end) frames.pollFirst();
+				frames.addFirst(new Frame<>(c, -1, nav.childCount(c)));
+			}
+			return false;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			while (!frames.isEmpty()) {
+				Frame<N> bottom = frames.peekLast();
+				int from = Math.max(bottom.next, 0);
+				int remaining = bottom.end - from;
+				if (remaining >= 2) {
+					// 앞부분 = 바닥 위의 프레임들 + (자기 자신) + 자식 [from, mid) / 남는 쪽 = 자식 [mid, end)
+					int mid = from + remaining / 2;
+					PreorderSpliterator<N, T> prefix = new PreorderSpliterator<>(this);
+					frames.pollLast();
+					while (!frames.isEmpty()) prefix.frames.addLast(frames.pollFirst());
+					prefix.frames.addLast(new Frame<>(bottom.node, bottom.next, mid));
+					frames.addLast(new Frame<>(bottom.node, mid, bottom.end));
+					return balance(prefix);
+				}
+				if (frames.size() >= 2) {
+					// 바닥 프레임에 남은 자식이 1개 이하 → 위쪽 프레임들을 통째로 넘김
+					PreorderSpliterator<N, T> prefix = new PreorderSpliterator<>(this);
+					while (frames.size() > 1) prefix.frames.addLast(frames.pollFirst());
+					return balance(prefix);
+				}
+				if (remaining == 0) return null;
+				// 유일한 프레임에 자식 하나만 남음 → 아직 안 낸 노드 자신은 앞부분으로 떼어 주고, 그 자식으로 내려감
+				frames.pollLast();
+				N c = nav.child(bottom.node, from);
+				frames.addLast(new Frame<>(c, -1, nav.childCount(c)));
+				if (bottom.next < 0) {
+					PreorderSpliterator<N, T> prefix = new PreorderSpliterator<>(this);
+					prefix.frames.addLast(new Frame<>(bottom.node, -1, 0));
+					return balance(prefix);
+				}
+			}
+			return null;
+		}
+
+		private Spliterator<T> balance(PreorderSpliterator<N, T> prefix) {
+			long p = prefix.exactSize();
+			long s = exactSize();
+			if (p >= 0 && s >= 0) {
+				prefix.est = p; prefix.exact = true;
+				est = s; exact = true;
+			} else {
+				prefix.est = est >>> 1; prefix.exact = false;
+				est -= prefix.est; exact = false;
+			}
+			return prefix;
+		}
+
+		private long exactSize() {
+			long total = 0;
+			for (Frame<N> f : frames) {
+				if (f.next < 0) total++;
+				for (int i = Math.max(f.next, 0); i < f.end; i++) {
+					long s = nav.subtreeSize(nav.child(f.node, i));
+					if (s < 0) return -1;
+					total += s;
+				}
+			}
+			return total;
+		}
+
+		@Override public long estimateSize() { return est; }
+
+		@Override
+		public int characteristics() {
+			return ORDERED | (exact ? SIZED : 0) | (subsized ? SUBSIZED : 0);
+		}
+	}
+}
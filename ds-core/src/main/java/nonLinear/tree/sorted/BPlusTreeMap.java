@@ -0,0 +1,608 @@
+package nonLinear.tree.sorted;
+
+import java.util.*;
+
+/**
+ * <h1>B+ 트리 정렬 맵 (캐시 친화적, 높은 분기 수)</h1>
+ *
+ * <h2>설계 개요</h2>
+ * - 노드마다 키를 <b>정렬된 배열</b>에 최대 {@code fanout}개 담습니다. 한 노드 안의 탐색은 연속 메모리
+ *   이진 탐색이라, 노드당 포인터 하나씩 따라가는 이진 트리보다 캐시 미스가 훨씬 적습니다.
+ *   (fanout 128이면 5천만 키도 높이 4)
+ * - 값은 <b>리프에만</b> 있고, 내부 노드는 분기용 구분 키(separator)와 자식 배열만 가집니다.
+ * - 리프는 양방향으로 <b>연결</b>되어 있어 {@link #range}와 {@link #iterator()}는 리프를 순서대로 훑습니다.
+ * - {@link #bulkLoad(List, List)}는 정렬된 입력으로 리프부터 위로 O(n)에 트리를 쌓습니다.
+ *
+ * <h2>불변식</h2>
+ * - 내부 노드의 키 {@code k[i-1] <= (자식 i의 모든 키) < k[i]}
+ * - 루트를 제외한 리프의 키 수 ≥ {@code fanout/2}, 내부 노드의 자식 수 ≥ {@code (fanout+1)/2}
+ * - 모든 리프의 깊이가 같음
+ *
+ * <h2>정책</h2>
+ * - <b>null 키</b>: 금지(NPE). 값은 null 허용.
+ * - 기존 키의 값 교체는 구조 변경이 아니므로 modCount를 올리지 않습니다.
+ * - <b>스레드 안전성</b>: 없음(단일 스레드 가정).
+ *
+ * <h2>복잡도</h2>
+ * - get/put/remove/floor/ceiling: O(log_fanout n · log2 fanout)
+ * - range(from, to): O(log n + k), 리프 순차 접근
+ * - bulkLoad: O(n)
+ *
+ * @param <K> 키 타입(Null 불가)
+ * @param <V> 값 타입
+ */
+public class BPlusTreeMap<K, V> implements MySortedMap<K, V> {
+
+	/** 기본 분기 수 */
+	public static final int DEFAULT_FANOUT = 128;
+
+	/** 노드 공통: 정렬된 키 배열과 사용 중인 키 수 */
+	private abstract static class Node {
+		final Object[] keys;
+		int n;
+		Node(int keyCapacity) { keys = new Object[keyCapacity]; }
+	}
+
+	/** 리프: 키/값 병렬 배열 + 양방향 연결 */
+	private static final class Leaf extends Node {
+		final Object[] vals;
+		Leaf prev, next;
+		Leaf(int fanout) {
+			super(fanout + 1);          // 분할 직전 1칸 여유
+			vals = new Object[fanout + 1];
+		}
+	}
+
+	/** 내부 노드: 키 n개, 자식 n+1개 */
+	private static final class Inner extends Node {
+		final Node[] children;
+		Inner(int fanout) {
+			super(fanout);              // 최대 fanout-1 + 분할 직전 1칸 여유
+			children = new Node[fanout + 1];
+		}
+	}
+
+	private final int fanout;
+	private final int minLeafKeys;   // fanout/2
+	private final int minInnerKeys;  // (fanout+1)/2 - 1
+	private final Comparator<? super K> comparator; // null이면 자연 순서
+
+	private Node root;
+	private Leaf head; // 가장 왼쪽 리프
+	private Leaf tail; // 가장 오른쪽 리프
+	private int size;
+	private int modCount;
+
+	// put/remove 재귀의 부가 결과 (할당 없이 전달)
+	private V oldValue;
+	private boolean found;
+	private Object splitKey;
+
+	/** 기본 분기 수(128), 자연 순서 */
+	public BPlusTreeMap() {
+		this(DEFAULT_FANOUT, null);
+	}
+
+	/** 분기 수 지정, 자연 순서 */
+	public BPlusTreeMap(int fanout) {
+		this(fanout, null);
+	}
+
+	/**
+	 * @param fanout     노드당 최대 키(리프)/자식(내부) 수, 4 이상 (권장 64~256)
+	 * @param comparator 비교자 (null이면 자연 순서)
+	 */
+	public BPlusTreeMap(int fanout, Comparator<? super K> comparator) {
+		if (fanout < 4) throw new IllegalArgumentException("fanout < 4");
+		this.fanout = fanout;
+		this.minLeafKeys = fanout / 2;
+		this.minInnerKeys = (fanout + 1) / 2 - 1;
+		this.comparator = comparator;
+		initEmpty();
+	}
+
+	private void initEmpty() {
+		Leaf leaf = new Leaf(fanout);
+		root = head = tail = leaf;
+	}
+
+	/** 분기 수 */
+	public int fanout() { return fanout; }
+
+	/** 트리 높이 (리프만 있으면 1) */
+	public int height() {
+		int h = 1;
+		for (Node x = root; x instanceof Inner in; x = in.children[0]) h++;
+		return h;
+	}
+
+	// ===== MyTree 공통 =====
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	/** 키 포함 여부 */
+	@Override
+	public boolean contains(K key) {
+		if (key == null) return false;
+		Leaf leaf = findLeaf(key);
+		return search(leaf, key) >= 0;
+	}
+
+	@Override
+	public void clear() {
+		initEmpty();
+		size = 0;
+		modCount++;
+	}
+
+	// ===== MySortedMap =====
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(K key) {
+		Objects.requireNonNull(key);
+		Leaf leaf = findLeaf(key);
+		int i = search(leaf, key);
+		return i >= 0 ? (V) leaf.vals[i] : null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Objects.requireNonNull(key);
+		if (size == 0) compare(key, key); // 빈 트리에서도 비교 불가 키는 거부
+		oldValue = null;
+		found = false;
+		Node right = insert(root, key, value);
+		if (right != null) {
+			Inner r = new Inner(fanout);
+			r.keys[0] = splitKey;
+			r.children[0] = root;
+			r.children[1] = right;
+			r.n = 1;
+			root = r;
+		}
+		V old = oldValue;
+		oldValue = null;
+		splitKey = null;
+		if (!found) {
+			size++;
+			modCount++;
+		}
+		return old;
+	}
+
+	@Override
+	public V remove(K key) {
+		Objects.requireNonNull(key);
+		oldValue = null;
+		found = false;
+		delete(root, key);
+		if (!found) return null;
+		if (root instanceof Inner in && in.n == 0) {
+			root = in.children[0];  // 높이 감소
+			in.children[0] = null;
+		}
+		V old = oldValue;
+		oldValue = null;
+		size--;
+		modCount++;
+		return old;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public K firstKey() {
+		if (size == 0) throw new NoSuchElementException();
+		return (K) head.keys[0];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public K lastKey() {
+		if (size == 0) throw new NoSuchElementException();
+		return (K) tail.keys[tail.n - 1];
+	}
+
+	@Override
+	public K floorKey(K key) { return before(key, true); }
+
+	@Override
+	public K lowerKey(K key) { return before(key, false); }
+
+	@Override
+	public K ceilingKey(K key) { return after(key, true); }
+
+	@Override
+	public K higherKey(K key) { return after(key, false); }
+
+	@Override
+	public Iterable<K> range(K fromInclusive, K toExclusive) {
+		Objects.requireNonNull(fromInclusive);
+		Objects.requireNonNull(toExclusive);
+		if (compare(fromInclusive, toExclusive) > 0) throw new IllegalArgumentException("from > to");
+		return () -> {
+			Leaf leaf = findLeaf(fromInclusive);
+			return new KeyIterator(leaf, lowerBound(leaf, fromInclusive), toExclusive);
+		};
+	}
+
+	// ===== 벌크 로드 =====
+
+	/**
+	 * 비어 있는 트리에 정렬된 키/값을 리프부터 위로 O(n)에 적재합니다.
+	 * 리프와 내부 노드를 가능한 한 꽉 채우되, 마지막 노드가 최소 점유율 아래로 떨어지지 않도록 고르게 나눕니다.
+	 *
+	 * @param sortedKeys 엄격하게 증가하는 키 (null 불가)
+	 * @param values     키와 같은 길이의 값 목록
+	 * @throws IllegalStateException    트리가 비어 있지 않은 경우
+	 * @throws IllegalArgumentException 길이가 다르거나 키가 엄격 증가하지 않는 경우
+	 */
+	public void bulkLoad(List<? extends K> sortedKeys, List<? extends V> values) {
+		if (size != 0) throw new IllegalStateException("트리가 비어 있지 않습니다.");
+		int total = sortedKeys.size();
+		if (values.size() != total) throw new IllegalArgumentException("keys/values 길이 불일치");
+		if (total == 0) return;
+
+		// 1) 리프 층: ceil(n / fanout)개로 고르게 분배
+		int leafCount = (total + fanout - 1) / fanout;
+		Node[] level = new Node[leafCount];
+		Object[] mins = new Object[leafCount];
+		Iterator<? extends K> kit = sortedKeys.iterator();
+		Iterator<? extends V> vit = values.iterator();
+		K prevKey = null;
+		Leaf prevLeaf = null;
+		for (int li = 0; li < leafCount; li++) {
+			int cnt = total / leafCount + (li < total % leafCount ? 1 : 0);
+			Leaf leaf = new Leaf(fanout);
+			for (int j = 0; j < cnt; j++) {
+				K k = Objects.requireNonNull(kit.next());
+				if (prevKey != null && compare(prevKey, k) >= 0)
+					throw new IllegalArgumentException("키가 엄격하게 증가하지 않습니다: " + k);
+				else if (prevKey == null) compare(k, k);
+				leaf.keys[j] = k;
+				leaf.vals[j] = vit.next();
+				prevKey = k;
+			}
+			leaf.n = cnt;
+			leaf.prev = prevLeaf;
+			if (prevLeaf != null) prevLeaf.next = leaf;
+			prevLeaf = leaf;
+			level[li] = leaf;
+			mins[li] = leaf.keys[0];
+		}
+		head = (Leaf) level[0];
+		tail = prevLeaf;
+
+		// 2) 내부 층: 자식을 fanout개씩 고르게 묶어 위로
+		int count = leafCount;
+		while (count > 1) {
+			int groups = (count + fanout - 1) / fanout;
+			Node[] upper = new Node[groups];
+			Object[] upperMins = new Object[groups];
+			int c = 0;
+			for (int g = 0; g < groups; g++) {
+				int cnt = count / groups + (g < count % groups ? 1 : 0);
+				Inner in = new Inner(fanout);
+				upperMins[g] = mins[c];
+				for (int j = 0; j < cnt; j++, c++) {
+					in.children[j] = level[c];
+					if (j > 0) in.keys[j - 1] = mins[c];
+				}
+				in.n = cnt - 1;
+				upper[g] = in;
+			}
+			level = upper;
+			mins = upperMins;
+			count = groups;
+		}
+		root = level[0];
+		size = total;
+		modCount++;
+	}
+
+	// ===== 내부: 탐색 =====
+
+	@SuppressWarnings("unchecked")
+	private int compare(Object a, Object b) {
+		return comparator != null ? comparator.compare((K) a, (K) b) : ((Comparable<Object>) a).compareTo(b);
+	}
+
+	/** 노드 안에서 key 위치 (있으면 인덱스, 없으면 -(삽입위치+1)) */
+	private int search(Node x, Object key) {
+		int lo = 0, hi = x.n - 1;
+		Object[] keys = x.keys;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			int cmp = compare(keys[mid], key);
+			if (cmp < 0) lo = mid + 1;
+			else if (cmp > 0) hi = mid - 1;
+			else return mid;
+		}
+		return -(lo + 1);
+	}
+
+	/** key보다 큰 첫 키의 인덱스 (= 내부 노드에서 내려갈 자식 번호) */
+	private int upperBound(Node x, Object key) {
+		int i = search(x, key);
+		return i >= 0 ? i + 1 : -(i + 1);
+	}
+
+	/** key 이상인 첫 키의 인덱스 */
+	private int lowerBound(Node x, Object key) {
+		int i = search(x, key);
+		return i >= 0 ? i : -(i + 1);
+	}
+
+	private Leaf findLeaf(Object key) {
+		Node x = root;
+		while (x instanceof Inner in) x = in.children[upperBound(in, key)];
+		return (Leaf) x;
+	}
+
+	@SuppressWarnings("unchecked")
+	private K before(K key, boolean inclusive) {
+		Objects.requireNonNull(key);
+		Leaf leaf = findLeaf(key);
+		int i = (inclusive ? upperBound(leaf, key) : lowerBound(leaf, key)) - 1;
+		if (i >= 0) return (K) leaf.keys[i];
+		Leaf p = leaf.prev;
+		return p == null ? null : (K) p.keys[p.n - 1];
+	}
+
+	@SuppressWarnings("unchecked")
+	private K after(K key, boolean inclusive) {
+		Objects.requireNonNull(key);
+		Leaf leaf = findLeaf(key);
+		int i = inclusive ? lowerBound(leaf, key) : upperBound(leaf, key);
+		if (i < leaf.n) return (K) leaf.keys[i];
+		Leaf nx = leaf.next;
+		return nx == null ? null : (K) nx.keys[0];
+	}
+
+	// ===== 내부: 삽입 =====
+
+	/** x 아래에 삽입. 분할됐으면 오른쪽 새 노드를 반환하고 구분 키는 splitKey에 둠 */
+	@SuppressWarnings("unchecked")
+	private Node insert(Node x, K key, V value) {
+		if (x instanceof Leaf leaf) {
+			int i = search(leaf, key);
+			if (i >= 0) {
+				oldValue = (V) leaf.vals[i];
+				leaf.vals[i] = value;
+				found = true;
+				return null;
+			}
+			int at = -(i + 1);
+			System.arraycopy(leaf.keys, at, leaf.keys, at + 1, leaf.n - at);
+			System.arraycopy(leaf.vals, at, leaf.vals, at + 1, leaf.n - at);
+			leaf.keys[at] = key;
+			leaf.vals[at] = value;
+			leaf.n++;
+			return leaf.n > fanout ? splitLeaf(leaf) : null;
+		}
+		Inner in = (Inner) x;
+		int ci = upperBound(in, key);
+		Node right = insert(in.children[ci], key, value);
+		if (right == null) return null;
+		System.arraycopy(in.keys, ci, in.keys, ci + 1, in.n - ci);
+		System.arraycopy(in.children, ci + 1, in.children, ci + 2, in.n - ci);
+		in.keys[ci] = splitKey;
+		in.children[ci + 1] = right;
+		in.n++;
+		return in.n > fanout - 1 ? splitInner(in) : null;
+	}
+
+	private Leaf splitLeaf(Leaf leaf) {
+		int mid = leaf.n / 2;
+		Leaf right = new Leaf(fanout);
+		int moved = leaf.n - mid;
+		System.arraycopy(leaf.keys, mid, right.keys, 0, moved);
+		System.arraycopy(leaf.vals, mid, right.vals, 0, moved);
+		Arrays.fill(leaf.keys, mid, leaf.n, null);
+		Arrays.fill(leaf.vals, mid, leaf.n, null);
+		right.n = moved;
+		leaf.n = mid;
+		right.next = leaf.next;
+		right.prev = leaf;
+		if (leaf.next != null) leaf.next.prev = right;
+		leaf.next = right;
+		if (tail == leaf) tail = right;
+		splitKey = right.keys[0];
+		return right;
+	}
+
+	private Inner splitInner(Inner in) {
+		int mid = in.n / 2;            // 가운데 키는 위로 올라감
+		Inner right = new Inner(fanout);
+		int movedKeys = in.n - mid - 1;
+		splitKey = in.keys[mid];
+		System.arraycopy(in.keys, mid + 1, right.keys, 0, movedKeys);
+		System.arraycopy(in.children, mid + 1, right.children, 0, movedKeys + 1);
+		Arrays.fill(in.keys, mid, in.n, null);
+		Arrays.fill(in.children, mid + 1, in.n + 1, null);
+		right.n = movedKeys;
+		in.n = mid;
+		return right;
+	}
+
+	// ===== 내부: 삭제 =====
+
+	@SuppressWarnings("unchecked")
+	private void delete(Node x, K key) {
+		if (x instanceof Leaf leaf) {
+			int i = search(leaf, key);
+			if (i < 0) return;
+			oldValue = (V) leaf.vals[i];
+			found = true;
+			removeFromLeaf(leaf, i);
+			return;
+		}
+		Inner in = (Inner) x;
+		int ci = upperBound(in, key);
+		Node child = in.children[ci];
+		delete(child, key);
+		if (!found) return;
+		if (child instanceof Leaf l ? l.n < minLeafKeys : child.n < minInnerKeys) rebalance(in, ci);
+	}
+
+	private static void removeFromLeaf(Leaf leaf, int i) {
+		int tailLen = leaf.n - i - 1;
+		System.arraycopy(leaf.keys, i + 1, leaf.keys, i, tailLen);
+		System.arraycopy(leaf.vals, i + 1, leaf.vals, i, tailLen);
+		leaf.n--;
+		leaf.keys[leaf.n] = null;
+		leaf.vals[leaf.n] = null;
+	}
+
+	/** parent의 ci번째 자식이 최소 점유율 미만일 때: 형제에게 빌리거나 병합 */
+	private void rebalance(Inner parent, int ci) {
+		Node child = parent.children[ci];
+		Node left = ci > 0 ? parent.children[ci - 1] : null;
+		Node right = ci < parent.n ? parent.children[ci + 1] : null;
+		if (child instanceof Leaf leaf) {
+			Leaf l = (Leaf) left, r = (Leaf) right;
+			if (l != null && l.n > minLeafKeys) {
+				// 왼쪽 형제의 마지막 키를 빌려 옴
+				System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.n);
+				System.arraycopy(leaf.vals, 0, leaf.vals, 1, leaf.n);
+				leaf.keys[0] = l.keys[l.n - 1];
+				leaf.vals[0] = l.vals[l.n - 1];
+				leaf.n++;
+				l.n--;
+				l.keys[l.n] = null;
+				l.vals[l.n] = null;
+				parent.keys[ci - 1] = leaf.keys[0];
+			} else if (r != null && r.n > minLeafKeys) {
+				// 오른쪽 형제의 첫 키를 빌려 옴
+				leaf.keys[leaf.n] = r.keys[0];
+				leaf.vals[leaf.n] = r.vals[0];
+				leaf.n++;
+				removeFromLeaf(r, 0);
+				parent.keys[ci] = r.keys[0];
+			} else if (l != null) {
+				mergeLeaves(l, leaf);
+				removeChild(parent, ci - 1);
+			} else {
+				mergeLeaves(leaf, r);
+				removeChild(parent, ci);
+			}
+			return;
+		}
+		Inner in = (Inner) child, l = (Inner) left, r = (Inner) right;
+		if (l != null && l.n > minInnerKeys) {
+			// 부모 구분 키를 내리고, 왼쪽 형제의 마지막 키를 올림
+			System.arraycopy(in.keys, 0, in.keys, 1, in.n);
+			System.arraycopy(in.children, 0, in.children, 1, in.n + 1);
+			in.keys[0] = parent.keys[ci - 1];
+			in.children[0] = l.children[l.n];
+			in.n++;
+			parent.keys[ci - 1] = l.keys[l.n - 1];
+			l.keys[l.n - 1] = null;
+			l.children[l.n] = null;
+			l.n--;
+		} else if (r != null && r.n > minInnerKeys) {
+			in.keys[in.n] = parent.keys[ci];
+			in.children[in.n + 1] = r.children[0];
+			in.n++;
+			parent.keys[ci] = r.keys[0];
+			System.arraycopy(r.keys, 1, r.keys, 0, r.n - 1);
+			System.arraycopy(r.children, 1, r.children, 0, r.n);
+			r.keys[r.n - 1] = null;
+			r.children[r.n] = null;
+			r.n--;
+		} else if (l != null) {
+			mergeInner(l, parent.keys[ci - 1], in);
+			removeChild(parent, ci - 1);
+		} else {
+			mergeInner(in, parent.keys[ci], r);
+			removeChild(parent, ci);
+		}
+	}
+
+	/** r의 내용을 l 뒤에 붙이고 리프 연결에서 r 제거 */
+	private void mergeLeaves(Leaf l, Leaf r) {
+		System.arraycopy(r.keys, 0, l.keys, l.n, r.n);
+		System.arraycopy(r.vals, 0, l.vals, l.n, r.n);
+		l.n += r.n;
+		l.next = r.next;
+		if (r.next != null) r.next.prev = l;
+		if (tail == r) tail = l;
+		r.prev = r.next = null;
+	}
+
+	/** l + (구분 키) + r 을 l로 합침 */
+	private static void mergeInner(Inner l, Object separator, Inner r) {
+		l.keys[l.n] = separator;
+		System.arraycopy(r.keys, 0, l.keys, l.n + 1, r.n);
+		System.arraycopy(r.children, 0, l.children, l.n + 1, r.n + 1);
+		l.n += r.n + 1;
+	}
+
+	/** parent에서 keys[ki]와 children[ki+1]을 제거 (병합으로 오른쪽 자식이 사라졌을 때) */
+	private static void removeChild(Inner parent, int ki) {
+		int tailLen = parent.n - ki - 1;
+		System.arraycopy(parent.keys, ki + 1, parent.keys, ki, tailLen);
+		System.arraycopy(parent.children, ki + 2, parent.children, ki + 1, tailLen);
+		parent.n--;
+		parent.keys[parent.n] = null;
+		parent.children[parent.n + 1] = null;
+	}
+
+	// ===== 순회 (Iterable) =====
+
+	/** 기본 이터레이터는 키 오름차순 (리프 연결을 따라 순차 접근) */
+	@Override
+	public Iterator<K> iterator() {
+		return new KeyIterator(head, 0, null);
+	}
+
+	/** 리프 연결을 따라가는 키 이터레이터 (fail-fast, 상한은 exclusive) */
+	private final class KeyIterator implements Iterator<K> {
+		private final int expected = modCount;
+		private final Object toExclusive; // null이면 상한 없음
+		private Leaf leaf;
+		private int idx;
+
+		KeyIterator(Leaf leaf, int idx, Object toExclusive) {
+			this.leaf = leaf;
+			this.idx = idx;
+			this.toExclusive = toExclusive;
+			advance();
+		}
+
+		/** 현재 리프를 다 읽었으면 다음 리프로, 상한을 넘었으면 종료 */
+		private void advance() {
+			while (leaf != null && idx >= leaf.n) {
+				leaf = leaf.next;
+				idx = 0;
+			}
+			if (leaf != null && toExclusive != null && compare(leaf.keys[idx], toExclusive) >= 0) leaf = null;
+		}
+
+		private void check() { if (expected != modCount) throw new ConcurrentModificationException(); }
+
+		@Override public boolean hasNext() { return leaf != null; }
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public K next() {
+			check();
+			if (leaf == null) throw new NoSuchElementException();
+			K k = (K) leaf.keys[idx++];
+			advance();
+			return k;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		for (Leaf l = head; l != null; l = l.next) {
+			for (int i = 0; i < l.n; i++) {
+				if (sb.length() > 1) sb.append(", ");
+				sb.append(l.keys[i]).append('=').append(l.vals[i]);
+			}
+		}
+		return sb.append('}').toString();
+	}
+}
@@ -0,0 +1,45 @@
+package nonLinear.tree.sorted;
+
+import nonLinear.tree.MyTree;
+
+/**
+ * 키 순서가 유지되는 맵(정렬 맵) 인터페이스입니다.
+ *
+ * <p>{@link MyTree}의 원소는 <b>키</b>이며, {@link #iterator()}는 키 오름차순으로 순회합니다.
+ * {@link #contains(Object)}는 키 포함 여부입니다.</p>
+ *
+ * @param <K> 키 타입(Null 불가)
+ * @param <V> 값 타입
+ */
+public interface MySortedMap<K, V> extends MyTree<K> {
+
+	/** 키에 대응하는 값 (없으면 null) */
+	V get(K key);
+
+	/** 키-값 저장. 이미 있던 키면 값을 교체하고 이전 값을, 새 키면 null을 반환 */
+	V put(K key, V value);
+
+	/** 키 삭제. 삭제된 값을 반환 (없으면 null) */
+	V remove(K key);
+
+	/** 가장 작은 키 (비어 있으면 {@link java.util.NoSuchElementException}) */
+	K firstKey();
+
+	/** 가장 큰 키 (비어 있으면 {@link java.util.NoSuchElementException}) */
+	K lastKey();
+
+	/** key 이하인 가장 큰 키 (없으면 null) */
+	K floorKey(K key);
+
+	/** key 이상인 가장 작은 키 (없으면 null) */
+	K ceilingKey(K key);
+
+	/** key보다 작은 가장 큰 키 (없으면 null) */
+	K lowerKey(K key);
+
+	/** key보다 큰 가장 작은 키 (없으면 null) */
+	K higherKey(K key);
+
+	/** [fromInclusive, toExclusive) 구간의 키를 오름차순으로 순회 */
+	Iterable<K> range(K fromInclusive, K toExclusive);
+}
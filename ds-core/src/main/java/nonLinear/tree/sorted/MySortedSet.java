@@ -0,0 +1,39 @@
+package nonLinear.tree.sorted;
+
+import nonLinear.tree.MyTree;
+
+/**
+ * 원소 순서가 유지되는 집합(정렬 집합) 인터페이스입니다.
+ * {@link #iterator()}는 오름차순으로 순회합니다.
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public interface MySortedSet<T> extends MyTree<T> {
+
+	/** 원소 추가. 새로 추가됐으면 true, 이미 있으면 false */
+	boolean add(T value);
+
+	/** 원소 삭제. 삭제됐으면 true */
+	boolean remove(T value);
+
+	/** 가장 작은 원소 (비어 있으면 {@link java.util.NoSuchElementException}) */
+	T first();
+
+	/** 가장 큰 원소 (비어 있으면 {@link java.util.NoSuchElementException}) */
+	T last();
+
+	/** value 이하인 가장 큰 원소 (없으면 null) */
+	T floor(T value);
+
+	/** value 이상인 가장 작은 원소 (없으면 null) */
+	T ceiling(T value);
+
+	/** value보다 작은 가장 큰 원소 (없으면 null) */
+	T lower(T value);
+
+	/** value보다 큰 가장 작은 원소 (없으면 null) */
+	T higher(T value);
+
+	/** [fromInclusive, toExclusive) 구간의 원소를 오름차순으로 순회 */
+	Iterable<T> range(T fromInclusive, T toExclusive);
+}
@@ -0,0 +1,517 @@
+package nonLinear.tree.sorted;
+
+import nonLinear.tree.Position;
+import nonLinear.tree.sorted.internal.RedBlackNode;
+
+import java.util.*;
+
+/**
+ * <h1>레드-블랙 트리 정렬 맵</h1>
+ *
+ * <h2>설계 개요</h2>
+ * - {@link nonLinear.tree.binary.BinaryTrees}와 같은 부모/왼쪽/오른쪽 링크 노드를 쓰되,
+ *   위치를 사용자가 정하지 않고 <b>키 순서</b>로 자동 배치합니다.
+ * - 삽입/삭제 후 회전과 재색칠로 높이를 {@code 2·log2(n+1)} 이하로 유지합니다.
+ * - 노드는 {@link Position}(원소 = 키)으로 노출되며, {@link #root()}/{@link #left(Position)} 등으로
+ *   이진 트리처럼 탐색할 수 있습니다.
+ * - 삭제는 후속 노드의 키를 복사하지 않고 <b>노드를 옮겨 붙이므로</b>(CLRS transplant),
+ *   다른 키를 삭제해도 기존 Position이 가리키는 키가 바뀌지 않습니다.
+ *
+ * <h2>정책</h2>
+ * - <b>null 키</b>: 금지(NPE). 값은 null 허용.
+ * - 값 교체(put 기존 키, {@link #setValue})는 구조 변경이 아니므로 modCount를 올리지 않습니다.
+ * - <b>스레드 안전성</b>: 없음(단일 스레드 가정).
+ *
+ * <h2>복잡도</h2>
+ * - get/put/remove/floor/ceiling/lower/higher: O(log n)
+ * - first/last: O(log n), successor/predecessor: 분할상환 O(1)
+ * - range(from, to): O(log n + k)
+ * - iterator(): 키 오름차순(중위 순회), fail-fast
+ *
+ * @param <K> 키 타입(Null 불가)
+ * @param <V> 값 타입
+ */
+public class RedBlackTreeMap<K, V> implements MySortedMap<K, V> {
+
+	private static final boolean RED = true;
+	private static final boolean BLACK = false;
+
+	private final Comparator<? super K> comparator; // null이면 자연 순서
+	private RedBlackNode<K, V> root;
+	private int size;
+	private int modCount;
+
+	/** 이 트리를 식별하는 전용 토큰. 노드 생성 시 주입하여 소유 관계를 검증한다. */
+	private final Object ownerToken = new Object();
+	/** 현재 트리 세대 (0 이상). clear()마다 올려 기존 노드의 Position을 한 번에 무효화한다. */
+	private int epoch;
+
+	/** 삭제된 노드의 epoch (트리 세대는 음수가 되지 않음) */
+	private static final int DEAD = -1;
+
+	/** 키의 자연 순서(Comparable) 사용 */
+	public RedBlackTreeMap() {
+		this(null);
+	}
+
+	/** 지정한 비교자 사용 (null이면 자연 순서) */
+	public RedBlackTreeMap(Comparator<? super K> comparator) {
+		this.comparator = comparator;
+	}
+
+	// ===== MyTree 공통 =====
+	@Override public int size() { return size; }
+	@Override public boolean isEmpty() { return size == 0; }
+
+	/** 키 포함 여부 (O(log n)) */
+	@Override
+	public boolean contains(K key) {
+		return key != null && getNode(key) != null;
+	}
+
+	@Override
+	public void clear() {
+		root = null;
+		size = 0;
+		epoch = (epoch + 1) & Integer.MAX_VALUE; // 기존 노드 전부 무효화
+		modCount++;
+	}
+
+	// ===== MySortedMap =====
+
+	@Override
+	public V get(K key) {
+		RedBlackNode<K, V> n = getNode(Objects.requireNonNull(key));
+		return n == null ? null : n.value;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Objects.requireNonNull(key);
+		RedBlackNode<K, V> parent = null;
+		RedBlackNode<K, V> cur = root;
+		int cmp = 0;
+		while (cur != null) {
+			parent = cur;
+			cmp = compare(key, cur.key);
+			if (cmp < 0) cur = cur.left;
+			else if (cmp > 0) cur = cur.right;
+			else {
+				V old = cur.value;
+				cur.value = value;
+				return old;
+			}
+		}
+		if (parent == null) compare(key, key); // 빈 트리에서도 비교 불가 키는 거부
+		RedBlackNode<K, V> n = new RedBlackNode<>(key, value, parent, ownerToken, epoch);
+		if (parent == null) root = n;
+		else if (cmp < 0) parent.left = n;
+		else parent.right = n;
+		fixAfterInsertion(n);
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	public V remove(K key) {
+		RedBlackNode<K, V> n = getNode(Objects.requireNonNull(key));
+		if (n == null) return null;
+		V old = n.value;
+		deleteNode(n);
+		return old;
+	}
+
+	@Override
+	public K firstKey() {
+		if (root == null) throw new NoSuchElementException();
+		return minimum(root).key;
+	}
+
+	@Override
+	public K lastKey() {
+		if (root == null) throw new NoSuchElementException();
+		return maximum(root).key;
+	}
+
+	@Override public K floorKey(K key) { return keyOrNull(floorNode(key, true)); }
+	@Override public K ceilingKey(K key) { return keyOrNull(ceilingNode(key, true)); }
+	@Override public K lowerKey(K key) { return keyOrNull(floorNode(key, false)); }
+	@Override public K higherKey(K key) { return keyOrNull(ceilingNode(key, false)); }
+
+	@Override
+	public Iterable<K> range(K fromInclusive, K toExclusive) {
+		Objects.requireNonNull(fromInclusive);
+		Objects.requireNonNull(toExclusive);
+		if (compare(fromInclusive, toExclusive) > 0) throw new IllegalArgumentException("from > to");
+		return () -> new KeyIterator(ceilingNode(fromInclusive, true), toExclusive);
+	}
+
+	// ===== Position 기반 탐색 =====
+
+	/** 루트 위치 (비어 있으면 null) */
+	public Position<K> root() { return root; }
+
+	/** 부모/왼쪽/오른쪽 위치 (없으면 null) */
+	public Position<K> parent(Position<K> p) { return cast(p).parent; }
+	public Position<K> left(Position<K> p) { return cast(p).left; }
+	public Position<K> right(Position<K> p) { return cast(p).right; }
+
+	/** 노드 색이 RED인지 여부 (검증/시각화용) */
+	public boolean isRed(Position<K> p) { return cast(p).red; }
+
+	/** key를 가진 위치 (없으면 null) */
+	public Position<K> find(K key) { return getNode(Objects.requireNonNull(key)); }
+
+	/** 가장 작은/큰 키의 위치 (비어 있으면 null) */
+	public Position<K> first() { return root == null ? null : minimum(root); }
+	public Position<K> last() { return root == null ? null : maximum(root); }
+
+	/** key 이하/이상인 가장 가까운 위치 (없으면 null) */
+	public Position<K> floor(K key) { return floorNode(key, true); }
+	public Position<K> ceiling(K key) { return ceilingNode(key, true); }
+
+	/** 키 순서상 다음/이전 위치 (없으면 null) */
+	public Position<K> successor(Position<K> p) { return nextNode(cast(p)); }
+	public Position<K> predecessor(Position<K> p) { return prevNode(cast(p)); }
+
+	/** 위치의 값 */
+	public V value(Position<K> p) { return cast(p).value; }
+
+	/** 위치의 값을 교체하고 이전 값을 반환 (구조 변경 아님) */
+	public V setValue(Position<K> p, V value) {
+		RedBlackNode<K, V> n = cast(p);
+		V old = n.value;
+		n.value = value;
+		return old;
+	}
+
+	/** 위치의 노드를 삭제하고 값을 반환. 삭제된 Position은 더 이상 유효하지 않음 */
+	public V removeAt(Position<K> p) {
+		RedBlackNode<K, V> n = cast(p);
+		V old = n.value;
+		deleteNode(n);
+		return old;
+	}
+
+	// ===== 내부: 탐색 =====
+
+	@SuppressWarnings("unchecked")
+	private int compare(K a, K b) {
+		return comparator != null ? comparator.compare(a, b) : ((Comparable<? super K>) a).compareTo(b);
+	}
+
+	private RedBlackNode<K, V> getNode(K key) {
+		RedBlackNode<K, V> cur = root;
+		while (cur != null) {
+			int cmp = compare(key, cur.key);
+			if (cmp < 0) cur = cur.left;
+			else if (cmp > 0) cur = cur.right;
+			else return cur;
+		}
+		return null;
+	}
+
+	/** key 이하(inclusive) 또는 미만인 가장 큰 노드 */
+	private RedBlackNode<K, V> floorNode(K key, boolean inclusive) {
+		Objects.requireNonNull(key);
+		RedBlackNode<K, V> cur = root, best = null;
+		while (cur != null) {
+			int cmp = compare(key, cur.key);
+			if (cmp > 0 || (inclusive && cmp == 0)) {
+				best = cur;
+				if (cmp == 0) break;
+				cur = cur.right;
+			} else {
+				cur = cur.left;
+			}
+		}
+		return best;
+	}
+
+	/** key 이상(inclusive) 또는 초과인 가장 작은 노드 */
+	private RedBlackNode<K, V> ceilingNode(K key, boolean inclusive) {
+		Objects.requireNonNull(key);
+		RedBlackNode<K, V> cur = root, best = null;
+		while (cur != null) {
+			int cmp = compare(key, cur.key);
+			if (cmp < 0 || (inclusive && cmp == 0)) {
+				best = cur;
+				if (cmp == 0) break;
+				cur = cur.left;
+			} else {
+				cur = cur.right;
+			}
+		}
+		return best;
+	}
+
+	private static <K> K keyOrNull(RedBlackNode<K, ?> n) {
+		return n == null ? null : n.key;
+	}
+
+	private static <K, V> RedBlackNode<K, V> minimum(RedBlackNode<K, V> n) {
+		while (n.left != null) n = n.left;
+		return n;
+	}
+
+	private static <K, V> RedBlackNode<K, V> maximum(RedBlackNode<K, V> n) {
+		while (n.right != null) n = n.right;
+		return n;
+	}
+
+	private static <K, V> RedBlackNode<K, V> nextNode(RedBlackNode<K, V> n) {
+		if (n.right != null) return minimum(n.right);
+		RedBlackNode<K, V> p = n.parent;
+		while (p != null && n == p.right) {
+			n = p;
+			p = p.parent;
+		}
+		return p;
+	}
+
+	private static <K, V> RedBlackNode<K, V> prevNode(RedBlackNode<K, V> n) {
+		if (n.left != null) return maximum(n.left);
+		RedBlackNode<K, V> p = n.parent;
+		while (p != null && n == p.left) {
+			n = p;
+			p = p.parent;
+		}
+		return p;
+	}
+
+	private RedBlackNode<K, V> cast(Position<K> p) {
+		if (!(p instanceof RedBlackNode<?, ?> raw))
+			throw new IllegalArgumentException("이 구현의 Position이 아닙니다.");
+		if (raw.ownerToken != this.ownerToken)
+			throw new IllegalArgumentException("다른 트리에서 생성된 Position입니다.");
+		@SuppressWarnings("unchecked")
+		RedBlackNode<K, V> node = (RedBlackNode<K, V>) raw;
+		if (node.epoch != epoch) // 삭제되었거나 clear 이전의 노드
+			throw new IllegalArgumentException("삭제된 Position입니다.");
+		return node;
+	}
+
+	// ===== 내부: 균형 유지 =====
+
+	private static boolean colorOf(RedBlackNode<?, ?> n) { return n != null && n.red; }
+
+	private void rotateLeft(RedBlackNode<K, V> x) {
+		RedBlackNode<K, V> y = x.right;
+		x.right = y.left;
+		if (y.left != null) y.left.parent = x;
+		y.parent = x.parent;
+		if (x.parent == null) root = y;
+		else if (x == x.parent.left) x.parent.left = y;
+		else x.parent.right = y;
+		y.left = x;
+		x.parent = y;
+	}
+
+	private void rotateRight(RedBlackNode<K, V> x) {
+		RedBlackNode<K, V> y = x.left;
+		x.left = y.right;
+		if (y.right != null) y.right.parent = x;
+		y.parent = x.parent;
+		if (x.parent == null) root = y;
+		else if (x == x.parent.right) x.parent.right = y;
+		else x.parent.left = y;
+		y.right = x;
+		x.parent = y;
+	}
+
+	/** 새 RED 노드 z 삽입 후 RED-RED 위반을 위로 밀어 올리며 해소 */
+	private void fixAfterInsertion(RedBlackNode<K, V> z) {
+		while (z != root && colorOf(z.parent)) {
+			RedBlackNode<K, V> p = z.parent, g = p.parent; // p가 RED이므로 루트가 아니고 g 존재
+			if (p == g.left) {
+				RedBlackNode<K, V> uncle = g.right;
+				if (colorOf(uncle)) {            // case 1: 삼촌 RED → 재색칠
+					p.red = BLACK;
+					uncle.red = BLACK;
+					g.red = RED;
+					z = g;
+				} else {
+					if (z == p.right) {          // case 2: 꺾인 모양 → 펴기
+						z = p;
+						rotateLeft(z);
+						p = z.parent;
+					}
+					p.red = BLACK;               // case 3: 일직선 → 조부모 회전
+					g.red = RED;
+					rotateRight(g);
+				}
+			} else {
+				RedBlackNode<K, V> uncle = g.left;
+				if (colorOf(uncle)) {
+					p.red = BLACK;
+					uncle.red = BLACK;
+					g.red = RED;
+					z = g;
+				} else {
+					if (z == p.left) {
+						z = p;
+						rotateRight(z);
+						p = z.parent;
+					}
+					p.red = BLACK;
+					g.red = RED;
+					rotateLeft(g);
+				}
+			}
+		}
+		root.red = BLACK;
+	}
+
+	/** u 자리에 v(서브트리)를 연결 */
+	private void transplant(RedBlackNode<K, V> u, RedBlackNode<K, V> v) {
+		if (u.parent == null) root = v;
+		else if (u == u.parent.left) u.parent.left = v;
+		else u.parent.right = v;
+		if (v != null) v.parent = u.parent;
+	}
+
+	/** CLRS RB-DELETE (null 리프 대응: x가 null일 수 있어 xParent를 따로 추적) */
+	private void deleteNode(RedBlackNode<K, V> z) {
+		RedBlackNode<K, V> x, xParent;
+		boolean removedColor = z.red;
+		if (z.left == null) {
+			x = z.right;
+			xParent = z.parent;
+			transplant(z, z.right);
+		} else if (z.right == null) {
+			x = z.left;
+			xParent = z.parent;
+			transplant(z, z.left);
+		} else {
+			RedBlackNode<K, V> y = minimum(z.right);   // 후속 노드를 z 자리로 옮김
+			removedColor = y.red;
+			x = y.right;
+			if (y.parent == z) {
+				xParent = y;
+			} else {
+				xParent = y.parent;
+				transplant(y, y.right);
+				y.right = z.right;
+				y.right.parent = y;
+			}
+			transplant(z, y);
+			y.left = z.left;
+			y.left.parent = y;
+			y.red = z.red;
+		}
+		// 삭제된 노드 연결 해제 (stale Position이 트리를 붙잡지 않도록)
+		z.parent = z.left = z.right = null;
+		z.epoch = DEAD;
+		if (removedColor == BLACK) fixAfterDeletion(x, xParent);
+		size--;
+		modCount++;
+	}
+
+	/** BLACK 노드가 빠져 생긴 "이중 BLACK" x를 위로 밀어 올리며 해소 */
+	private void fixAfterDeletion(RedBlackNode<K, V> x, RedBlackNode<K, V> parent) {
+		while (x != root && !colorOf(x)) {
+			if (x == parent.left) {
+				RedBlackNode<K, V> w = parent.right;   // 이중 BLACK의 형제는 반드시 존재
+				if (colorOf(w)) {                      // case 1: 형제 RED → 회전해 BLACK 형제로
+					w.red = BLACK;
+					parent.red = RED;
+					rotateLeft(parent);
+					w = parent.right;
+				}
+				if (!colorOf(w.left) && !colorOf(w.right)) { // case 2: 형제의 자식 모두 BLACK
+					w.red = RED;
+					x = parent;
+					parent = x.parent;
+				} else {
+					if (!colorOf(w.right)) {           // case 3: 가까운 조카만 RED
+						w.left.red = BLACK;
+						w.red = RED;
+						rotateRight(w);
+						w = parent.right;
+					}
+					w.red = parent.red;                // case 4: 먼 조카 RED
+					parent.red = BLACK;
+					w.right.red = BLACK;
+					rotateLeft(parent);
+					x = root;
+					parent = null;
+				}
+			} else {
+				RedBlackNode<K, V> w = parent.left;
+				if (colorOf(w)) {
+					w.red = BLACK;
+					parent.red = RED;
+					rotateRight(parent);
+					w = parent.left;
+				}
+				if (!colorOf(w.right) && !colorOf(w.left)) {
+					w.red = RED;
+					x = parent;
+					parent = x.parent;
+				} else {
+					if (!colorOf(w.left)) {
+						w.right.red = BLACK;
+						w.red = RED;
+						rotateLeft(w);
+						w = parent.left;
+					}
+					w.red = parent.red;
+					parent.red = BLACK;
+					w.left.red = BLACK;
+					rotateRight(parent);
+					x = root;
+					parent = null;
+				}
+			}
+		}
+		if (x != null) x.red = BLACK;
+	}
+
+	// ===== 순회 (Iterable) =====
+
+	/** 기본 이터레이터는 키 오름차순(중위) */
+	@Override
+	public Iterator<K> iterator() {
+		return new KeyIterator(root == null ? null : minimum(root), null);
+	}
+
+	/** successor 링크를 따라가는 키 이터레이터 (fail-fast, 상한은 exclusive) */
+	private final class KeyIterator implements Iterator<K> {
+		private final int expected = modCount;
+		private RedBlackNode<K, V> next;
+		private final K toExclusive; // null이면 상한 없음
+
+		KeyIterator(RedBlackNode<K, V> first, K toExclusive) {
+			this.toExclusive = toExclusive;
+			this.next = bounded(first);
+		}
+
+		private RedBlackNode<K, V> bounded(RedBlackNode<K, V> n) {
+			return (n != null && toExclusive != null && compare(n.key, toExclusive) >= 0) ? null : n;
+		}
+
+		private void check() { if (expected != modCount) throw new ConcurrentModificationException(); }
+
+		@Override public boolean hasNext() { return next != null; }
+
+		@Override public K next() {
+			check();
+			if (next == null) throw new NoSuchElementException();
+			RedBlackNode<K, V> n = next;
+			next = bounded(nextNode(n));
+			return n.key;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		for (RedBlackNode<K, V> n = root == null ? null : minimum(root); n != null; ) {
+			sb.append(n.key).append('=').append(n.value);
+			n = nextNode(n);
+			if (n != null) sb.append(", ");
+		}
+		return sb.append('}').toString();
+	}
+}
@@ -0,0 +1,71 @@
+package nonLinear.tree.sorted;
+
+import nonLinear.tree.Position;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * <h1>레드-블랙 트리 정렬 집합</h1>
+ * {@link RedBlackTreeMap}에 값 없이(고정 표식) 키만 저장하는 얇은 래퍼입니다.
+ * 복잡도와 정책(null 금지, fail-fast, Position 노출)은 {@link RedBlackTreeMap}과 같습니다.
+ *
+ * @param <T> 원소 타입(Null 불가)
+ */
+public class RedBlackTreeSet<T> implements MySortedSet<T> {
+
+	private static final Object PRESENT = new Object();
+
+	private final RedBlackTreeMap<T, Object> map;
+
+	/** 원소의 자연 순서(Comparable) 사용 */
+	public RedBlackTreeSet() {
+		this.map = new RedBlackTreeMap<>();
+	}
+
+	/** 지정한 비교자 사용 */
+	public RedBlackTreeSet(Comparator<? super T> comparator) {
+		this.map = new RedBlackTreeMap<>(comparator);
+	}
+
+	// ===== MyTree 공통 =====
+	@Override public int size() { return map.size(); }
+	@Override public boolean isEmpty() { return map.isEmpty(); }
+	@Override public boolean contains(T value) { return map.contains(value); }
+	@Override public void clear() { map.clear(); }
+
+	// ===== MySortedSet =====
+	@Override public boolean add(T value) { return map.put(value, PRESENT) == null; }
+	@Override public boolean remove(T value) { return map.remove(value) != null; }
+	@Override public T first() { return map.firstKey(); }
+	@Override public T last() { return map.lastKey(); }
+	@Override public T floor(T value) { return map.floorKey(value); }
+	@Override public T ceiling(T value) { return map.ceilingKey(value); }
+	@Override public T lower(T value) { return map.lowerKey(value); }
+	@Override public T higher(T value) { return map.higherKey(value); }
+	@Override public Iterable<T> range(T fromInclusive, T toExclusive) { return map.range(fromInclusive, toExclusive); }
+
+	// ===== Position 기반 탐색 =====
+	public Position<T> root() { return map.root(); }
+	public Position<T> parent(Position<T> p) { return map.parent(p); }
+	public Position<T> left(Position<T> p) { return map.left(p); }
+	public Position<T> right(Position<T> p) { return map.right(p); }
+	public Position<T> find(T value) { return map.find(value); }
+	public Position<T> successor(Position<T> p) { return map.successor(p); }
+	public Position<T> predecessor(Position<T> p) { return map.predecessor(p); }
+
+	/** 기본 이터레이터는 오름차순 */
+	@Override
+	public Iterator<T> iterator() { return map.iterator(); }
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		Iterator<T> it = iterator();
+		while (it.hasNext()) {
+			sb.append(it.next());
+			if (it.hasNext()) sb.append(", ");
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -0,0 +1,43 @@
+package nonLinear.tree.sorted.internal;
+
+import nonLinear.tree.Position;
+
+/**
+ * 레드-블랙 트리의 내부 노드 구현체입니다.
+ * 외부에는 {@link Position}(원소 = 키) 핸들로만 노출됩니다.
+ * 삭제 시 키/값을 다른 노드로 복사하지 않고 노드 자체를 재연결하므로,
+ * 살아 있는 노드의 Position은 다른 키의 삭제 후에도 같은 키를 가리킵니다.
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class RedBlackNode<K, V> implements Position<K> {
+	/** 키 (트리 안에 있는 동안 불변) */
+	public final K key;
+	/** 값 */
+	public V value;
+	/** 부모노드 */
+	public RedBlackNode<K, V> parent;
+	/** 왼쪽 자식 */
+	public RedBlackNode<K, V> left;
+	/** 오른쪽 자식 */
+	public RedBlackNode<K, V> right;
+	/** 색 (true = RED, false = BLACK) */
+	public boolean red = true;
+	/** 이 노드를 소유한 트리를 식별하는 토큰 (동일 트리인지 검증용) */
+	public final Object ownerToken;
+	/** 생성 시점의 트리 세대. 트리의 현재 세대와 다르면 삭제된 노드 (clear/삭제가 무효화) */
+	public int epoch;
+
+	public RedBlackNode(K key, V value, RedBlackNode<K, V> parent, Object ownerToken, int epoch) {
+		this.key = key;
+		this.value = value;
+		this.parent = parent;
+		this.ownerToken = ownerToken;
+		this.epoch = epoch;
+	}
+
+	@Override
+	public K element() {
+		return key;
+	}
+}
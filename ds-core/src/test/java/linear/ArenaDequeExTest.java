@@ -0,0 +1,75 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.MyDeque;
+import linear.deque.internal.ArenaDequeEx;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 노드 아레나 기반 Deque(ArenaDequeEx) 단위 테스트
+ */
+public class ArenaDequeExTest {
+
+	@Test
+	void testBothEnds() {
+		MyDeque<Integer> dq = Deques.arena();
+		dq.addFirst(2);
+		dq.addLast(3);
+		dq.push(1);
+		assertEquals("[1, 2, 3]", dq.toString());
+		assertEquals(1, dq.getFirst());
+		assertEquals(3, dq.getLast());
+		assertEquals(3, dq.removeLast());
+		assertEquals(1, dq.pop());
+		assertEquals(2, dq.pollFirst());
+		assertNull(dq.pollLast());
+		assertThrows(NoSuchElementException.class, dq::removeFirst);
+		assertThrows(NullPointerException.class, () -> dq.addFirst(null));
+	}
+
+	@Test
+	void testRandomOpsWithSlotReuseMatchModel() {
+		Random rnd = new Random(5);
+		ArenaDequeEx<Integer> dq = new ArenaDequeEx<>(2);
+		ArrayDeque<Integer> model = new ArrayDeque<>();
+		for (int step = 0; step < 50_000; step++) {
+			switch (rnd.nextInt(5)) {
+				case 0 -> { dq.addFirst(step); model.addFirst(step); }
+				case 1 -> { dq.addLast(step); model.addLast(step); }
+				case 2 -> assertEquals(model.pollFirst(), dq.pollFirst());
+				case 3 -> assertEquals(model.pollLast(), dq.pollLast());
+				default -> {
+					Integer k = model.isEmpty() ? -1 : step - rnd.nextInt(20);
+					assertEquals(model.removeFirstOccurrence(k), dq.removeFirstOccurrence(k));
+				}
+			}
+			assertEquals(model.size(), dq.size());
+		}
+		assertIterableEquals(model, dq);
+	}
+
+	@Test
+	void testClearAndFailFast() {
+		MyDeque<String> dq = Deques.arena();
+		dq.addLast("a");
+		dq.addLast("b");
+		Iterator<String> it = dq.iterator();
+		it.next();
+		dq.addLast("c");
+		assertThrows(ConcurrentModificationException.class, it::next);
+		assertTrue(dq.contains("c"));
+		dq.clear();
+		assertTrue(dq.isEmpty());
+		assertFalse(dq.contains("c"));
+		dq.addFirst("z");
+		assertEquals("[z]", dq.toString());
+	}
+}
@@ -0,0 +1,65 @@
+package linear;
+
+import linear.queue.MyQueue;
+import linear.queue.Queues;
+import linear.queue.internal.ArenaQueueEx;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 노드 아레나 기반 Queue(ArenaQueueEx) 단위 테스트
+ */
+public class ArenaQueueExTest {
+
+	@Test
+	void testFifoAndNullAllowed() {
+		MyQueue<String> q = Queues.arena();
+		q.enqueue("a");
+		q.enqueue(null);
+		q.enqueue("c");
+		assertEquals("a", q.peek());
+		assertEquals("a", q.dequeue());
+		assertNull(q.dequeue());
+		assertEquals("c", q.dequeue());
+		assertThrows(NoSuchElementException.class, q::dequeue);
+		assertThrows(NoSuchElementException.class, q::peek);
+	}
+
+	@Test
+	void testInterleavedOpsReuseSlots() {
+		Random rnd = new Random(9);
+		MyQueue<Integer> q = new ArenaQueueEx<>(1);
+		ArrayDeque<Integer> model = new ArrayDeque<>();
+		for (int step = 0; step < 30_000; step++) {
+			if (model.isEmpty() || rnd.nextBoolean()) {
+				q.enqueue(step);
+				model.addLast(step);
+			} else {
+				assertEquals(model.pollFirst(), q.dequeue());
+			}
+			assertEquals(model.size(), q.size());
+		}
+		assertIterableEquals(model, q);
+	}
+
+	@Test
+	void testClearAndFailFast() {
+		MyQueue<Integer> q = Queues.arena();
+		q.enqueue(1);
+		q.enqueue(2);
+		Iterator<Integer> it = q.iterator();
+		q.dequeue();
+		assertThrows(ConcurrentModificationException.class, it::next);
+		q.clear();
+		assertTrue(q.isEmpty());
+		q.enqueue(3);
+		assertEquals("[3]", q.toString());
+	}
+}
@@ -0,0 +1,222 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.WorkStealingDeque;
+import linear.deque.WorkStealingPool;
+import linear.deque.internal.ChaseLevDequeEx;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChaseLevDequeEx / WorkStealingPool 테스트")
+class ChaseLevDequeExTest {
+
+	@DisplayName("소유자 push/pop은 LIFO, steal은 가장 오래된 원소")
+	@Test
+	void ownerLifoThiefFifo() {
+		WorkStealingDeque<Integer> dq = Deques.workStealing();
+		for (int i = 1; i <= 5; i++) dq.push(i);
+
+		assertEquals(5, dq.size());
+		assertEquals(5, dq.peekFirst());
+		assertEquals(1, dq.peekLast());
+		assertEquals(1, dq.steal());
+		assertEquals(5, dq.pop());
+		assertEquals(2, dq.pollLast());
+		assertEquals(4, dq.pollFirst());
+		assertEquals(3, dq.removeFirst());
+		assertTrue(dq.isEmpty());
+		assertNull(dq.pollFirst());
+		assertNull(dq.steal());
+		assertThrows(NoSuchElementException.class, dq::pop);
+		assertThrows(NoSuchElementException.class, dq::removeLast);
+	}
+
+	@DisplayName("null 금지, 뒤쪽 삽입은 지원하지 않음")
+	@Test
+	void nullAndUnsupported() {
+		WorkStealingDeque<String> dq = new ChaseLevDequeEx<>();
+		assertThrows(NullPointerException.class, () -> dq.push(null));
+		assertThrows(UnsupportedOperationException.class, () -> dq.addLast("x"));
+		assertThrows(UnsupportedOperationException.class, () -> dq.offerLast("x"));
+	}
+
+	@DisplayName("확장 후에도 순서 보존 + 이터레이터는 앞→뒤")
+	@Test
+	void growPreservesOrder() {
+		WorkStealingDeque<Integer> dq = new ChaseLevDequeEx<>(2);
+		for (int i = 0; i < 3; i++) dq.push(i);
+		assertEquals(0, dq.steal());           // top을 움직여 원형 래핑 유도
+		for (int i = 3; i < 100; i++) dq.push(i);
+
+		assertEquals(99, dq.size());
+		int expected = 99;
+		for (int v : dq) assertEquals(expected--, v);
+		assertEquals(0, expected);
+		assertTrue(dq.contains(50));
+		assertFalse(dq.contains(0));
+
+		dq.clear();
+		assertTrue(dq.isEmpty());
+	}
+
+	@DisplayName("동시성: 소유자 1 + 도둑 3, 모든 원소가 정확히 한 번씩 소비")
+	@Test
+	void concurrentStealExactlyOnce() throws Exception {
+		WorkStealingDeque<Integer> dq = Deques.workStealing();
+		final int n = 200_000;
+		final int thieves = 3;
+		ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+		AtomicInteger duplicates = new AtomicInteger();
+		AtomicBoolean producing = new AtomicBoolean(true);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Thread> ts = new ArrayList<>();
+		for (int k = 0; k < thieves; k++) {
+			Thread t = new Thread(() -> {
+				try { start.await(); } catch (InterruptedException e) { return; }
+				while (producing.get() || !dq.isEmpty()) {
+					Integer v = dq.steal();
+					if (v != null && seen.put(v, Boolean.TRUE) != null) duplicates.incrementAndGet();
+				}
+			});
+			ts.add(t);
+			t.start();
+		}
+
+		start.countDown();
+		for (int i = 0; i < n; i++) {
+			dq.push(i);
+			if ((i & 3) == 0) {
+				Integer v = dq.pollFirst();
+				if (v != null && seen.put(v, Boolean.TRUE) != null) duplicates.incrementAndGet();
+			}
+		}
+		Integer v;
+		while ((v = dq.pollFirst()) != null) {
+			if (seen.put(v, Boolean.TRUE) != null) duplicates.incrementAndGet();
+		}
+		producing.set(false);
+		for (Thread t : ts) t.join();
+
+		assertEquals(0, duplicates.get());
+		assertEquals(n, seen.size());
+	}
+
+	/** 재귀 합계 작업 */
+	static final class SumTask extends WorkStealingPool.Task<Long> {
+		final long lo, hi;
+		SumTask(long lo, long hi) { this.lo = lo; this.hi = hi; }
+
+		@Override
+		protected Long compute() {
+			if (hi - lo <= 1_000) {
+				long s = 0;
+				for (long i = lo; i < hi; i++) s += i;
+				return s;
+			}
+			long mid = (lo + hi) >>> 1;
+			SumTask left = new SumTask(lo, mid);
+			left.fork();
+			long right = new SumTask(mid, hi).compute();
+			return left.join() + right;
+		}
+	}
+
+	@DisplayName("WorkStealingPool: 재귀 작업 결과와 예외 전파")
+	@Test
+	void poolInvokeAndException() {
+		try (WorkStealingPool pool = new WorkStealingPool(4)) {
+			assertEquals(4, pool.parallelism());
+			long n = 1_000_000;
+			assertEquals(n * (n - 1) / 2, pool.invoke(new SumTask(0, n)));
+
+			WorkStealingPool.Task<Void> failing = new WorkStealingPool.Task<>() {
+				@Override
+				protected Void compute() { throw new IllegalArgumentException("boom"); }
+			};
+			assertThrows(IllegalArgumentException.class, () -> pool.invoke(failing));
+			assertThrows(IllegalStateException.class, () -> new SumTask(0, 10).fork());
+		}
+	}
+
+	/** latch가 열릴 때까지 워커를 붙잡는 작업 */
+	static final class BlockingTask extends WorkStealingPool.Task<Integer> {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		protected Integer compute() {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return 7;
+		}
+	}
+
+	@DisplayName("WorkStealingPool: 같은 작업을 기다리는 외부 스레드가 여럿이어도 모두 깨어남")
+	@Test
+	void poolMultipleExternalJoiners() throws Exception {
+		try (WorkStealingPool pool = new WorkStealingPool(1)) {
+			BlockingTask task = new BlockingTask();
+			List<Integer> results = Collections.synchronizedList(new ArrayList<>());
+			Thread invoker = new Thread(() -> results.add(pool.invoke(task)));
+			invoker.start();
+			task.started.await();
+			Thread joiner = new Thread(() -> results.add(task.join()));
+			joiner.start();
+			Thread.sleep(50); // 두 스레드가 모두 대기에 들어가도록
+			task.release.countDown();
+			invoker.join(5_000);
+			joiner.join(5_000);
+			assertFalse(invoker.isAlive(), "invoke() 호출자가 깨어나지 않았습니다");
+			assertFalse(joiner.isAlive(), "join() 호출자가 깨어나지 않았습니다");
+			assertEquals(List.of(7, 7), results);
+		}
+	}
+
+	@DisplayName("WorkStealingPool: 종료 시 시작하지 않은 제출 작업은 IllegalStateException으로 완료")
+	@Test
+	void poolShutdownRejectsPending() throws Exception {
+		WorkStealingPool pool = new WorkStealingPool(1);
+		BlockingTask blocker = new BlockingTask();
+		Thread first = new Thread(() -> pool.invoke(blocker));
+		first.start();
+		blocker.started.await(); // 유일한 워커가 바쁨
+
+		SumTask pending = new SumTask(0, 10);
+		AtomicBoolean rejected = new AtomicBoolean();
+		Thread second = new Thread(() -> {
+			try {
+				pool.invoke(pending);
+			} catch (IllegalStateException e) {
+				rejected.set(true);
+			}
+		});
+		second.start();
+		while (second.getState() != Thread.State.WAITING && second.isAlive()) Thread.onSpinWait();
+
+		pool.shutdown();
+		blocker.release.countDown();
+		second.join(5_000);
+		assertFalse(second.isAlive(), "대기 중이던 invoke()가 영원히 멈춰 있습니다");
+		assertTrue(rejected.get());
+		first.join(5_000);
+		assertFalse(first.isAlive(), "실행 중이던 작업은 끝까지 수행되어야 합니다");
+		pool.close();
+		assertThrows(IllegalStateException.class, () -> pool.invoke(new SumTask(0, 10)));
+	}
+}
@@ -0,0 +1,128 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.MyDeque;
+import linear.deque.internal.ConcurrentLinkedDequeEx;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrentLinkedDequeEx 테스트")
+class ConcurrentLinkedDequeExTest {
+
+	@DisplayName("단일 스레드: LinkedDequeEx와 같은 MyDeque 계약")
+	@Test
+	void singleThreadContract() {
+		MyDeque<Integer> dq = Deques.concurrentLinked();
+		assertTrue(dq.isEmpty());
+		assertNull(dq.pollFirst());
+		assertNull(dq.pollLast());
+		assertNull(dq.peekFirst());
+		assertThrows(NoSuchElementException.class, dq::removeFirst);
+		assertThrows(NoSuchElementException.class, dq::getLast);
+
+		dq.addLast(2);
+		dq.addLast(3);
+		dq.addFirst(1);
+		dq.push(0);
+		assertEquals(4, dq.size());
+		assertEquals(0, dq.peek());
+		assertEquals(3, dq.getLast());
+
+		int expected = 0;
+		for (int v : dq) assertEquals(expected++, v);
+
+		assertTrue(dq.contains(2));
+		assertFalse(dq.contains(9));
+		assertFalse(dq.contains(null));
+
+		assertEquals(0, dq.pop());
+		assertEquals(3, dq.removeLast());
+		assertEquals(1, dq.pollFirst());
+		assertEquals(2, dq.pollLast());
+		assertTrue(dq.isEmpty());
+		assertEquals(0, dq.size());
+	}
+
+	@DisplayName("null 금지 (LinkedDequeEx와 동일)")
+	@Test
+	void nullRejected() {
+		MyDeque<String> dq = new ConcurrentLinkedDequeEx<>();
+		assertThrows(NullPointerException.class, () -> dq.addFirst(null));
+		assertThrows(NullPointerException.class, () -> dq.addLast(null));
+		assertThrows(NullPointerException.class, () -> dq.push(null));
+	}
+
+	@DisplayName("이터레이터는 순회 중 변경에도 예외 없음 (weakly consistent)")
+	@Test
+	void weaklyConsistentIterator() {
+		MyDeque<Integer> dq = new ConcurrentLinkedDequeEx<>();
+		for (int i = 0; i < 10; i++) dq.addLast(i);
+		Iterator<Integer> it = dq.iterator();
+		assertEquals(0, it.next());
+		dq.pollLast();                 // 9 제거
+		dq.addLast(100);
+		dq.pollFirst();                // 이미 반환된 0 제거
+		List<Integer> rest = new ArrayList<>();
+		it.forEachRemaining(rest::add);
+		assertFalse(rest.contains(9));
+		assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 100), rest);
+	}
+
+	@DisplayName("clear 후 재사용")
+	@Test
+	void clearAndReuse() {
+		MyDeque<Integer> dq = new ConcurrentLinkedDequeEx<>();
+		for (int i = 0; i < 100; i++) dq.addFirst(i);
+		dq.clear();
+		assertTrue(dq.isEmpty());
+		dq.addLast(7);
+		assertEquals(7, dq.getFirst());
+	}
+
+	@DisplayName("동시성: 양 끝 혼합 경합에서 원소 유실/중복 없음")
+	@Test
+	void mixedEndContention() throws Exception {
+		MyDeque<Integer> dq = Deques.concurrentLinked();
+		final int threads = 4;
+		final int perThread = 50_000;
+		ConcurrentHashMap<Integer, Boolean> taken = new ConcurrentHashMap<>();
+		AtomicInteger duplicates = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Thread> ts = new ArrayList<>();
+		for (int id = 0; id < threads; id++) {
+			final int base = id * perThread;
+			Thread t = new Thread(() -> {
+				try { start.await(); } catch (InterruptedException e) { return; }
+				for (int i = 0; i < perThread; i++) {
+					int v = base + i;
+					if ((i & 1) == 0) dq.addFirst(v); else dq.addLast(v);
+					Integer got = ((i & 2) == 0) ? dq.pollFirst() : dq.pollLast();
+					if (got != null && taken.put(got, Boolean.TRUE) != null) duplicates.incrementAndGet();
+				}
+			});
+			ts.add(t);
+			t.start();
+		}
+		start.countDown();
+		for (Thread t : ts) t.join();
+
+		Integer v;
+		while ((v = dq.pollFirst()) != null) {
+			if (taken.put(v, Boolean.TRUE) != null) duplicates.incrementAndGet();
+		}
+		assertEquals(0, duplicates.get());
+		assertEquals(threads * perThread, taken.size());
+		assertTrue(dq.isEmpty());
+	}
+}
@@ -0,0 +1,69 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.EvictingDeque;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 덮어쓰기 고정 용량 Deque(EvictingDequeEx) 단위 테스트
+ */
+public class EvictingDequeExTest {
+
+	@Test
+	void testOverwritesOldestAndReportsEviction() {
+		List<Integer> evicted = new ArrayList<>();
+		EvictingDeque<Integer> dq = Deques.evicting(3, evicted::add);
+		for (int i = 1; i <= 5; i++) dq.addLast(i);
+		assertEquals(3, dq.size());
+		assertTrue(dq.isFull());
+		assertEquals(3, dq.capacity());
+		assertEquals(List.of(1, 2), evicted);
+		assertEquals("[3, 4, 5]", dq.toString());
+		assertEquals(3, dq.getFirst());
+		assertEquals(5, dq.getLast());
+	}
+
+	@Test
+	void testForEachOldestToNewestAcrossWrap() {
+		EvictingDeque<Integer> dq = Deques.evicting(4);
+		for (int i = 0; i < 10; i++) dq.offerLast(i);
+		List<Integer> seen = new ArrayList<>();
+		dq.forEach(seen::add);
+		assertEquals(List.of(6, 7, 8, 9), seen);
+		assertIterableEquals(seen, dq);
+
+		assertThrows(ConcurrentModificationException.class, () -> dq.forEach(v -> dq.addLast(100)));
+	}
+
+	@Test
+	void testAddFirstFailsWhenFull() {
+		EvictingDeque<String> dq = Deques.evicting(2);
+		dq.addFirst("b");
+		dq.push("a");
+		assertFalse(dq.offerFirst("z"));
+		assertThrows(IllegalStateException.class, () -> dq.addFirst("z"));
+		assertEquals("[a, b]", dq.toString());
+	}
+
+	@Test
+	void testPollBothEndsAndClear() {
+		EvictingDeque<Integer> dq = Deques.evicting(3);
+		for (int i = 0; i < 5; i++) dq.addLast(i); // [2, 3, 4]
+		assertEquals(4, dq.pollLast());
+		assertEquals(2, dq.pollFirst());
+		assertTrue(dq.contains(3));
+		assertFalse(dq.isFull());
+		dq.clear();
+		assertNull(dq.pollFirst());
+		assertThrows(NoSuchElementException.class, dq::removeLast);
+		assertThrows(NullPointerException.class, () -> dq.addLast(null));
+		assertThrows(IllegalArgumentException.class, () -> Deques.evicting(0));
+	}
+}
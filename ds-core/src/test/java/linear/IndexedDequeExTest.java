@@ -0,0 +1,120 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.IndexedDeque;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 해시 색인 연결 Deque(IndexedDequeEx) 단위 테스트
+ */
+public class IndexedDequeExTest {
+
+	/** hashCode가 의도적으로 충돌하는 키 (선형 탐사/backward-shift 검증용) */
+	private record Key(int id) {
+		@Override public int hashCode() { return id % 3; }
+	}
+
+	@Test
+	void testBasicDequeOps() {
+		IndexedDeque<Integer> dq = Deques.indexed();
+		dq.addFirst(2);
+		dq.addLast(3);
+		dq.push(1);
+		assertEquals(1, dq.getFirst());
+		assertEquals(3, dq.getLast());
+		assertEquals(3, dq.removeLast());
+		assertEquals(1, dq.pop());
+		assertEquals(2, dq.removeFirst());
+		assertNull(dq.pollFirst());
+		assertThrows(NoSuchElementException.class, dq::removeLast);
+		assertThrows(NullPointerException.class, () -> dq.addLast(null));
+		assertThrows(NullPointerException.class, () -> dq.addLastIfAbsent(null));
+	}
+
+	@Test
+	void testContainsAndAddLastIfAbsent() {
+		IndexedDeque<String> dq = Deques.indexed();
+		assertTrue(dq.addLastIfAbsent("a"));
+		assertTrue(dq.addLastIfAbsent("b"));
+		assertFalse(dq.addLastIfAbsent("a"));
+		assertEquals(2, dq.size());
+		assertTrue(dq.contains("b"));
+		assertFalse(dq.contains("z"));
+		assertFalse(dq.contains(null));
+
+		dq.pollFirst();
+		assertFalse(dq.contains("a"));
+		assertTrue(dq.addLastIfAbsent("a"));
+		assertEquals("[b, a]", dq.toString());
+	}
+
+	@Test
+	void testRemoveFirstOccurrenceWithDuplicates() {
+		IndexedDeque<String> dq = Deques.indexed();
+		dq.addLast("x");
+		dq.addLast("y");
+		dq.addLast("x");
+		dq.addFirst("x");
+		// [x, x, y, x]
+		assertTrue(dq.removeFirstOccurrence("x"));
+		assertEquals("[x, y, x]", dq.toString());
+		assertTrue(dq.removeFirstOccurrence("x"));
+		assertEquals("[y, x]", dq.toString());
+		assertTrue(dq.contains("x"));
+		assertTrue(dq.removeFirstOccurrence("x"));
+		assertFalse(dq.contains("x"));
+		assertFalse(dq.removeFirstOccurrence("x"));
+		assertEquals("[y]", dq.toString());
+	}
+
+	@Test
+	void testRandomOpsMatchModelWithCollisions() {
+		Random rnd = new Random(7);
+		IndexedDeque<Key> dq = Deques.indexed();
+		ArrayDeque<Key> model = new ArrayDeque<>();
+		for (int step = 0; step < 20_000; step++) {
+			Key k = new Key(rnd.nextInt(64));
+			switch (rnd.nextInt(7)) {
+				case 0 -> { dq.addFirst(k); model.addFirst(k); }
+				case 1 -> { dq.addLast(k); model.addLast(k); }
+				case 2 -> {
+					boolean absent = !model.contains(k);
+					assertEquals(absent, dq.addLastIfAbsent(k));
+					if (absent) model.addLast(k);
+				}
+				case 3 -> assertEquals(model.pollFirst(), dq.pollFirst());
+				case 4 -> assertEquals(model.pollLast(), dq.pollLast());
+				case 5 -> assertEquals(model.removeFirstOccurrence(k), dq.removeFirstOccurrence(k));
+				default -> assertEquals(model.contains(k), dq.contains(k));
+			}
+			assertEquals(model.size(), dq.size());
+		}
+		assertIterableEquals(model, dq);
+		for (int id = 0; id < 64; id++) {
+			assertEquals(model.contains(new Key(id)), dq.contains(new Key(id)));
+		}
+	}
+
+	@Test
+	void testClearAndFailFast() {
+		IndexedDeque<Integer> dq = Deques.indexed();
+		for (int i = 0; i < 100; i++) dq.addLast(i);
+		Iterator<Integer> it = dq.iterator();
+		it.next();
+		dq.removeFirstOccurrence(50);
+		assertThrows(ConcurrentModificationException.class, it::next);
+
+		dq.clear();
+		assertTrue(dq.isEmpty());
+		assertFalse(dq.contains(1));
+		assertTrue(dq.addLastIfAbsent(1));
+	}
+}
@@ -0,0 +1,87 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.IntDeque;
+import linear.deque.internal.IntDequeEx;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 원시 타입 Deque(IntDequeEx) 단위 테스트
+ */
+public class IntDequeExTest {
+
+	@Test
+	void testBothEnds() {
+		IntDeque dq = Deques.ofInt();
+		dq.addFirstInt(2);
+		dq.addLastInt(3);
+		dq.pushInt(1);
+		assertEquals(1, dq.getFirstInt());
+		assertEquals(3, dq.getLastInt());
+		assertEquals(3, dq.removeLastInt());
+		assertEquals(1, dq.popInt());
+		assertEquals(2, dq.removeFirstInt());
+		assertTrue(dq.isEmpty());
+		assertThrows(NoSuchElementException.class, dq::removeFirstInt);
+		assertThrows(NoSuchElementException.class, dq::removeLastInt);
+		assertThrows(NoSuchElementException.class, dq::getFirstInt);
+		assertThrows(NoSuchElementException.class, dq::getLastInt);
+	}
+
+	@Test
+	void testWrapAroundGrowKeepsOrder() {
+		IntDeque dq = Deques.ofInt();
+		for (int i = 0; i < 40; i++) {
+			if ((i & 1) == 0) dq.addFirstInt(-i); else dq.addLastInt(i);
+		}
+		StringBuilder expected = new StringBuilder();
+		for (int i = 38; i >= 0; i -= 2) expected.append(-i).append(',');
+		for (int i = 1; i < 40; i += 2) expected.append(i).append(',');
+		StringBuilder actual = new StringBuilder();
+		dq.forEachInt(v -> actual.append(v).append(','));
+		assertEquals(expected.toString(), actual.toString());
+		assertTrue(dq.containsInt(-38));
+		assertFalse(dq.containsInt(2));
+	}
+
+	@Test
+	void testBoxedApi() {
+		IntDeque dq = Deques.ofInt();
+		assertNull(dq.pollFirst());
+		assertNull(dq.peekLast());
+		assertThrows(NullPointerException.class, () -> dq.addFirst(null));
+		assertThrows(NullPointerException.class, () -> dq.offerLast(null));
+		dq.offerLast(1);
+		dq.offerFirst(0);
+		assertEquals(0, dq.peek());
+		assertTrue(dq.contains(1));
+		assertFalse(dq.contains(null));
+		assertEquals(1, dq.pollLast());
+		assertEquals("[0]", dq.toString());
+	}
+
+	@Test
+	void testFailFastAndClear() {
+		IntDeque dq = Deques.ofInt();
+		dq.addLastInt(1);
+		dq.addLastInt(2);
+		Iterator<Integer> it = dq.iterator();
+		assertEquals(1, it.next());
+		dq.addLastInt(3);
+		assertThrows(ConcurrentModificationException.class, it::next);
+		dq.clear();
+		assertEquals(0, dq.size());
+	}
+
+	@Test
+	void testNegativeCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new IntDequeEx(-1));
+		assertTrue(new IntDequeEx(0).isEmpty());
+	}
+}
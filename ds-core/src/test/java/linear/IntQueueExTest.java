@@ -0,0 +1,62 @@
+package linear;
+
+import linear.queue.IntQueue;
+import linear.queue.Queues;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 원시 타입 큐(IntQueueEx) 단위 테스트
+ */
+public class IntQueueExTest {
+
+	@Test
+	void testFifo() {
+		IntQueue q = Queues.ofInt();
+		q.enqueueInt(1);
+		q.enqueueInt(2);
+		q.enqueueInt(3);
+		assertEquals(1, q.peekInt());
+		assertEquals(1, q.dequeueInt());
+		assertEquals(2, q.dequeueInt());
+		assertEquals(3, q.dequeueInt());
+		assertThrows(NoSuchElementException.class, q::dequeueInt);
+		assertThrows(NoSuchElementException.class, q::peekInt);
+	}
+
+	@Test
+	void testWrapAroundThenGrowKeepsOrder() {
+		IntQueue q = Queues.ofInt();
+		for (int i = 0; i < 10; i++) q.enqueueInt(i);
+		for (int i = 0; i < 8; i++) assertEquals(i, q.dequeueInt());
+		for (int i = 10; i < 50; i++) q.enqueueInt(i); // 래핑 후 확장
+		for (int i = 8; i < 50; i++) assertEquals(i, q.dequeueInt());
+		assertTrue(q.isEmpty());
+	}
+
+	@Test
+	void testBoxedApiForEachAndIterator() {
+		IntQueue q = Queues.ofInt();
+		q.enqueue(5);
+		q.enqueue(6);
+		assertThrows(NullPointerException.class, () -> q.enqueue(null));
+		StringBuilder sb = new StringBuilder();
+		q.forEachInt(sb::append);
+		assertEquals("56", sb.toString());
+		assertEquals("[5, 6]", q.toString());
+
+		Iterator<Integer> it = q.iterator();
+		assertEquals(5, it.next());
+		q.dequeueInt();
+		assertThrows(ConcurrentModificationException.class, it::next);
+
+		q.clear();
+		assertTrue(q.isEmpty());
+		assertThrows(NoSuchElementException.class, q::dequeue);
+	}
+}
@@ -0,0 +1,78 @@
+package linear;
+
+import linear.stack.IntStack;
+import linear.stack.LongStack;
+import linear.stack.Stacks;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 원시 타입 스택(IntStackEx / LongStackEx) 단위 테스트
+ */
+public class IntStackExTest {
+
+	@Test
+	void testPushPopPeekInt() {
+		IntStack stack = Stacks.ofInt();
+		for (int i = 0; i < 100; i++) stack.pushInt(i); // 확장 포함
+		assertEquals(100, stack.size());
+		assertEquals(99, stack.peekInt());
+		for (int i = 99; i >= 0; i--) assertEquals(i, stack.popInt());
+		assertTrue(stack.isEmpty());
+		assertThrows(EmptyStackException.class, stack::popInt);
+		assertThrows(EmptyStackException.class, stack::peekInt);
+	}
+
+	@Test
+	void testBoxedApiAndNull() {
+		IntStack stack = Stacks.ofInt();
+		stack.push(7);
+		assertEquals(7, stack.peek());
+		assertEquals(7, stack.pop());
+		assertThrows(NullPointerException.class, () -> stack.push(null));
+	}
+
+	@Test
+	void testForEachIntAndIterator() {
+		IntStack stack = Stacks.ofInt();
+		stack.pushInt(1);
+		stack.pushInt(2);
+		stack.pushInt(3);
+		StringBuilder sb = new StringBuilder();
+		stack.forEachInt(sb::append);
+		assertEquals("123", sb.toString()); // bottom→top
+		assertEquals("[1, 2, 3]", stack.toString());
+
+		Iterator<Integer> it = stack.iterator();
+		assertEquals(1, it.next());
+		stack.pushInt(4);
+		assertThrows(ConcurrentModificationException.class, it::next);
+	}
+
+	@Test
+	void testClear() {
+		IntStack stack = Stacks.ofInt();
+		stack.pushInt(1);
+		stack.clear();
+		assertTrue(stack.isEmpty());
+		stack.pushInt(2);
+		assertEquals(2, stack.popInt());
+	}
+
+	@Test
+	void testLongStack() {
+		LongStack stack = Stacks.ofLong();
+		for (long i = 0; i < 40; i++) stack.pushLong(i << 40);
+		assertEquals(39L << 40, stack.peekLong());
+		long[] sum = {0};
+		stack.forEachLong(v -> sum[0] += v >>> 40);
+		assertEquals(39 * 40 / 2, sum[0]);
+		for (long i = 39; i >= 0; i--) assertEquals(i << 40, stack.popLong());
+		assertThrows(EmptyStackException.class, stack::popLong);
+	}
+}
@@ -0,0 +1,93 @@
+package linear;
+
+import linear.queue.PersistentQueue;
+import linear.queue.Queues;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 불변 실시간 큐(PersistentQueueEx) 단위 테스트
+ */
+public class PersistentQueueExTest {
+
+	@Test
+	void testFifo() {
+		PersistentQueue<Integer> q = Queues.persistent();
+		for (int i = 0; i < 100; i++) q = q.enqueue(i);
+		assertEquals(100, q.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, q.peek());
+			q = q.dequeue();
+		}
+		assertTrue(q.isEmpty());
+	}
+
+	@Test
+	void testEmptyThrows() {
+		PersistentQueue<Integer> q = Queues.persistent();
+		assertThrows(NoSuchElementException.class, q::dequeue);
+		assertThrows(NoSuchElementException.class, q::peek);
+		assertThrows(NoSuchElementException.class, () -> q.enqueue(1).dequeue().peek());
+	}
+
+	@Test
+	void testOldVersionsUnchanged() {
+		PersistentQueue<String> q1 = Queues.<String>persistent().enqueue("a").enqueue("b");
+		PersistentQueue<String> q2 = q1.enqueue("c");
+		PersistentQueue<String> q3 = q1.dequeue();
+
+		assertEquals("[a, b]", q1.toString());
+		assertEquals("[a, b, c]", q2.toString());
+		assertEquals("[b]", q3.toString());
+		assertEquals("[b, d]", q3.enqueue("d").toString());
+		assertEquals("[a, b, c]", q2.toString());
+	}
+
+	@Test
+	void testRandomForksMatchModel() {
+		Random rnd = new Random(42);
+		List<PersistentQueue<Integer>> versions = new ArrayList<>();
+		List<ArrayDeque<Integer>> models = new ArrayList<>();
+		versions.add(Queues.persistent());
+		models.add(new ArrayDeque<>());
+
+		for (int step = 0; step < 5_000; step++) {
+			int pick = rnd.nextInt(versions.size());
+			PersistentQueue<Integer> q = versions.get(pick);
+			ArrayDeque<Integer> m = new ArrayDeque<>(models.get(pick));
+			if (m.isEmpty() || rnd.nextInt(3) > 0) {
+				q = q.enqueue(step);
+				m.addLast(step);
+			} else {
+				assertEquals(m.peekFirst(), q.peek());
+				q = q.dequeue();
+				m.removeFirst();
+			}
+			assertEquals(m.size(), q.size());
+			if (versions.size() < 64) {
+				versions.add(q);
+				models.add(m);
+			} else {
+				versions.set(pick, q);
+				models.set(pick, m);
+			}
+		}
+		for (int i = 0; i < versions.size(); i++) {
+			assertIterableEquals(models.get(i), versions.get(i));
+		}
+	}
+
+	@Test
+	void testNullAllowed() {
+		PersistentQueue<String> q = Queues.<String>persistent().enqueue(null).enqueue("x");
+		assertNull(q.peek());
+		assertEquals("x", q.dequeue().peek());
+	}
+}
@@ -0,0 +1,60 @@
+package linear;
+
+import linear.stack.PersistentStack;
+import linear.stack.Stacks;
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 불변 스택(PersistentStackEx) 단위 테스트
+ */
+public class PersistentStackExTest {
+
+	@Test
+	void testPushPopReturnNewVersions() {
+		PersistentStack<Integer> empty = Stacks.persistent();
+		PersistentStack<Integer> s1 = empty.push(1);
+		PersistentStack<Integer> s2 = s1.push(2);
+
+		assertTrue(empty.isEmpty());
+		assertEquals(1, s1.size());
+		assertEquals(2, s2.size());
+		assertEquals(2, s2.peek());
+		assertSame(s1, s2.pop(), "pop은 이전 버전을 그대로 공유");
+		assertEquals(1, s1.peek(), "원본 버전은 변하지 않음");
+	}
+
+	@Test
+	void testForkSharesStructure() {
+		PersistentStack<String> base = Stacks.<String>persistent().push("a").push("b");
+		PersistentStack<String> left = base.push("x");
+		PersistentStack<String> right = base.pop().push("y");
+
+		assertEquals("[x, b, a]", left.toString());
+		assertEquals("[y, a]", right.toString());
+		assertEquals("[b, a]", base.toString());
+	}
+
+	@Test
+	void testEmptyThrowsAndNullAllowed() {
+		PersistentStack<String> empty = Stacks.persistent();
+		assertThrows(EmptyStackException.class, empty::pop);
+		assertThrows(EmptyStackException.class, empty::peek);
+
+		PersistentStack<String> s = empty.push(null);
+		assertEquals(1, s.size());
+		assertNull(s.peek());
+	}
+
+	@Test
+	void testIteratorTopToBottom() {
+		PersistentStack<Integer> s = Stacks.persistent();
+		for (int i = 0; i < 5; i++) s = s.push(i);
+		StringBuilder sb = new StringBuilder();
+		for (int v : s) sb.append(v);
+		assertEquals("43210", sb.toString());
+	}
+}
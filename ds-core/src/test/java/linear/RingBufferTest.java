@@ -0,0 +1,199 @@
+package linear;
+
+import linear.ring.BatchEventProcessor;
+import linear.ring.RingBuffer;
+import linear.ring.SequenceBarrier;
+import linear.ring.WaitStrategies;
+import linear.ring.WaitStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RingBuffer 테스트")
+class RingBufferTest {
+
+	/** 재사용되는 가변 이벤트 */
+	static final class LongEvent {
+		long value;
+		long stage1;
+	}
+
+	@DisplayName("버퍼 크기는 2의 거듭제곱이어야 함")
+	@Test
+	void bufferSizeMustBePowerOfTwo() {
+		assertThrows(IllegalArgumentException.class,
+			() -> RingBuffer.singleProducer(LongEvent::new, 1000, WaitStrategies.busySpin()));
+		assertEquals(1024, RingBuffer.singleProducer(LongEvent::new, 1024, WaitStrategies.busySpin()).bufferSize());
+	}
+
+	@DisplayName("슬롯 이벤트는 사전 할당되고 재사용됨")
+	@Test
+	void slotsArePreallocatedAndReused() {
+		RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 4, WaitStrategies.busySpin());
+		LongEvent first = rb.get(0);
+		assertSame(first, rb.get(4), "한 바퀴 돈 시퀀스는 같은 슬롯");
+		assertNotSame(first, rb.get(1));
+	}
+
+	@DisplayName("tryNext: gating 소비자가 따라오지 않으면 -1")
+	@Test
+	void tryNextRespectsGating() {
+		RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 4, WaitStrategies.busySpin());
+		SequenceBarrier barrier = rb.newBarrier();
+		BatchEventProcessor<LongEvent> p = new BatchEventProcessor<>(rb, barrier, (e, s, end) -> {});
+		rb.addGatingSequences(p.sequence());
+
+		for (int i = 0; i < 4; i++) {
+			long seq = rb.tryNext();
+			assertEquals(i, seq);
+			rb.publish(seq);
+		}
+		assertEquals(0, rb.remainingCapacity());
+		assertEquals(-1, rb.tryNext());
+		assertFalse(rb.tryPublishEvent(e -> e.value = 1));
+
+		p.sequence().set(1); // 소비자가 0,1을 처리했다고 가정
+		assertEquals(4, rb.tryNext());
+	}
+
+	@DisplayName("단일 생산자 → 단일 소비자: 순서대로 모두 전달 (모든 대기 전략)")
+	@Test
+	void singleProducerDeliversInOrder() throws Exception {
+		for (WaitStrategy ws : List.of(WaitStrategies.busySpin(), WaitStrategies.yielding(),
+			WaitStrategies.parking(1_000), WaitStrategies.blocking())) {
+			RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 64, ws);
+			final int n = 10_000;
+			List<Long> seen = new ArrayList<>(n);
+			CountDownLatch done = new CountDownLatch(1);
+			BatchEventProcessor<LongEvent> p = new BatchEventProcessor<>(rb, rb.newBarrier(), (e, s, end) -> {
+				seen.add(e.value);
+				if (seen.size() == n) done.countDown();
+			});
+			rb.addGatingSequences(p.sequence());
+			Thread t = new Thread(p);
+			t.start();
+
+			for (long i = 0; i < n; i++) {
+				final long v = i;
+				rb.publishEvent(e -> e.value = v);
+			}
+			assertTrue(done.await(10, TimeUnit.SECONDS), ws.getClass().getSimpleName());
+			p.halt();
+			t.join(5_000);
+			assertFalse(t.isAlive());
+
+			for (int i = 0; i < n; i++) assertEquals(i, seen.get(i));
+		}
+	}
+
+	@DisplayName("다단계 배리어: 2단계는 1단계 결과를 항상 봄")
+	@Test
+	void multiStagePipeline() throws Exception {
+		RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 128, WaitStrategies.yielding());
+		BatchEventProcessor<LongEvent> stage1 = new BatchEventProcessor<>(rb, rb.newBarrier(),
+			(e, s, end) -> e.stage1 = e.value * 2);
+		AtomicLong errors = new AtomicLong();
+		AtomicLong sum = new AtomicLong();
+		CountDownLatch done = new CountDownLatch(1);
+		final int n = 50_000;
+		BatchEventProcessor<LongEvent> stage2 = new BatchEventProcessor<>(rb, rb.newBarrier(stage1.sequence()),
+			(e, s, end) -> {
+				if (e.stage1 != e.value * 2) errors.incrementAndGet();
+				sum.addAndGet(e.stage1);
+				if (s == n - 1) done.countDown();
+			});
+		rb.addGatingSequences(stage2.sequence());
+
+		Thread t1 = new Thread(stage1);
+		Thread t2 = new Thread(stage2);
+		t1.start();
+		t2.start();
+		for (long i = 0; i < n; i++) {
+			long seq = rb.next();
+			rb.get(seq).value = i;
+			rb.publish(seq);
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		stage1.halt();
+		stage2.halt();
+		t1.join(5_000);
+		t2.join(5_000);
+
+		assertEquals(0, errors.get());
+		assertEquals((long) n * (n - 1), sum.get());
+		assertTrue(stage2.sequence().get() <= stage1.sequence().get());
+	}
+
+	@DisplayName("다중 생산자: 모든 이벤트가 정확히 한 번 전달")
+	@Test
+	void multiProducerDeliversEverything() throws Exception {
+		RingBuffer<LongEvent> rb = RingBuffer.multiProducer(LongEvent::new, 256, WaitStrategies.yielding());
+		final int producers = 4;
+		final int perProducer = 20_000;
+		final long total = (long) producers * perProducer;
+		AtomicLong sum = new AtomicLong();
+		AtomicLong count = new AtomicLong();
+		CountDownLatch done = new CountDownLatch(1);
+		BatchEventProcessor<LongEvent> p = new BatchEventProcessor<>(rb, rb.newBarrier(), (e, s, end) -> {
+			sum.addAndGet(e.value);
+			if (count.incrementAndGet() == total) done.countDown();
+		});
+		rb.addGatingSequences(p.sequence());
+		Thread consumer = new Thread(p);
+		consumer.start();
+
+		List<Thread> threads = new ArrayList<>();
+		for (int id = 0; id < producers; id++) {
+			Thread t = new Thread(() -> {
+				for (int i = 1; i <= perProducer; i++) {
+					final long v = i;
+					rb.publishEvent(e -> e.value = v);
+				}
+			});
+			threads.add(t);
+			t.start();
+		}
+		for (Thread t : threads) t.join();
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		p.halt();
+		consumer.join(5_000);
+
+		assertEquals(total, count.get());
+		assertEquals((long) producers * perProducer * (perProducer + 1) / 2, sum.get());
+	}
+
+	@DisplayName("halt: 블로킹 대기 중인 프로세서도 깨어나 종료")
+	@Test
+	void haltWakesBlockedProcessor() throws Exception {
+		RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 8, WaitStrategies.blocking());
+		BatchEventProcessor<LongEvent> p = new BatchEventProcessor<>(rb, rb.newBarrier(), (e, s, end) -> {});
+		Thread t = new Thread(p);
+		t.start();
+		while (!p.isRunning()) Thread.onSpinWait();
+		p.halt();
+		t.join(5_000);
+		assertFalse(t.isAlive());
+		assertFalse(p.isRunning());
+	}
+
+	@DisplayName("이미 실행 중인 프로세서를 다시 run하면 예외")
+	@Test
+	void runTwiceThrows() throws Exception {
+		RingBuffer<LongEvent> rb = RingBuffer.singleProducer(LongEvent::new, 8, WaitStrategies.yielding());
+		BatchEventProcessor<LongEvent> p = new BatchEventProcessor<>(rb, rb.newBarrier(), (e, s, end) -> {});
+		Thread t = new Thread(p);
+		t.start();
+		while (!p.isRunning()) Thread.onSpinWait();
+		assertThrows(IllegalStateException.class, p::run);
+		p.halt();
+		t.join(5_000);
+		assertFalse(t.isAlive());
+	}
+}
@@ -0,0 +1,102 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.ListDeque;
+import linear.deque.internal.RingListDequeEx;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인덱스 접근 원형 버퍼 Deque(RingListDequeEx) 단위 테스트
+ */
+public class RingListDequeExTest {
+
+	@Test
+	void testDequeAndListViewsAgree() {
+		ListDeque<Integer> dq = Deques.ringList();
+		dq.addLast(2);
+		dq.addFirst(1);
+		dq.add(3);                // = addLast
+		assertEquals(1, dq.get(0));
+		assertEquals(3, dq.get(2));
+		assertEquals(3, dq.peekLast());
+		assertEquals(2, dq.set(1, 20));
+		assertEquals("[1, 20, 3]", dq.toString());
+	}
+
+	@Test
+	void testMiddleInsertRemoveMatchesArrayList() {
+		Random rnd = new Random(11);
+		ListDeque<Integer> dq = new RingListDequeEx<>(4);
+		List<Integer> model = new ArrayList<>();
+		for (int step = 0; step < 20_000; step++) {
+			int op = rnd.nextInt(6);
+			if (op == 0) { dq.addFirst(step); model.add(0, step); }
+			else if (op == 1) { dq.addLast(step); model.add(step); }
+			else if (op == 2) {
+				int i = rnd.nextInt(model.size() + 1);
+				dq.add(i, step);
+				model.add(i, step);
+			} else if (!model.isEmpty()) {
+				int i = rnd.nextInt(model.size());
+				if (op == 3) assertEquals(model.remove(i), dq.remove(i));
+				else if (op == 4) assertEquals(model.get(i), dq.get(i));
+				else assertEquals(model.remove(model.size() - 1), dq.pollLast());
+			}
+			assertEquals(model.size(), dq.size());
+		}
+		assertIterableEquals(model, dq);
+		assertArrayEquals(model.toArray(), dq.toArray());
+	}
+
+	@Test
+	void testDescendingIteratorAndReversedArray() {
+		ListDeque<String> dq = new RingListDequeEx<>(4);
+		dq.addLast("c");
+		dq.addLast("d");
+		dq.addFirst("b");
+		dq.addFirst("a");
+		dq.addLast("e");          // 확장 + 래핑
+		StringBuilder sb = new StringBuilder();
+		for (Iterator<String> it = dq.descendingIterator(); it.hasNext(); ) sb.append(it.next());
+		assertEquals("edcba", sb.toString());
+		assertArrayEquals(new Object[]{"e", "d", "c", "b", "a"}, dq.toArrayReversed());
+		assertArrayEquals(new Object[]{"a", "b", "c", "d", "e"}, dq.toArray());
+	}
+
+	@Test
+	void testBoundsAndNulls() {
+		ListDeque<String> dq = Deques.ringList();
+		assertThrows(IndexOutOfBoundsException.class, () -> dq.get(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> dq.add(1, "x"));
+		assertThrows(IndexOutOfBoundsException.class, () -> dq.remove(0));
+		assertThrows(NullPointerException.class, () -> dq.add(null));
+		assertThrows(NullPointerException.class, () -> dq.add(0, null));
+		dq.add("a");
+		assertThrows(NullPointerException.class, () -> dq.set(0, null));
+		assertThrows(IndexOutOfBoundsException.class, () -> dq.set(1, "b"));
+		assertNull(new RingListDequeEx<String>().pollFirst());
+		assertThrows(NoSuchElementException.class, () -> new RingListDequeEx<String>().getLast());
+	}
+
+	@Test
+	void testFailFastAndClear() {
+		ListDeque<Integer> dq = Deques.ringList();
+		for (int i = 0; i < 5; i++) dq.add(i);
+		Iterator<Integer> it = dq.descendingIterator();
+		it.next();
+		dq.add(2, 99);
+		assertThrows(ConcurrentModificationException.class, it::next);
+		dq.clear();
+		assertTrue(dq.isEmpty());
+		assertEquals(0, dq.toArray().length);
+	}
+}
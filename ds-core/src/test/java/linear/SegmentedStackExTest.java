@@ -0,0 +1,109 @@
+package linear;
+
+import linear.stack.MyStack;
+import linear.stack.Stacks;
+import linear.stack.internal.SegmentedStackEx;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세그먼트 기반 스택(SegmentedStackEx) 단위 테스트
+ */
+public class SegmentedStackExTest {
+
+	private MyStack<Integer> stack;
+
+	@BeforeEach
+	void setUp() {
+		stack = new SegmentedStackEx<>(4); // 경계가 자주 생기도록 작은 세그먼트
+	}
+
+	@Test
+	void testFactory() {
+		MyStack<String> s = Stacks.segmented();
+		s.push("a");
+		assertEquals("a", s.pop());
+	}
+
+	@Test
+	void testPushPopAcrossSegments() {
+		for (int i = 0; i < 100; i++) stack.push(i);
+		assertEquals(100, stack.size());
+		assertEquals(99, stack.peek());
+		for (int i = 99; i >= 0; i--) {
+			assertEquals(i, stack.peek());
+			assertEquals(i, stack.pop());
+		}
+		assertTrue(stack.isEmpty());
+	}
+
+	@Test
+	void testEmptyThrows() {
+		assertThrows(EmptyStackException.class, stack::pop);
+		assertThrows(EmptyStackException.class, stack::peek);
+	}
+
+	@Test
+	void testOscillationAtBoundary() {
+		for (int i = 0; i < 4; i++) stack.push(i);   // 첫 세그먼트 가득 참
+		for (int round = 0; round < 1_000; round++) {
+			stack.push(100 + round);                 // 예비 세그먼트로 진입
+			assertEquals(100 + round, stack.pop());
+			assertEquals(3, stack.peek());           // 빈 상단 세그먼트 아래를 조회
+		}
+		assertEquals(4, stack.size());
+	}
+
+	@Test
+	void testIteratorBottomToTop() {
+		for (int i = 0; i < 10; i++) stack.push(i);
+		stack.pop();
+		StringBuilder sb = new StringBuilder();
+		for (int v : stack) sb.append(v);
+		assertEquals("012345678", sb.toString());
+		assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8]", stack.toString());
+	}
+
+	@Test
+	void testIteratorExactlyFullSegments() {
+		for (int i = 0; i < 8; i++) stack.push(i);
+		stack.push(8);
+		stack.pop(); // 상단이 비어 있는 상태
+		int count = 0;
+		for (int v : stack) assertEquals(count++, v);
+		assertEquals(8, count);
+	}
+
+	@Test
+	void testFailFastIterator() {
+		stack.push(1);
+		stack.push(2);
+		Iterator<Integer> it = stack.iterator();
+		stack.push(3);
+		assertThrows(ConcurrentModificationException.class, it::next);
+	}
+
+	@Test
+	void testClearThenReuse() {
+		for (int i = 0; i < 50; i++) stack.push(i);
+		stack.clear();
+		assertTrue(stack.isEmpty());
+		assertThrows(EmptyStackException.class, stack::peek);
+		for (int i = 0; i < 9; i++) stack.push(i);
+		assertEquals(8, stack.pop());
+		assertEquals(8, stack.size());
+	}
+
+	@Test
+	void testNullAllowed() {
+		stack.push(null);
+		assertNull(stack.peek());
+		assertNull(stack.pop());
+	}
+}
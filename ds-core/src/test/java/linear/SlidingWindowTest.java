@@ -0,0 +1,123 @@
+package linear;
+
+import linear.deque.Deques;
+import linear.deque.SlidingAggregator;
+import linear.deque.SlidingMinMax;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 슬라이딩 윈도 집계기(SlidingMinMaxEx / SlidingAggregatorEx) 단위 테스트
+ */
+public class SlidingWindowTest {
+
+	private record Sample(double value, long ts) {}
+
+	@Test
+	void testMinMaxMatchesBruteForce() {
+		Random rnd = new Random(1);
+		SlidingMinMax w = Deques.slidingMinMax();
+		ArrayDeque<Sample> window = new ArrayDeque<>();
+		long ts = 0;
+		for (int step = 0; step < 10_000; step++) {
+			ts += rnd.nextInt(3);                   // 같은 타임스탬프 허용
+			double v = rnd.nextInt(100);            // 중복 값 다수
+			w.push(v, ts);
+			window.addLast(new Sample(v, ts));
+			long cutoff = ts - 50;
+			w.evictOlderThan(cutoff);
+			while (window.peekFirst().ts() < cutoff) window.pollFirst();
+
+			double min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+			for (Sample s : window) { min = Math.min(min, s.value()); max = Math.max(max, s.value()); }
+			assertEquals(min, w.min());
+			assertEquals(max, w.max());
+		}
+	}
+
+	@Test
+	void testMinMaxEmptyAndValidation() {
+		SlidingMinMax w = Deques.slidingMinMax();
+		assertTrue(w.isEmpty());
+		assertThrows(NoSuchElementException.class, w::min);
+		assertThrows(NoSuchElementException.class, w::max);
+		assertThrows(IllegalArgumentException.class, () -> w.push(Double.NaN, 0));
+
+		w.push(5, 10);
+		w.push(3, 11);
+		assertThrows(IllegalArgumentException.class, () -> w.push(1, 9));
+		assertEquals(3, w.min());
+		assertEquals(5, w.max());
+		w.evictOlderThan(11);
+		assertEquals(3, w.max());
+		w.evictOlderThan(100);
+		assertTrue(w.isEmpty());
+
+		w.clear();
+		w.push(1, 0); // clear 후에는 타임스탬프 제한도 초기화
+		assertEquals(1, w.min());
+	}
+
+	@Test
+	void testAggregatorSumAndGcd() {
+		SlidingAggregator<Long> sum = Deques.slidingAggregator(0L, Long::sum);
+		SlidingAggregator<Long> gcd = Deques.slidingAggregator(0L, SlidingWindowTest::gcd);
+		long[] xs = {12, 18, 30, 7, 14, 21};
+		for (int i = 0; i < xs.length; i++) {
+			sum.push(xs[i], i);
+			gcd.push(xs[i], i);
+		}
+		assertEquals(102L, sum.aggregate());
+		assertEquals(1L, gcd.aggregate());
+		gcd.evictOlderThan(3);                       // 7, 14, 21
+		assertEquals(7L, gcd.aggregate());
+		assertEquals(3, gcd.size());
+		assertEquals(12L, sum.evictOldest());
+		assertEquals(90L, sum.aggregate());
+	}
+
+	@Test
+	void testAggregatorNonCommutativeOrder() {
+		SlidingAggregator<String> w = Deques.slidingAggregator("", String::concat);
+		Random rnd = new Random(3);
+		StringBuilder model = new StringBuilder();
+		char next = 'a';
+		for (int step = 0; step < 2_000; step++) {
+			if (model.length() == 0 || rnd.nextInt(3) > 0) {
+				w.push(String.valueOf(next), step);
+				model.append(next);
+				next = next == 'z' ? 'a' : (char) (next + 1);
+			} else {
+				assertEquals(String.valueOf(model.charAt(0)), w.evictOldest());
+				model.deleteCharAt(0);
+			}
+			assertEquals(model.toString(), w.aggregate());
+		}
+	}
+
+	@Test
+	void testAggregatorEmpty() {
+		SlidingAggregator<Integer> w = Deques.slidingAggregator(0, Integer::sum);
+		assertEquals(0, w.aggregate());
+		assertThrows(NoSuchElementException.class, w::evictOldest);
+		w.push(1, 5);
+		assertThrows(IllegalArgumentException.class, () -> w.push(1, 4));
+		w.evictOlderThan(6);
+		assertTrue(w.isEmpty());
+		assertEquals(0, w.aggregate());
+		w.push(2, 6);
+		w.clear();
+		assertEquals(0, w.size());
+		assertEquals(0, w.aggregate());
+	}
+
+	private static long gcd(long a, long b) {
+		while (b != 0) { long t = a % b; a = b; b = t; }
+		return a;
+	}
+}
@@ -0,0 +1,107 @@
+package linear;
+
+import linear.stack.MyStack;
+import linear.stack.Stacks;
+import linear.stack.internal.TreiberStackEx;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Treiber 락-프리 스택(TreiberStackEx) 단위 테스트
+ */
+class TreiberStackExTest {
+
+	@Test
+	void testPushPopPeek() {
+		MyStack<Integer> stack = Stacks.concurrent();
+		stack.push(1);
+		stack.push(2);
+		stack.push(3);
+		assertEquals(3, stack.size());
+		assertEquals(3, stack.peek());
+		assertEquals(3, stack.pop());
+		assertEquals(2, stack.pop());
+		assertEquals(1, stack.pop());
+		assertTrue(stack.isEmpty());
+	}
+
+	@Test
+	void testEmptyThrows() {
+		MyStack<Integer> stack = new TreiberStackEx<>();
+		assertThrows(EmptyStackException.class, stack::pop);
+		assertThrows(EmptyStackException.class, stack::peek);
+	}
+
+	@Test
+	void testNullAllowedLikeStackEx() {
+		MyStack<String> stack = new TreiberStackEx<>();
+		stack.push(null);
+		assertEquals(1, stack.size());
+		assertNull(stack.pop());
+	}
+
+	@Test
+	void testIteratorTopToBottomAndClear() {
+		MyStack<Integer> stack = new TreiberStackEx<>();
+		stack.push(1);
+		stack.push(2);
+		stack.push(3);
+		StringBuilder sb = new StringBuilder();
+		for (int v : stack) sb.append(v);
+		assertEquals("321", sb.toString()); // top→bottom 순서
+
+		stack.clear();
+		assertTrue(stack.isEmpty());
+		assertEquals(0, stack.size());
+	}
+
+	@Test
+	void testConcurrentPushPopNoLossNoDuplicate() throws Exception {
+		// 슬롯 1개로 소거 경로가 자주 타도록 구성
+		MyStack<Integer> stack = new TreiberStackEx<>(1);
+		final int threads = 4;
+		final int perThread = 50_000;
+		ConcurrentHashMap<Integer, Boolean> popped = new ConcurrentHashMap<>();
+		AtomicInteger duplicates = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Thread> ts = new ArrayList<>();
+		for (int id = 0; id < threads; id++) {
+			final int base = id * perThread;
+			Thread t = new Thread(() -> {
+				try { start.await(); } catch (InterruptedException e) { return; }
+				for (int i = 0; i < perThread; i++) {
+					stack.push(base + i);
+					if ((i & 1) == 1) {
+						// 직전에 push했으므로 다른 스레드가 모두 가져가지 않는 한 비어 있지 않음
+						try {
+							Integer v = stack.pop();
+							if (popped.put(v, Boolean.TRUE) != null) duplicates.incrementAndGet();
+						} catch (EmptyStackException ignored) {
+						}
+					}
+				}
+			});
+			ts.add(t);
+			t.start();
+		}
+		start.countDown();
+		for (Thread t : ts) t.join();
+
+		while (!stack.isEmpty()) {
+			Integer v = stack.pop();
+			if (popped.put(v, Boolean.TRUE) != null) duplicates.incrementAndGet();
+		}
+		assertEquals(0, duplicates.get());
+		assertEquals(threads * perThread, popped.size());
+	}
+}
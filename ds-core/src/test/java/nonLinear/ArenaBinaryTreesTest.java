@@ -0,0 +1,180 @@
+package nonLinear;
+
+import linear.list.MyList;
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.ArenaBinaryTrees;
+import nonLinear.tree.binary.BinaryTrees;
+import nonLinear.tree.binary.MyBinaryTree;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArenaBinaryTrees (배열 아레나 기반 이진 트리) 단위 테스트 - JUnit 5
+ */
+class ArenaBinaryTreesTest {
+
+	/* ---------- 유틸 ---------- */
+
+	private static <T> List<T> toList(Iterable<T> it) {
+		List<T> out = new ArrayList<>();
+		for (T v : it) out.add(v);
+		return out;
+	}
+
+	/** 같은 시드로 두 구현에 같은 모양의 무작위 트리를 쌓고, 두 구현의 Position 목록을 돌려줌 */
+	private static List<List<Position<Integer>>> buildRandom(MyBinaryTree<Integer> a, MyBinaryTree<Integer> b, int n, long seed) {
+		Random rnd = new Random(seed);
+		List<Position<Integer>> pa = new ArrayList<>(), pb = new ArrayList<>();
+		pa.add(a.addRoot(0));
+		pb.add(b.addRoot(0));
+		for (int v = 1; v < n; ) {
+			int k = rnd.nextInt(pa.size());
+			if (rnd.nextBoolean()) {
+				if (a.left(pa.get(k)) == null) {
+					pa.add(a.addLeft(pa.get(k), v));
+					pb.add(b.addLeft(pb.get(k), v++));
+				}
+			} else if (a.right(pa.get(k)) == null) {
+				pa.add(a.addRight(pa.get(k), v));
+				pb.add(b.addRight(pb.get(k), v++));
+			}
+		}
+		return List.of(pa, pb);
+	}
+
+	private static void assertSameTraversals(MyBinaryTree<Integer> expected, MyBinaryTree<Integer> actual) {
+		assertEquals(expected.size(), actual.size());
+		assertEquals(toList(expected.preorderIterable()), toList(actual.preorderIterable()));
+		assertEquals(toList(expected), toList(actual));
+		assertEquals(toList(expected.postorderIterable()), toList(actual.postorderIterable()));
+		assertEquals(toList(expected.levelOrderIterable()), toList(actual.levelOrderIterable()));
+	}
+
+	@Nested
+	@DisplayName("구조와 순회")
+	class Structure {
+		@Test
+		@DisplayName("링크 조회와 경량 핸들의 동등성")
+		void links() {
+			ArenaBinaryTrees<String> t = new ArenaBinaryTrees<>(1);
+			assertNull(t.root());
+			Position<String> r = t.addRoot("a");
+			Position<String> b = t.addLeft(r, "b");
+			Position<String> c = t.addRight(r, "c");
+			assertEquals(3, t.size());
+			assertEquals(b, t.left(r));
+			assertEquals(b.hashCode(), t.left(r).hashCode());
+			assertEquals(c, t.right(r));
+			assertEquals(r, t.parent(c));
+			assertNull(t.parent(r));
+			assertNull(t.left(b));
+			assertEquals("c", t.set(c, "C"));
+			assertEquals("C", t.right(r).element());
+			assertThrows(IllegalStateException.class, () -> t.addLeft(r, "x"));
+			assertThrows(IllegalStateException.class, () -> t.addRoot("x"));
+			assertThrows(IllegalArgumentException.class, () -> t.left(new BinaryTrees<String>().addRoot("x")));
+			assertThrows(IllegalArgumentException.class, () -> t.left(new ArenaBinaryTrees<String>().addRoot("x")));
+		}
+
+		@Test
+		@DisplayName("무작위 트리: 전위/중위/후위/레벨 순서가 BinaryTrees와 같음")
+		void traversalsMatch() {
+			ArenaBinaryTrees<Integer> arena = new ArenaBinaryTrees<>();
+			BinaryTrees<Integer> ref = new BinaryTrees<>();
+			buildRandom(ref, arena, 3000, 5);
+			assertSameTraversals(ref, arena);
+
+			List<List<Integer>> levels = new ArrayList<>();
+			arena.forEachLevel((d, level) -> levels.add(toList(level)));
+			List<List<Integer>> expected = new ArrayList<>();
+			ref.forEachLevel((d, level) -> expected.add(toList(level)));
+			assertEquals(expected, levels);
+			assertEquals(toList(ref), arena.stream().toList());
+		}
+
+		@Test
+		@DisplayName("contains와 병렬 결합")
+		void containsAndReduce() {
+			ArenaBinaryTrees<Integer> t = new ArenaBinaryTrees<>();
+			buildRandom(new BinaryTrees<>(), t, 10_000, 9);
+			assertTrue(t.contains(9_999));
+			assertFalse(t.contains(10_000));
+			assertEquals(10_000L * 9_999 / 2, t.parallelReduce(0L, Integer::longValue, Long::sum));
+		}
+	}
+
+	@Nested
+	@DisplayName("삭제와 free-list")
+	class Removal {
+		@Test
+		@DisplayName("removeSubtree 후에도 BinaryTrees와 같은 모양, 슬롯은 재사용되어 용량이 늘지 않음")
+		void removeAndReuse() {
+			ArenaBinaryTrees<Integer> arena = new ArenaBinaryTrees<>();
+			BinaryTrees<Integer> ref = new BinaryTrees<>();
+			List<List<Position<Integer>>> ps = buildRandom(ref, arena, 2000, 3);
+			Position<Integer> refTarget = ref.left(ref.root()) != null ? ref.left(ref.root()) : ref.right(ref.root());
+			Position<Integer> arenaTarget = ps.get(1).get(ps.get(0).indexOf(refTarget));
+
+			int removed = ref.removeSubtree(refTarget);
+			assertEquals(removed, arena.removeSubtree(arenaTarget));
+			assertSameTraversals(ref, arena);
+
+			int capacity = arena.capacity();
+			Position<Integer> leaf = arena.root();
+			for (int i = 0; i < removed; i++) leaf = arena.left(leaf) == null ? arena.addLeft(leaf, -i) : arena.addRight(leaf, -i);
+			assertEquals(capacity, arena.capacity());
+			assertEquals(2000, arena.size());
+		}
+
+		@Test
+		@DisplayName("해제된 슬롯이 재사용되어도 예전 핸들은 거부")
+		void staleHandle() {
+			ArenaBinaryTrees<String> t = new ArenaBinaryTrees<>();
+			Position<String> r = t.addRoot("r");
+			Position<String> old = t.addLeft(r, "old");
+			assertEquals(1, t.removeSubtree(old));
+			Position<String> fresh = t.addLeft(r, "new"); // 같은 슬롯 재사용
+			assertNotEquals(old, fresh);
+			assertThrows(IllegalArgumentException.class, () -> t.left(old));
+			assertThrows(IllegalStateException.class, old::element);
+			assertEquals("new", fresh.element());
+
+			t.clear();
+			assertTrue(t.isEmpty());
+			assertThrows(IllegalArgumentException.class, () -> t.left(r));
+			assertEquals("again", t.addRoot("again").element());
+		}
+
+		@Test
+		@DisplayName("루트 삭제 시 전체가 비고 깊은 사슬도 스택 없이 해제")
+		void removeRootDeepChain() {
+			ArenaBinaryTrees<Integer> t = new ArenaBinaryTrees<>();
+			Position<Integer> p = t.addRoot(0);
+			for (int i = 1; i < 200_000; i++) p = (i & 1) == 0 ? t.addLeft(p, i) : t.addRight(p, i);
+			assertEquals(200_000, t.removeSubtree(t.root()));
+			assertTrue(t.isEmpty());
+			assertNull(t.root());
+			assertFalse(t.iterator().hasNext());
+		}
+
+		@Test
+		@DisplayName("fail-fast: 순회 중 구조 변경 시 ConcurrentModificationException")
+		void failFast() {
+			ArenaBinaryTrees<Integer> t = new ArenaBinaryTrees<>();
+			Position<Integer> r = t.addRoot(1);
+			t.addLeft(r, 2);
+			Iterator<Integer> it = t.iterator();
+			it.next();
+			t.addRight(r, 3);
+			assertThrows(ConcurrentModificationException.class, it::next);
+			assertThrows(ConcurrentModificationException.class,
+					() -> t.forEachLevel((Integer d, MyList<Integer> level) -> t.addLeft(t.right(r), 4)));
+		}
+	}
+}
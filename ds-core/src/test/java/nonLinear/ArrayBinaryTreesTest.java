@@ -0,0 +1,181 @@
+package nonLinear;
+
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.ArrayBinaryTrees;
+import nonLinear.tree.binary.BinaryTrees;
+import nonLinear.tree.binary.MyBinaryTree;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArrayBinaryTrees (배열 기반 완전 이진 트리) 단위 테스트 - JUnit 5
+ */
+class ArrayBinaryTreesTest {
+
+	/* ---------- 유틸 ---------- */
+
+	private static <T> List<T> toList(Iterable<T> it) {
+		List<T> out = new ArrayList<>();
+		for (T v : it) out.add(v);
+		return out;
+	}
+
+	/** 같은 모양의 완전 트리를 두 구현에 addLeft/addRight로 쌓음 */
+	private static void buildComplete(MyBinaryTree<Integer> t, int n) {
+		List<Position<Integer>> bfs = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			if (i == 0) bfs.add(t.addRoot(0));
+			else if ((i & 1) == 1) bfs.add(t.addLeft(bfs.get((i - 1) / 2), i));
+			else bfs.add(t.addRight(bfs.get((i - 1) / 2), i));
+		}
+	}
+
+	/* ---------- 구조 ---------- */
+
+	@Nested
+	@DisplayName("완전 이진 트리 구조")
+	class Structure {
+		@Test
+		@DisplayName("인덱스 2i+1/2i+2 자식, 부모, 인덱스 기반 Position")
+		void links() {
+			ArrayBinaryTrees<String> t = new ArrayBinaryTrees<>(1);
+			assertNull(t.root());
+			Position<String> r = t.addRoot("a");
+			Position<String> b = t.addLeft(r, "b");
+			Position<String> c = t.addRight(r, "c");
+			Position<String> d = t.add("d");
+			assertEquals(4, t.size());
+			assertEquals(b, t.left(r));
+			assertEquals(c, t.right(r));
+			assertEquals(d, t.left(b));
+			assertNull(t.right(b));
+			assertEquals(b, t.parent(d));
+			assertEquals(r, t.parent(b));
+			assertNull(t.parent(r));
+			assertEquals(3, t.indexOf(d));
+			assertEquals("d", t.get(3));
+			assertEquals("c", t.positionAt(2).element());
+			assertEquals("c", t.set(c, "C"));
+			assertEquals("C", c.element());
+			assertTrue(t.contains("C"));
+			assertThrows(IndexOutOfBoundsException.class, () -> t.get(4));
+		}
+
+		@Test
+		@DisplayName("BFS 다음 칸이 아닌 자리에 추가하면 예외")
+		void rejectHoles() {
+			ArrayBinaryTrees<Integer> t = new ArrayBinaryTrees<>();
+			Position<Integer> r = t.addRoot(0);
+			assertThrows(IllegalStateException.class, () -> t.addRoot(9));
+			assertThrows(IllegalStateException.class, () -> t.addRight(r, 2));
+			Position<Integer> l = t.addLeft(r, 1);
+			assertThrows(IllegalStateException.class, () -> t.addLeft(l, 3));
+			assertThrows(IllegalStateException.class, () -> t.addLeft(r, 1));
+		}
+
+		@Test
+		@DisplayName("removeSubtree: 마지막 노드/루트만 허용, 삭제된 Position은 거부")
+		void removeTail() {
+			ArrayBinaryTrees<Integer> t = new ArrayBinaryTrees<>();
+			buildComplete(t, 7);
+			assertThrows(IllegalStateException.class, () -> t.removeSubtree(t.positionAt(2)));
+			Position<Integer> six = t.positionAt(6);
+			assertEquals(1, t.removeSubtree(six));
+			assertEquals(6, t.size());
+			assertThrows(IllegalArgumentException.class, () -> t.left(six));
+			assertThrows(IllegalStateException.class, six::element);
+			Position<Integer> two = t.positionAt(2);
+			assertNull(t.right(two));
+			assertEquals(6, t.removeSubtree(t.root()));
+			assertTrue(t.isEmpty());
+		}
+
+		@Test
+		@DisplayName("다른 트리 / 다른 구현의 Position은 거부")
+		void ownership() {
+			ArrayBinaryTrees<Integer> a = new ArrayBinaryTrees<>();
+			ArrayBinaryTrees<Integer> b = new ArrayBinaryTrees<>();
+			a.addRoot(1);
+			Position<Integer> rb = b.addRoot(2);
+			assertThrows(IllegalArgumentException.class, () -> a.left(rb));
+			BinaryTrees<Integer> other = new BinaryTrees<>();
+			Position<Integer> ro = other.addRoot(3);
+			assertThrows(IllegalArgumentException.class, () -> a.left(ro));
+		}
+	}
+
+	/* ---------- 순회 ---------- */
+
+	@Nested
+	@DisplayName("스택 없는 순회")
+	class Traversal {
+		@Test
+		@DisplayName("전위/중위/후위 순서가 링크 기반 BinaryTrees와 같음 (크기 0~40)")
+		void sameAsLinked() {
+			for (int n = 0; n <= 40; n++) {
+				ArrayBinaryTrees<Integer> a = new ArrayBinaryTrees<>();
+				BinaryTrees<Integer> l = new BinaryTrees<>();
+				buildComplete(a, n);
+				buildComplete(l, n);
+				assertEquals(toList(l.preorderIterable()), toList(a.preorderIterable()), "pre n=" + n);
+				assertEquals(toList(l), toList(a), "in n=" + n);
+				assertEquals(toList(l.postorderIterable()), toList(a.postorderIterable()), "post n=" + n);
+				List<Integer> bfs = new ArrayList<>();
+				for (int i = 0; i < n; i++) bfs.add(i);
+				assertEquals(bfs, toList(a.levelOrderIterable()));
+			}
+		}
+
+		@Test
+		@DisplayName("순회 중 구조 변경은 fail-fast, 값 교체는 허용")
+		void failFast() {
+			ArrayBinaryTrees<Integer> t = new ArrayBinaryTrees<>();
+			buildComplete(t, 5);
+			Iterator<Integer> it = t.iterator();
+			it.next();
+			t.set(t.root(), 100);
+			it.next();
+			t.add(5);
+			assertThrows(ConcurrentModificationException.class, it::next);
+		}
+	}
+
+	/* ---------- Eytzinger 탐색 ---------- */
+
+	@Nested
+	@DisplayName("정렬 데이터 Eytzinger 배치")
+	class Eytzinger {
+		@Test
+		@DisplayName("fromSorted: 중위 순회가 입력 순서와 같음")
+		void inorderIsSorted() {
+			for (int n = 0; n <= 33; n++) {
+				List<Integer> in = new ArrayList<>();
+				for (int i = 0; i < n; i++) in.add(i * 10);
+				assertEquals(in, toList(ArrayBinaryTrees.fromSorted(in)));
+			}
+		}
+
+		@Test
+		@DisplayName("lowerBound가 이진 탐색과 같은 결과")
+		void lowerBound() {
+			for (int n = 0; n <= 70; n++) {
+				List<Integer> in = new ArrayList<>();
+				for (int i = 0; i < n; i++) in.add(i * 2);
+				ArrayBinaryTrees<Integer> t = ArrayBinaryTrees.fromSorted(in);
+				for (int key = -1; key <= 2 * n + 1; key++) {
+					Position<Integer> p = t.lowerBound(key, Comparator.naturalOrder());
+					int idx = Collections.binarySearch(in, key);
+					if (idx < 0) idx = -(idx + 1);
+					if (idx == n) assertNull(p, "n=" + n + " key=" + key);
+					else assertEquals(in.get(idx), p.element(), "n=" + n + " key=" + key);
+				}
+			}
+		}
+	}
+}
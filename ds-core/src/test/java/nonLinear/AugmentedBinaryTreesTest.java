@@ -0,0 +1,186 @@
+package nonLinear;
+
+import nonLinear.tree.Monoid;
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.AugmentedBinaryTrees;
+import nonLinear.tree.binary.BinaryTrees;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AugmentedBinaryTrees (크기·집계 유지 이진 트리) 단위 테스트 - JUnit 5
+ */
+class AugmentedBinaryTreesTest {
+
+	/* ---------- 유틸 ---------- */
+
+	private static <T> List<T> toList(Iterable<T> it) {
+		List<T> out = new ArrayList<>();
+		for (T v : it) out.add(v);
+		return out;
+	}
+
+	private static final Monoid<Long> SUM = Monoid.of(0L, Long::sum);
+	/** 비가환 모노이드: 중위 순서 문자열 이어 붙이기 */
+	private static final Monoid<String> CONCAT = Monoid.of("", String::concat);
+
+	private static AugmentedBinaryTrees<Integer, Long> sample() {
+		//        1
+		//      /   \
+		//     2     3
+		//    / \   / \
+		//   4  5  6  7
+		AugmentedBinaryTrees<Integer, Long> t = new AugmentedBinaryTrees<>(SUM, Integer::longValue);
+		Position<Integer> r = t.addRoot(1);
+		Position<Integer> b = t.addLeft(r, 2);
+		Position<Integer> c = t.addRight(r, 3);
+		t.addLeft(b, 4);
+		t.addRight(b, 5);
+		t.addLeft(c, 6);
+		t.addRight(c, 7);
+		return t;
+	}
+
+	@Nested
+	@DisplayName("서브트리 크기/집계")
+	class Aggregates {
+		@Test
+		@DisplayName("추가 시 조상 사슬의 크기와 합이 갱신됨")
+		void addUpdatesAncestors() {
+			AugmentedBinaryTrees<Integer, Long> t = sample();
+			Position<Integer> r = t.root();
+			assertEquals(7, t.subtreeSize(r));
+			assertEquals(28L, t.aggregate());
+			assertEquals(11L, t.aggregate(t.left(r)));
+			assertEquals(3, t.subtreeSize(t.right(r)));
+		}
+
+		@Test
+		@DisplayName("set은 값 교체 후 조상 집계를 갱신")
+		void setUpdates() {
+			AugmentedBinaryTrees<Integer, Long> t = sample();
+			Position<Integer> five = t.right(t.left(t.root()));
+			assertEquals(5, t.set(five, 50));
+			assertEquals(56L, t.aggregate(t.left(t.root())));
+			assertEquals(73L, t.aggregate());
+		}
+
+		@Test
+		@DisplayName("removeSubtree는 캐시된 크기를 반환하고 조상을 갱신")
+		void removeSubtree() {
+			AugmentedBinaryTrees<Integer, Long> t = sample();
+			Position<Integer> b = t.left(t.root());
+			assertEquals(3, t.removeSubtree(b));
+			assertEquals(4, t.size());
+			assertEquals(4, t.subtreeSize(t.root()));
+			assertEquals(17L, t.aggregate());
+			assertThrows(IllegalArgumentException.class, () -> t.subtreeSize(new BinaryTrees<Integer>().addRoot(1)));
+			assertEquals(4, t.removeSubtree(t.root()));
+			assertEquals(0L, t.aggregate());
+		}
+
+		@Test
+		@DisplayName("떼어 낸 서브트리 루트를 다시 넘기면 거부하고 트리는 그대로 유지")
+		void removedPositionRejected() {
+			AugmentedBinaryTrees<Integer, Long> t = sample();
+			Position<Integer> b = t.left(t.root());
+			assertEquals(3, t.removeSubtree(b));
+			assertThrows(IllegalArgumentException.class, () -> t.removeSubtree(b));
+			assertThrows(IllegalArgumentException.class, () -> t.set(b, 100));
+			assertThrows(IllegalArgumentException.class, () -> t.rank(b));
+			assertThrows(IllegalArgumentException.class, () -> t.aggregate(b));
+			assertEquals(4, t.size());
+			assertEquals(17L, t.aggregate());
+			assertEquals(List.of(1, 6, 3, 7), toList(t));
+		}
+
+		@Test
+		@DisplayName("떼어 낸 서브트리의 자손과 clear 이전 노드도 거부")
+		void staleDescendantsRejected() {
+			AugmentedBinaryTrees<Integer, Long> t = sample();
+			Position<Integer> b = t.left(t.root());
+			Position<Integer> d = t.left(b); // 4
+			t.removeSubtree(b);
+			assertThrows(IllegalArgumentException.class, () -> t.removeSubtree(d));
+			assertThrows(IllegalArgumentException.class, () -> t.addLeft(d, 9));
+			assertEquals(4, t.size());
+			assertEquals(17L, t.aggregate());
+
+			Position<Integer> g = t.right(t.right(t.root())); // 7
+			t.clear();
+			assertThrows(IllegalArgumentException.class, () -> t.removeSubtree(g));
+			assertEquals(0, t.size());
+			Position<Integer> r = t.addRoot(1);
+			assertThrows(IllegalArgumentException.class, () -> t.set(g, 5));
+			assertEquals(1, t.subtreeSize(r));
+			assertEquals(1L, t.aggregate());
+		}
+
+		@Test
+		@DisplayName("비가환 모노이드는 중위 순서대로 결합")
+		void nonCommutative() {
+			AugmentedBinaryTrees<String, String> t = new AugmentedBinaryTrees<>(CONCAT, s -> s);
+			Position<String> r = t.addRoot("d");
+			Position<String> b = t.addLeft(r, "b");
+			t.addLeft(b, "a");
+			t.addRight(b, "c");
+			t.addRight(r, "e");
+			assertEquals("abcde", t.aggregate());
+			assertEquals("abc", t.aggregate(b));
+		}
+	}
+
+	@Nested
+	@DisplayName("순위 통계 (중위 순서)")
+	class OrderStatistics {
+		@Test
+		@DisplayName("select/rank가 중위 순회와 일치 (무작위 트리)")
+		void selectRank() {
+			Random rnd = new Random(3);
+			AugmentedBinaryTrees<Integer, Long> t = new AugmentedBinaryTrees<>(SUM, Integer::longValue);
+			List<Position<Integer>> open = new ArrayList<>();
+			open.add(t.addRoot(0));
+			for (int v = 1; v < 2000; v++) {
+				Position<Integer> p = open.get(rnd.nextInt(open.size()));
+				if (t.left(p) == null) open.add(t.addLeft(p, v));
+				else if (t.right(p) == null) open.add(t.addRight(p, v));
+				else v--;
+			}
+			List<Integer> inorder = toList(t);
+			for (int k = 0; k < inorder.size(); k++) {
+				Position<Integer> p = t.select(k);
+				assertEquals(inorder.get(k), p.element());
+				assertEquals(k, t.rank(p));
+			}
+			assertThrows(IndexOutOfBoundsException.class, () -> t.select(2000));
+		}
+
+		@Test
+		@DisplayName("전위/후위 순회 순서")
+		void traversals() {
+			AugmentedBinaryTrees<Integer, Long> t = sample();
+			assertEquals(List.of(1, 2, 4, 5, 3, 6, 7), toList(t.preorderIterable()));
+			assertEquals(List.of(4, 5, 2, 6, 7, 3, 1), toList(t.postorderIterable()));
+			t.removeSubtree(t.right(t.left(t.root())));
+			assertEquals(List.of(4, 2, 6, 7, 3, 1), toList(t.postorderIterable()));
+		}
+
+		@Test
+		@DisplayName("spliterator는 분할 후에도 크기가 정확함 (SUBSIZED)")
+		void exactSplitSizes() {
+			AugmentedBinaryTrees<Integer, Long> t = sample();
+			Spliterator<Integer> sp = t.spliterator();
+			assertTrue(sp.hasCharacteristics(Spliterator.SUBSIZED));
+			Spliterator<Integer> prefix = sp.trySplit();
+			assertEquals(3, prefix.estimateSize());
+			assertEquals(4, sp.estimateSize());
+			assertEquals(List.of(4, 2, 5, 1, 6, 3, 7), t.parallelStream().toList());
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package nonLinear;
+
+import nonLinear.tree.sorted.BPlusTreeMap;
+import nonLinear.tree.sorted.MySortedMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BPlusTreeMap (B+ 트리) 단위 테스트 - JUnit 5
+ */
+class BPlusTreeMapTest {
+
+	/* ---------- 유틸 ---------- */
+
+	private static <T> List<T> toList(Iterable<T> it) {
+		List<T> out = new ArrayList<>();
+		for (T v : it) out.add(v);
+		return out;
+	}
+
+	private static void assertSameAs(TreeMap<Integer, Integer> ref, BPlusTreeMap<Integer, Integer> t) {
+		assertEquals(ref.size(), t.size());
+		assertEquals(new ArrayList<>(ref.keySet()), toList(t));
+		for (Map.Entry<Integer, Integer> e : ref.entrySet()) assertEquals(e.getValue(), t.get(e.getKey()));
+	}
+
+	/* ---------- 기본 ---------- */
+
+	@Nested
+	@DisplayName("기본 연산")
+	class Basics {
+		@Test
+		@DisplayName("put/get/remove와 값 교체")
+		void putGetRemove() {
+			MySortedMap<String, Integer> m = new BPlusTreeMap<>(4);
+			assertNull(m.put("b", 2));
+			assertNull(m.put("a", 1));
+			assertNull(m.put("c", 3));
+			assertEquals(2, m.put("b", 20));
+			assertEquals(3, m.size());
+			assertEquals(20, m.get("b"));
+			assertNull(m.get("z"));
+			assertTrue(m.contains("a"));
+			assertEquals(1, m.remove("a"));
+			assertNull(m.remove("a"));
+			assertEquals(List.of("b", "c"), toList(m));
+			assertEquals("{b=20, c=3}", m.toString());
+		}
+
+		@Test
+		@DisplayName("빈 트리 / null 키 / 잘못된 fanout")
+		void edges() {
+			BPlusTreeMap<Integer, String> m = new BPlusTreeMap<>();
+			assertEquals(BPlusTreeMap.DEFAULT_FANOUT, m.fanout());
+			assertThrows(NoSuchElementException.class, m::firstKey);
+			assertThrows(NoSuchElementException.class, m::lastKey);
+			assertNull(m.floorKey(1));
+			assertNull(m.ceilingKey(1));
+			assertThrows(NullPointerException.class, () -> m.put(null, "x"));
+			assertFalse(m.contains(null));
+			assertThrows(IllegalArgumentException.class, () -> new BPlusTreeMap<Integer, String>(3));
+		}
+
+		@Test
+		@DisplayName("비교자 지정 (역순)")
+		void comparator() {
+			BPlusTreeMap<Integer, Integer> m = new BPlusTreeMap<>(4, Comparator.reverseOrder());
+			for (int i = 0; i < 50; i++) m.put(i, i);
+			assertEquals(49, m.firstKey());
+			assertEquals(0, m.lastKey());
+			assertEquals(List.of(10, 9, 8), toList(m.range(10, 7)));
+		}
+	}
+
+	/* ---------- 구조 ---------- */
+
+	@Nested
+	@DisplayName("분할/병합")
+	class Structure {
+		@Test
+		@DisplayName("오름차순 삽입 후 전부 삭제하면 높이가 다시 1")
+		void growAndShrink() {
+			BPlusTreeMap<Integer, Integer> m = new BPlusTreeMap<>(4);
+			for (int i = 0; i < 1000; i++) m.put(i, i);
+			assertTrue(m.height() > 3);
+			for (int i = 0; i < 1000; i++) assertEquals(i, m.remove(i));
+			assertTrue(m.isEmpty());
+			assertEquals(1, m.height());
+			m.put(7, 7);
+			assertEquals(List.of(7), toList(m));
+		}
+
+		@Test
+		@DisplayName("무작위 연산을 TreeMap과 비교 (fanout 4, 5, 64)")
+		void randomAgainstTreeMap() {
+			for (int fanout : new int[]{4, 5, 64}) {
+				Random rnd = new Random(fanout);
+				BPlusTreeMap<Integer, Integer> t = new BPlusTreeMap<>(fanout);
+				TreeMap<Integer, Integer> ref = new TreeMap<>();
+				for (int step = 0; step < 20000; step++) {
+					int k = rnd.nextInt(2000);
+					if (rnd.nextInt(3) == 0) assertEquals(ref.remove(k), t.remove(k));
+					else assertEquals(ref.put(k, step), t.put(k, step));
+					if (step % 1000 == 0) assertSameAs(ref, t);
+				}
+				assertSameAs(ref, t);
+				for (int q = -5; q < 2010; q += 3) {
+					assertEquals(ref.floorKey(q), t.floorKey(q));
+					assertEquals(ref.ceilingKey(q), t.ceilingKey(q));
+					assertEquals(ref.lowerKey(q), t.lowerKey(q));
+					assertEquals(ref.higherKey(q), t.higherKey(q));
+				}
+				assertEquals(ref.firstKey(), t.firstKey());
+				assertEquals(ref.lastKey(), t.lastKey());
+			}
+		}
+	}
+
+	/* ---------- 범위 스캔 ---------- */
+
+	@Nested
+	@DisplayName("범위 스캔 (리프 연결)")
+	class Range {
+		@Test
+		@DisplayName("리프 경계를 넘는 [from, to) 구간")
+		void acrossLeaves() {
+			BPlusTreeMap<Integer, Integer> m = new BPlusTreeMap<>(4);
+			for (int i = 0; i < 100; i += 2) m.put(i, i);
+			assertEquals(List.of(10, 12, 14, 16, 18), toList(m.range(9, 20)));
+			assertEquals(List.of(), toList(m.range(5, 5)));
+			assertEquals(List.of(96, 98), toList(m.range(95, 1000)));
+			assertThrows(IllegalArgumentException.class, () -> m.range(3, 1));
+		}
+
+		@Test
+		@DisplayName("순회 중 구조 변경은 fail-fast")
+		void failFast() {
+			BPlusTreeMap<Integer, Integer> m = new BPlusTreeMap<>(4);
+			for (int i = 0; i < 10; i++) m.put(i, i);
+			Iterator<Integer> it = m.iterator();
+			it.next();
+			m.put(5, 50); // 값 교체는 구조 변경 아님
+			it.next();
+			m.put(100, 100);
+			assertThrows(ConcurrentModificationException.class, it::next);
+		}
+	}
+
+	/* ---------- 벌크 로드 ---------- */
+
+	@Nested
+	@DisplayName("벌크 로드")
+	class BulkLoad {
+		@Test
+		@DisplayName("정렬 입력으로 적재 후 조회/삽입/삭제가 정상")
+		void loadThenMutate() {
+			for (int n : new int[]{1, 4, 5, 17, 1000, 4097}) {
+				List<Integer> keys = new ArrayList<>();
+				for (int i = 0; i < n; i++) keys.add(i * 2);
+				BPlusTreeMap<Integer, Integer> t = new BPlusTreeMap<>(4);
+				t.bulkLoad(keys, keys);
+				TreeMap<Integer, Integer> ref = new TreeMap<>();
+				for (int k : keys) ref.put(k, k);
+				assertSameAs(ref, t);
+				Random rnd = new Random(n);
+				for (int step = 0; step < 3000; step++) {
+					int k = rnd.nextInt(2 * n + 2);
+					if (rnd.nextBoolean()) assertEquals(ref.remove(k), t.remove(k));
+					else assertEquals(ref.put(k, -k), t.put(k, -k));
+				}
+				assertSameAs(ref, t);
+			}
+		}
+
+		@Test
+		@DisplayName("정렬되지 않은 입력 / 비어 있지 않은 트리는 거부")
+		void rejects() {
+			BPlusTreeMap<Integer, Integer> t = new BPlusTreeMap<>(4);
+			assertThrows(IllegalArgumentException.class, () -> t.bulkLoad(List.of(1, 3, 2), List.of(1, 3, 2)));
+			assertThrows(IllegalArgumentException.class, () -> t.bulkLoad(List.of(1, 1), List.of(1, 1)));
+			assertThrows(IllegalArgumentException.class, () -> t.bulkLoad(List.of(1, 2), List.of(1)));
+			BPlusTreeMap<Integer, Integer> u = new BPlusTreeMap<>(4);
+			u.put(1, 1);
+			assertThrows(IllegalStateException.class, () -> u.bulkLoad(List.of(2), List.of(2)));
+		}
+	}
+}
@@ -1,6 +1,10 @@
 package nonLinear;
 
+import linear.deque.WorkStealingPool;
+import linear.list.MyList;
+import nonLinear.tree.ParallelOptions;
 import nonLinear.tree.Position;
+import nonLinear.tree.binary.ArrayBinaryTrees;
 import nonLinear.tree.binary.BinaryTrees;
 import nonLinear.tree.binary.MyBinaryTree;
 
@@ -9,6 +13,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -203,6 +209,325 @@ class BinaryTreesTest {
 		}
 	}
 
+	/* ---------- 병렬 방문 ---------- */
+
+	@Nested
+	@DisplayName("parallelForEach (WorkStealingPool)")
+	class ParallelVisit {
+		@Test
+		@DisplayName("모든 노드를 정확히 한 번 방문")
+		void visitsEveryNodeOnce() {
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			// 깊이 12의 완전 이진 트리 (노드 8191개)
+			Deque<Position<Integer>> frontier = new ArrayDeque<>();
+			frontier.add(t.addRoot(0));
+			int next = 1;
+			while (next < 8191) {
+				Position<Integer> p = frontier.poll();
+				frontier.add(t.addLeft(p, next++));
+				frontier.add(t.addRight(p, next++));
+			}
+
+			ConcurrentLinkedQueue<Integer> seen = new ConcurrentLinkedQueue<>();
+			try (WorkStealingPool pool = new WorkStealingPool(4)) {
+				t.parallelForEach(pool, seen::add);
+			}
+			List<Integer> sorted = new ArrayList<>(seen);
+			Collections.sort(sorted);
+			assertEquals(8191, sorted.size());
+			for (int i = 0; i < 8191; i++) assertEquals(i, sorted.get(i));
+		}
+	}
+
+	@Nested
+	@DisplayName("parallelForEach / parallelReduce (ForkJoinPool)")
+	class ForkJoinTraversal {
+		/** 값 = 생성 순번인 무작위 모양의 트리 */
+		private BinaryTrees<Integer> randomTree(int n, long seed) {
+			Random rnd = new Random(seed);
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			List<Position<Integer>> open = new ArrayList<>(); // 자식 자리가 남은 노드
+			open.add(t.addRoot(0));
+			for (int v = 1; v < n; v++) {
+				int i = rnd.nextInt(open.size());
+				Position<Integer> p = open.get(i);
+				Position<Integer> c = t.left(p) == null ? t.addLeft(p, v) : t.addRight(p, v);
+				if (t.right(p) != null) { // 가득 찬 p를 마지막 원소와 바꿔 제거
+					Position<Integer> last = open.remove(open.size() - 1);
+					if (i < open.size()) open.set(i, last);
+				}
+				open.add(c);
+			}
+			return t;
+		}
+
+		private static List<Integer> concat(List<Integer> a, List<Integer> b) {
+			List<Integer> out = new ArrayList<>(a);
+			out.addAll(b);
+			return out;
+		}
+
+		@Test
+		@DisplayName("순서 무관 합계와 순서 보존 결합(중위 순서)")
+		void reduce() {
+			BinaryTrees<Integer> t = randomTree(20_000, 7);
+			ForkJoinPool pool = new ForkJoinPool(4);
+			try {
+				ParallelOptions opts = ParallelOptions.defaults().withPool(pool).withThreshold(64);
+				long sum = t.parallelReduce(0L, Integer::longValue, Long::sum, opts);
+				assertEquals(20_000L * 19_999 / 2, sum);
+				List<Integer> inorder = t.parallelReduce(List.of(), List::of, ForkJoinTraversal::concat, opts.ordered());
+				assertEquals(toList(t), inorder);
+			} finally {
+				pool.shutdown();
+			}
+			assertEquals(0, new BinaryTrees<Integer>().parallelReduce(0, x -> x, Integer::sum));
+		}
+
+		@Test
+		@DisplayName("forEach: 모든 노드 1회 방문, 순서 보존 모드에서는 중위 순서대로")
+		void forEach() {
+			BinaryTrees<Integer> t = randomTree(20_000, 11);
+			List<Integer> ordered = new ArrayList<>();
+			t.parallelForEach(ordered::add, ParallelOptions.defaults().withThreshold(32).ordered());
+			assertEquals(toList(t), ordered);
+
+			ConcurrentLinkedQueue<Integer> all = new ConcurrentLinkedQueue<>();
+			t.parallelForEach(all::add);
+			assertEquals(20_000, all.size());
+			assertEquals(20_000, new HashSet<>(all).size());
+		}
+
+		@Test
+		@DisplayName("한쪽으로 치우친 깊은 트리도 스택 넘침 없이 처리")
+		void degenerate() {
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			Position<Integer> p = t.addRoot(0);
+			for (int i = 1; i < 200_000; i++) p = t.addRight(p, i);
+			ParallelOptions opts = ParallelOptions.defaults().withThreshold(1);
+			assertEquals(200_000, t.parallelReduce(0, x -> 1, Integer::sum, opts));
+			List<Integer> head = t.parallelReduce(List.of(), x -> x < 3 ? List.of(x) : List.<Integer>of(),
+					ForkJoinTraversal::concat, opts.ordered());
+			assertEquals(List.of(0, 1, 2), head);
+		}
+
+		@Test
+		@DisplayName("병렬 순회 중 구조 변경은 ConcurrentModificationException")
+		void failFast() {
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			Position<Integer> r = t.addRoot(1);
+			assertThrows(ConcurrentModificationException.class,
+					() -> t.parallelForEach(v -> { if (t.left(r) == null) t.addLeft(r, 2); }));
+		}
+	}
+
+	@Nested
+	@DisplayName("Spliterator / stream")
+	class Streams {
+		/** 끝까지 재귀 분할한 뒤 앞부분 → 뒷부분 순서로 이어 붙임 */
+		private <T> void splitAll(Spliterator<T> s, List<T> out, int[] splits) {
+			Spliterator<T> prefix = s.trySplit();
+			if (prefix == null) {
+				s.forEachRemaining(out::add);
+				return;
+			}
+			splits[0]++;
+			splitAll(prefix, out, splits);
+			splitAll(s, out, splits);
+		}
+
+		@Test
+		@DisplayName("stream()/parallelStream()이 중위 순서를 따르고 합계가 같음")
+		void streamMatchesIteration() {
+			MyBinaryTree<Integer> t = buildSample();
+			assertEquals(toList(t), t.stream().toList());
+			assertEquals(List.of(4, 2, 5, 1, 6, 3, 7), t.parallelStream().toList());
+			assertEquals(28, t.parallelStream().mapToInt(Integer::intValue).sum());
+			assertEquals(0, new BinaryTrees<Integer>().stream().count());
+		}
+
+		@Test
+		@DisplayName("서브트리 단위로 끝까지 분할해도 순서와 원소가 보존됨")
+		void splitPreservesOrder() {
+			Random rnd = new Random(42);
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			List<Position<Integer>> open = new ArrayList<>();
+			open.add(t.addRoot(0));
+			for (int v = 1; v < 5000; v++) {
+				Position<Integer> p = open.get(rnd.nextInt(open.size()));
+				if (t.left(p) == null) open.add(t.addLeft(p, v));
+				else if (t.right(p) == null) open.add(t.addRight(p, v));
+				else v--; // 자리가 없으면 다시 뽑기
+			}
+			Spliterator<Integer> sp = t.spliterator();
+			assertEquals(5000, sp.estimateSize());
+			assertTrue(sp.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+			List<Integer> out = new ArrayList<>();
+			int[] splits = {0};
+			splitAll(sp, out, splits);
+			assertEquals(toList(t), out);
+			assertTrue(splits[0] > 100, "서브트리 단위로 충분히 분할되어야 함");
+		}
+
+		@Test
+		@DisplayName("일부 소비 후 분할해도 순서가 보존됨")
+		void splitAfterAdvance() {
+			MyBinaryTree<Integer> t = buildSample();
+			for (int consumed = 0; consumed <= 7; consumed++) {
+				Spliterator<Integer> sp = t.spliterator();
+				List<Integer> out = new ArrayList<>();
+				for (int i = 0; i < consumed; i++) sp.tryAdvance(out::add);
+				splitAll(sp, out, new int[1]);
+				assertEquals(List.of(4, 2, 5, 1, 6, 3, 7), out, "consumed=" + consumed);
+			}
+		}
+
+		@Test
+		@DisplayName("spliterator 생성 후 구조 변경은 fail-fast")
+		void failFast() {
+			MyBinaryTree<Integer> t = buildSample();
+			Spliterator<Integer> sp = t.spliterator();
+			assertTrue(sp.tryAdvance(v -> { }));
+			t.addLeft(t.left(t.left(t.root())), 8);
+			assertThrows(ConcurrentModificationException.class, () -> sp.tryAdvance(v -> { }));
+		}
+	}
+
+	@Nested
+	@DisplayName("Morris 순회 (보조 스택 없음)")
+	class Morris {
+		@Test
+		@DisplayName("inorderMorris/preorderMorris가 스택 기반 이터레이터와 같은 순서")
+		void sameOrder() {
+			MyBinaryTree<Integer> sample = buildSample();
+			BinaryTrees<Integer> t = (BinaryTrees<Integer>) sample;
+			List<Integer> in = new ArrayList<>(), pre = new ArrayList<>();
+			t.inorderMorris(in::add);
+			t.preorderMorris(pre::add);
+			assertEquals(toList(t), in);
+			assertEquals(toList(t.preorderIterable()), pre);
+			// 순회 후 구조가 그대로인지 (임시 연결 복구)
+			assertEquals(List.of(4, 2, 5, 1, 6, 3, 7), toList(t));
+			assertEquals(List.of(1, 2, 4, 5, 3, 6, 7), toList(t.preorderIterable()));
+		}
+
+		@Test
+		@DisplayName("한쪽으로 치우친 깊은 트리 (왼쪽 사슬 20만)")
+		void degenerate() {
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			Position<Integer> p = t.addRoot(0);
+			for (int i = 1; i < 200_000; i++) p = t.addLeft(p, i);
+			long[] sum = {0};
+			int[] first = {-1};
+			t.inorderMorris(v -> {
+				if (first[0] < 0) first[0] = v;
+				sum[0] += v;
+			});
+			assertEquals(199_999, first[0]);
+			assertEquals(200_000L * 199_999 / 2, sum[0]);
+		}
+
+		@Test
+		@DisplayName("visit이 예외를 던져도 임시 연결을 모두 복구한 뒤 예외 전파")
+		void restoresOnException() {
+			BinaryTrees<Integer> t = (BinaryTrees<Integer>) buildSample();
+			List<Integer> seen = new ArrayList<>();
+			IllegalStateException ex = assertThrows(IllegalStateException.class, () -> t.inorderMorris(v -> {
+				if (v == 1) throw new IllegalStateException("stop");
+				seen.add(v);
+			}));
+			assertEquals("stop", ex.getMessage());
+			assertEquals(List.of(4, 2, 5), seen);
+			assertEquals(List.of(4, 2, 5, 1, 6, 3, 7), toList(t));
+			assertEquals(List.of(1, 2, 4, 5, 3, 6, 7), toList(t.preorderIterable()));
+			Position<Integer> five = t.right(t.left(t.root()));
+			assertNull(t.right(five), "선행자의 right 포인터가 원래대로(null) 복구되어야 함");
+
+			assertThrows(IllegalStateException.class, () -> t.preorderMorris(v -> {
+				if (v == 6) throw new IllegalStateException("stop");
+			}));
+			assertNull(t.right(five));
+			assertEquals(List.of(1, 2, 4, 5, 3, 6, 7), toList(t.preorderIterable()));
+		}
+	}
+
+	@Nested
+	@DisplayName("후위 이터레이터 (부모 포인터, 지연 계산)")
+	class LazyPostorder {
+		@Test
+		@DisplayName("무작위 모양 트리에서 재귀 후위 순회와 같은 순서")
+		void matchesRecursive() {
+			Random rnd = new Random(5);
+			for (int round = 0; round < 20; round++) {
+				BinaryTrees<Integer> t = new BinaryTrees<>();
+				List<Position<Integer>> open = new ArrayList<>();
+				open.add(t.addRoot(0));
+				int n = 1 + rnd.nextInt(200);
+				for (int v = 1; v < n; v++) {
+					Position<Integer> p = open.get(rnd.nextInt(open.size()));
+					boolean leftFirst = rnd.nextBoolean();
+					if (leftFirst && t.left(p) == null) open.add(t.addLeft(p, v));
+					else if (t.right(p) == null) open.add(t.addRight(p, v));
+					else if (t.left(p) == null) open.add(t.addLeft(p, v));
+					else v--;
+				}
+				List<Integer> expected = new ArrayList<>();
+				t.postorderRecursive(expected::add);
+				assertEquals(expected, toList(t.postorderIterable()));
+			}
+		}
+
+		@Test
+		@DisplayName("큰 사슬 트리에서도 첫 원소만 꺼내고 멈출 수 있음")
+		void earlyExit() {
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			Position<Integer> p = t.addRoot(0);
+			for (int i = 1; i < 300_000; i++) p = (i % 2 == 0) ? t.addLeft(p, i) : t.addRight(p, i);
+			Iterator<Integer> it = t.postorderIterable().iterator();
+			assertEquals(299_999, it.next());
+			assertEquals(299_998, it.next());
+			t.addLeft(p, -1);
+			assertThrows(ConcurrentModificationException.class, it::next);
+		}
+	}
+
+	@Nested
+	@DisplayName("레벨 순서 (BFS)")
+	class LevelOrder {
+		@Test
+		@DisplayName("levelOrderIterable과 forEachLevel")
+		void levels() {
+			MyBinaryTree<Integer> t = buildSample();
+			assertEquals(List.of(1, 2, 3, 4, 5, 6, 7), toList(t.levelOrderIterable()));
+			List<String> seen = new ArrayList<>();
+			List<MyList<Integer>> buffers = new ArrayList<>();
+			t.forEachLevel((depth, level) -> {
+				seen.add(depth + ":" + toList(level));
+				buffers.add(level);
+			});
+			assertEquals(List.of("0:[1]", "1:[2, 3]", "2:[4, 5, 6, 7]"), seen);
+			assertSame(buffers.get(0), buffers.get(2), "레벨 버퍼는 재사용되어야 함");
+		}
+
+		@Test
+		@DisplayName("배열 기반 구현도 같은 결과, 구조 변경은 fail-fast")
+		void arrayTreeAndFailFast() {
+			ArrayBinaryTrees<Integer> a = new ArrayBinaryTrees<>();
+			for (int i = 1; i <= 6; i++) a.add(i);
+			List<String> seen = new ArrayList<>();
+			a.forEachLevel((depth, level) -> seen.add(depth + ":" + toList(level)));
+			assertEquals(List.of("0:[1]", "1:[2, 3]", "2:[4, 5, 6]"), seen);
+
+			MyBinaryTree<Integer> t = buildSample();
+			Iterator<Integer> it = t.levelOrderIterable().iterator();
+			it.next();
+			t.addLeft(t.left(t.left(t.root())), 8);
+			assertThrows(ConcurrentModificationException.class, it::next);
+			assertThrows(ConcurrentModificationException.class,
+					() -> t.forEachLevel((d, level) -> { if (d == 0) t.removeSubtree(t.right(t.root())); }));
+		}
+	}
+
 	/* ---------- 삭제/초기화 ---------- */
 
 	@Nested
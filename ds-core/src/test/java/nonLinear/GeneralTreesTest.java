@@ -1,5 +1,7 @@
 package nonLinear;
 
+import linear.deque.WorkStealingPool;
+import nonLinear.tree.ParallelOptions;
 import nonLinear.tree.Position;
 import nonLinear.tree.general.GeneralTrees;
 import nonLinear.tree.general.MyGeneralTree;
@@ -8,6 +10,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -148,6 +153,42 @@ class GeneralTreesTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("parallelForEach (WorkStealingPool)")
+	class ParallelVisit {
+		@Test
+		@DisplayName("모든 노드를 정확히 한 번 방문 (합계로 검증)")
+		void visitsEveryNodeOnce() {
+			GeneralTrees<Integer> tree = new GeneralTrees<>();
+			Position<Integer> r = tree.addRoot(0);
+			int next = 1;
+			long expectedSum = 0;
+			for (int i = 0; i < 20; i++) {
+				Position<Integer> c = tree.addChild(r, next);
+				expectedSum += next++;
+				for (int j = 0; j < 50; j++) {
+					Position<Integer> g = tree.addChild(c, next);
+					expectedSum += next++;
+					for (int k = 0; k < 5; k++) {
+						tree.addChild(g, next);
+						expectedSum += next++;
+					}
+				}
+			}
+
+			AtomicLong sum = new AtomicLong();
+			AtomicLong count = new AtomicLong();
+			try (WorkStealingPool pool = new WorkStealingPool(4)) {
+				tree.parallelForEach(pool, v -> {
+					sum.addAndGet(v);
+					count.incrementAndGet();
+				});
+			}
+			assertEquals(tree.size(), count.get());
+			assertEquals(expectedSum, sum.get());
+		}
+	}
+
 	@Nested
 	@DisplayName("서브트리 삭제 & clear")
 	class RemoveSubtreeAndClear {
@@ -199,6 +240,207 @@ class GeneralTreesTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("parallelForEach / parallelReduce (ForkJoinPool)")
+	class ForkJoinTraversal {
+		/** 값 = 생성 순번, 무작위 부모에 자식 추가 */
+		private GeneralTrees<Integer> randomTree(int n, long seed) {
+			Random rnd = new Random(seed);
+			GeneralTrees<Integer> tree = new GeneralTrees<>();
+			List<Position<Integer>> all = new ArrayList<>();
+			all.add(tree.addRoot(0));
+			for (int v = 1; v < n; v++) all.add(tree.addChild(all.get(rnd.nextInt(all.size())), v));
+			return tree;
+		}
+
+		@Test
+		@DisplayName("순서 무관 합계와 순서 보존 결합(전위 순서)")
+		void reduce() {
+			GeneralTrees<Integer> tree = randomTree(20_000, 3);
+			ForkJoinPool pool = new ForkJoinPool(4);
+			try {
+				ParallelOptions opts = ParallelOptions.defaults().withPool(pool).withThreshold(50);
+				assertEquals(20_000L * 19_999 / 2, tree.parallelReduce(0L, Integer::longValue, Long::sum, opts));
+				String joined = tree.parallelReduce("", v -> v + ",", String::concat, opts.ordered());
+				StringBuilder expected = new StringBuilder();
+				for (int v : tree) expected.append(v).append(',');
+				assertEquals(expected.toString(), joined, "순서 보존 모드는 전위 순서대로 결합해야 합니다");
+			} finally {
+				pool.shutdown();
+			}
+		}
+
+		@Test
+		@DisplayName("forEach: 모든 노드 1회 방문, 순서 보존 모드에서는 전위 순서대로")
+		void forEach() {
+			GeneralTrees<Integer> tree = randomTree(20_000, 5);
+			List<Integer> ordered = new ArrayList<>();
+			tree.parallelForEach(ordered::add, ParallelOptions.defaults().withThreshold(16).ordered());
+			List<Integer> expected = new ArrayList<>();
+			for (int v : tree) expected.add(v);
+			assertEquals(expected, ordered);
+
+			Set<Integer> seen = ConcurrentHashMap.newKeySet();
+			AtomicLong duplicates = new AtomicLong();
+			tree.parallelForEach(v -> { if (!seen.add(v)) duplicates.incrementAndGet(); });
+			assertEquals(20_000, seen.size());
+			assertEquals(0, duplicates.get(), "중복 방문된 노드가 없어야 합니다");
+		}
+	}
+
+	@Nested
+	@DisplayName("Spliterator / stream")
+	class Streams {
+		private <T> void splitAll(Spliterator<T> s, List<T> out, int[] splits) {
+			Spliterator<T> prefix = s.trySplit();
+			if (prefix == null) {
+				s.forEachRemaining(out::add);
+				return;
+			}
+			splits[0]++;
+			splitAll(prefix, out, splits);
+			splitAll(s, out, splits);
+		}
+
+		@Test
+		@DisplayName("stream()/parallelStream()이 전위 순서를 따름")
+		void streamMatchesIteration() {
+			MyGeneralTree<String> tree = new GeneralTrees<>();
+			Position<String> a = tree.addRoot("A");
+			Position<String> b = tree.addChild(a, "B");
+			tree.addChild(a, "C");
+			tree.addChild(b, "D");
+			tree.addChild(b, "E");
+			assertEquals(List.of("A", "B", "D", "E", "C"), tree.stream().toList());
+			assertEquals(List.of("A", "B", "D", "E", "C"), tree.parallelStream().toList());
+			assertEquals(0, new GeneralTrees<String>().parallelStream().count());
+		}
+
+		@Test
+		@DisplayName("자식 목록을 반씩 나누며 끝까지 분할해도 순서와 원소가 보존됨")
+		void splitPreservesOrder() {
+			Random rnd = new Random(9);
+			GeneralTrees<Integer> tree = new GeneralTrees<>();
+			List<Position<Integer>> all = new ArrayList<>();
+			all.add(tree.addRoot(0));
+			for (int v = 1; v < 5000; v++) all.add(tree.addChild(all.get(rnd.nextInt(all.size())), v));
+			Spliterator<Integer> sp = tree.spliterator();
+			assertEquals(5000, sp.estimateSize());
+			List<Integer> out = new ArrayList<>();
+			int[] splits = {0};
+			splitAll(sp, out, splits);
+			assertEquals(preorderValues(tree), out);
+			assertTrue(splits[0] > 100, "서브트리 단위로 충분히 분할되어야 합니다");
+			assertEquals(5000L * 4999 / 2, tree.parallelStream().mapToLong(Integer::longValue).sum());
+		}
+
+		@Test
+		@DisplayName("일부 소비 후 분할해도 순서가 보존됨")
+		void splitAfterAdvance() {
+			Random rnd = new Random(1);
+			GeneralTrees<Integer> tree = new GeneralTrees<>();
+			List<Position<Integer>> all = new ArrayList<>();
+			all.add(tree.addRoot(0));
+			for (int v = 1; v < 500; v++) all.add(tree.addChild(all.get(rnd.nextInt(all.size())), v));
+			for (int consumed = 0; consumed < 60; consumed += 7) {
+				Spliterator<Integer> sp = tree.spliterator();
+				List<Integer> out = new ArrayList<>();
+				for (int i = 0; i < consumed; i++) sp.tryAdvance(out::add);
+				splitAll(sp, out, new int[1]);
+				assertEquals(preorderValues(tree), out, "consumed=" + consumed);
+			}
+		}
+	}
+
+	@Nested
+	@DisplayName("레벨 순서 (BFS)")
+	class LevelOrder {
+		@Test
+		@DisplayName("levelOrderIterable과 forEachLevel")
+		void levels() {
+			MyGeneralTree<String> tree = new GeneralTrees<>();
+			Position<String> a = tree.addRoot("A");
+			Position<String> b = tree.addChild(a, "B");
+			Position<String> c = tree.addChild(a, "C");
+			tree.addChild(b, "D");
+			tree.addChild(b, "E");
+			tree.addChild(c, "F");
+			List<String> bfs = new ArrayList<>();
+			for (String s : tree.levelOrderIterable()) bfs.add(s);
+			assertEquals(List.of("A", "B", "C", "D", "E", "F"), bfs);
+
+			List<String> levels = new ArrayList<>();
+			tree.forEachLevel((depth, level) -> {
+				StringBuilder sb = new StringBuilder(depth + ":");
+				for (String s : level) sb.append(s);
+				levels.add(sb.toString());
+			});
+			assertEquals(List.of("0:A", "1:BC", "2:DEF"), levels);
+			new GeneralTrees<String>().forEachLevel((d, l) -> fail("빈 트리는 콜백이 없어야 합니다"));
+		}
+	}
+
+	@Nested
+	@DisplayName("자식 저장소 (인라인 ↔ 배열 전환)")
+	class ChildStorage {
+		private List<String> childValues(MyGeneralTree<String> tree, Position<String> p) {
+			List<String> out = new ArrayList<>();
+			for (Position<String> c : tree.children(p)) out.add(c.element());
+			return out;
+		}
+
+		@Test
+		@DisplayName("자식 0 → 1 → 여러 개로 늘었다가 삭제로 1 → 0으로 줄어도 순서와 링크 유지")
+		void growAndShrink() {
+			MyGeneralTree<String> tree = new GeneralTrees<>();
+			Position<String> r = tree.addRoot("A");
+			assertEquals(List.of(), childValues(tree, r));
+
+			Position<String> b = tree.addChild(r, "B");
+			assertEquals(List.of("B"), childValues(tree, r));
+
+			List<Position<String>> kids = new ArrayList<>(List.of(b));
+			for (char c = 'C'; c <= 'L'; c++) kids.add(tree.addChild(r, String.valueOf(c)));
+			assertEquals(List.of("B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L"), childValues(tree, r));
+
+			for (int i = kids.size() - 1; i >= 1; i--) {
+				if (i % 2 == 0) tree.removeSubtree(kids.get(i));
+			}
+			assertEquals(List.of("B", "C", "E", "G", "I", "K"), childValues(tree, r));
+
+			for (String v : List.of("C", "E", "G", "I")) {
+				Position<String> k = kids.get(v.charAt(0) - 'B');
+				tree.removeSubtree(k);
+			}
+			assertEquals(List.of("B", "K"), childValues(tree, r));
+			tree.removeSubtree(b);
+			assertEquals(List.of("K"), childValues(tree, r));
+
+			Position<String> m = tree.addChild(r, "M"); // 인라인에서 다시 배열로
+			assertEquals(List.of("K", "M"), childValues(tree, r));
+			assertSame(r, tree.parent(m));
+			tree.removeSubtree(kids.get('K' - 'B'));
+			tree.removeSubtree(m);
+			assertEquals(List.of(), childValues(tree, r));
+			assertEquals(1, tree.size());
+			assertEquals(List.of("A"), preorderValues(tree));
+		}
+
+		@Test
+		@DisplayName("children() 뷰는 변경 불가이고 이후 추가가 뷰에 반영됨")
+		void childrenViewIsLive() {
+			MyGeneralTree<String> tree = new GeneralTrees<>();
+			Position<String> r = tree.addRoot("A");
+			tree.addChild(r, "B");
+			List<Position<String>> view = (List<Position<String>>) tree.children(r);
+			assertThrows(UnsupportedOperationException.class, () -> view.add(r));
+			assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+			tree.addChild(r, "C");
+			assertEquals(2, view.size());
+			assertEquals("C", view.get(1).element());
+		}
+	}
+
 	@Nested
 	@DisplayName("Fail-Fast 이터레이터")
 	class FailFastIterator {
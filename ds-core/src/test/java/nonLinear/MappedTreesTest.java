@@ -0,0 +1,211 @@
+package nonLinear;
+
+import nonLinear.tree.ElementCodecs;
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.BinaryTrees;
+import nonLinear.tree.binary.MappedBinaryTrees;
+import nonLinear.tree.general.GeneralTrees;
+import nonLinear.tree.general.MappedGeneralTrees;
+import nonLinear.tree.internal.MappedRegion;
+import nonLinear.tree.internal.MappedRegionWriter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MappedBinaryTrees / MappedGeneralTrees (메모리 매핑 읽기 전용 트리) 단위 테스트 - JUnit 5
+ */
+class MappedTreesTest {
+
+	@TempDir
+	Path dir;
+
+	/* ---------- 유틸 ---------- */
+
+	private static <T> List<T> toList(Iterable<T> it) {
+		List<T> out = new ArrayList<>();
+		for (T v : it) out.add(v);
+		return out;
+	}
+
+	private static BinaryTrees<Integer> randomBinary(int n, long seed) {
+		Random rnd = new Random(seed);
+		BinaryTrees<Integer> t = new BinaryTrees<>();
+		if (n == 0) return t;
+		List<Position<Integer>> open = new ArrayList<>();
+		open.add(t.addRoot(0));
+		for (int v = 1; v < n; ) {
+			Position<Integer> p = open.get(rnd.nextInt(open.size()));
+			if (rnd.nextBoolean()) {
+				if (t.left(p) == null) open.add(t.addLeft(p, v++));
+			} else if (t.right(p) == null) {
+				open.add(t.addRight(p, v++));
+			}
+		}
+		return t;
+	}
+
+	@Nested
+	@DisplayName("이진 트리")
+	class Binary {
+		@Test
+		@DisplayName("무작위 모양 트리: 전위/중위/후위/레벨 순서가 원본과 같음")
+		void traversalsMatch() throws IOException {
+			for (int n : new int[]{0, 1, 2, 5, 500}) {
+				BinaryTrees<Integer> t = randomBinary(n, n);
+				Path f = dir.resolve("b" + n);
+				MappedBinaryTrees.write(t, ElementCodecs.integers(), f);
+				MappedBinaryTrees<Integer> m = MappedBinaryTrees.open(f, ElementCodecs.integers());
+
+				assertEquals(n, m.size());
+				assertEquals(toList(t.preorderIterable()), toList(m.preorderIterable()), "n=" + n);
+				assertEquals(toList(t), toList(m), "n=" + n);
+				assertEquals(toList(t.postorderIterable()), toList(m.postorderIterable()), "n=" + n);
+				assertEquals(toList(t.levelOrderIterable()), toList(m.levelOrderIterable()), "n=" + n);
+			}
+		}
+
+		@Test
+		@DisplayName("Position은 오프셋 핸들: 링크/동등성/부모가 일관되고, 원소는 조회 때 디코딩")
+		void positions() throws IOException {
+			BinaryTrees<String> t = new BinaryTrees<>();
+			Position<String> r = t.addRoot("루트");
+			t.addLeft(r, "왼쪽");
+			t.addRight(t.left(r), null);
+			Path f = dir.resolve("s");
+			MappedBinaryTrees.write(t, ElementCodecs.nullable(ElementCodecs.strings()), f);
+			MappedBinaryTrees<String> m = MappedBinaryTrees.open(f, ElementCodecs.nullable(ElementCodecs.strings()));
+
+			Position<String> mr = m.root();
+			Position<String> ml = m.left(mr);
+			assertEquals("루트", mr.element());
+			assertEquals("왼쪽", ml.element());
+			assertNull(m.right(mr));
+			assertNull(m.right(ml).element());
+			assertEquals(mr, m.parent(ml));
+			assertEquals(mr.hashCode(), m.parent(ml).hashCode());
+			assertNull(m.parent(mr));
+			assertTrue(m.contains(null));
+			assertFalse(m.contains("없음"));
+			assertEquals(MappedRegion.HEADER, m.offsetOf(mr));
+		}
+
+		@Test
+		@DisplayName("읽기 전용: 변경 연산은 UnsupportedOperationException, 다른 트리 Position은 거부")
+		void readOnly() throws IOException {
+			Path f = dir.resolve("ro");
+			MappedBinaryTrees.write(randomBinary(3, 1), ElementCodecs.integers(), f);
+			MappedBinaryTrees<Integer> m = MappedBinaryTrees.open(f, ElementCodecs.integers());
+			MappedBinaryTrees<Integer> other = MappedBinaryTrees.open(f, ElementCodecs.integers());
+			assertThrows(UnsupportedOperationException.class, () -> m.addRoot(1));
+			assertThrows(UnsupportedOperationException.class, () -> m.set(m.root(), 1));
+			assertThrows(UnsupportedOperationException.class, () -> m.removeSubtree(m.root()));
+			assertThrows(UnsupportedOperationException.class, m::clear);
+			assertThrows(IllegalArgumentException.class, () -> m.left(other.root()));
+		}
+
+		@Test
+		@DisplayName("병렬 결합 기본 구현이 매핑 트리에서도 동작")
+		void parallelReduce() throws IOException {
+			BinaryTrees<Integer> t = randomBinary(20_000, 3);
+			Path f = dir.resolve("p");
+			MappedBinaryTrees.write(t, ElementCodecs.integers(), f);
+			MappedBinaryTrees<Integer> m = MappedBinaryTrees.open(f, ElementCodecs.integers());
+			long expected = 20_000L * 19_999 / 2;
+			assertEquals(expected, m.parallelReduce(0L, Integer::longValue, Long::sum));
+		}
+
+		@Test
+		@DisplayName("다른 형식/잘린 파일은 StreamCorruptedException")
+		void corrupt() throws IOException {
+			Path g = dir.resolve("g");
+			MappedGeneralTrees.write(new GeneralTrees<Integer>(), ElementCodecs.integers(), g);
+			assertThrows(StreamCorruptedException.class, () -> MappedBinaryTrees.open(g, ElementCodecs.integers()));
+
+			Path f = dir.resolve("t");
+			MappedBinaryTrees.write(randomBinary(10, 2), ElementCodecs.integers(), f);
+			byte[] bytes = Files.readAllBytes(f);
+			Files.write(f, Arrays.copyOf(bytes, MappedRegion.HEADER + 5 * 32));
+			assertThrows(StreamCorruptedException.class, () -> MappedBinaryTrees.open(f, ElementCodecs.integers()));
+		}
+	}
+
+	@Nested
+	@DisplayName("일반 트리")
+	class General {
+		@Test
+		@DisplayName("무작위 트리: 전위/레벨 순서와 자식 목록이 원본과 같음")
+		void roundTrip() throws IOException {
+			Random rnd = new Random(11);
+			GeneralTrees<String> t = new GeneralTrees<>();
+			List<Position<String>> all = new ArrayList<>();
+			all.add(t.addRoot("n0"));
+			for (int v = 1; v < 2000; v++) all.add(t.addChild(all.get(rnd.nextInt(all.size())), "n" + v));
+
+			Path f = dir.resolve("g");
+			MappedGeneralTrees.write(t, ElementCodecs.strings(), f);
+			MappedGeneralTrees<String> m = MappedGeneralTrees.open(f, ElementCodecs.strings());
+
+			assertEquals(2000, m.size());
+			assertEquals(toList(t), toList(m));
+			assertEquals(toList(t.levelOrderIterable()), toList(m.levelOrderIterable()));
+			List<String> kids = new ArrayList<>();
+			for (Position<String> c : m.children(m.root())) {
+				kids.add(c.element());
+				assertEquals(m.root(), m.parent(c));
+			}
+			List<String> expectedKids = new ArrayList<>();
+			for (Position<String> c : t.children(t.root())) expectedKids.add(c.element());
+			assertEquals(expectedKids, kids);
+			assertEquals(expectedKids.size(), m.childCount(m.root()));
+			assertTrue(m.contains("n1999"));
+			assertThrows(UnsupportedOperationException.class, () -> m.addChild(m.root(), "x"));
+		}
+
+		@Test
+		@DisplayName("빈 트리")
+		void empty() throws IOException {
+			Path f = dir.resolve("e");
+			MappedGeneralTrees.write(new GeneralTrees<String>(), ElementCodecs.strings(), f);
+			MappedGeneralTrees<String> m = MappedGeneralTrees.open(f, ElementCodecs.strings());
+			assertTrue(m.isEmpty());
+			assertNull(m.root());
+			assertFalse(m.iterator().hasNext());
+		}
+	}
+
+	@Test
+	@DisplayName("MappedRegion: 청크 경계를 넘는 원소 바이트를 이어 읽음")
+	void chunkStraddle() throws IOException {
+		Path f = dir.resolve("r");
+		String longText = "청크 경계를 여러 번 넘는 긴 문자열 ".repeat(20);
+		long[] at = new long[3];
+		try (MappedRegionWriter w = new MappedRegionWriter(f, 0x54455354, 32, 3)) {
+			for (int i = 0; i < 3; i++) {
+				at[i] = w.elementPosition();
+				ElementCodecs.strings().write(w.elements(), i + longText);
+				w.records().writeLong(at[i]);
+				w.records().writeLong(0);
+				w.records().writeLong(0);
+				w.records().writeLong(0);
+			}
+		}
+		MappedRegion region = MappedRegion.open(f, 0x54455354, 32, 6); // 64바이트 청크
+		assertEquals(3, region.nodeCount());
+		for (int i = 0; i < 3; i++) {
+			long rec = MappedRegion.HEADER + 32L * i;
+			assertEquals(at[i], region.getLong(rec));
+			assertEquals(i + longText, ElementCodecs.strings().read(region.input(region.getLong(rec))));
+		}
+	}
+}
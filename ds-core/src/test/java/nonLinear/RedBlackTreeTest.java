@@ -0,0 +1,308 @@
+package nonLinear;
+
+import nonLinear.tree.MyTree;
+import nonLinear.tree.Position;
+import nonLinear.tree.sorted.MySortedMap;
+import nonLinear.tree.sorted.MySortedSet;
+import nonLinear.tree.sorted.RedBlackTreeMap;
+import nonLinear.tree.sorted.RedBlackTreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RedBlackTreeMap / RedBlackTreeSet (레드-블랙 트리) 단위 테스트 - JUnit 5
+ */
+class RedBlackTreeTest {
+
+	/* ---------- 유틸 ---------- */
+
+	private static <T> List<T> toList(Iterable<T> it) {
+		List<T> out = new ArrayList<>();
+		for (T v : it) out.add(v);
+		return out;
+	}
+
+	/** 레드-블랙 불변식 검사: 루트 BLACK, RED-RED 없음, 모든 경로의 BLACK 높이 동일, BST 순서, 부모 링크 */
+	private static <K extends Comparable<K>> void assertValid(RedBlackTreeMap<K, ?> t) {
+		Position<K> r = t.root();
+		if (r == null) {
+			assertEquals(0, t.size());
+			return;
+		}
+		assertFalse(t.isRed(r), "루트는 BLACK");
+		assertNull(t.parent(r));
+		int[] count = {0};
+		blackHeight(t, r, null, null, count);
+		assertEquals(t.size(), count[0]);
+	}
+
+	private static <K extends Comparable<K>> int blackHeight(RedBlackTreeMap<K, ?> t, Position<K> p, K lo, K hi, int[] count) {
+		if (p == null) return 1;
+		count[0]++;
+		K k = p.element();
+		if (lo != null) assertTrue(k.compareTo(lo) > 0, "BST 순서");
+		if (hi != null) assertTrue(k.compareTo(hi) < 0, "BST 순서");
+		Position<K> l = t.left(p), rr = t.right(p);
+		if (l != null) assertSame(p, t.parent(l));
+		if (rr != null) assertSame(p, t.parent(rr));
+		if (t.isRed(p)) {
+			assertFalse(l != null && t.isRed(l), "RED-RED 금지");
+			assertFalse(rr != null && t.isRed(rr), "RED-RED 금지");
+		}
+		int lh = blackHeight(t, l, lo, k, count);
+		int rh = blackHeight(t, rr, k, hi, count);
+		assertEquals(lh, rh, "BLACK 높이 동일");
+		return lh + (t.isRed(p) ? 0 : 1);
+	}
+
+	/* ---------- 맵 기본 ---------- */
+
+	@Nested
+	@DisplayName("정렬 맵 기본 연산")
+	class MapBasics {
+		@Test
+		@DisplayName("put/get/remove와 값 교체")
+		void putGetRemove() {
+			MySortedMap<String, Integer> m = new RedBlackTreeMap<>();
+			assertNull(m.put("b", 2));
+			assertNull(m.put("a", 1));
+			assertNull(m.put("c", 3));
+			assertEquals(2, m.put("b", 20));
+			assertEquals(3, m.size());
+			assertEquals(20, m.get("b"));
+			assertNull(m.get("z"));
+			assertTrue(m.contains("a"));
+			assertEquals(1, m.remove("a"));
+			assertNull(m.remove("a"));
+			assertEquals(List.of("b", "c"), toList(m));
+		}
+
+		@Test
+		@DisplayName("null 키 금지 / 빈 맵 first·last 예외")
+		void nullAndEmpty() {
+			MySortedMap<String, Integer> m = new RedBlackTreeMap<>();
+			assertThrows(NullPointerException.class, () -> m.put(null, 1));
+			assertThrows(NoSuchElementException.class, m::firstKey);
+			assertThrows(NoSuchElementException.class, m::lastKey);
+			assertFalse(m.contains(null));
+		}
+
+		@Test
+		@DisplayName("MyTree로 다뤄도 키 오름차순 순회")
+		void asMyTree() {
+			RedBlackTreeMap<Integer, String> m = new RedBlackTreeMap<>(Comparator.reverseOrder());
+			for (int i = 0; i < 5; i++) m.put(i, "v" + i);
+			MyTree<Integer> t = m;
+			assertEquals(List.of(4, 3, 2, 1, 0), toList(t));
+			assertEquals("{4=v4, 3=v3, 2=v2, 1=v1, 0=v0}", m.toString());
+		}
+	}
+
+	/* ---------- 순서 질의 ---------- */
+
+	@Nested
+	@DisplayName("floor/ceiling/lower/higher/range")
+	class OrderQueries {
+		@Test
+		@DisplayName("경계 질의")
+		void boundaries() {
+			MySortedMap<Integer, Integer> m = new RedBlackTreeMap<>();
+			for (int k : new int[]{10, 20, 30, 40}) m.put(k, k);
+			assertEquals(10, m.firstKey());
+			assertEquals(40, m.lastKey());
+			assertEquals(20, m.floorKey(25));
+			assertEquals(20, m.floorKey(20));
+			assertNull(m.floorKey(5));
+			assertEquals(30, m.ceilingKey(25));
+			assertEquals(30, m.ceilingKey(30));
+			assertNull(m.ceilingKey(45));
+			assertEquals(20, m.lowerKey(30));
+			assertNull(m.lowerKey(10));
+			assertEquals(40, m.higherKey(30));
+			assertNull(m.higherKey(40));
+		}
+
+		@Test
+		@DisplayName("range는 [from, to) 구간")
+		void range() {
+			MySortedMap<Integer, Integer> m = new RedBlackTreeMap<>();
+			for (int k = 0; k < 100; k += 10) m.put(k, k);
+			assertEquals(List.of(20, 30, 40), toList(m.range(15, 50)));
+			assertEquals(List.of(), toList(m.range(41, 49)));
+			assertEquals(List.of(90), toList(m.range(90, 1000)));
+			assertThrows(IllegalArgumentException.class, () -> m.range(5, 1));
+		}
+	}
+
+	/* ---------- 균형/무작위 ---------- */
+
+	@Nested
+	@DisplayName("균형 불변식 & 모델 비교")
+	class Balance {
+		@Test
+		@DisplayName("순차 삽입에도 높이가 로그 수준")
+		void sequentialInsertStaysBalanced() {
+			RedBlackTreeMap<Integer, Integer> m = new RedBlackTreeMap<>();
+			for (int i = 0; i < 1 << 12; i++) m.put(i, i);
+			assertValid(m);
+			assertTrue(height(m, m.root()) <= 2 * 13, "높이 ≤ 2·log2(n+1)");
+		}
+
+		@Test
+		@DisplayName("무작위 put/remove가 TreeMap과 일치하고 불변식 유지")
+		void randomOpsMatchTreeMap() {
+			Random rnd = new Random(2024);
+			RedBlackTreeMap<Integer, Integer> m = new RedBlackTreeMap<>();
+			TreeMap<Integer, Integer> model = new TreeMap<>();
+			for (int step = 0; step < 20_000; step++) {
+				int k = rnd.nextInt(500);
+				if (rnd.nextInt(3) == 0) assertEquals(model.remove(k), m.remove(k));
+				else assertEquals(model.put(k, step), m.put(k, step));
+				if (step % 997 == 0) assertValid(m);
+			}
+			assertValid(m);
+			assertEquals(new ArrayList<>(model.keySet()), toList(m));
+			for (int k = -1; k <= 500; k++) {
+				assertEquals(model.floorKey(k), m.floorKey(k));
+				assertEquals(model.higherKey(k), m.higherKey(k));
+			}
+			while (!model.isEmpty()) {
+				int k = model.firstKey();
+				assertEquals(model.remove(k), m.remove(k));
+			}
+			assertValid(m);
+			assertTrue(m.isEmpty());
+		}
+
+		private int height(RedBlackTreeMap<Integer, Integer> m, Position<Integer> p) {
+			return p == null ? 0 : 1 + Math.max(height(m, m.left(p)), height(m, m.right(p)));
+		}
+	}
+
+	/* ---------- Position ---------- */
+
+	@Nested
+	@DisplayName("Position 핸들")
+	class Positions {
+		@Test
+		@DisplayName("다른 키 삭제 후에도 Position이 같은 키를 가리킴")
+		void positionsStableAcrossRemoval() {
+			RedBlackTreeMap<Integer, String> m = new RedBlackTreeMap<>();
+			for (int i = 1; i <= 15; i++) m.put(i, "v" + i);
+			Position<Integer> p9 = m.find(9);
+			Position<Integer> rootBefore = m.root();
+			m.remove(rootBefore.element());   // 두 자식을 가진 노드 삭제 → 후속 노드 이동
+			assertEquals(9, p9.element());
+			assertEquals("v9", m.value(p9));
+			assertEquals(10, m.successor(p9).element());
+			assertEquals(8, m.predecessor(p9).element());
+			assertValid(m);
+		}
+
+		@Test
+		@DisplayName("first/last/setValue/removeAt 및 다른 트리 Position 거부")
+		void positionOps() {
+			RedBlackTreeMap<Integer, String> m = new RedBlackTreeMap<>();
+			m.put(2, "b");
+			m.put(1, "a");
+			assertEquals(1, m.first().element());
+			assertEquals(2, m.last().element());
+			assertNull(m.successor(m.last()));
+			assertEquals("a", m.setValue(m.first(), "A"));
+			assertEquals("A", m.get(1));
+			assertEquals("A", m.removeAt(m.first()));
+			assertEquals(1, m.size());
+
+			RedBlackTreeMap<Integer, String> other = new RedBlackTreeMap<>();
+			other.put(2, "x");
+			assertThrows(IllegalArgumentException.class, () -> m.value(other.root()));
+		}
+
+		@Test
+		@DisplayName("이미 삭제된 Position은 거부하고 트리는 그대로 유지")
+		void removedPositionRejected() {
+			RedBlackTreeMap<Integer, Integer> m = new RedBlackTreeMap<>();
+			for (int i = 0; i < 10; i++) m.put(i, i);
+			Position<Integer> p3 = m.find(3);
+			assertEquals(3, m.removeAt(p3));
+			assertThrows(IllegalArgumentException.class, () -> m.removeAt(p3));
+			assertThrows(IllegalArgumentException.class, () -> m.setValue(p3, 0));
+			assertNotNull(m.root());
+			assertEquals(9, m.size());
+			assertTrue(m.contains(5));
+			assertValid(m);
+		}
+
+		@Test
+		@DisplayName("clear 이전에 얻은 Position은 거부")
+		void positionFromBeforeClearRejected() {
+			RedBlackTreeMap<Integer, Integer> m = new RedBlackTreeMap<>();
+			for (int i = 0; i < 10; i++) m.put(i, i);
+			Position<Integer> p7 = m.find(7);
+			m.clear();
+			assertThrows(IllegalArgumentException.class, () -> m.removeAt(p7));
+			assertEquals(0, m.size());
+			m.put(7, 70);
+			assertThrows(IllegalArgumentException.class, () -> m.setValue(p7, 0));
+			assertEquals(1, m.size());
+			assertEquals(70, m.get(7));
+			assertValid(m);
+		}
+
+		@Test
+		@DisplayName("fail-fast: 순회 중 구조 변경 시 ConcurrentModificationException")
+		void failFast() {
+			RedBlackTreeMap<Integer, Integer> m = new RedBlackTreeMap<>();
+			m.put(1, 1);
+			m.put(2, 2);
+			Iterator<Integer> it = m.iterator();
+			it.next();
+			m.put(3, 3);
+			assertThrows(ConcurrentModificationException.class, it::next);
+		}
+	}
+
+	/* ---------- 집합 ---------- */
+
+	@Nested
+	@DisplayName("정렬 집합")
+	class SetOps {
+		@Test
+		@DisplayName("add/remove/순서 질의")
+		void setBasics() {
+			MySortedSet<String> s = new RedBlackTreeSet<>();
+			assertTrue(s.add("m"));
+			assertTrue(s.add("c"));
+			assertTrue(s.add("x"));
+			assertFalse(s.add("c"));
+			assertEquals(3, s.size());
+			assertEquals("c", s.first());
+			assertEquals("x", s.last());
+			assertEquals("m", s.floor("p"));
+			assertEquals("x", s.ceiling("p"));
+			assertEquals("c", s.lower("m"));
+			assertEquals("x", s.higher("m"));
+			assertEquals(List.of("c", "m"), toList(s.range("a", "n")));
+			assertTrue(s.remove("m"));
+			assertFalse(s.remove("m"));
+			assertEquals("[c, x]", s.toString());
+		}
+
+		@Test
+		@DisplayName("Position 탐색")
+		void setPositions() {
+			RedBlackTreeSet<Integer> s = new RedBlackTreeSet<>();
+			for (int i = 0; i < 7; i++) s.add(i);
+			Position<Integer> p = s.find(3);
+			assertEquals(4, s.successor(p).element());
+			assertNotNull(s.root());
+			assertNull(s.find(99));
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package nonLinear;
+
+import nonLinear.tree.ElementCodec;
+import nonLinear.tree.ElementCodecs;
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.BinaryTreeCodec;
+import nonLinear.tree.binary.BinaryTrees;
+import nonLinear.tree.general.GeneralTreeCodec;
+import nonLinear.tree.general.GeneralTrees;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BinaryTreeCodec / GeneralTreeCodec (트리 직렬화·벌크 로드) 단위 테스트 - JUnit 5
+ */
+class TreeCodecTest {
+
+	/* ---------- 유틸 ---------- */
+
+	private static <T> List<T> toList(Iterable<T> it) {
+		List<T> out = new ArrayList<>();
+		for (T v : it) out.add(v);
+		return out;
+	}
+
+	private static <T> byte[] writeBinary(BinaryTrees<T> t, ElementCodec<? super T> codec) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BinaryTreeCodec.write(t, codec, Channels.newChannel(bytes));
+		return bytes.toByteArray();
+	}
+
+	private static <T> BinaryTrees<T> readBinary(byte[] data, ElementCodec<? extends T> codec) throws IOException {
+		return BinaryTreeCodec.read(Channels.newChannel(new ByteArrayInputStream(data)), codec);
+	}
+
+	private static BinaryTrees<Integer> randomBinary(int n, long seed) {
+		Random rnd = new Random(seed);
+		BinaryTrees<Integer> t = new BinaryTrees<>();
+		if (n == 0) return t;
+		List<Position<Integer>> open = new ArrayList<>();
+		open.add(t.addRoot(rnd.nextInt()));
+		for (int v = 1; v < n; v++) {
+			Position<Integer> p = open.get(rnd.nextInt(open.size()));
+			boolean leftFirst = rnd.nextBoolean();
+			if (leftFirst && t.left(p) == null) open.add(t.addLeft(p, rnd.nextInt()));
+			else if (t.right(p) == null) open.add(t.addRight(p, rnd.nextInt()));
+			else if (t.left(p) == null) open.add(t.addLeft(p, rnd.nextInt()));
+			else v--;
+		}
+		return t;
+	}
+
+	@Nested
+	@DisplayName("이진 트리 (전위 + 모양 비트)")
+	class Binary {
+		@Test
+		@DisplayName("무작위 모양 트리 왕복 후 전위/중위 순서가 같음")
+		void roundTrip() throws IOException {
+			for (int n : new int[]{0, 1, 2, 3, 17, 1000}) {
+				BinaryTrees<Integer> t = randomBinary(n, n);
+				BinaryTrees<Integer> back = readBinary(writeBinary(t, ElementCodecs.integers()), ElementCodecs.integers());
+				assertEquals(n, back.size());
+				assertEquals(toList(t.preorderIterable()), toList(back.preorderIterable()), "n=" + n);
+				assertEquals(toList(t), toList(back), "n=" + n);
+			}
+		}
+
+		@Test
+		@DisplayName("읽은 트리의 Position은 그 트리 소유이며 부모 링크가 올바름")
+		void loadedTreeIsUsable() throws IOException {
+			BinaryTrees<String> t = new BinaryTrees<>();
+			Position<String> r = t.addRoot("r");
+			t.addLeft(r, null);
+			t.addRight(r, "오른쪽");
+			BinaryTrees<String> back = readBinary(writeBinary(t, ElementCodecs.nullable(ElementCodecs.strings())),
+					ElementCodecs.nullable(ElementCodecs.strings()));
+			Position<String> br = back.root();
+			assertNull(back.left(br).element());
+			assertEquals("오른쪽", back.right(br).element());
+			assertSame(br, back.parent(back.right(br)));
+			back.addLeft(back.left(br), "새 노드");
+			assertEquals(4, back.size());
+			assertThrows(IllegalArgumentException.class, () -> t.addLeft(br, "x"));
+		}
+
+		@Test
+		@DisplayName("깊은 사슬 트리도 스택 넘침 없이 왕복")
+		void deepChain() throws IOException {
+			BinaryTrees<Integer> t = new BinaryTrees<>();
+			Position<Integer> p = t.addRoot(0);
+			for (int i = 1; i < 100_000; i++) p = (i % 3 == 0) ? t.addRight(p, i) : t.addLeft(p, i);
+			BinaryTrees<Integer> back = readBinary(writeBinary(t, ElementCodecs.integers()), ElementCodecs.integers());
+			assertEquals(toList(t), toList(back));
+		}
+
+		@Test
+		@DisplayName("잘못된 데이터는 StreamCorruptedException")
+		void corrupt() throws IOException {
+			byte[] data = writeBinary(randomBinary(10, 1), ElementCodecs.integers());
+			byte[] badMagic = data.clone();
+			badMagic[0] ^= 1;
+			assertThrows(StreamCorruptedException.class, () -> readBinary(badMagic, ElementCodecs.integers()));
+			byte[] badShape = data.clone();
+			badShape[6] = 0; // 첫 4개 노드의 모양 비트를 모두 리프로
+			assertThrows(StreamCorruptedException.class, () -> readBinary(badShape, ElementCodecs.integers()));
+			BinaryTrees<Integer> nonEmpty = new BinaryTrees<>();
+			nonEmpty.addRoot(1);
+			assertThrows(IllegalStateException.class, () -> BinaryTreeCodec.readInto(nonEmpty,
+					Channels.newChannel(new ByteArrayInputStream(data)), ElementCodecs.integers()));
+		}
+
+		@Test
+		@DisplayName("헤더가 거대한 노드 수를 주장해도 OOM 없이 StreamCorruptedException")
+		void oversizedHeader() throws IOException {
+			byte[] data = writeBinary(randomBinary(10, 1), ElementCodecs.integers());
+			// magic(4) + version(1) + varint n = Integer.MAX_VALUE (5바이트) 뒤에 원래 데이터 일부
+			byte[] huge = Arrays.copyOf(data, 10 + 8);
+			huge[5] = (byte) 0xFF;
+			huge[6] = (byte) 0xFF;
+			huge[7] = (byte) 0xFF;
+			huge[8] = (byte) 0xFF;
+			huge[9] = 0x07;
+			assertThrows(StreamCorruptedException.class, () -> readBinary(huge, ElementCodecs.integers()));
+			byte[] truncated = Arrays.copyOf(data, 6); // 헤더 직후에서 끊김
+			assertThrows(StreamCorruptedException.class, () -> readBinary(truncated, ElementCodecs.integers()));
+		}
+	}
+
+	@Nested
+	@DisplayName("일반 트리 (전위 + 자식 수)")
+	class General {
+		@Test
+		@DisplayName("무작위 트리 왕복 후 전위 순서와 자식 수가 같음")
+		void roundTrip() throws IOException {
+			Random rnd = new Random(7);
+			GeneralTrees<Long> t = new GeneralTrees<>();
+			List<Position<Long>> all = new ArrayList<>();
+			all.add(t.addRoot(Long.MIN_VALUE));
+			for (int v = 1; v < 3000; v++) all.add(t.addChild(all.get(rnd.nextInt(all.size())), rnd.nextLong()));
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			GeneralTreeCodec.write(t, ElementCodecs.longs(), Channels.newChannel(bytes));
+			GeneralTrees<Long> back = GeneralTreeCodec.read(
+					Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ElementCodecs.longs());
+
+			assertEquals(3000, back.size());
+			assertEquals(toList(t), toList(back));
+			assertEquals(toList(t.levelOrderIterable()), toList(back.levelOrderIterable()));
+			Position<Long> child = back.children(back.root()).iterator().next();
+			assertSame(back.root(), back.parent(child));
+		}
+
+		@Test
+		@DisplayName("빈 트리 왕복")
+		void empty() throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			GeneralTreeCodec.write(new GeneralTrees<String>(), ElementCodecs.strings(), Channels.newChannel(bytes));
+			GeneralTrees<String> back = GeneralTreeCodec.read(
+					Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ElementCodecs.strings());
+			assertTrue(back.isEmpty());
+			assertNull(back.root());
+		}
+	}
+
+	@Test
+	@DisplayName("ElementCodecs: 정수 zigzag varint 경계값 왕복")
+	void varints() throws IOException {
+		BinaryTrees<Integer> t = new BinaryTrees<>();
+		Position<Integer> p = t.addRoot(0);
+		int[] values = {-1, 1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+		for (int v : values) p = t.addLeft(p, v);
+		assertEquals(toList(t), toList(readBinary(writeBinary(t, ElementCodecs.integers()), ElementCodecs.integers())));
+	}
+}
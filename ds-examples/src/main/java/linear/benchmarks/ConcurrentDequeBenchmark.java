@@ -0,0 +1,99 @@
+package linear.benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import linear.deque.Deques;
+import linear.deque.MyDeque;
+
+/**
+ * 양 끝 혼합 경합 벤치마크: {@code Deques.concurrentLinked()} vs {@code synchronized}로 감싼 {@code Deques.linked()}.
+ *
+ * <p>각 스레드는 무작위로 앞/뒤 삽입과 앞/뒤 삭제를 섞어 수행합니다(공유 undo/최근 이력 버퍼 패턴).
+ * 스레드 수를 1부터 가용 코어의 2배까지 늘려 가며 초당 연산 수를 출력합니다.</p>
+ *
+ * <pre>
+ * ./gradlew :ds-examples:classes
+ * java -cp ds-core/build/classes/java/main:ds-examples/build/classes/java/main \
+ *      linear.benchmarks.ConcurrentDequeBenchmark [측정 ms]
+ * </pre>
+ */
+public class ConcurrentDequeBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		long millis = args.length > 0 ? Long.parseLong(args[0]) : 1_000L;
+		int maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+		System.out.printf("%-8s %20s %20s%n", "threads", "concurrentLinked", "synchronized linked");
+		for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+			measure(Deques.concurrentLinked(), threads, millis / 2);        // warm-up
+			double lockFree = measure(Deques.concurrentLinked(), threads, millis);
+			measure(new SynchronizedDeque<>(Deques.linked()), threads, millis / 2);
+			double locked = measure(new SynchronizedDeque<>(Deques.linked()), threads, millis);
+			System.out.printf("%-8d %17.2f M/s %17.2f M/s%n", threads, lockFree / 1e6, locked / 1e6);
+		}
+	}
+
+	/** @return 초당 연산 수 */
+	private static double measure(MyDeque<Integer> dq, int threads, long millis) throws Exception {
+		for (int i = 0; i < 1_000; i++) dq.addLast(i);
+		LongAdder ops = new LongAdder();
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] ts = new Thread[threads];
+		final long[] deadline = new long[1];
+		for (int t = 0; t < threads; t++) {
+			ts[t] = new Thread(() -> {
+				ThreadLocalRandom rnd = ThreadLocalRandom.current();
+				try { start.await(); } catch (InterruptedException e) { return; }
+				long local = 0;
+				Integer boxed = 42;
+				while (System.nanoTime() < deadline[0]) {
+					for (int k = 0; k < 64; k++) {
+						switch (rnd.nextInt(4)) {
+							case 0 -> dq.addFirst(boxed);
+							case 1 -> dq.addLast(boxed);
+							case 2 -> dq.pollFirst();
+							default -> dq.pollLast();
+						}
+					}
+					local += 64;
+				}
+				ops.add(local);
+			});
+			ts[t].start();
+		}
+		deadline[0] = System.nanoTime() + millis * 1_000_000L;
+		start.countDown();
+		for (Thread t : ts) t.join();
+		return ops.sum() * 1_000.0 / millis;
+	}
+
+	/** 모든 연산을 하나의 모니터로 감싼 비교 기준 */
+	private static final class SynchronizedDeque<T> implements MyDeque<T> {
+		private final MyDeque<T> d;
+		SynchronizedDeque(MyDeque<T> d) { this.d = d; }
+
+		@Override public synchronized int size() { return d.size(); }
+		@Override public synchronized boolean isEmpty() { return d.isEmpty(); }
+		@Override public synchronized void addFirst(T v) { d.addFirst(v); }
+		@Override public synchronized boolean offerFirst(T v) { return d.offerFirst(v); }
+		@Override public synchronized void addLast(T v) { d.addLast(v); }
+		@Override public synchronized boolean offerLast(T v) { return d.offerLast(v); }
+		@Override public synchronized T removeFirst() { return d.removeFirst(); }
+		@Override public synchronized T pollFirst() { return d.pollFirst(); }
+		@Override public synchronized T removeLast() { return d.removeLast(); }
+		@Override public synchronized T pollLast() { return d.pollLast(); }
+		@Override public synchronized T getFirst() { return d.getFirst(); }
+		@Override public synchronized T peekFirst() { return d.peekFirst(); }
+		@Override public synchronized T getLast() { return d.getLast(); }
+		@Override public synchronized T peekLast() { return d.peekLast(); }
+		@Override public synchronized void push(T v) { d.push(v); }
+		@Override public synchronized T pop() { return d.pop(); }
+		@Override public synchronized T peek() { return d.peek(); }
+		@Override public synchronized boolean contains(T v) { return d.contains(v); }
+		@Override public synchronized void clear() { d.clear(); }
+		@Override public Iterator<T> iterator() { return d.iterator(); }
+	}
+}
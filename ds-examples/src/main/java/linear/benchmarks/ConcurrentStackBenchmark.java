@@ -0,0 +1,92 @@
+package linear.benchmarks;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import linear.stack.MyStack;
+import linear.stack.Stacks;
+import linear.stack.internal.TreiberStackEx;
+
+/**
+ * 스택 경합 벤치마크 (객체 재활용 풀 패턴: push/pop을 번갈아 수행).
+ *
+ * <p>스레드 수를 1부터 가용 코어 수까지 늘려 가며 비교합니다.</p>
+ * <ul>
+ *   <li>{@code Stacks.concurrent()}: Treiber + 소거 배열</li>
+ *   <li>{@code TreiberStackEx(1)}: 소거 슬롯 1개 (사실상 순수 Treiber에 가까움)</li>
+ *   <li>{@code synchronized StackEx}: 단일 모니터</li>
+ * </ul>
+ *
+ * <pre>
+ * ./gradlew :ds-examples:classes
+ * java -cp ds-core/build/classes/java/main:ds-examples/build/classes/java/main \
+ *      linear.benchmarks.ConcurrentStackBenchmark [측정 ms]
+ * </pre>
+ */
+public class ConcurrentStackBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		long millis = args.length > 0 ? Long.parseLong(args[0]) : 1_000L;
+		int cores = Runtime.getRuntime().availableProcessors();
+
+		System.out.printf("%-8s %18s %18s %18s%n", "threads", "treiber+elim", "treiber(1 slot)", "synchronized");
+		for (int threads = 1; threads <= cores; threads = threads < cores ? Math.min(threads << 1, cores) : threads + 1) {
+			double elim = run(Stacks::concurrent, threads, millis);
+			double plain = run(() -> new TreiberStackEx<>(1), threads, millis);
+			double locked = run(SynchronizedStack::new, threads, millis);
+			System.out.printf("%-8d %14.2f M/s %14.2f M/s %14.2f M/s%n", threads, elim / 1e6, plain / 1e6, locked / 1e6);
+		}
+	}
+
+	private static double run(Supplier<MyStack<Object>> factory, int threads, long millis) throws Exception {
+		measure(factory.get(), threads, millis / 2);   // warm-up
+		return measure(factory.get(), threads, millis);
+	}
+
+	/** @return 초당 연산 수 */
+	private static double measure(MyStack<Object> stack, int threads, long millis) throws Exception {
+		Object pooled = new Object();
+		for (int i = 0; i < 1_000; i++) stack.push(pooled);
+		LongAdder ops = new LongAdder();
+		CountDownLatch start = new CountDownLatch(1);
+		long[] deadline = new long[1];
+		Thread[] ts = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			ts[t] = new Thread(() -> {
+				try { start.await(); } catch (InterruptedException e) { return; }
+				long local = 0;
+				while (System.nanoTime() < deadline[0]) {
+					for (int k = 0; k < 64; k++) {
+						stack.push(pooled);
+						try {
+							stack.pop();
+						} catch (EmptyStackException ignored) {
+						}
+					}
+					local += 128;
+				}
+				ops.add(local);
+			});
+			ts[t].start();
+		}
+		deadline[0] = System.nanoTime() + millis * 1_000_000L;
+		start.countDown();
+		for (Thread t : ts) t.join();
+		return ops.sum() * 1_000.0 / millis;
+	}
+
+	/** 단일 모니터로 감싼 StackEx (비교 기준) */
+	private static final class SynchronizedStack<T> implements MyStack<T> {
+		private final MyStack<T> s = Stacks.vector();
+
+		@Override public synchronized int size() { return s.size(); }
+		@Override public synchronized boolean isEmpty() { return s.isEmpty(); }
+		@Override public synchronized void push(T value) { s.push(value); }
+		@Override public synchronized T pop() { return s.pop(); }
+		@Override public synchronized T peek() { return s.peek(); }
+		@Override public synchronized void clear() { s.clear(); }
+		@Override public java.util.Iterator<T> iterator() { return s.iterator(); }
+	}
+}
@@ -0,0 +1,113 @@
+package linear.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import linear.ring.BatchEventProcessor;
+import linear.ring.RingBuffer;
+import linear.ring.WaitStrategies;
+import linear.ring.WaitStrategy;
+
+/**
+ * RingBuffer 지연 시간 백분위 벤치마크.
+ *
+ * <p>생산자는 일정 간격으로 {@code System.nanoTime()}을 이벤트에 기록해 발행하고,
+ * 소비자는 수신 시각과의 차이를 기록합니다. 대기 전략별로 p50/p90/p99/p99.9/max를 출력하고,
+ * 비교 기준으로 {@link ArrayBlockingQueue}(객체를 넣고 빼는 방식)를 함께 측정합니다.</p>
+ *
+ * <pre>
+ * ./gradlew :ds-examples:classes
+ * java -cp ds-core/build/classes/java/main:ds-examples/build/classes/java/main \
+ *      linear.benchmarks.RingBufferLatencyBenchmark
+ * </pre>
+ * (인자: [이벤트 수] [발행 간격 ns])
+ */
+public class RingBufferLatencyBenchmark {
+
+	static final class TimedEvent {
+		long sentAt;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int events = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		long intervalNanos = args.length > 1 ? Long.parseLong(args[1]) : 1_000L;
+		int warmup = Math.max(events / 10, 1);
+
+		System.out.printf("events=%d, interval=%dns%n", events, intervalNanos);
+		System.out.printf("%-22s %10s %10s %10s %10s %10s%n", "strategy", "p50", "p90", "p99", "p99.9", "max");
+
+		run("ring/busySpin", WaitStrategies.busySpin(), warmup, intervalNanos);
+		print("ring/busySpin", run("ring/busySpin", WaitStrategies.busySpin(), events, intervalNanos));
+		print("ring/yielding", run("ring/yielding", WaitStrategies.yielding(), events, intervalNanos));
+		print("ring/parking", run("ring/parking", WaitStrategies.parking(), events, intervalNanos));
+		print("ring/blocking", run("ring/blocking", WaitStrategies.blocking(), events, intervalNanos));
+		runQueue(warmup, intervalNanos);
+		print("ArrayBlockingQueue", runQueue(events, intervalNanos));
+	}
+
+	private static long[] run(String name, WaitStrategy ws, int events, long intervalNanos) throws Exception {
+		RingBuffer<TimedEvent> rb = RingBuffer.singleProducer(TimedEvent::new, 1 << 14, ws);
+		long[] latencies = new long[events];
+		CountDownLatch done = new CountDownLatch(1);
+		BatchEventProcessor<TimedEvent> consumer = new BatchEventProcessor<>(rb, rb.newBarrier(), (e, seq, end) -> {
+			latencies[(int) seq] = System.nanoTime() - e.sentAt;
+			if (seq == events - 1) done.countDown();
+		});
+		rb.addGatingSequences(consumer.sequence());
+		Thread t = new Thread(consumer, name);
+		t.start();
+
+		long next = System.nanoTime();
+		for (int i = 0; i < events; i++) {
+			while (System.nanoTime() < next) Thread.onSpinWait();
+			long seq = rb.next();
+			rb.get(seq).sentAt = System.nanoTime();
+			rb.publish(seq);
+			next += intervalNanos;
+		}
+		done.await();
+		consumer.halt();
+		t.join();
+		return latencies;
+	}
+
+	private static long[] runQueue(int events, long intervalNanos) throws Exception {
+		BlockingQueue<long[]> q = new ArrayBlockingQueue<>(1 << 14);
+		long[] latencies = new long[events];
+		Thread t = new Thread(() -> {
+			try {
+				for (int i = 0; i < events; i++) {
+					long[] msg = q.take();
+					latencies[i] = System.nanoTime() - msg[0];
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "abq");
+		t.start();
+
+		long next = System.nanoTime();
+		for (int i = 0; i < events; i++) {
+			while (System.nanoTime() < next) Thread.onSpinWait();
+			q.put(new long[] {System.nanoTime()});
+			next += intervalNanos;
+		}
+		t.join();
+		return latencies;
+	}
+
+	private static void print(String name, long[] latencies) {
+		long[] sorted = latencies.clone();
+		Arrays.sort(sorted);
+		System.out.printf("%-22s %10d %10d %10d %10d %10d%n", name,
+			percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+			percentile(sorted, 99.9), sorted[sorted.length - 1]);
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+	}
+}
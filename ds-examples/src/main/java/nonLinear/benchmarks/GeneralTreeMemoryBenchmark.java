@@ -0,0 +1,78 @@
+package nonLinear.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Random;
+
+import nonLinear.tree.Position;
+import nonLinear.tree.general.GeneralTrees;
+
+/**
+ * 일반 트리 노드당 메모리 측정: 트리 모양별로 노드당 할당 바이트와 GC 후 유지 바이트를 잽니다.
+ *
+ * <p>원소는 모두 null이라 원소 객체 비용은 빠지고 노드 + 자식 저장소 비용만 남습니다.
+ * {@code leaf70}은 내부 노드마다 자식 3~4개(평균 10/3)를 붙여 잎 비율이 약 70%인 모양입니다.
+ * 유지 바이트는 {@code Runtime} 사용량 차이라 근사치이며, 큰 n에서 안정적입니다.</p>
+ *
+ * <pre>
+ * ./gradlew :ds-examples:classes
+ * java -cp ds-core/build/classes/java/main:ds-examples/build/classes/java/main \
+ *      nonLinear.benchmarks.GeneralTreeMemoryBenchmark [노드 수]
+ * </pre>
+ */
+public class GeneralTreeMemoryBenchmark {
+
+	private static Object keep;
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+		System.out.printf("%-10s %18s %20s%n", "shape", "alloc bytes/node", "retained bytes/node");
+		for (String shape : new String[] {"chain", "fanout2", "fanout4", "fanout16", "leaf70"}) {
+			build(shape, n / 10); // 워밍업
+			keep = null;
+			long retained0 = usedAfterGc();
+			long bytes0 = allocatedBytes();
+			GeneralTrees<Object> t = build(shape, n);
+			long bytes = allocatedBytes() - bytes0;
+			keep = t;
+			long retained = usedAfterGc() - retained0;
+			System.out.printf("%-10s %18.1f %20.1f%n", shape, (double) bytes / n, (double) retained / n);
+		}
+		keep = null;
+	}
+
+	private static GeneralTrees<Object> build(String shape, int n) {
+		Random rnd = new Random(42);
+		GeneralTrees<Object> t = new GeneralTrees<>();
+		Queue<Position<Object>> open = new ArrayDeque<>();
+		open.add(t.addRoot(null));
+		int made = 1;
+		while (made < n) {
+			Position<Object> p = open.poll();
+			int k = switch (shape) {
+				case "chain" -> 1;
+				case "fanout2" -> 2;
+				case "fanout4" -> 4;
+				case "fanout16" -> 16;
+				default -> rnd.nextInt(3) == 0 ? 4 : 3;
+			};
+			for (int i = 0; i < k && made < n; i++, made++) open.add(t.addChild(p, null));
+		}
+		return t;
+	}
+
+	private static long usedAfterGc() {
+		Runtime rt = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) System.gc();
+		return rt.totalMemory() - rt.freeMemory();
+	}
+
+	/** 현재 스레드 누적 할당 바이트 (HotSpot 확장 API가 없으면 -1) */
+	private static long allocatedBytes() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mx)
+			return mx.getThreadAllocatedBytes(Thread.currentThread().getId());
+		return -1;
+	}
+}
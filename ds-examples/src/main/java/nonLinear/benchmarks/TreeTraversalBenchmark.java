@@ -0,0 +1,81 @@
+package nonLinear.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import nonLinear.tree.Position;
+import nonLinear.tree.binary.BinaryTrees;
+
+/**
+ * 이진 트리 순회 비교: 스택 기반 이터레이터 vs Morris 순회.
+ *
+ * <p>완전 이진 트리(높이 ~log n)와 왼쪽으로 치우친 사슬(높이 n) 두 모양에서
+ * 순회당 시간과 스레드 할당 바이트를 측정합니다. 사슬에서는 이터레이터의 스택이 n까지 자라지만
+ * Morris는 추가 메모리가 O(1)입니다. (Morris는 각 간선을 최대 3번 지나므로 균형 트리에선 더 느릴 수 있음)</p>
+ *
+ * <pre>
+ * ./gradlew :ds-examples:classes
+ * java -cp ds-core/build/classes/java/main:ds-examples/build/classes/java/main \
+ *      nonLinear.benchmarks.TreeTraversalBenchmark [노드 수] [반복 횟수]
+ * </pre>
+ */
+public class TreeTraversalBenchmark {
+
+	private static long sink;
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int reps = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		System.out.printf("%-10s %-18s %12s %16s%n", "shape", "traversal", "ms/op", "alloc bytes/op");
+		for (String shape : new String[] {"complete", "leftChain"}) {
+			BinaryTrees<Integer> t = shape.equals("complete") ? complete(n) : leftChain(n);
+			run(shape, "inorder iterator", reps, () -> { for (int v : t) sink += v; });
+			run(shape, "inorderMorris", reps, () -> t.inorderMorris(add()));
+			run(shape, "preorder iterator", reps, () -> { for (int v : t.preorderIterable()) sink += v; });
+			run(shape, "preorderMorris", reps, () -> t.preorderMorris(add()));
+		}
+		if (sink == 42) System.out.println();
+	}
+
+	private static Consumer<Integer> add() {
+		return v -> sink += v;
+	}
+
+	private static void run(String shape, String name, int reps, Runnable op) {
+		for (int i = 0; i < 3; i++) op.run(); // 워밍업
+		long bytes0 = allocatedBytes();
+		long t0 = System.nanoTime();
+		for (int i = 0; i < reps; i++) op.run();
+		long elapsed = System.nanoTime() - t0;
+		long bytes = allocatedBytes() - bytes0;
+		System.out.printf("%-10s %-18s %12.2f %16d%n", shape, name, elapsed / 1e6 / reps, bytes / reps);
+	}
+
+	/** 현재 스레드 누적 할당 바이트 (HotSpot 확장 API가 없으면 -1) */
+	private static long allocatedBytes() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean mx)
+			return mx.getThreadAllocatedBytes(Thread.currentThread().getId());
+		return -1;
+	}
+
+	private static BinaryTrees<Integer> complete(int n) {
+		BinaryTrees<Integer> t = new BinaryTrees<>();
+		List<Position<Integer>> bfs = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			if (i == 0) bfs.add(t.addRoot(i));
+			else if ((i & 1) == 1) bfs.add(t.addLeft(bfs.get((i - 1) / 2), i));
+			else bfs.add(t.addRight(bfs.get((i - 1) / 2), i));
+		}
+		return t;
+	}
+
+	private static BinaryTrees<Integer> leftChain(int n) {
+		BinaryTrees<Integer> t = new BinaryTrees<>();
+		Position<Integer> p = t.addRoot(0);
+		for (int i = 1; i < n; i++) p = t.addLeft(p, i);
+		return t;
+	}
+}